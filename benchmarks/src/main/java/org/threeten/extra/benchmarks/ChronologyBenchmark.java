@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.benchmarks;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.extra.chrono.AccountingChronologyBuilder;
+import org.threeten.extra.chrono.AccountingYearDivision;
+import org.threeten.extra.chrono.BritishCutoverChronology;
+import org.threeten.extra.chrono.CopticChronology;
+import org.threeten.extra.chrono.DiscordianChronology;
+import org.threeten.extra.chrono.EpochDayConverter;
+import org.threeten.extra.chrono.EthiopicChronology;
+import org.threeten.extra.chrono.InternationalFixedChronology;
+import org.threeten.extra.chrono.JulianChronology;
+import org.threeten.extra.chrono.PaxChronology;
+import org.threeten.extra.chrono.Symmetry010Chronology;
+import org.threeten.extra.chrono.Symmetry454Chronology;
+
+/**
+ * Benchmarks epoch-day conversion in each of the chronologies.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChronologyBenchmark {
+
+    /**
+     * The chronology to benchmark.
+     */
+    @Param({
+        "Accounting",
+        "AccountingPrecomputed",
+        "BritishCutover",
+        "Coptic",
+        "Discordian",
+        "Ethiopic",
+        "InternationalFixed",
+        "Julian",
+        "Pax",
+        "Symmetry010",
+        "Symmetry454"})
+    public String chronology;
+
+    private Chronology chrono;
+    private long epochDay;
+    private ChronoLocalDate date;
+    private EpochDayConverter converter;
+    private long[] epochDays;
+    private int[] packed;
+
+    @Setup
+    public void setup() {
+        chrono = chronology(chronology);
+        epochDay = 17_683;  // 2018-06-01
+        date = chrono.dateEpochDay(epochDay);
+        converter = EpochDayConverter.of(chrono);
+        // a column of ten years of consecutive days
+        epochDays = new long[3653];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = epochDay + i;
+        }
+        packed = new int[epochDays.length];
+    }
+
+    private static Chronology chronology(String name) {
+        switch (name) {
+            case "Accounting":
+                return new AccountingChronologyBuilder()
+                        .endsOn(DayOfWeek.SATURDAY)
+                        .nearestEndOf(Month.JANUARY)
+                        .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS)
+                        .leapWeekInMonth(12)
+                        .toChronology();
+            case "AccountingPrecomputed":
+                return new AccountingChronologyBuilder()
+                        .endsOn(DayOfWeek.SATURDAY)
+                        .nearestEndOf(Month.JANUARY)
+                        .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS)
+                        .leapWeekInMonth(12)
+                        .withPrecomputedYears(1900, 2100)
+                        .toChronology();
+            case "BritishCutover":
+                return BritishCutoverChronology.INSTANCE;
+            case "Coptic":
+                return CopticChronology.INSTANCE;
+            case "Discordian":
+                return DiscordianChronology.INSTANCE;
+            case "Ethiopic":
+                return EthiopicChronology.INSTANCE;
+            case "InternationalFixed":
+                return InternationalFixedChronology.INSTANCE;
+            case "Julian":
+                return JulianChronology.INSTANCE;
+            case "Pax":
+                return PaxChronology.INSTANCE;
+            case "Symmetry010":
+                return Symmetry010Chronology.INSTANCE;
+            case "Symmetry454":
+                return Symmetry454Chronology.INSTANCE;
+            default:
+                throw new IllegalArgumentException("Unknown chronology: " + name);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public ChronoLocalDate dateEpochDay() {
+        return chrono.dateEpochDay(epochDay);
+    }
+
+    @Benchmark
+    public long toEpochDay() {
+        return date.toEpochDay();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    @OperationsPerInvocation(3653)
+    public int bulk_dateEpochDay() {
+        int total = 0;
+        for (long day : epochDays) {
+            total += chrono.dateEpochDay(day).get(ChronoField.DAY_OF_MONTH);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(3653)
+    public int[] bulk_toPacked() {
+        converter.toPacked(epochDays, packed);
+        return packed;
+    }
+
+}
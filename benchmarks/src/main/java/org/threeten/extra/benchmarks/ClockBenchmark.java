@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.benchmarks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.extra.scale.CoarseClock;
+import org.threeten.extra.scale.LeapSmear;
+import org.threeten.extra.scale.SmearedClock;
+import org.threeten.extra.scale.SystemTimeSource;
+import org.threeten.extra.scale.TaiInstant;
+import org.threeten.extra.scale.UtcInstant;
+
+/**
+ * Benchmarks reading the current time from the system clock, a {@code SystemTimeSource} a {@code CoarseClock} and a {@code SmearedClock}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+
+    private Clock system;
+    private SystemTimeSource timeSource;
+    private CoarseClock coarse;
+    private SmearedClock smeared;
+
+    @Setup
+    public void setup() {
+        system = Clock.systemUTC();
+        timeSource = SystemTimeSource.system();
+        coarse = CoarseClock.of(Duration.ofMillis(1));
+        smeared = SmearedClock.of(LeapSmear.of(Duration.ofHours(24)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        coarse.close();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public Instant system_instant() {
+        return system.instant();
+    }
+
+    @Benchmark
+    public UtcInstant system_utcInstant() {
+        return UtcInstant.of(system.instant());
+    }
+
+    @Benchmark
+    public TaiInstant system_taiInstant() {
+        return TaiInstant.of(system.instant());
+    }
+
+    @Benchmark
+    public UtcInstant timeSource_utcInstant() {
+        return timeSource.utcInstant();
+    }
+
+    @Benchmark
+    public TaiInstant timeSource_taiInstant() {
+        return timeSource.taiInstant();
+    }
+
+    @Benchmark
+    public Instant coarse_instant() {
+        return coarse.instant();
+    }
+
+    @Benchmark
+    public UtcInstant coarse_utcInstant() {
+        return coarse.utcInstant();
+    }
+
+    @Benchmark
+    public TaiInstant smeared_taiInstant() {
+        return smeared.taiInstant();
+    }
+
+}
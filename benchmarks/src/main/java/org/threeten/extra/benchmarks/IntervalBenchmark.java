@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.extra.Interval;
+import org.threeten.extra.IntervalSet;
+
+/**
+ * Benchmarks the pairwise operations on {@code Interval}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntervalBenchmark {
+
+    private Interval base;
+    private List<Interval> outages;
+    private IntervalSet outageSet;
+    private IntervalSet otherSet;
+    private Interval overlapping;
+    private Interval disjoint;
+    private StringBuilder buf = new StringBuilder(64);
+
+    @Setup
+    public void setup() {
+        Instant start = Instant.parse("2018-06-01T00:00:00Z");
+        base = Interval.of(start, Duration.ofHours(6));
+        overlapping = Interval.of(start.plus(Duration.ofHours(3)), Duration.ofHours(6));
+        disjoint = Interval.of(start.plus(Duration.ofDays(1)), Duration.ofHours(6));
+        Random random = new Random(1);
+        outages = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            outages.add(Interval.of(start.plusSeconds(random.nextInt(86400 * 365)), Duration.ofSeconds(random.nextInt(3600))));
+        }
+        outageSet = IntervalSet.of(outages);
+        otherSet = IntervalSet.of(outages.subList(0, 5000)).complement();
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public boolean overlaps_true() {
+        return base.overlaps(overlapping);
+    }
+
+    @Benchmark
+    public boolean overlaps_false() {
+        return base.overlaps(disjoint);
+    }
+
+    @Benchmark
+    public Interval intersection() {
+        return base.intersection(overlapping);
+    }
+
+    @Benchmark
+    public IntervalSet intervalSet_build() {
+        return IntervalSet.of(outages);
+    }
+
+    @Benchmark
+    public IntervalSet intervalSet_intersection() {
+        return outageSet.intersection(otherSet);
+    }
+
+    @Benchmark
+    public Duration intervalSet_totalDuration() {
+        return outageSet.totalDuration();
+    }
+
+    @Benchmark
+    public String toString_interval() {
+        return base.toString();
+    }
+
+    @Benchmark
+    public int formatTo_interval() {
+        buf.setLength(0);
+        base.formatTo(buf);
+        return buf.length();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.benchmarks;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.extra.LocalDateRange;
+
+/**
+ * Benchmarks streaming the dates of a {@code LocalDateRange}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalDateRangeBenchmark {
+
+    /**
+     * The number of days in the range.
+     */
+    @Param({"365", "3653"})
+    public int days;
+
+    private LocalDateRange range;
+
+    @Setup
+    public void setup() {
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        range = LocalDateRange.of(start, start.plusDays(days));
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public long stream_count() {
+        return range.stream().count();
+    }
+
+    @Benchmark
+    public long stream_sumEpochDays() {
+        return range.stream().mapToLong(LocalDate::toEpochDay).sum();
+    }
+
+    @Benchmark
+    public long stream_parallel_sumEpochDays() {
+        return range.stream().parallel().mapToLong(LocalDate::toEpochDay).sum();
+    }
+
+    @Benchmark
+    public long epochDays_sum() {
+        return range.epochDays().sum();
+    }
+
+    @Benchmark
+    public long stream_filterMonthStart() {
+        return range.stream().filter(date -> date.getDayOfMonth() == 1).count();
+    }
+
+    @Benchmark
+    public long stream_months() {
+        return range.stream(ChronoUnit.MONTHS).count();
+    }
+
+    @Benchmark
+    public long epochDays_weeks() {
+        return range.epochDays(7).sum();
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.extra.scale.TaiInstant;
+import org.threeten.extra.scale.UtcInstant;
+import org.threeten.extra.scale.UtcRules;
+
+/**
+ * Benchmarks the conversions of the system {@code UtcRules}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UtcRulesBenchmark {
+
+    /**
+     * The number of sorted instants converted by the batch benchmarks.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * The instant to convert, either after the latest leap second or in the past.
+     */
+    @Param({"2018-06-01T12:00:00Z", "1985-06-01T12:00:00Z"})
+    public String instant;
+
+    private UtcRules rules;
+    private Instant value;
+    private TaiInstant taiValue;
+    private Instant[] values;
+    private long[] epochSeconds;
+    private int[] nanos;
+    private long[] taiSeconds;
+    private int[] taiNanos;
+
+    @Setup
+    public void setup() {
+        rules = UtcRules.system();
+        value = Instant.parse(instant);
+        taiValue = rules.convertToTai(value);
+        values = new Instant[BATCH_SIZE];
+        epochSeconds = new long[BATCH_SIZE];
+        nanos = new int[BATCH_SIZE];
+        taiSeconds = new long[BATCH_SIZE];
+        taiNanos = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            values[i] = value.plusSeconds(i * 3_607L).plusNanos(i * 1_234_567L);
+            epochSeconds[i] = values[i].getEpochSecond();
+            nanos[i] = values[i].getNano();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Benchmark
+    public UtcInstant convertToUtc_Instant() {
+        return rules.convertToUtc(value);
+    }
+
+    @Benchmark
+    public UtcInstant convertToUtc_TaiInstant() {
+        return rules.convertToUtc(taiValue);
+    }
+
+    @Benchmark
+    public TaiInstant convertToTai_Instant() {
+        return rules.convertToTai(value);
+    }
+
+    @Benchmark
+    public TaiInstant[] convertToTai_Instant_batch() {
+        TaiInstant[] result = new TaiInstant[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            result[i] = rules.convertToTai(values[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long[] convertInstantsToTai_batch() {
+        rules.convertInstantsToTai(epochSeconds, nanos, taiSeconds, taiNanos);
+        return taiSeconds;
+    }
+
+}
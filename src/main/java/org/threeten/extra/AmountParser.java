@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * A single-pass scanner for the ISO-8601 based amount formats, used by {@link Days},
+ * {@link Weeks}, {@link Months}, {@link Years}, {@link Hours}, {@link Minutes} and {@link Seconds}.
+ * <p>
+ * The grammar is an optional sign, the letter "P", a sequence of date sections,
+ * then optionally the letter "T" and a sequence of time sections.
+ * Each section is a number with an optional sign followed by a unit suffix.
+ * Each amount class defines the suffixes it accepts, which must occur in order.
+ * Letters are matched in upper or lower case, numbers must consist of ASCII digits.
+ * <p>
+ * The scanner reads directly from the {@code CharSequence}, avoiding a regex
+ * {@code Matcher}, substrings and {@code Integer.parseInt()}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+final class AmountParser {
+
+    /**
+     * The value used to indicate that a section was not present.
+     */
+    static final long ABSENT = Long.MIN_VALUE;
+    /**
+     * The value used to indicate that the number of a section does not fit in an {@code int}.
+     */
+    static final long OVERFLOW = Long.MAX_VALUE;
+    /**
+     * The largest magnitude accumulated before a number is known to overflow.
+     */
+    private static final long LIMIT = -(long) Integer.MIN_VALUE;
+
+    /**
+     * Restricted constructor.
+     */
+    private AmountParser() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans the text, returning the sign and the value of each section.
+     * <p>
+     * The result has the sign, 1 or -1, at index zero, followed by the values of
+     * the date units and then the values of the time units.
+     * A value is {@link #ABSENT} if the section was not present, and
+     * {@link #OVERFLOW} if the number does not fit in an {@code int}.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param dateUnits  the upper case suffixes of the date sections, in order, not null
+     * @param timeUnits  the upper case suffixes of the time sections, in order, empty if no "T" part
+     * @return the sign and section values, null if the text does not match or has no sections
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     */
+    static long[] parse(CharSequence text, int start, int end, String dateUnits, String timeUnits) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid range: start " + start + ", end " + end + ", length " + text.length());
+        }
+        long[] result = new long[1 + dateUnits.length() + timeUnits.length()];
+        Arrays.fill(result, ABSENT);
+        result[0] = 1;
+        int pos = start;
+        if (pos < end) {
+            char ch = text.charAt(pos);
+            if (ch == '-' || ch == '+') {
+                result[0] = (ch == '-' ? -1 : 1);
+                pos++;
+            }
+        }
+        if (pos == end || !isLetter(text.charAt(pos), 'P')) {
+            return null;
+        }
+        pos = sections(text, pos + 1, end, dateUnits, result, 1);
+        if (pos >= 0 && timeUnits.length() > 0 && pos < end && isLetter(text.charAt(pos), 'T')) {
+            pos = sections(text, pos + 1, end, timeUnits, result, 1 + dateUnits.length());
+        }
+        if (pos != end) {
+            return null;
+        }
+        for (int i = 1; i < result.length; i++) {
+            if (result[i] != ABSENT) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scans a sequence of sections.
+     *
+     * @param text  the text to parse, not null
+     * @param pos  the position to start from
+     * @param end  the end index, exclusive
+     * @param units  the upper case suffixes, in order, not null
+     * @param result  the array to store the values in, not null
+     * @param offset  the index in the result of the first unit
+     * @return the position after the last section, -1 if a section has an invalid suffix
+     */
+    private static int sections(CharSequence text, int pos, int end, String units, long[] result, int offset) {
+        int unit = 0;
+        while (pos < end && unit < units.length()) {
+            int index = pos;
+            char ch = text.charAt(index);
+            boolean negative = (ch == '-');
+            if (negative || ch == '+') {
+                index++;
+            }
+            int digitsStart = index;
+            long value = 0;
+            while (index < end && (ch = text.charAt(index)) >= '0' && ch <= '9') {
+                if (value <= LIMIT) {
+                    value = value * 10 + (ch - '0');
+                }
+                index++;
+            }
+            if (index == digitsStart) {
+                return pos;
+            }
+            if (index == end) {
+                return -1;
+            }
+            int found = unit;
+            while (found < units.length() && !isLetter(ch, units.charAt(found))) {
+                found++;
+            }
+            if (found == units.length()) {
+                return -1;
+            }
+            value = (negative ? -value : value);
+            result[offset + found] = (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? OVERFLOW : value);
+            unit = found + 1;
+            pos = index + 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Checks if the character is the specified letter in either case.
+     *
+     * @param ch  the character to check
+     * @param upper  the upper case ASCII letter
+     * @return true if the character matches
+     */
+    private static boolean isLetter(char ch, char upper) {
+        return ch == upper || ch == upper + ('a' - 'A');
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the value of a section, zero if absent.
+     *
+     * @param parsed  the result of {@link #parse}, not null
+     * @param index  the index of the section in the result
+     * @param text  the text being parsed, for the exception, not null
+     * @param start  the start index, for the exception
+     * @param message  the message if the number does not fit in an {@code int}, not null
+     * @return the value of the section
+     * @throws DateTimeParseException if the number does not fit in an {@code int}
+     */
+    static int value(long[] parsed, int index, CharSequence text, int start, String message) {
+        long value = parsed[index];
+        if (value == ABSENT) {
+            return 0;
+        }
+        if (value == OVERFLOW) {
+            throw new DateTimeParseException(message, text, start);
+        }
+        return (int) value;
+    }
+
+}
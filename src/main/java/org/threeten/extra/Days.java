@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A day-based amount of time, such as '12 days'.
@@ -79,17 +77,17 @@ public final class Days
      */
     private static final long serialVersionUID = -8903767091325669093L;
     /**
-     * The number of days per week.
+     * The largest magnitude of the cached instances.
      */
-    private static final int DAYS_PER_WEEK = 7;
+    private static final int CACHE_LIMIT = 1024;
     /**
-     * The pattern for parsing.
+     * Cache of instances from -CACHE_LIMIT to CACHE_LIMIT, populated on demand.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)W)?"
-                    + "(?:([-+]?[0-9]+)D)?", Pattern.CASE_INSENSITIVE);
-
+    private static final Days[] CACHE = new Days[CACHE_LIMIT * 2 + 1];
+    /**
+     * The number of days per week.
+     */
+    private static final int DAYS_PER_WEEK = 7;
     /**
      * The number of days.
      */
@@ -108,8 +106,17 @@ public final class Days
             return ZERO;
         } else if (days == 1) {
             return ONE;
+        } else if (days < -CACHE_LIMIT || days > CACHE_LIMIT) {
+            return new Days(days);
         }
-        return new Days(days);
+        int index = days + CACHE_LIMIT;
+        Days cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new Days(days);
+            CACHE[index] = cached;
+        }
+        return cached;
     }
 
     /**
@@ -127,7 +134,7 @@ public final class Days
         if (weeks == 0) {
             return ZERO;
         }
-        return new Days(Math.multiplyExact(weeks, DAYS_PER_WEEK));
+        return of(Math.multiplyExact(weeks, DAYS_PER_WEEK));
     }
 
     //-----------------------------------------------------------------------
@@ -205,32 +212,33 @@ public final class Days
      */
     public static Days parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
-                int days = 0;
-                if (daysStr != null) {
-                    try {
-                        days = Integer.parseInt(daysStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric days", text, 0, ex);
-                    }
-                }
-                if (weeksStr != null) {
-                    try {
-                        int weeks = Math.multiplyExact(Integer.parseInt(weeksStr), DAYS_PER_WEEK);
-                        days = Math.addExact(days, weeks);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Days, non-numeric weeks", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(days, negate));
-            }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Days} from a range of a text string such as {@code PnD}.
+     * <p>
+     * This parses the characters from {@code start} to {@code end} using the same
+     * format as {@link #parse(CharSequence)}, without creating a sub-sequence.
+     * Any error index in the exception is relative to the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Days parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        long[] parsed = AmountParser.parse(text, start, end, "WD", "");
+        if (parsed == null) {
+            throw new DateTimeParseException("Text cannot be parsed to a Days", text, start);
         }
-        throw new DateTimeParseException("Text cannot be parsed to a Days", text, 0);
+        int days = AmountParser.value(parsed, 2, text, start, "Text cannot be parsed to a Days, non-numeric days");
+        int weeks = AmountParser.value(parsed, 1, text, start, "Text cannot be parsed to a Days, non-numeric weeks");
+        days = Math.addExact(days, Math.multiplyExact(weeks, DAYS_PER_WEEK));
+        return of(Math.multiplyExact(days, (int) parsed[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -578,4 +586,33 @@ public final class Days
         return "P" + days + "D";
     }
 
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        buf.append('P').append(days).append('D');
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable);
+        } else {
+            IsoFormat.appendAmount(appendable, "P", days, 'D');
+        }
+    }
+
 }
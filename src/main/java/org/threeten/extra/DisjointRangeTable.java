@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.extra.IntervalTree.compare;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * An immutable table of disjoint ranges with values, used by {@link LocalDateRangeMap} and {@link IntervalMap}.
+ * <p>
+ * Each endpoint is held as a pair of a {@code long} and an {@code int}, compared in that order.
+ * This allows both epoch seconds plus nanos and epoch days (with zero) to be held.
+ * The ranges are sorted in a set of parallel arrays, with the start inclusive and the end exclusive.
+ * <p>
+ * A table may be a view of a larger table, restricted to a sub-range of the entries,
+ * with the first and last ranges clipped to the bounds of the view.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <V> the type of the value
+ */
+final class DisjointRangeTable<V> {
+
+    /**
+     * The empty table.
+     */
+    private static final DisjointRangeTable<Object> EMPTY = new DisjointRangeTable<>(
+            new long[0], new int[0], new long[0], new int[0], new Object[0],
+            0, 0, Long.MIN_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    /** The start of each range, high part, sorted. */
+    private final long[] startHi;
+    /** The start of each range, low part. */
+    private final int[] startLo;
+    /** The end of each range, high part, sorted. */
+    private final long[] endHi;
+    /** The end of each range, low part. */
+    private final int[] endLo;
+    /** The values. */
+    private final Object[] values;
+    /** The first index in the view, inclusive. */
+    private final int from;
+    /** The last index in the view, exclusive. */
+    private final int to;
+    /** The lower bound of the view, high part. */
+    private final long lowerHi;
+    /** The lower bound of the view, low part. */
+    private final int lowerLo;
+    /** The upper bound of the view, high part. */
+    private final long upperHi;
+    /** The upper bound of the view, low part. */
+    private final int upperLo;
+
+    /**
+     * Constructor.
+     */
+    private DisjointRangeTable(
+            long[] startHi, int[] startLo, long[] endHi, int[] endLo, Object[] values,
+            int from, int to, long lowerHi, int lowerLo, long upperHi, int upperLo) {
+        this.startHi = startHi;
+        this.startLo = startLo;
+        this.endHi = endHi;
+        this.endLo = endLo;
+        this.values = values;
+        this.from = from;
+        this.to = to;
+        this.lowerHi = lowerHi;
+        this.lowerLo = lowerLo;
+        this.upperHi = upperHi;
+        this.upperLo = upperLo;
+    }
+
+    /**
+     * Gets the empty table.
+     *
+     * @param <V> the type of the value
+     * @return the empty table, not null
+     */
+    @SuppressWarnings("unchecked")
+    static <V> DisjointRangeTable<V> empty() {
+        return (DisjointRangeTable<V>) EMPTY;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of ranges.
+     *
+     * @return the number of ranges
+     */
+    int size() {
+        return to - from;
+    }
+
+    /**
+     * Finds the range containing the point.
+     * <p>
+     * This is a binary search that does not allocate.
+     *
+     * @param hi  the high part
+     * @param lo  the low part
+     * @return the index of the range, from zero to the size, negative if not found
+     */
+    int indexOf(long hi, int lo) {
+        if (compare(hi, lo, lowerHi, lowerLo) < 0 || compare(hi, lo, upperHi, upperLo) >= 0) {
+            return -1;
+        }
+        // find the last range starting at or before the point
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startHi[mid], startLo[mid], hi, lo) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return (high >= from && compare(hi, lo, endHi[high], endLo[high]) < 0 ? high - from : -1);
+    }
+
+    /**
+     * Gets the value at the specified index.
+     *
+     * @param index  the index, from zero to the size
+     * @return the value, not null
+     */
+    @SuppressWarnings("unchecked")
+    V value(int index) {
+        return (V) values[from + index];
+    }
+
+    /**
+     * Gets the start of the range, high part, clipped to the view.
+     *
+     * @param index  the index, from zero to the size
+     * @return the high part
+     */
+    long startHi(int index) {
+        int i = from + index;
+        return compare(startHi[i], startLo[i], lowerHi, lowerLo) < 0 ? lowerHi : startHi[i];
+    }
+
+    /**
+     * Gets the start of the range, low part, clipped to the view.
+     *
+     * @param index  the index, from zero to the size
+     * @return the low part
+     */
+    int startLo(int index) {
+        int i = from + index;
+        return compare(startHi[i], startLo[i], lowerHi, lowerLo) < 0 ? lowerLo : startLo[i];
+    }
+
+    /**
+     * Gets the end of the range, high part, clipped to the view.
+     *
+     * @param index  the index, from zero to the size
+     * @return the high part
+     */
+    long endHi(int index) {
+        int i = from + index;
+        return compare(endHi[i], endLo[i], upperHi, upperLo) > 0 ? upperHi : endHi[i];
+    }
+
+    /**
+     * Gets the end of the range, low part, clipped to the view.
+     *
+     * @param index  the index, from zero to the size
+     * @return the low part
+     */
+    int endLo(int index) {
+        int i = from + index;
+        return compare(endHi[i], endLo[i], upperHi, upperLo) > 0 ? upperLo : endLo[i];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a view restricted to the specified range.
+     *
+     * @param lowHi  the start of the range, high part
+     * @param lowLo  the start of the range, low part
+     * @param highHi  the end of the range, high part
+     * @param highLo  the end of the range, low part
+     * @return the view, not null
+     */
+    DisjointRangeTable<V> subTable(long lowHi, int lowLo, long highHi, int highLo) {
+        // intersect the bounds with the current view
+        if (compare(lowHi, lowLo, lowerHi, lowerLo) < 0) {
+            lowHi = lowerHi;
+            lowLo = lowerLo;
+        }
+        if (compare(highHi, highLo, upperHi, upperLo) > 0) {
+            highHi = upperHi;
+            highLo = upperLo;
+        }
+        if (compare(lowHi, lowLo, highHi, highLo) >= 0) {
+            return empty();
+        }
+        // first range ending after the lower bound
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(endHi[mid], endLo[mid], lowHi, lowLo) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int newFrom = low;
+        // first range starting at or after the upper bound
+        high = to - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startHi[mid], startLo[mid], highHi, highLo) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int newTo = low;
+        if (newFrom >= newTo) {
+            return empty();
+        }
+        return new DisjointRangeTable<>(startHi, startLo, endHi, endLo, values, newFrom, newTo, lowHi, lowLo, highHi, highLo);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this table has the same ranges and values as another table.
+     *
+     * @param other  the other table, not null
+     * @return true if equal
+     */
+    boolean equalTo(DisjointRangeTable<?> other) {
+        int size = size();
+        if (size != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (startHi(i) != other.startHi(i) || startLo(i) != other.startLo(i) ||
+                    endHi(i) != other.endHi(i) || endLo(i) != other.endLo(i) ||
+                    value(i).equals(other.value(i)) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the hash code.
+     *
+     * @return the hash code
+     */
+    int hash() {
+        int hash = 0;
+        for (int i = 0; i < size(); i++) {
+            hash = hash * 31 + (Long.hashCode(startHi(i)) ^ startLo(i) ^ Long.hashCode(endHi(i)) ^ endLo(i) ^ value(i).hashCode());
+        }
+        return hash;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of the table.
+     * <p>
+     * Each range that is put overwrites the part of any existing range that it overlaps,
+     * splitting the existing range if necessary.
+     *
+     * @param <V> the type of the value
+     */
+    static final class Builder<V> {
+        /**
+         * The ranges, keyed by start.
+         */
+        private final TreeMap<Point, Segment> segments = new TreeMap<>();
+        /**
+         * Whether to coalesce adjacent ranges with equal values.
+         */
+        private boolean coalesce;
+
+        /**
+         * Sets whether adjacent ranges with equal values are coalesced.
+         *
+         * @param coalesce  true to coalesce
+         */
+        void coalesce(boolean coalesce) {
+            this.coalesce = coalesce;
+        }
+
+        /**
+         * Adds the entries of a table.
+         *
+         * @param table  the table to add, not null
+         */
+        void putAll(DisjointRangeTable<? extends V> table) {
+            for (int i = 0; i < table.size(); i++) {
+                put(table.startHi(i), table.startLo(i), table.endHi(i), table.endLo(i), table.value(i));
+            }
+        }
+
+        /**
+         * Puts a range, overwriting any overlapping range.
+         *
+         * @param sHi  the start, high part
+         * @param sLo  the start, low part
+         * @param eHi  the end, high part
+         * @param eLo  the end, low part
+         * @param value  the value, null to remove
+         */
+        void put(long sHi, int sLo, long eHi, int eLo, V value) {
+            if (compare(sHi, sLo, eHi, eLo) >= 0) {
+                return;
+            }
+            Point start = new Point(sHi, sLo);
+            Point end = new Point(eHi, eLo);
+            // split the range that starts before and overlaps the new range
+            Map.Entry<Point, Segment> lower = segments.lowerEntry(start);
+            if (lower != null && lower.getValue().end.compareTo(start) > 0) {
+                Segment segment = lower.getValue();
+                segments.put(lower.getKey(), new Segment(start, segment.value));
+                if (segment.end.compareTo(end) > 0) {
+                    segments.put(end, segment);
+                }
+            }
+            // remove the ranges that start within the new range, keeping any part after the end
+            Iterator<Map.Entry<Point, Segment>> it = segments.subMap(start, true, end, false).entrySet().iterator();
+            Segment last = null;
+            while (it.hasNext()) {
+                last = it.next().getValue();
+                it.remove();
+            }
+            if (last != null && last.end.compareTo(end) > 0) {
+                segments.put(end, last);
+            }
+            if (value != null) {
+                segments.put(start, new Segment(end, value));
+            }
+        }
+
+        /**
+         * Builds the table.
+         *
+         * @return the table, not null
+         */
+        DisjointRangeTable<V> build() {
+            int size = segments.size();
+            if (size == 0) {
+                return empty();
+            }
+            long[] startHi = new long[size];
+            int[] startLo = new int[size];
+            long[] endHi = new long[size];
+            int[] endLo = new int[size];
+            Object[] values = new Object[size];
+            int count = 0;
+            for (Map.Entry<Point, Segment> entry : segments.entrySet()) {
+                Point start = entry.getKey();
+                Segment segment = entry.getValue();
+                if (coalesce && count > 0 && endHi[count - 1] == start.hi && endLo[count - 1] == start.lo &&
+                        values[count - 1].equals(segment.value)) {
+                    endHi[count - 1] = segment.end.hi;
+                    endLo[count - 1] = segment.end.lo;
+                    continue;
+                }
+                startHi[count] = start.hi;
+                startLo[count] = start.lo;
+                endHi[count] = segment.end.hi;
+                endLo[count] = segment.end.lo;
+                values[count] = segment.value;
+                count++;
+            }
+            if (count < size) {
+                startHi = Arrays.copyOf(startHi, count);
+                startLo = Arrays.copyOf(startLo, count);
+                endHi = Arrays.copyOf(endHi, count);
+                endLo = Arrays.copyOf(endLo, count);
+                values = Arrays.copyOf(values, count);
+            }
+            return new DisjointRangeTable<>(startHi, startLo, endHi, endLo, values,
+                    0, count, Long.MIN_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * An endpoint used while building.
+     */
+    private static final class Point implements Comparable<Point> {
+        /** The high part. */
+        private final long hi;
+        /** The low part. */
+        private final int lo;
+
+        private Point(long hi, int lo) {
+            this.hi = hi;
+            this.lo = lo;
+        }
+
+        @Override
+        public int compareTo(Point other) {
+            return compare(hi, lo, other.hi, other.lo);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Point) {
+                Point other = (Point) obj;
+                return hi == other.hi && lo == other.lo;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hi) ^ lo;
+        }
+    }
+
+    /**
+     * A range used while building, keyed by its start.
+     */
+    private static final class Segment {
+        /** The end, exclusive. */
+        private final Point end;
+        /** The value. */
+        private final Object value;
+
+        private Segment(Point end, Object value) {
+            this.end = end;
+            this.value = Objects.requireNonNull(value, "value");
+        }
+    }
+
+}
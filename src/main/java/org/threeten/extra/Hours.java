@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A hour-based amount of time, such as '4 hours'.
@@ -74,20 +72,19 @@ public final class Hours
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8494096666041369608L;
-
     /**
-     * The number of hours per day.
+     * The largest magnitude of the cached instances.
      */
-    private static final int HOURS_PER_DAY = 24;
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * Cache of instances from -CACHE_LIMIT to CACHE_LIMIT, populated on demand.
+     */
+    private static final Hours[] CACHE = new Hours[CACHE_LIMIT * 2 + 1];
 
     /**
-     * The pattern for parsing.
+     * The number of hours per day.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?)?", Pattern.CASE_INSENSITIVE);
+    private static final int HOURS_PER_DAY = 24;
 
     /**
      * The number of hours.
@@ -105,9 +102,17 @@ public final class Hours
     public static Hours of(int hours) {
         if (hours == 0) {
             return ZERO;
-        } else {
+        } else if (hours < -CACHE_LIMIT || hours > CACHE_LIMIT) {
             return new Hours(hours);
         }
+        int index = hours + CACHE_LIMIT;
+        Hours cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new Hours(hours);
+            CACHE[index] = cached;
+        }
+        return cached;
     }
     
     //-----------------------------------------------------------------------
@@ -188,32 +193,33 @@ public final class Hours
      */
     public static Hours parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            if (daysStr != null || hoursStr != null) {
-                int hours = 0;
-                if (hoursStr != null) {
-                    try {
-                        hours = Integer.parseInt(hoursStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric hours", text, 0, ex);
-                    }
-                }
-                if (daysStr != null) {
-                    try {
-                        int daysAsHours = Math.multiplyExact(Integer.parseInt(daysStr), HOURS_PER_DAY);
-                        hours = Math.addExact(hours, daysAsHours);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric days", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(hours, negate));
-            }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Hours} from a range of a text string such as {@code PTnH}.
+     * <p>
+     * This parses the characters from {@code start} to {@code end} using the same
+     * format as {@link #parse(CharSequence)}, without creating a sub-sequence.
+     * Any error index in the exception is relative to the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Hours parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        long[] parsed = AmountParser.parse(text, start, end, "D", "H");
+        if (parsed == null) {
+            throw new DateTimeParseException("Text cannot be parsed to Hours", text, start);
         }
-        throw new DateTimeParseException("Text cannot be parsed to Hours", text, 0);
+        int hours = AmountParser.value(parsed, 2, text, start, "Text cannot be parsed to Hours, non-numeric hours");
+        int days = AmountParser.value(parsed, 1, text, start, "Text cannot be parsed to Hours, non-numeric days");
+        hours = Math.addExact(hours, Math.multiplyExact(days, HOURS_PER_DAY));
+        return of(Math.multiplyExact(hours, (int) parsed[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -574,4 +580,33 @@ public final class Hours
         return "PT" + hours + "H";
     }
 
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        buf.append("PT").append(hours).append('H');
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable);
+        } else {
+            IsoFormat.appendAmount(appendable, "PT", hours, 'H');
+        }
+    }
+
 }
@@ -31,6 +31,7 @@
  */
 package org.threeten.extra;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.Duration;
@@ -74,6 +75,10 @@ public final class Interval
      * Serialization version.
      */
     private static final long serialVersionUID = 8375285238652L;
+    /**
+     * The nano-of-second used for an unbounded end, one nanosecond after {@code Instant.MAX}.
+     */
+    static final int UNBOUNDED_END_NANOS = 1_000_000_000;
 
     /**
      * The start instant (inclusive).
@@ -298,6 +303,18 @@ public final class Interval
         return end.equals(Instant.MAX);
     }
 
+    /**
+     * Gets the nano-of-second of the exclusive end, as used by the interval collections.
+     * <p>
+     * An unbounded end includes {@code Instant.MAX}, thus the result is
+     * {@link #UNBOUNDED_END_NANOS} in that case.
+     *
+     * @return the end nano-of-second, from 0 to 1,000,000,000
+     */
+    int endNanoExclusive() {
+        return (isUnboundedEnd() ? UNBOUNDED_END_NANOS : end.getNano());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a copy of this range with the specified start instant.
@@ -590,7 +607,40 @@ public final class Interval
      */
     @Override
     public String toString() {
-        return start.toString() + '/' + end.toString();
+        StringBuilder buf = new StringBuilder(64);
+        formatTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats this interval to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        formatTo((Appendable) buf);
+    }
+
+    /**
+     * Formats this interval to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            IsoFormat.appendInstant(appendable, start);
+            appendable.append('/');
+            IsoFormat.appendInstant(appendable, end);
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
     }
 
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * An immutable index of values by {@code Interval}, supporting fast stabbing and overlap queries.
+ * <p>
+ * An {@code IntervalIndex} associates values with intervals, and efficiently finds
+ * the entries whose interval contains an instant or overlaps another interval.
+ * The same interval may be added more than once.
+ * <p>
+ * The index is an augmented interval tree held in primitive arrays.
+ * A query for <i>k</i> matches from <i>n</i> entries takes <i>O(log n + k)</i> time in typical cases,
+ * with the matches returned as a lazy stream in order of start.
+ * Building the index from <i>n</i> entries in any order takes <i>O(n log n)</i> time.
+ * <p>
+ * See {@link LocalDateRangeIndex} for the equivalent index of {@code LocalDateRange}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <V> the type of the value
+ */
+public final class IntervalIndex<V> {
+
+    /**
+     * The tree.
+     */
+    private final IntervalTree<Interval, V> tree;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an index of the entries in the specified map.
+     *
+     * @param <V> the type of the value
+     * @param map  the map of intervals to values, not null
+     * @return the index, not null
+     */
+    public static <V> IntervalIndex<V> of(Map<Interval, ? extends V> map) {
+        return IntervalIndex.<V>builder().putAll(map).build();
+    }
+
+    /**
+     * Creates a builder that can accept entries in any order.
+     *
+     * @param <V> the type of the value
+     * @return the builder, not null
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tree  the tree, not null
+     */
+    private IntervalIndex(IntervalTree<Interval, V> tree) {
+        this.tree = tree;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of entries in the index.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Checks if the index is empty.
+     *
+     * @return true if the index has no entries
+     */
+    public boolean isEmpty() {
+        return tree.size() == 0;
+    }
+
+    /**
+     * Streams all the entries in the index, in order of start.
+     *
+     * @return the stream of entries, not null
+     */
+    public Stream<Map.Entry<Interval, V>> stream() {
+        return tree.stream();
+    }
+
+    /**
+     * Streams the entries whose interval contains the specified instant.
+     * <p>
+     * An entry matches if {@link Interval#contains(Instant)} would return true.
+     * The entries are returned in order of start.
+     *
+     * @param instant  the instant to find, not null
+     * @return the stream of matching entries, not null
+     */
+    public Stream<Map.Entry<Interval, V>> containing(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        // the range from the instant to one nanosecond later, which cannot equal an entry
+        long seconds = instant.getEpochSecond();
+        int nanos = instant.getNano();
+        return tree.query(seconds, nanos, seconds, nanos + 1);
+    }
+
+    /**
+     * Streams the entries whose interval overlaps the specified interval.
+     * <p>
+     * An entry matches if {@link Interval#overlaps(Interval)} would return true.
+     * The entries are returned in order of start.
+     *
+     * @param interval  the interval to find, not null
+     * @return the stream of matching entries, not null
+     */
+    public Stream<Map.Entry<Interval, V>> overlapping(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        Instant start = interval.getStart();
+        Instant end = interval.getEnd();
+        return tree.query(start.getEpochSecond(), start.getNano(), end.getEpochSecond(), interval.endNanoExclusive());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this index as a {@code String}.
+     *
+     * @return a string representation of this index, not null
+     */
+    @Override
+    public String toString() {
+        return "IntervalIndex[size=" + size() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of {@code IntervalIndex}.
+     * <p>
+     * This class is mutable and not thread-safe.
+     *
+     * @param <V> the type of the value
+     */
+    public static final class Builder<V> {
+        /**
+         * The entries.
+         */
+        private final IntervalTree.Entries entries = new IntervalTree.Entries();
+
+        /**
+         * Constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Adds an entry to the index being built.
+         *
+         * @param interval  the interval, not null
+         * @param value  the value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> put(Interval interval, V value) {
+            Objects.requireNonNull(interval, "interval");
+            Objects.requireNonNull(value, "value");
+            Instant start = interval.getStart();
+            entries.add(start.getEpochSecond(), start.getNano(), interval.getEnd().getEpochSecond(), interval.endNanoExclusive(), interval, value);
+            return this;
+        }
+
+        /**
+         * Adds the entries in a map to the index being built.
+         *
+         * @param map  the map of intervals to values, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> putAll(Map<Interval, ? extends V> map) {
+            Objects.requireNonNull(map, "map");
+            for (Map.Entry<Interval, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Builds the index.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the index, not null
+         */
+        public IntervalIndex<V> build() {
+            return new IntervalIndex<>(entries.build());
+        }
+    }
+
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable map from disjoint {@code Interval} instances to values.
+ * <p>
+ * An {@code IntervalMap} associates each instant with at most one value.
+ * When an interval is put, it overwrites the values of any existing intervals that it overlaps,
+ * splitting them if necessary.
+ * The builder can optionally coalesce adjacent intervals that have equal values.
+ * <p>
+ * The intervals are held as sorted primitive arrays of epoch seconds and nanos.
+ * Looking up the value for an instant is a binary search taking <i>O(log n)</i> time without allocation.
+ * <p>
+ * See {@link IntervalMap} for the equivalent map of {@code Interval}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <V> the type of the value
+ */
+public final class IntervalMap<V> {
+
+    /**
+     * The empty map.
+     */
+    private static final IntervalMap<Object> EMPTY = new IntervalMap<>(DisjointRangeTable.empty());
+
+    /**
+     * The table of intervals in epoch seconds and nanos.
+     */
+    private final DisjointRangeTable<V> table;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty map.
+     *
+     * @param <V> the type of the value
+     * @return the empty map, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> IntervalMap<V> empty() {
+        return (IntervalMap<V>) EMPTY;
+    }
+
+    /**
+     * Obtains a map with a single interval.
+     *
+     * @param <V> the type of the value
+     * @param interval  the interval, not null
+     * @param value  the value, not null
+     * @return the map, not null
+     */
+    public static <V> IntervalMap<V> of(Interval interval, V value) {
+        return IntervalMap.<V>builder().put(interval, value).build();
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @param <V> the type of the value
+     * @return the builder, not null
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param table  the table, not null
+     */
+    private IntervalMap(DisjointRangeTable<V> table) {
+        this.table = table;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of intervals in the map.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map has no intervals
+     */
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Checks if the map has a value for the specified instant.
+     *
+     * @param instant  the instant to check, not null
+     * @return true if an interval in the map contains the instant
+     */
+    public boolean contains(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        return table.indexOf(instant.getEpochSecond(), instant.getNano()) >= 0;
+    }
+
+    /**
+     * Gets the value for the specified instant.
+     * <p>
+     * This is a binary search of the intervals, taking <i>O(log n)</i> time without allocation.
+     *
+     * @param instant  the instant to find, not null
+     * @return the value, null if no interval contains the instant
+     */
+    public V get(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        int index = table.indexOf(instant.getEpochSecond(), instant.getNano());
+        return (index >= 0 ? table.value(index) : null);
+    }
+
+    /**
+     * Gets the interval and value for the specified instant.
+     *
+     * @param instant  the instant to find, not null
+     * @return the entry, null if no interval contains the instant
+     */
+    public Map.Entry<Interval, V> getEntry(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        int index = table.indexOf(instant.getEpochSecond(), instant.getNano());
+        return (index >= 0 ? entry(index) : null);
+    }
+
+    /**
+     * Streams the intervals and values in the map, in order.
+     *
+     * @return the stream of entries, not null
+     */
+    public Stream<Map.Entry<Interval, V>> stream() {
+        return IntStream.range(0, table.size()).mapToObj(this::entry);
+    }
+
+    /**
+     * Creates the entry at the specified index.
+     *
+     * @param index  the index
+     * @return the entry, not null
+     */
+    private Map.Entry<Interval, V> entry(int index) {
+        return new SimpleImmutableEntry<>(
+                Interval.of(
+                        Instant.ofEpochSecond(table.startHi(index), table.startLo(index)),
+                        IntervalSet.toEndInstant(table.endHi(index), table.endLo(index))),
+                table.value(index));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a view of the part of this map within the specified interval.
+     * <p>
+     * Intervals that are partly within the specified interval are truncated to it.
+     * The view shares the data of this map and is created in <i>O(log n)</i> time.
+     *
+     * @param interval  the interval to restrict to, not null
+     * @return the map restricted to the interval, not null
+     */
+    public IntervalMap<V> subMap(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        DisjointRangeTable<V> sub = table.subTable(
+                interval.getStart().getEpochSecond(), interval.getStart().getNano(),
+                interval.getEnd().getEpochSecond(), interval.endNanoExclusive());
+        return (sub.size() == 0 ? empty() : new IntervalMap<>(sub));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this map is equal to another map.
+     * <p>
+     * The comparison is based on the intervals and values.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other map
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalMap) {
+            IntervalMap<?> other = (IntervalMap<?>) obj;
+            return table.equalTo(other.table);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this map.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return table.hash();
+    }
+
+    /**
+     * Outputs this map as a {@code String}, such as {@code {2007-12-03T10:15:30Z/2007-12-04T10:15:30Z=A}}.
+     *
+     * @return a string representation of this map, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("{");
+        for (int i = 0; i < table.size(); i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            Map.Entry<Interval, V> entry = entry(i);
+            buf.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return buf.append('}').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of {@code IntervalMap}.
+     * <p>
+     * The intervals are applied in the order they are put, with later intervals
+     * overwriting the values of earlier intervals where they overlap.
+     * <p>
+     * This class is mutable and not thread-safe.
+     *
+     * @param <V> the type of the value
+     */
+    public static final class Builder<V> {
+        /**
+         * The table builder.
+         */
+        private final DisjointRangeTable.Builder<V> builder = new DisjointRangeTable.Builder<>();
+
+        /**
+         * Constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets whether adjacent intervals with equal values are coalesced when built.
+         * <p>
+         * By default, intervals are not coalesced, and each interval put is retained
+         * except where it is overwritten.
+         *
+         * @param coalesce  true to coalesce adjacent intervals with equal values
+         * @return this, for chaining, not null
+         */
+        public Builder<V> coalescing(boolean coalesce) {
+            builder.coalesce(coalesce);
+            return this;
+        }
+
+        /**
+         * Puts an interval and value, overwriting any overlapping part of existing intervals.
+         * <p>
+         * An empty interval has no effect.
+         *
+         * @param interval  the interval, not null
+         * @param value  the value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> put(Interval interval, V value) {
+            Objects.requireNonNull(interval, "interval");
+            Objects.requireNonNull(value, "value");
+            builder.put(
+                    interval.getStart().getEpochSecond(), interval.getStart().getNano(),
+                    interval.getEnd().getEpochSecond(), interval.endNanoExclusive(), value);
+            return this;
+        }
+
+        /**
+         * Puts all the intervals and values in a map, overwriting any overlapping part of existing intervals.
+         *
+         * @param map  the map to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> putAll(IntervalMap<? extends V> map) {
+            Objects.requireNonNull(map, "map");
+            builder.putAll(map.table);
+            return this;
+        }
+
+        /**
+         * Removes an interval, splitting any interval that it partly overlaps.
+         *
+         * @param interval  the interval to remove, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> remove(Interval interval) {
+            Objects.requireNonNull(interval, "interval");
+            builder.put(
+                    interval.getStart().getEpochSecond(), interval.getStart().getNano(),
+                    interval.getEnd().getEpochSecond(), interval.endNanoExclusive(), null);
+            return this;
+        }
+
+        /**
+         * Builds the map.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the map, not null
+         */
+        public IntervalMap<V> build() {
+            DisjointRangeTable<V> table = builder.build();
+            return (table.size() == 0 ? empty() : new IntervalMap<>(table));
+        }
+    }
+
+}
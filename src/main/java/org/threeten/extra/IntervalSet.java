@@ -0,0 +1,822 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.extra.IntervalTree.compare;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable set of instants, stored as a sorted list of disjoint intervals.
+ * <p>
+ * An {@code IntervalSet} represents the part of the time-line covered by any number of
+ * {@link Interval} instances. The intervals are normalized on creation,
+ * such that any intervals that overlap or abut are coalesced into a single interval
+ * and empty intervals are discarded. Thus two sets covering the same instants are equal.
+ * <p>
+ * The intervals are stored as parallel arrays of epoch seconds and nanosecond-of-second,
+ * sorted by start, with the start inclusive and the end exclusive.
+ * Checking whether an instant is contained in the set is a binary search,
+ * while the set operations of union, intersection, difference and complement
+ * are a single linear sweep of the two sets.
+ * <p>
+ * As with {@code Interval}, an interval with an end of {@code Instant.MAX} is unbounded
+ * and includes {@code Instant.MAX}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * <p>
+ * This class must be treated as a value type. Do not synchronize, rely on the
+ * identity hash code or use the distinction between equals() and ==.
+ */
+public final class IntervalSet
+        implements Serializable {
+
+    /**
+     * The empty set.
+     */
+    public static final IntervalSet EMPTY = new IntervalSet(new long[0], new int[0], new long[0], new int[0]);
+    /**
+     * A set covering the whole time-line.
+     */
+    public static final IntervalSet ALL = of(Interval.ALL);
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 2473058716232569153L;
+
+    /**
+     * The start epoch seconds (inclusive), sorted.
+     */
+    private final long[] startSeconds;
+    /**
+     * The start nanosecond-of-second (inclusive).
+     */
+    private final int[] startNanos;
+    /**
+     * The end epoch seconds (exclusive), sorted.
+     */
+    private final long[] endSeconds;
+    /**
+     * The end nanosecond-of-second (exclusive), one billion if unbounded.
+     */
+    private final int[] endNanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a set covering the instants in the specified intervals.
+     * <p>
+     * The intervals may be in any order, and may overlap or abut.
+     *
+     * @param intervals  the intervals to include, not null
+     * @return the set of instants, not null
+     */
+    public static IntervalSet of(Interval... intervals) {
+        Objects.requireNonNull(intervals, "intervals");
+        Builder builder = new Builder(intervals.length);
+        for (Interval interval : intervals) {
+            builder.add(interval);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Obtains a set covering the instants in the specified intervals.
+     * <p>
+     * The intervals may be in any order, and may overlap or abut.
+     *
+     * @param intervals  the intervals to include, not null
+     * @return the set of instants, not null
+     */
+    public static IntervalSet of(Iterable<Interval> intervals) {
+        return builder().addAll(intervals).build();
+    }
+
+    /**
+     * Creates a builder that can accept intervals in any order.
+     * <p>
+     * Building a set of <i>n</i> intervals takes <i>O(n log n)</i> time.
+     *
+     * @return the builder, not null
+     */
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param startSeconds  the normalized start seconds, not null
+     * @param startNanos  the normalized start nanos, not null
+     * @param endSeconds  the normalized end seconds, not null
+     * @param endNanos  the normalized end nanos, not null
+     */
+    private IntervalSet(long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos) {
+        this.startSeconds = startSeconds;
+        this.startNanos = startNanos;
+        this.endSeconds = endSeconds;
+        this.endNanos = endNanos;
+    }
+
+    /**
+     * Obtains an instance from the normalized arrays.
+     *
+     * @param startSeconds  the normalized start seconds, not null
+     * @param startNanos  the normalized start nanos, not null
+     * @param endSeconds  the normalized end seconds, not null
+     * @param endNanos  the normalized end nanos, not null
+     * @param size  the number of intervals to use from the arrays
+     * @return the set, not null
+     */
+    private static IntervalSet create(long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size == startSeconds.length) {
+            return new IntervalSet(startSeconds, startNanos, endSeconds, endNanos);
+        }
+        return new IntervalSet(
+                Arrays.copyOf(startSeconds, size),
+                Arrays.copyOf(startNanos, size),
+                Arrays.copyOf(endSeconds, size),
+                Arrays.copyOf(endNanos, size));
+    }
+
+    /**
+     * Resolves instances, normalizing the stored intervals.
+     *
+     * @return the resolved instance, not null
+     */
+    private Object readResolve() {
+        return builder().addAll(this).build();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the set is empty.
+     *
+     * @return true if the set contains no instants
+     */
+    public boolean isEmpty() {
+        return startSeconds.length == 0;
+    }
+
+    /**
+     * Gets the number of disjoint intervals in the set.
+     * <p>
+     * This is the number of intervals after normalization,
+     * thus two intervals that abut will count as one.
+     *
+     * @return the number of intervals
+     */
+    public int intervalCount() {
+        return startSeconds.length;
+    }
+
+    /**
+     * Gets the disjoint intervals in the set, in ascending order.
+     *
+     * @return the list of intervals, not null
+     */
+    public List<Interval> getIntervals() {
+        List<Interval> list = new ArrayList<>(startSeconds.length);
+        for (int i = 0; i < startSeconds.length; i++) {
+            list.add(interval(i));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Streams the disjoint intervals in the set, in ascending order.
+     *
+     * @return the stream of intervals, not null
+     */
+    public Stream<Interval> streamIntervals() {
+        return IntStream.range(0, startSeconds.length).mapToObj(this::interval);
+    }
+
+    /**
+     * Gets the smallest interval that encloses every instant in the set.
+     *
+     * @return the interval, not null
+     * @throws DateTimeException if the set is empty
+     */
+    public Interval span() {
+        if (isEmpty()) {
+            throw new DateTimeException("Empty set has no span");
+        }
+        int last = startSeconds.length - 1;
+        return Interval.of(
+                Instant.ofEpochSecond(startSeconds[0], startNanos[0]),
+                toEndInstant(endSeconds[last], endNanos[last]));
+    }
+
+    /**
+     * Calculates the total duration of the intervals in the set.
+     * <p>
+     * This is the sum of the duration of each disjoint interval, as per {@link Interval#toDuration()},
+     * calculated without creating an {@code Interval} for each.
+     *
+     * @return the total duration, not null
+     */
+    public Duration totalDuration() {
+        long seconds = 0;
+        long nanos = 0;
+        for (int i = 0; i < startSeconds.length; i++) {
+            int endNano = Math.min(endNanos[i], Interval.UNBOUNDED_END_NANOS - 1);
+            seconds += endSeconds[i] - startSeconds[i];
+            nanos += endNano - startNanos[i];
+        }
+        return Duration.ofSeconds(seconds, nanos);
+    }
+
+    /**
+     * Obtains the interval at the specified index.
+     *
+     * @param index  the index
+     * @return the interval, not null
+     */
+    private Interval interval(int index) {
+        return Interval.of(
+                Instant.ofEpochSecond(startSeconds[index], startNanos[index]),
+                toEndInstant(endSeconds[index], endNanos[index]));
+    }
+
+    /**
+     * Converts an exclusive end to an instant.
+     *
+     * @param seconds  the end epoch seconds
+     * @param nanos  the end nanos, one billion if unbounded
+     * @return the end instant, not null
+     */
+    static Instant toEndInstant(long seconds, int nanos) {
+        return (nanos == Interval.UNBOUNDED_END_NANOS ? Instant.MAX : Instant.ofEpochSecond(seconds, nanos));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this set contains the specified instant.
+     * <p>
+     * This is a binary search of the intervals, taking <i>O(log n)</i> time.
+     *
+     * @param instant  the instant to check for, not null
+     * @return true if this set contains the instant
+     */
+    public boolean contains(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        return indexOf(instant.getEpochSecond(), instant.getNano()) >= 0;
+    }
+
+    /**
+     * Checks if this set contains every instant in the specified interval.
+     * <p>
+     * An empty interval is enclosed if it is located within or at the end of one of the intervals of this set.
+     *
+     * @param interval  the interval to check for, not null
+     * @return true if this set contains all instants in the interval
+     */
+    public boolean encloses(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        Instant start = interval.getStart();
+        int index = lastStartAtOrBefore(start.getEpochSecond(), start.getNano());
+        if (index < 0) {
+            return false;
+        }
+        Instant end = interval.getEnd();
+        int endNano = interval.endNanoExclusive();
+        return compare(end.getEpochSecond(), endNano, endSeconds[index], endNanos[index]) <= 0;
+    }
+
+    /**
+     * Checks if this set contains any instant in the specified interval.
+     *
+     * @param interval  the interval to check for, not null
+     * @return true if this set and the interval share at least one instant
+     */
+    public boolean overlaps(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        if (interval.isEmpty()) {
+            return false;
+        }
+        Instant end = interval.getEnd();
+        int endNano = interval.endNanoExclusive();
+        // the last interval starting before the end must end after the start
+        int index = lastStartBefore(end.getEpochSecond(), endNano);
+        Instant start = interval.getStart();
+        return index >= 0 && compare(start.getEpochSecond(), start.getNano(), endSeconds[index], endNanos[index]) < 0;
+    }
+
+    /**
+     * Finds the index of the interval containing the instant.
+     *
+     * @param seconds  the epoch seconds
+     * @param nanos  the nanosecond-of-second
+     * @return the index of the interval, negative if not found
+     */
+    private int indexOf(long seconds, int nanos) {
+        int index = lastStartAtOrBefore(seconds, nanos);
+        return (index >= 0 && compare(seconds, nanos, endSeconds[index], endNanos[index]) < 0 ? index : -1);
+    }
+
+    /**
+     * Finds the index of the last interval that starts at or before the instant.
+     *
+     * @param seconds  the epoch seconds
+     * @param nanos  the nanosecond-of-second
+     * @return the index of the interval, negative if none
+     */
+    private int lastStartAtOrBefore(long seconds, int nanos) {
+        int low = 0;
+        int high = startSeconds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], seconds, nanos) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Finds the index of the last interval that starts before the instant.
+     *
+     * @param seconds  the epoch seconds
+     * @param nanos  the nanosecond-of-second
+     * @return the index of the interval, negative if none
+     */
+    private int lastStartBefore(long seconds, int nanos) {
+        int low = 0;
+        int high = startSeconds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], seconds, nanos) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a set covering the instants in this set or in the specified set.
+     * <p>
+     * This takes <i>O(n + m)</i> time.
+     *
+     * @param other  the other set, not null
+     * @return the union of the two sets, not null
+     */
+    public IntervalSet union(IntervalSet other) {
+        Objects.requireNonNull(other, "other");
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        return sweep(this, other, 1);
+    }
+
+    /**
+     * Returns a set covering the instants in this set or in the specified interval.
+     *
+     * @param interval  the interval to add, not null
+     * @return the union of this set and the interval, not null
+     */
+    public IntervalSet union(Interval interval) {
+        return union(of(interval));
+    }
+
+    /**
+     * Returns a set covering the instants in both this set and the specified set.
+     * <p>
+     * This takes <i>O(n + m)</i> time.
+     *
+     * @param other  the other set, not null
+     * @return the intersection of the two sets, not null
+     */
+    public IntervalSet intersection(IntervalSet other) {
+        Objects.requireNonNull(other, "other");
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+        return sweep(this, other, 2);
+    }
+
+    /**
+     * Returns a set covering the instants in both this set and the specified interval.
+     *
+     * @param interval  the interval to intersect with, not null
+     * @return the intersection of this set and the interval, not null
+     */
+    public IntervalSet intersection(Interval interval) {
+        return intersection(of(interval));
+    }
+
+    /**
+     * Returns a set covering the instants in this set that are not in the specified set.
+     * <p>
+     * This takes <i>O(n + m)</i> time.
+     *
+     * @param other  the other set, not null
+     * @return the difference of the two sets, not null
+     */
+    public IntervalSet difference(IntervalSet other) {
+        Objects.requireNonNull(other, "other");
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        return intersection(other.complement());
+    }
+
+    /**
+     * Returns a set covering the instants in this set that are not in the specified interval.
+     *
+     * @param interval  the interval to remove, not null
+     * @return the difference of this set and the interval, not null
+     */
+    public IntervalSet difference(Interval interval) {
+        return difference(of(interval));
+    }
+
+    /**
+     * Returns a set covering every instant that is not in this set.
+     * <p>
+     * This takes <i>O(n)</i> time.
+     *
+     * @return the complement of this set, not null
+     */
+    public IntervalSet complement() {
+        int size = startSeconds.length;
+        long[] newStartSeconds = new long[size + 1];
+        int[] newStartNanos = new int[size + 1];
+        long[] newEndSeconds = new long[size + 1];
+        int[] newEndNanos = new int[size + 1];
+        newStartSeconds[0] = Instant.MIN.getEpochSecond();
+        newStartNanos[0] = Instant.MIN.getNano();
+        System.arraycopy(endSeconds, 0, newStartSeconds, 1, size);
+        System.arraycopy(endNanos, 0, newStartNanos, 1, size);
+        System.arraycopy(startSeconds, 0, newEndSeconds, 0, size);
+        System.arraycopy(startNanos, 0, newEndNanos, 0, size);
+        newEndSeconds[size] = Instant.MAX.getEpochSecond();
+        newEndNanos[size] = Interval.UNBOUNDED_END_NANOS;
+        // the first or last gap is empty if this set is unbounded
+        int from = (compare(newStartSeconds[0], newStartNanos[0], newEndSeconds[0], newEndNanos[0]) == 0 ? 1 : 0);
+        int to = (compare(newStartSeconds[size], newStartNanos[size], newEndSeconds[size], newEndNanos[size]) == 0 ? size : size + 1);
+        if (from == 0 && to == size + 1) {
+            return new IntervalSet(newStartSeconds, newStartNanos, newEndSeconds, newEndNanos);
+        }
+        return create(
+                Arrays.copyOfRange(newStartSeconds, from, to),
+                Arrays.copyOfRange(newStartNanos, from, to),
+                Arrays.copyOfRange(newEndSeconds, from, to),
+                Arrays.copyOfRange(newEndNanos, from, to),
+                to - from);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sweeps the two sets, outputting the intervals covered at least the specified depth.
+     * <p>
+     * As each set is normalized, the starts and ends of each set are already sorted,
+     * and the sweep merges them on the fly.
+     *
+     * @param a  the first set, not null
+     * @param b  the second set, not null
+     * @param depth  the depth to output, one for union, two for intersection
+     * @return the normalized set, not null
+     */
+    private static IntervalSet sweep(IntervalSet a, IntervalSet b, int depth) {
+        int sizeA = a.startSeconds.length;
+        int sizeB = b.startSeconds.length;
+        int size = sizeA + sizeB;
+        long[] outStartSeconds = new long[size];
+        int[] outStartNanos = new int[size];
+        long[] outEndSeconds = new long[size];
+        int[] outEndNanos = new int[size];
+        int out = 0;
+        int current = 0;
+        long currentSeconds = 0;
+        int currentNanos = 0;
+        // indices into the starts and ends of each set
+        int sa = 0;
+        int sb = 0;
+        int ea = 0;
+        int eb = 0;
+        while (ea < sizeA || eb < sizeB) {
+            // select the next start and the next end
+            boolean startFromA = sb >= sizeB ||
+                    (sa < sizeA && compare(a.startSeconds[sa], a.startNanos[sa], b.startSeconds[sb], b.startNanos[sb]) <= 0);
+            boolean hasStart = sa < sizeA || sb < sizeB;
+            long startSecs = hasStart ? (startFromA ? a.startSeconds[sa] : b.startSeconds[sb]) : 0;
+            int startNano = hasStart ? (startFromA ? a.startNanos[sa] : b.startNanos[sb]) : 0;
+            boolean endFromA = eb >= sizeB ||
+                    (ea < sizeA && compare(a.endSeconds[ea], a.endNanos[ea], b.endSeconds[eb], b.endNanos[eb]) <= 0);
+            long endSecs = endFromA ? a.endSeconds[ea] : b.endSeconds[eb];
+            int endNano = endFromA ? a.endNanos[ea] : b.endNanos[eb];
+            // starts are processed before ends at the same instant, thus abutting intervals coalesce
+            if (hasStart && compare(startSecs, startNano, endSecs, endNano) <= 0) {
+                if (++current == depth) {
+                    currentSeconds = startSecs;
+                    currentNanos = startNano;
+                }
+                if (startFromA) {
+                    sa++;
+                } else {
+                    sb++;
+                }
+            } else {
+                if (current-- == depth && compare(endSecs, endNano, currentSeconds, currentNanos) > 0) {
+                    outStartSeconds[out] = currentSeconds;
+                    outStartNanos[out] = currentNanos;
+                    outEndSeconds[out] = endSecs;
+                    outEndNanos[out] = endNano;
+                    out++;
+                }
+                if (endFromA) {
+                    ea++;
+                } else {
+                    eb++;
+                }
+            }
+        }
+        return create(outStartSeconds, outStartNanos, outEndSeconds, outEndNanos, out);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this set is equal to another set.
+     * <p>
+     * Two sets are equal if they cover the same instants.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other set
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalSet) {
+            IntervalSet other = (IntervalSet) obj;
+            return Arrays.equals(startSeconds, other.startSeconds) &&
+                    Arrays.equals(startNanos, other.startNanos) &&
+                    Arrays.equals(endSeconds, other.endSeconds) &&
+                    Arrays.equals(endNanos, other.endNanos);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this set.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(startSeconds) ^ Arrays.hashCode(startNanos) ^
+                Arrays.hashCode(endSeconds) ^ Arrays.hashCode(endNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this set as a {@code String}, such as
+     * {@code [2007-12-03T10:15:30Z/2007-12-04T10:15:30Z, 2008-01-01T00:00:00Z/2008-02-01T00:00:00Z]}.
+     * <p>
+     * The output consists of each interval in ISO-8601 format, separated by a comma and space.
+     *
+     * @return a string representation of this set, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(startSeconds.length * 42 + 2).append('[');
+        for (int i = 0; i < startSeconds.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(Instant.ofEpochSecond(startSeconds[i], startNanos[i])).append('/')
+                .append(toEndInstant(endSeconds[i], endNanos[i]));
+        }
+        return buf.append(']').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of {@code IntervalSet}.
+     * <p>
+     * The builder accepts intervals in any order, which may overlap or abut.
+     * <p>
+     * This class is mutable and not thread-safe.
+     */
+    public static final class Builder {
+        /**
+         * The start epoch seconds, unsorted.
+         */
+        private long[] startSeconds;
+        /**
+         * The start nanos, unsorted.
+         */
+        private int[] startNanos;
+        /**
+         * The end epoch seconds, unsorted.
+         */
+        private long[] endSeconds;
+        /**
+         * The end nanos, unsorted.
+         */
+        private int[] endNanos;
+        /**
+         * The number of intervals added.
+         */
+        private int size;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity  the initial capacity
+         */
+        private Builder(int capacity) {
+            this.startSeconds = new long[capacity];
+            this.startNanos = new int[capacity];
+            this.endSeconds = new long[capacity];
+            this.endNanos = new int[capacity];
+        }
+
+        /**
+         * Adds an interval to the set being built.
+         *
+         * @param interval  the interval to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder add(Interval interval) {
+            Objects.requireNonNull(interval, "interval");
+            Instant start = interval.getStart();
+            Instant end = interval.getEnd();
+            add(start.getEpochSecond(), start.getNano(), end.getEpochSecond(),
+                    interval.endNanoExclusive());
+            return this;
+        }
+
+        /**
+         * Adds a number of intervals to the set being built.
+         *
+         * @param intervals  the intervals to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder addAll(Iterable<Interval> intervals) {
+            Objects.requireNonNull(intervals, "intervals");
+            for (Interval interval : intervals) {
+                add(interval);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the intervals of a set to the set being built.
+         *
+         * @param set  the set to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder addAll(IntervalSet set) {
+            Objects.requireNonNull(set, "set");
+            for (int i = 0; i < set.startSeconds.length; i++) {
+                add(set.startSeconds[i], set.startNanos[i], set.endSeconds[i], set.endNanos[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Adds an interval.
+         *
+         * @param startSecs  the start seconds
+         * @param startNano  the start nanos
+         * @param endSecs  the end seconds
+         * @param endNano  the end nanos
+         */
+        private void add(long startSecs, int startNano, long endSecs, int endNano) {
+            if (size == startSeconds.length) {
+                int capacity = Math.max(16, size * 2);
+                startSeconds = Arrays.copyOf(startSeconds, capacity);
+                startNanos = Arrays.copyOf(startNanos, capacity);
+                endSeconds = Arrays.copyOf(endSeconds, capacity);
+                endNanos = Arrays.copyOf(endNanos, capacity);
+            }
+            startSeconds[size] = startSecs;
+            startNanos[size] = startNano;
+            endSeconds[size] = endSecs;
+            endNanos[size] = endNano;
+            size++;
+        }
+
+        /**
+         * Builds the set, normalizing the intervals.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the set, not null
+         */
+        public IntervalSet build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            // as the coverage of an instant depends only on the count of starts and ends before it,
+            // the starts and ends can be sorted independently, then swept as a set of sorted intervals
+            long[] sortedStartSeconds = Arrays.copyOf(startSeconds, size);
+            int[] sortedStartNanos = Arrays.copyOf(startNanos, size);
+            long[] sortedEndSeconds = Arrays.copyOf(endSeconds, size);
+            int[] sortedEndNanos = Arrays.copyOf(endNanos, size);
+            sort(sortedStartSeconds, sortedStartNanos);
+            sort(sortedEndSeconds, sortedEndNanos);
+            IntervalSet unnormalized = new IntervalSet(sortedStartSeconds, sortedStartNanos, sortedEndSeconds, sortedEndNanos);
+            return sweep(unnormalized, EMPTY, 1);
+        }
+
+        /**
+         * Sorts the parallel arrays of seconds and nanos.
+         *
+         * @param seconds  the seconds to sort, not null
+         * @param nanos  the nanos to sort, not null
+         */
+        private static void sort(long[] seconds, int[] nanos) {
+            mergeSort(seconds.clone(), nanos.clone(), seconds, nanos, 0, seconds.length);
+        }
+
+        /**
+         * Merge sorts the parallel arrays of seconds and nanos.
+         *
+         * @param srcSeconds  the source seconds, not null
+         * @param srcNanos  the source nanos, not null
+         * @param destSeconds  the destination seconds, not null
+         * @param destNanos  the destination nanos, not null
+         * @param from  the start index, inclusive
+         * @param to  the end index, exclusive
+         */
+        private static void mergeSort(long[] srcSeconds, int[] srcNanos, long[] destSeconds, int[] destNanos, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            // sort each half into the source, then merge into the destination
+            mergeSort(destSeconds, destNanos, srcSeconds, srcNanos, from, mid);
+            mergeSort(destSeconds, destNanos, srcSeconds, srcNanos, mid, to);
+            int i = from;
+            int j = mid;
+            for (int k = from; k < to; k++) {
+                if (j >= to || (i < mid && compare(srcSeconds[i], srcNanos[i], srcSeconds[j], srcNanos[j]) <= 0)) {
+                    destSeconds[k] = srcSeconds[i];
+                    destNanos[k] = srcNanos[i];
+                    i++;
+                } else {
+                    destSeconds[k] = srcSeconds[j];
+                    destNanos[k] = srcNanos[j];
+                    j++;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable augmented interval tree, used by {@link IntervalIndex} and {@link LocalDateRangeIndex}.
+ * <p>
+ * Each endpoint is held as a pair of a {@code long} and an {@code int}, compared in that order.
+ * This allows both epoch seconds plus nanos and epoch days (with zero) to be held.
+ * The entries are sorted by start in a set of parallel arrays,
+ * which form an implicit balanced binary tree where the root of each sub-array is its mid-point.
+ * Each node is augmented with the maximum end of its subtree, allowing subtrees
+ * that cannot contain a match to be skipped.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+final class IntervalTree<K, V> {
+
+    /**
+     * The start of each entry, high part, sorted.
+     */
+    private final long[] startHi;
+    /**
+     * The start of each entry, low part.
+     */
+    private final int[] startLo;
+    /**
+     * The end of each entry, high part.
+     */
+    private final long[] endHi;
+    /**
+     * The end of each entry, low part.
+     */
+    private final int[] endLo;
+    /**
+     * The maximum end in the subtree rooted at each entry, high part.
+     */
+    private final long[] maxEndHi;
+    /**
+     * The maximum end in the subtree rooted at each entry, low part.
+     */
+    private final int[] maxEndLo;
+    /**
+     * The keys.
+     */
+    private final Object[] keys;
+    /**
+     * The values.
+     */
+    private final Object[] values;
+
+    /**
+     * Creates an instance from unsorted entries.
+     * <p>
+     * The arrays are not retained, and may be larger than the size.
+     *
+     * @param startHi  the start of each entry, high part, not null
+     * @param startLo  the start of each entry, low part, not null
+     * @param endHi  the end of each entry, high part, not null
+     * @param endLo  the end of each entry, low part, not null
+     * @param keys  the keys, not null
+     * @param values  the values, not null
+     * @param size  the number of entries
+     */
+    IntervalTree(long[] startHi, int[] startLo, long[] endHi, int[] endLo, Object[] keys, Object[] values, int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        sort(order.clone(), order, 0, size, startHi, startLo);
+        this.startHi = new long[size];
+        this.startLo = new int[size];
+        this.endHi = new long[size];
+        this.endLo = new int[size];
+        this.keys = new Object[size];
+        this.values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            int index = order[i];
+            this.startHi[i] = startHi[index];
+            this.startLo[i] = startLo[index];
+            this.endHi[i] = endHi[index];
+            this.endLo[i] = endLo[index];
+            this.keys[i] = keys[index];
+            this.values[i] = values[index];
+        }
+        this.maxEndHi = new long[size];
+        this.maxEndLo = new int[size];
+        augment(0, size);
+    }
+
+    /**
+     * Stable merge sort of the indices by start.
+     *
+     * @param src  the source indices, not null
+     * @param dest  the destination indices, not null
+     * @param from  the start index, inclusive
+     * @param to  the end index, exclusive
+     * @param hi  the high part to sort by, not null
+     * @param lo  the low part to sort by, not null
+     */
+    private static void sort(int[] src, int[] dest, int from, int to, long[] hi, int[] lo) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        // sort each half into the source, then merge into the destination
+        sort(dest, src, from, mid, hi, lo);
+        sort(dest, src, mid, to, hi, lo);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && compare(hi[src[i]], lo[src[i]], hi[src[j]], lo[src[j]]) <= 0)) {
+                dest[k] = src[i++];
+            } else {
+                dest[k] = src[j++];
+            }
+        }
+    }
+
+    /**
+     * Calculates the maximum end of each subtree.
+     *
+     * @param from  the start index, inclusive
+     * @param to  the end index, exclusive
+     * @return the index of the maximum end in the subtree, negative if empty
+     */
+    private int augment(int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int mid = (from + to) >>> 1;
+        int max = mid;
+        int left = augment(from, mid);
+        int right = augment(mid + 1, to);
+        if (left >= 0 && compare(endHi[left], endLo[left], endHi[max], endLo[max]) > 0) {
+            max = left;
+        }
+        if (right >= 0 && compare(endHi[right], endLo[right], endHi[max], endLo[max]) > 0) {
+            max = right;
+        }
+        maxEndHi[mid] = endHi[max];
+        maxEndLo[mid] = endLo[max];
+        return max;
+    }
+
+    /**
+     * Compares two endpoints.
+     *
+     * @param hi1  the first high part
+     * @param lo1  the first low part
+     * @param hi2  the second high part
+     * @param lo2  the second low part
+     * @return the comparator value, negative if less, positive if greater
+     */
+    static int compare(long hi1, int lo1, long hi2, int lo2) {
+        int cmp = Long.compare(hi1, hi2);
+        return (cmp != 0 ? cmp : Integer.compare(lo1, lo2));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Streams all the entries, in order of start.
+     *
+     * @return the stream of entries, not null
+     */
+    Stream<Map.Entry<K, V>> stream() {
+        return query(Long.MIN_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Streams the entries that overlap the specified half-open range, in order of start.
+     * <p>
+     * An entry matches if it starts before the end of the range and ends after the start of the range,
+     * or if it is equal to the range.
+     *
+     * @param queryStartHi  the start of the range, high part
+     * @param queryStartLo  the start of the range, low part
+     * @param queryEndHi  the end of the range, high part
+     * @param queryEndLo  the end of the range, low part
+     * @return the stream of matching entries, not null
+     */
+    Stream<Map.Entry<K, V>> query(long queryStartHi, int queryStartLo, long queryEndHi, int queryEndLo) {
+        QueryIterator iterator = new QueryIterator(queryStartHi, queryStartLo, queryEndHi, queryEndLo);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over the matching entries, performing an in-order traversal of the tree.
+     */
+    private final class QueryIterator implements Iterator<Map.Entry<K, V>> {
+        /** The start of the range, high part. */
+        private final long queryStartHi;
+        /** The start of the range, low part. */
+        private final int queryStartLo;
+        /** The end of the range, high part. */
+        private final long queryEndHi;
+        /** The end of the range, low part. */
+        private final int queryEndLo;
+        /** The stack of pending nodes, each followed by the exclusive end of its subtree. */
+        private final int[] stack = new int[128];
+        /** The stack pointer. */
+        private int stackSize;
+        /** The index of the next match, negative if none. */
+        private int next;
+
+        /**
+         * Constructor.
+         *
+         * @param queryStartHi  the start of the range, high part
+         * @param queryStartLo  the start of the range, low part
+         * @param queryEndHi  the end of the range, high part
+         * @param queryEndLo  the end of the range, low part
+         */
+        private QueryIterator(long queryStartHi, int queryStartLo, long queryEndHi, int queryEndLo) {
+            this.queryStartHi = queryStartHi;
+            this.queryStartLo = queryStartLo;
+            this.queryEndHi = queryEndHi;
+            this.queryEndLo = queryEndLo;
+            descend(0, keys.length);
+            advance();
+        }
+
+        /**
+         * Pushes the left spine of a subtree, skipping subtrees that end before the range.
+         *
+         * @param from  the start index, inclusive
+         * @param to  the end index, exclusive
+         */
+        private void descend(int from, int to) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (compare(maxEndHi[mid], maxEndLo[mid], queryStartHi, queryStartLo) < 0) {
+                    return;
+                }
+                stack[stackSize++] = mid;
+                stack[stackSize++] = to;
+                to = mid;
+            }
+        }
+
+        /**
+         * Finds the next match.
+         */
+        private void advance() {
+            while (stackSize > 0) {
+                int to = stack[--stackSize];
+                int mid = stack[--stackSize];
+                // this node and its right subtree start after the range
+                int cmpStartEnd = compare(startHi[mid], startLo[mid], queryEndHi, queryEndLo);
+                if (cmpStartEnd > 0) {
+                    continue;
+                }
+                descend(mid + 1, to);
+                int cmpEndStart = compare(endHi[mid], endLo[mid], queryStartHi, queryStartLo);
+                if ((cmpStartEnd < 0 && cmpEndStart > 0) ||
+                        (cmpEndStart == 0 && compare(startHi[mid], startLo[mid], queryStartHi, queryStartLo) == 0 &&
+                            compare(endHi[mid], endLo[mid], queryEndHi, queryEndLo) == 0)) {
+                    next = mid;
+                    return;
+                }
+            }
+            next = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[next], (V) values[next]);
+            advance();
+            return entry;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Mutable collector of entries, used by the builders.
+     */
+    static final class Entries {
+        /** The start of each entry, high part. */
+        long[] startHi = new long[16];
+        /** The start of each entry, low part. */
+        int[] startLo = new int[16];
+        /** The end of each entry, high part. */
+        long[] endHi = new long[16];
+        /** The end of each entry, low part. */
+        int[] endLo = new int[16];
+        /** The keys. */
+        Object[] keys = new Object[16];
+        /** The values. */
+        Object[] values = new Object[16];
+        /** The number of entries. */
+        int size;
+
+        /**
+         * Adds an entry.
+         *
+         * @param sHi  the start, high part
+         * @param sLo  the start, low part
+         * @param eHi  the end, high part
+         * @param eLo  the end, low part
+         * @param key  the key, not null
+         * @param value  the value, not null
+         */
+        void add(long sHi, int sLo, long eHi, int eLo, Object key, Object value) {
+            if (size == keys.length) {
+                int capacity = size * 2;
+                startHi = Arrays.copyOf(startHi, capacity);
+                startLo = Arrays.copyOf(startLo, capacity);
+                endHi = Arrays.copyOf(endHi, capacity);
+                endLo = Arrays.copyOf(endLo, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            startHi[size] = sHi;
+            startLo[size] = sLo;
+            endHi[size] = eHi;
+            endLo[size] = eLo;
+            keys[size] = key;
+            values[size] = value;
+            size++;
+        }
+
+        /**
+         * Builds the tree.
+         *
+         * @param <K> the type of the key
+         * @param <V> the type of the value
+         * @return the tree, not null
+         */
+        <K, V> IntervalTree<K, V> build() {
+            return new IntervalTree<>(startHi, startLo, endHi, endLo, keys, values, size);
+        }
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Appends the ISO-8601 text of date-time values to an {@code Appendable}.
+ * <p>
+ * Each method appends exactly the text of the {@code toString()} method of the value,
+ * writing the characters directly rather than creating intermediate strings.
+ * This is used by the {@code formatTo} methods of the public classes.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+final class IsoFormat {
+
+    /**
+     * The number of seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+    /**
+     * The epoch second of 0000-01-01T00:00:00Z.
+     */
+    private static final long MIN_FAST_SECOND = -DAYS_0000_TO_1970 * SECONDS_PER_DAY;
+    /**
+     * The epoch second of 9999-12-31T23:59:59Z.
+     */
+    private static final long MAX_FAST_SECOND = 253402300799L;
+
+    /**
+     * Restricted constructor.
+     */
+    private IsoFormat() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Appends a single unit amount, as used by the amount classes such as {@code Days}.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @param prefix  the prefix, "P" or "PT", not null
+     * @param amount  the amount
+     * @param unit  the unit letter
+     * @throws DateTimeException if an IO error occurs
+     */
+    static void appendAmount(Appendable appendable, String prefix, int amount, char unit) {
+        try {
+            appendable.append(prefix);
+            appendNumber(appendable, amount);
+            appendable.append(unit);
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Appends a number in decimal, matching {@link Long#toString(long)}.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param value  the value
+     * @throws IOException if an IO error occurs
+     */
+    static void appendNumber(Appendable buf, long value) throws IOException {
+        // negative values are used to handle Long.MIN_VALUE
+        long negated = value;
+        if (value < 0) {
+            buf.append('-');
+        } else {
+            negated = -value;
+        }
+        long div = 1;
+        while (negated / div <= -10) {
+            div *= 10;
+        }
+        while (div > 0) {
+            buf.append((char) ('0' - negated / div));
+            negated %= div;
+            div /= 10;
+        }
+    }
+
+    /**
+     * Appends a year, as used by {@code LocalDate}, {@code YearQuarter} and {@code YearWeek}.
+     * <p>
+     * Years from 0 to 9999 are written as four digits.
+     * Other years are written with a sign and at least four digits.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param year  the year
+     * @throws IOException if an IO error occurs
+     */
+    static void appendYear(Appendable buf, int year) throws IOException {
+        if (year >= 0 && year <= 9999) {
+            appendFourDigits(buf, year);
+        } else if (year > 9999) {
+            buf.append('+');
+            appendNumber(buf, year);
+        } else if (year > -1000) {
+            buf.append('-');
+            appendFourDigits(buf, -year);
+        } else {
+            appendNumber(buf, year);
+        }
+    }
+
+    /**
+     * Appends a date, matching {@link LocalDate#toString()}.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param date  the date, not null
+     * @throws IOException if an IO error occurs
+     */
+    static void appendLocalDate(Appendable buf, LocalDate date) throws IOException {
+        appendYear(buf, date.getYear());
+        buf.append('-');
+        appendTwoDigits(buf, date.getMonthValue());
+        buf.append('-');
+        appendTwoDigits(buf, date.getDayOfMonth());
+    }
+
+    /**
+     * Appends an instant, matching {@link Instant#toString()}.
+     * <p>
+     * Instants from year 0 to year 9999 are written directly.
+     * Others use {@code Instant.toString()}.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param instant  the instant, not null
+     * @throws IOException if an IO error occurs
+     */
+    static void appendInstant(Appendable buf, Instant instant) throws IOException {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_FAST_SECOND || epochSecond > MAX_FAST_SECOND) {
+            buf.append(instant.toString());
+            return;
+        }
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        // algorithm from LocalDate.ofEpochDay()
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int year = (int) (yearEst + adjust + marchMonth0 / 10);
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        appendFourDigits(buf, year);
+        buf.append('-');
+        appendTwoDigits(buf, month);
+        buf.append('-');
+        appendTwoDigits(buf, dom);
+        buf.append('T');
+        appendTwoDigits(buf, secondOfDay / 3600);
+        buf.append(':');
+        appendTwoDigits(buf, (secondOfDay / 60) % 60);
+        buf.append(':');
+        appendTwoDigits(buf, secondOfDay % 60);
+        int nano = instant.getNano();
+        if (nano > 0) {
+            // digits are written in groups of three
+            buf.append('.');
+            int div = 100_000_000;
+            for (int i = 0; nano > 0 || i % 3 != 0; i++) {
+                int digit = nano / div;
+                buf.append((char) ('0' + digit));
+                nano -= digit * div;
+                div /= 10;
+            }
+        }
+        buf.append('Z');
+    }
+
+    /**
+     * Appends a period, matching {@link Period#toString()}.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param period  the period, not null
+     * @throws IOException if an IO error occurs
+     */
+    static void appendPeriod(Appendable buf, Period period) throws IOException {
+        if (period.isZero()) {
+            buf.append("P0D");
+            return;
+        }
+        buf.append('P');
+        if (period.getYears() != 0) {
+            appendNumber(buf, period.getYears());
+            buf.append('Y');
+        }
+        if (period.getMonths() != 0) {
+            appendNumber(buf, period.getMonths());
+            buf.append('M');
+        }
+        if (period.getDays() != 0) {
+            appendNumber(buf, period.getDays());
+            buf.append('D');
+        }
+    }
+
+    /**
+     * Appends a duration, matching {@link Duration#toString()}.
+     * <p>
+     * The leading 'P' can be omitted, allowing the duration to follow a period.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param duration  the duration, not null
+     * @param prefix  true to append the leading 'P'
+     * @throws IOException if an IO error occurs
+     */
+    static void appendDuration(Appendable buf, Duration duration, boolean prefix) throws IOException {
+        if (prefix) {
+            buf.append('P');
+        }
+        buf.append('T');
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        if (seconds == 0 && nanos == 0) {
+            buf.append("0S");
+            return;
+        }
+        long effectiveTotalSecs = (seconds < 0 && nanos > 0 ? seconds + 1 : seconds);
+        long hours = effectiveTotalSecs / 3600;
+        int minutes = (int) ((effectiveTotalSecs % 3600) / 60);
+        int secs = (int) (effectiveTotalSecs % 60);
+        if (hours != 0) {
+            appendNumber(buf, hours);
+            buf.append('H');
+        }
+        if (minutes != 0) {
+            appendNumber(buf, minutes);
+            buf.append('M');
+        }
+        if (secs == 0 && nanos == 0 && (hours != 0 || minutes != 0)) {
+            return;
+        }
+        if (seconds < 0 && nanos > 0 && secs == 0) {
+            buf.append("-0");
+        } else {
+            appendNumber(buf, secs);
+        }
+        if (nanos > 0) {
+            // the fraction is written without trailing zeros
+            int fraction = (seconds < 0 ? 1_000_000_000 - nanos : nanos);
+            buf.append('.');
+            int div = 100_000_000;
+            while (fraction > 0) {
+                int digit = fraction / div;
+                buf.append((char) ('0' + digit));
+                fraction -= digit * div;
+                div /= 10;
+            }
+        }
+        buf.append('S');
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Appends a value from 0 to 9999 as four digits.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param value  the value
+     * @throws IOException if an IO error occurs
+     */
+    private static void appendFourDigits(Appendable buf, int value) throws IOException {
+        buf.append((char) ('0' + value / 1000))
+                .append((char) ('0' + (value / 100) % 10))
+                .append((char) ('0' + (value / 10) % 10))
+                .append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Appends a value from 0 to 99 as two digits.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param value  the value
+     * @throws IOException if an IO error occurs
+     */
+    private static void appendTwoDigits(Appendable buf, int value) throws IOException {
+        buf.append((char) ('0' + value / 10))
+                .append((char) ('0' + value % 10));
+    }
+
+}
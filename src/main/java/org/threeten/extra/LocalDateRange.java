@@ -31,17 +31,22 @@
  */
 package org.threeten.extra;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -239,6 +244,21 @@ public final class LocalDateRange
         return LocalDateRange.of(startInclusive, LocalDate.MAX);
     }
 
+    /**
+     * Obtains a range from a packed {@code long}.
+     * <p>
+     * This is the inverse of {@link #toPackedLong()}.
+     *
+     * @param packed  the packed range
+     * @return the range, not null
+     * @throws DateTimeException if the packed value does not represent a valid range
+     */
+    public static LocalDateRange ofPacked(long packed) {
+        int startDay = (int) (packed >> 32);
+        int endDay = (int) packed ^ Integer.MIN_VALUE;
+        return LocalDateRange.of(unpackEpochDay(startDay), unpackEpochDay(endDay));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code LocalDateRange} from a text string such as
@@ -592,42 +612,153 @@ public final class LocalDateRange
      * Streams the set of dates included in the range.
      * <p>
      * This returns a stream consisting of each date in the range.
-     * The stream is ordered.
+     * The stream is ordered and sized, and splits evenly if used in parallel.
      * 
      * @return the stream of dates from the start to the end
      */
     public Stream<LocalDate> stream() {
-        long count = end.toEpochDay() - start.toEpochDay() + (isUnboundedEnd() ? 1 : 0);
-        Spliterator<LocalDate> spliterator = new Spliterators.AbstractSpliterator<LocalDate>(
-                count,
-                Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.ORDERED |
-                        Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED) {
-
-            private LocalDate current = start;
-            
-            @Override
-            public boolean tryAdvance(Consumer<? super LocalDate> action) {
-                if (current != null) {
-                    if (current.isBefore(end)) {
-                        action.accept(current);
-                        current = current.plusDays(1);
-                        return true;
-                    }
-                    if (current.equals(LocalDate.MAX)) {
-                        action.accept(LocalDate.MAX);
-                        current = null;
-                        return true;
-                    }
-                }
-                return false;
-            }
-            
-            @Override
-            public Comparator<? super LocalDate> getComparator() {
-                return null;
+        return StreamSupport.stream(new LocalDateSpliterator(start.toEpochDay(), endEpochDayExclusive()), false);
+    }
+
+    /**
+     * Streams the epoch days of the dates included in the range.
+     * <p>
+     * This returns a stream consisting of the epoch day of each date in the range,
+     * as per {@link LocalDate#toEpochDay()}, without creating a {@code LocalDate} for each.
+     * The stream is ordered, and contains the same dates as {@link #stream()},
+     * including {@code LocalDate.MAX} if the range has an unbounded end.
+     * An iterator can be obtained via {@code epochDays().iterator()}.
+     * 
+     * @return the stream of epoch days from the start to the end
+     */
+    public LongStream epochDays() {
+        return LongStream.range(start.toEpochDay(), endEpochDayExclusive());
+    }
+
+    /**
+     * Streams the dates in the range that are a multiple of the step from the start.
+     * <p>
+     * This returns a stream consisting of the start date, the start date plus the step,
+     * the start date plus twice the step and so on, while the date is within the range.
+     * Each date is calculated by adding a multiple of the step to the start date,
+     * thus a step of one month from the 31st January produces the 28th (or 29th) February
+     * followed by the 31st March.
+     * The stream is ordered and sized, with the size calculated without iterating.
+     * <p>
+     * The step must be positive, with none of the years, months or days negative.
+     * 
+     * @param step  the period between dates, not null
+     * @return the stream of dates from the start to the end
+     * @throws IllegalArgumentException if the step is zero or any part is negative
+     */
+    public Stream<LocalDate> stream(Period step) {
+        Objects.requireNonNull(step, "step");
+        if (step.getYears() < 0 || step.getMonths() < 0 || step.getDays() < 0 || step.isZero()) {
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        }
+        long months = step.toTotalMonths();
+        long days = step.getDays();
+        if (months == 0) {
+            return epochDays(days).mapToObj(LocalDate::ofEpochDay);
+        }
+        if (isEmpty()) {
+            return Stream.empty();
+        }
+        // estimate using the average month length of 365.2425 / 12 = 48699 / 1600 days
+        // the estimate is never too small, and is corrected by at most two steps
+        long endEpochDay = endEpochDayExclusive();
+        long maxAddMonths = LocalDate.MAX.getYear() * 12L + 11 - (start.getYear() * 12L + start.getMonthValue() - 1);
+        long steps = (endEpochDay - start.toEpochDay()) * 1600 / (months * 48699 + days * 1600) + 1;
+        while (steps > 0 && !isStepInRange(months * steps, days * steps, maxAddMonths, endEpochDay)) {
+            steps--;
+        }
+        return LongStream.rangeClosed(0, steps).mapToObj(n -> start.plusMonths(months * n).plusDays(days * n));
+    }
+
+    /**
+     * Checks if adding the specified months and days to the start is within the range.
+     *
+     * @param addMonths  the months to add, not negative
+     * @param addDays  the days to add, not negative
+     * @param maxAddMonths  the maximum months that can be added to the start
+     * @param endEpochDay  the exclusive end epoch day
+     * @return true if the calculated date is within the range
+     */
+    private boolean isStepInRange(long addMonths, long addDays, long maxAddMonths, long endEpochDay) {
+        return addMonths <= maxAddMonths && start.plusMonths(addMonths).toEpochDay() + addDays < endEpochDay;
+    }
+
+    /**
+     * Streams the dates in the range that are a multiple of the unit from the start.
+     * <p>
+     * This is equivalent to {@link #stream(Period)} with a period of one unit.
+     * The supported units are {@code DAYS}, {@code WEEKS}, {@code MONTHS}, {@code YEARS},
+     * {@code DECADES}, {@code CENTURIES} and {@code MILLENNIA} from {@link ChronoUnit},
+     * and {@link IsoFields#QUARTER_YEARS}.
+     * 
+     * @param unit  the unit between dates, not null
+     * @return the stream of dates from the start to the end
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public Stream<LocalDate> stream(TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        if (unit == IsoFields.QUARTER_YEARS) {
+            return stream(Period.ofMonths(3));
+        }
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return stream();
+                case WEEKS:
+                    return stream(Period.ofWeeks(1));
+                case MONTHS:
+                    return stream(Period.ofMonths(1));
+                case YEARS:
+                    return stream(Period.ofYears(1));
+                case DECADES:
+                    return stream(Period.ofYears(10));
+                case CENTURIES:
+                    return stream(Period.ofYears(100));
+                case MILLENNIA:
+                    return stream(Period.ofYears(1000));
+                default:
+                    break;
             }
-        };
-        return StreamSupport.stream(spliterator, false);
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    /**
+     * Streams the epoch days of the dates in the range that are a multiple of the step from the start.
+     * <p>
+     * This returns a stream consisting of the epoch day of the start date, followed by
+     * that epoch day plus the step, plus twice the step and so on, while within the range.
+     * The stream is ordered and sized, with the size calculated without iterating.
+     * 
+     * @param stepDays  the number of days between each date, positive
+     * @return the stream of epoch days from the start to the end
+     * @throws IllegalArgumentException if the step is zero or negative
+     */
+    public LongStream epochDays(long stepDays) {
+        if (stepDays <= 0) {
+            throw new IllegalArgumentException("Step must be positive: " + stepDays);
+        }
+        long startEpochDay = start.toEpochDay();
+        long days = endEpochDayExclusive() - startEpochDay;
+        long count = (days == 0 ? 0 : (days - 1) / stepDays + 1);
+        return LongStream.range(0, count).map(n -> startEpochDay + n * stepDays);
+    }
+
+    /**
+     * Gets the epoch day after the last date in the range, as used by streams and the range collections.
+     * <p>
+     * An unbounded end includes {@code LocalDate.MAX}, thus the result is one more
+     * than the epoch day of {@code LocalDate.MAX} in that case.
+     *
+     * @return the exclusive end epoch day
+     */
+    long endEpochDayExclusive() {
+        return end.toEpochDay() + (isUnboundedEnd() ? 1 : 0);
     }
 
     //-----------------------------------------------------------------------
@@ -719,6 +850,57 @@ public final class LocalDateRange
         return Period.between(start, end);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this range to a packed {@code long}.
+     * <p>
+     * The start epoch-day is held in the high 32 bits, and the end epoch-day
+     * in the low 32 bits, offset such that packed values sort by start, then by end.
+     * An unbounded start is held as {@code Integer.MIN_VALUE} and an unbounded end
+     * as {@code Integer.MAX_VALUE}. The range can be converted back using {@link #ofPacked(long)}.
+     * <p>
+     * Bounded dates must have an epoch-day strictly between {@code Integer.MIN_VALUE}
+     * and {@code Integer.MAX_VALUE}, which is approximately 5.8 million years from 1970.
+     *
+     * @return the packed range
+     * @throws DateTimeException if either date is outside the range that can be packed
+     */
+    public long toPackedLong() {
+        int startDay = (isUnboundedStart() ? Integer.MIN_VALUE : packEpochDay(start));
+        int endDay = (isUnboundedEnd() ? Integer.MAX_VALUE : packEpochDay(end));
+        return ((long) startDay << 32) | ((endDay ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Converts a bounded date to an epoch-day for packing.
+     *
+     * @param date  the date to convert, not null
+     * @return the epoch-day
+     * @throws DateTimeException if the date is outside the range that can be packed
+     */
+    private static int packEpochDay(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay <= Integer.MIN_VALUE || epochDay >= Integer.MAX_VALUE) {
+            throw new DateTimeException("Unable to pack LocalDateRange, date is out of range: " + date);
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Converts a packed epoch-day to a date.
+     *
+     * @param epochDay  the packed epoch-day
+     * @return the date, {@code LocalDate.MIN} or {@code LocalDate.MAX} at the limits, not null
+     */
+    private static LocalDate unpackEpochDay(int epochDay) {
+        if (epochDay == Integer.MIN_VALUE) {
+            return LocalDate.MIN;
+        } else if (epochDay == Integer.MAX_VALUE) {
+            return LocalDate.MAX;
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this range is equal to another range.
@@ -762,7 +944,117 @@ public final class LocalDateRange
      */
     @Override
     public String toString() {
-        return start.toString() + '/' + end.toString();
+        StringBuilder buf = new StringBuilder(21);
+        formatTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats this range to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        formatTo((Appendable) buf);
+    }
+
+    /**
+     * Formats this range to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            IsoFormat.appendLocalDate(appendable, start);
+            appendable.append('/');
+            IsoFormat.appendLocalDate(appendable, end);
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Spliterator over the dates of a range.
+     * <p>
+     * The dates are held as a half-open range of epoch days, allowing the
+     * spliterator to be split in half without iterating.
+     */
+    private static final class LocalDateSpliterator implements Spliterator<LocalDate> {
+        /**
+         * The next epoch day to return, inclusive.
+         */
+        private long current;
+        /**
+         * The epoch day to stop at, exclusive.
+         */
+        private final long endExclusive;
+
+        /**
+         * Constructor.
+         *
+         * @param startInclusive  the first epoch day, inclusive
+         * @param endExclusive  the last epoch day, exclusive
+         */
+        private LocalDateSpliterator(long startInclusive, long endExclusive) {
+            this.current = startInclusive;
+            this.endExclusive = endExclusive;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            Objects.requireNonNull(action, "action");
+            if (current < endExclusive) {
+                action.accept(LocalDate.ofEpochDay(current++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super LocalDate> action) {
+            Objects.requireNonNull(action, "action");
+            long end = endExclusive;
+            for (long epochDay = current; epochDay < end; epochDay++) {
+                action.accept(LocalDate.ofEpochDay(epochDay));
+            }
+            current = end;
+        }
+
+        @Override
+        public Spliterator<LocalDate> trySplit() {
+            long remaining = endExclusive - current;
+            if (remaining < 2) {
+                return null;
+            }
+            long mid = current + (remaining >>> 1);
+            Spliterator<LocalDate> prefix = new LocalDateSpliterator(current, mid);
+            current = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return endExclusive - current;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.ORDERED |
+                    Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public Comparator<? super LocalDate> getComparator() {
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * An immutable index of values by {@code LocalDateRange}, supporting fast stabbing and overlap queries.
+ * <p>
+ * A {@code LocalDateRangeIndex} associates values with date ranges, and efficiently finds
+ * the entries whose range contains a date or overlaps another range.
+ * The same range may be added more than once.
+ * <p>
+ * The index is an augmented interval tree held in primitive arrays of epoch days.
+ * A query for <i>k</i> matches from <i>n</i> entries takes <i>O(log n + k)</i> time in typical cases,
+ * with the matches returned as a lazy stream in order of start.
+ * Building the index from <i>n</i> entries in any order takes <i>O(n log n)</i> time.
+ * <p>
+ * See {@link IntervalIndex} for the equivalent index of {@code Interval}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <V> the type of the value
+ */
+public final class LocalDateRangeIndex<V> {
+
+    /**
+     * The tree.
+     */
+    private final IntervalTree<LocalDateRange, V> tree;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an index of the entries in the specified map.
+     *
+     * @param <V> the type of the value
+     * @param map  the map of ranges to values, not null
+     * @return the index, not null
+     */
+    public static <V> LocalDateRangeIndex<V> of(Map<LocalDateRange, ? extends V> map) {
+        return LocalDateRangeIndex.<V>builder().putAll(map).build();
+    }
+
+    /**
+     * Creates a builder that can accept entries in any order.
+     *
+     * @param <V> the type of the value
+     * @return the builder, not null
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tree  the tree, not null
+     */
+    private LocalDateRangeIndex(IntervalTree<LocalDateRange, V> tree) {
+        this.tree = tree;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of entries in the index.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Checks if the index is empty.
+     *
+     * @return true if the index has no entries
+     */
+    public boolean isEmpty() {
+        return tree.size() == 0;
+    }
+
+    /**
+     * Streams all the entries in the index, in order of start.
+     *
+     * @return the stream of entries, not null
+     */
+    public Stream<Map.Entry<LocalDateRange, V>> stream() {
+        return tree.stream();
+    }
+
+    /**
+     * Streams the entries whose range contains the specified date.
+     * <p>
+     * An entry matches if {@link LocalDateRange#contains(LocalDate)} would return true.
+     * The entries are returned in order of start.
+     *
+     * @param date  the date to find, not null
+     * @return the stream of matching entries, not null
+     */
+    public Stream<Map.Entry<LocalDateRange, V>> containing(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        // the range from the date to just after it, which cannot equal an entry
+        long epochDay = date.toEpochDay();
+        return tree.query(epochDay, 0, epochDay, 1);
+    }
+
+    /**
+     * Streams the entries whose range overlaps the specified range.
+     * <p>
+     * An entry matches if {@link LocalDateRange#overlaps(LocalDateRange)} would return true.
+     * The entries are returned in order of start.
+     *
+     * @param range  the range to find, not null
+     * @return the stream of matching entries, not null
+     */
+    public Stream<Map.Entry<LocalDateRange, V>> overlapping(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        return tree.query(range.getStart().toEpochDay(), 0, range.endEpochDayExclusive(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this index as a {@code String}.
+     *
+     * @return a string representation of this index, not null
+     */
+    @Override
+    public String toString() {
+        return "LocalDateRangeIndex[size=" + size() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of {@code LocalDateRangeIndex}.
+     * <p>
+     * This class is mutable and not thread-safe.
+     *
+     * @param <V> the type of the value
+     */
+    public static final class Builder<V> {
+        /**
+         * The entries.
+         */
+        private final IntervalTree.Entries entries = new IntervalTree.Entries();
+
+        /**
+         * Constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Adds an entry to the index being built.
+         *
+         * @param range  the range, not null
+         * @param value  the value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> put(LocalDateRange range, V value) {
+            Objects.requireNonNull(range, "range");
+            Objects.requireNonNull(value, "value");
+            entries.add(range.getStart().toEpochDay(), 0, range.endEpochDayExclusive(), 0, range, value);
+            return this;
+        }
+
+        /**
+         * Adds the entries in a map to the index being built.
+         *
+         * @param map  the map of ranges to values, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> putAll(Map<LocalDateRange, ? extends V> map) {
+            Objects.requireNonNull(map, "map");
+            for (Map.Entry<LocalDateRange, ? extends V> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Builds the index.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the index, not null
+         */
+        public LocalDateRangeIndex<V> build() {
+            return new LocalDateRangeIndex<>(entries.build());
+        }
+    }
+
+}
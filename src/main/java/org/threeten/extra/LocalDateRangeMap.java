@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable map from disjoint {@code LocalDateRange} instances to values.
+ * <p>
+ * A {@code LocalDateRangeMap} associates each date with at most one value.
+ * When a range is put, it overwrites the values of any existing ranges that it overlaps,
+ * splitting them if necessary. For example, putting {@code 2012-01-10/2012-01-20=B} into
+ * {@code {2012-01-01/2012-02-01=A}} results in
+ * {@code {2012-01-01/2012-01-10=A, 2012-01-10/2012-01-20=B, 2012-01-20/2012-02-01=A}}.
+ * The builder can optionally coalesce adjacent ranges that have equal values.
+ * <p>
+ * The ranges are held as sorted primitive arrays of epoch days.
+ * Looking up the value for a date is a binary search taking <i>O(log n)</i> time without allocation.
+ * <p>
+ * See {@link IntervalMap} for the equivalent map of {@code Interval}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <V> the type of the value
+ */
+public final class LocalDateRangeMap<V> {
+
+    /**
+     * The empty map.
+     */
+    private static final LocalDateRangeMap<Object> EMPTY = new LocalDateRangeMap<>(DisjointRangeTable.empty());
+
+    /**
+     * The table of ranges in epoch days.
+     */
+    private final DisjointRangeTable<V> table;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an empty map.
+     *
+     * @param <V> the type of the value
+     * @return the empty map, not null
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> LocalDateRangeMap<V> empty() {
+        return (LocalDateRangeMap<V>) EMPTY;
+    }
+
+    /**
+     * Obtains a map with a single range.
+     *
+     * @param <V> the type of the value
+     * @param range  the range, not null
+     * @param value  the value, not null
+     * @return the map, not null
+     */
+    public static <V> LocalDateRangeMap<V> of(LocalDateRange range, V value) {
+        return LocalDateRangeMap.<V>builder().put(range, value).build();
+    }
+
+    /**
+     * Creates a builder.
+     *
+     * @param <V> the type of the value
+     * @return the builder, not null
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param table  the table, not null
+     */
+    private LocalDateRangeMap(DisjointRangeTable<V> table) {
+        this.table = table;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of ranges in the map.
+     *
+     * @return the number of ranges
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true if the map has no ranges
+     */
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Checks if the map has a value for the specified date.
+     *
+     * @param date  the date to check, not null
+     * @return true if a range in the map contains the date
+     */
+    public boolean contains(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        return table.indexOf(date.toEpochDay(), 0) >= 0;
+    }
+
+    /**
+     * Gets the value for the specified date.
+     * <p>
+     * This is a binary search of the ranges, taking <i>O(log n)</i> time without allocation.
+     *
+     * @param date  the date to find, not null
+     * @return the value, null if no range contains the date
+     */
+    public V get(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        int index = table.indexOf(date.toEpochDay(), 0);
+        return (index >= 0 ? table.value(index) : null);
+    }
+
+    /**
+     * Gets the range and value for the specified date.
+     *
+     * @param date  the date to find, not null
+     * @return the entry, null if no range contains the date
+     * @throws DateTimeException if the range cannot be represented
+     */
+    public Map.Entry<LocalDateRange, V> getEntry(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        int index = table.indexOf(date.toEpochDay(), 0);
+        return (index >= 0 ? entry(index) : null);
+    }
+
+    /**
+     * Streams the ranges and values in the map, in order.
+     *
+     * @return the stream of entries, not null
+     * @throws DateTimeException if a range cannot be represented
+     */
+    public Stream<Map.Entry<LocalDateRange, V>> stream() {
+        return IntStream.range(0, table.size()).mapToObj(this::entry);
+    }
+
+    /**
+     * Creates the entry at the specified index.
+     *
+     * @param index  the index
+     * @return the entry, not null
+     */
+    private Map.Entry<LocalDateRange, V> entry(int index) {
+        return new SimpleImmutableEntry<>(
+                LocalDateRangeSet.toRange(table.startHi(index), table.endHi(index)),
+                table.value(index));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a view of the part of this map within the specified range.
+     * <p>
+     * Ranges that are partly within the specified range are truncated to it.
+     * The view shares the data of this map and is created in <i>O(log n)</i> time.
+     *
+     * @param range  the range to restrict to, not null
+     * @return the map restricted to the range, not null
+     */
+    public LocalDateRangeMap<V> subMap(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        DisjointRangeTable<V> sub = table.subTable(range.getStart().toEpochDay(), 0, range.endEpochDayExclusive(), 0);
+        return (sub.size() == 0 ? empty() : new LocalDateRangeMap<>(sub));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this map is equal to another map.
+     * <p>
+     * The comparison is based on the ranges and values.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other map
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateRangeMap) {
+            LocalDateRangeMap<?> other = (LocalDateRangeMap<?>) obj;
+            return table.equalTo(other.table);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this map.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return table.hash();
+    }
+
+    /**
+     * Outputs this map as a {@code String}, such as {@code {2007-12-03/2007-12-04=A}}.
+     *
+     * @return a string representation of this map, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("{");
+        for (int i = 0; i < table.size(); i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            Map.Entry<LocalDateRange, V> entry = entry(i);
+            buf.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return buf.append('}').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of {@code LocalDateRangeMap}.
+     * <p>
+     * The ranges are applied in the order they are put, with later ranges
+     * overwriting the values of earlier ranges where they overlap.
+     * <p>
+     * This class is mutable and not thread-safe.
+     *
+     * @param <V> the type of the value
+     */
+    public static final class Builder<V> {
+        /**
+         * The table builder.
+         */
+        private final DisjointRangeTable.Builder<V> builder = new DisjointRangeTable.Builder<>();
+
+        /**
+         * Constructor.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets whether adjacent ranges with equal values are coalesced when built.
+         * <p>
+         * By default, ranges are not coalesced, and each range put is retained
+         * except where it is overwritten.
+         *
+         * @param coalesce  true to coalesce adjacent ranges with equal values
+         * @return this, for chaining, not null
+         */
+        public Builder<V> coalescing(boolean coalesce) {
+            builder.coalesce(coalesce);
+            return this;
+        }
+
+        /**
+         * Puts a range and value, overwriting any overlapping part of existing ranges.
+         * <p>
+         * An empty range has no effect.
+         *
+         * @param range  the range, not null
+         * @param value  the value, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> put(LocalDateRange range, V value) {
+            Objects.requireNonNull(range, "range");
+            Objects.requireNonNull(value, "value");
+            builder.put(range.getStart().toEpochDay(), 0, range.endEpochDayExclusive(), 0, value);
+            return this;
+        }
+
+        /**
+         * Puts all the ranges and values in a map, overwriting any overlapping part of existing ranges.
+         *
+         * @param map  the map to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> putAll(LocalDateRangeMap<? extends V> map) {
+            Objects.requireNonNull(map, "map");
+            builder.putAll(map.table);
+            return this;
+        }
+
+        /**
+         * Removes a range, splitting any range that it partly overlaps.
+         *
+         * @param range  the range to remove, not null
+         * @return this, for chaining, not null
+         */
+        public Builder<V> remove(LocalDateRange range) {
+            Objects.requireNonNull(range, "range");
+            builder.put(range.getStart().toEpochDay(), 0, range.endEpochDayExclusive(), 0, null);
+            return this;
+        }
+
+        /**
+         * Builds the map.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the map, not null
+         */
+        public LocalDateRangeMap<V> build() {
+            DisjointRangeTable<V> table = builder.build();
+            return (table.size() == 0 ? empty() : new LocalDateRangeMap<>(table));
+        }
+    }
+
+}
@@ -0,0 +1,656 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable set of dates, stored as a sorted list of disjoint ranges.
+ * <p>
+ * A {@code LocalDateRangeSet} represents a set of dates formed from any number of
+ * {@link LocalDateRange} instances. The ranges are normalized on creation,
+ * such that any ranges that overlap or abut are coalesced into a single range
+ * and empty ranges are discarded. Thus two sets containing the same dates are equal.
+ * <p>
+ * The ranges are stored as two sorted arrays of epoch days, the start inclusive and the end exclusive.
+ * Checking whether a date is contained in the set is a binary search,
+ * while the set operations of union, intersection, difference and complement
+ * are a single linear merge of the two sets.
+ * <p>
+ * As with {@code LocalDateRange}, a range with an end of {@code LocalDate.MAX} is unbounded
+ * and includes {@code LocalDate.MAX}. The {@linkplain #complement() complement} of a set may
+ * contain a range that cannot be represented as a {@code LocalDateRange}, such as a range
+ * consisting only of {@code LocalDate.MIN}, in which case obtaining the ranges will throw an exception.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * <p>
+ * This class must be treated as a value type. Do not synchronize, rely on the
+ * identity hash code or use the distinction between equals() and ==.
+ */
+public final class LocalDateRangeSet
+        implements Serializable {
+
+    /**
+     * The epoch day of the MIN date.
+     */
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    /**
+     * The epoch day after the MAX date, which is the exclusive end of an unbounded range.
+     */
+    private static final long MAX_EPOCH_DAY_EXCLUSIVE = LocalDate.MAX.toEpochDay() + 1;
+    /**
+     * The empty set.
+     */
+    public static final LocalDateRangeSet EMPTY = new LocalDateRangeSet(new long[0], new long[0]);
+    /**
+     * A set containing every date.
+     */
+    public static final LocalDateRangeSet ALL = of(LocalDateRange.ALL);
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -3457213646354727385L;
+
+    /**
+     * The start epoch days (inclusive), sorted.
+     */
+    private final long[] starts;
+    /**
+     * The end epoch days (exclusive), sorted.
+     */
+    private final long[] ends;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a set containing the dates in the specified ranges.
+     * <p>
+     * The ranges may be in any order, and may overlap or abut.
+     *
+     * @param ranges  the ranges to include, not null
+     * @return the set of dates, not null
+     */
+    public static LocalDateRangeSet of(LocalDateRange... ranges) {
+        Objects.requireNonNull(ranges, "ranges");
+        Builder builder = new Builder(ranges.length);
+        for (LocalDateRange range : ranges) {
+            builder.add(range);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Obtains a set containing the dates in the specified ranges.
+     * <p>
+     * The ranges may be in any order, and may overlap or abut.
+     *
+     * @param ranges  the ranges to include, not null
+     * @return the set of dates, not null
+     */
+    public static LocalDateRangeSet of(Iterable<LocalDateRange> ranges) {
+        return builder().addAll(ranges).build();
+    }
+
+    /**
+     * Creates a builder that can accept ranges in any order.
+     * <p>
+     * Building a set of <i>n</i> ranges takes <i>O(n log n)</i> time.
+     *
+     * @return the builder, not null
+     */
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param starts  the normalized start epoch days, not null
+     * @param ends  the normalized end epoch days, not null
+     */
+    private LocalDateRangeSet(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Obtains an instance from the normalized arrays.
+     *
+     * @param starts  the normalized start epoch days, not null
+     * @param ends  the normalized end epoch days, not null
+     * @param size  the number of ranges to use from the arrays
+     * @return the set, not null
+     */
+    private static LocalDateRangeSet create(long[] starts, long[] ends, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size == starts.length && size == ends.length) {
+            return new LocalDateRangeSet(starts, ends);
+        }
+        return new LocalDateRangeSet(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+
+    /**
+     * Resolves instances, normalizing the stored ranges.
+     *
+     * @return the resolved instance, not null
+     */
+    private Object readResolve() {
+        return builder().addAll(this).build();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the set is empty.
+     *
+     * @return true if the set contains no dates
+     */
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * Gets the number of disjoint ranges in the set.
+     * <p>
+     * This is the number of ranges after normalization,
+     * thus two ranges that abut will count as one.
+     *
+     * @return the number of ranges
+     */
+    public int rangeCount() {
+        return starts.length;
+    }
+
+    /**
+     * Gets the disjoint ranges in the set, in ascending order.
+     *
+     * @return the list of ranges, not null
+     * @throws DateTimeException if a range cannot be represented as a {@code LocalDateRange}
+     */
+    public List<LocalDateRange> getRanges() {
+        List<LocalDateRange> list = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            list.add(range(i));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Streams the disjoint ranges in the set, in ascending order.
+     *
+     * @return the stream of ranges, not null
+     * @throws DateTimeException if a range cannot be represented as a {@code LocalDateRange}
+     */
+    public Stream<LocalDateRange> streamRanges() {
+        return IntStream.range(0, starts.length).mapToObj(this::range);
+    }
+
+    /**
+     * Gets the smallest range that encloses every date in the set.
+     *
+     * @return the range, not null
+     * @throws DateTimeException if the set is empty, or the range cannot be represented
+     */
+    public LocalDateRange span() {
+        if (isEmpty()) {
+            throw new DateTimeException("Empty set has no span");
+        }
+        return toRange(starts[0], ends[ends.length - 1]);
+    }
+
+    /**
+     * Obtains the range at the specified index.
+     *
+     * @param index  the index
+     * @return the range, not null
+     */
+    private LocalDateRange range(int index) {
+        return toRange(starts[index], ends[index]);
+    }
+
+    /**
+     * Converts a pair of epoch days to a range.
+     *
+     * @param start  the start epoch day, inclusive
+     * @param end  the end epoch day, exclusive
+     * @return the range, not null
+     */
+    static LocalDateRange toRange(long start, long end) {
+        LocalDate endDate = (end == MAX_EPOCH_DAY_EXCLUSIVE ? LocalDate.MAX : LocalDate.ofEpochDay(end));
+        if (endDate.equals(LocalDate.MAX) && end != MAX_EPOCH_DAY_EXCLUSIVE) {
+            throw new DateTimeException("Range excluding LocalDate.MAX cannot be represented as a LocalDateRange");
+        }
+        return LocalDateRange.of(LocalDate.ofEpochDay(start), endDate);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this set contains the specified date.
+     * <p>
+     * This is a binary search of the ranges, taking <i>O(log n)</i> time.
+     *
+     * @param date  the date to check for, not null
+     * @return true if this set contains the date
+     */
+    public boolean contains(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        return indexOf(date.toEpochDay()) >= 0;
+    }
+
+    /**
+     * Checks if this set contains every date in the specified range.
+     * <p>
+     * An empty range is enclosed if it is located within or at the end of one of the ranges of this set.
+     *
+     * @param range  the range to check for, not null
+     * @return true if this set contains all dates in the range
+     */
+    public boolean encloses(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        long start = range.getStart().toEpochDay();
+        long end = range.endEpochDayExclusive();
+        int index = indexOf(start);
+        if (index < 0 && start == end) {
+            index = indexOf(start - 1);
+        }
+        return index >= 0 && end <= ends[index];
+    }
+
+    /**
+     * Checks if this set contains any date in the specified range.
+     *
+     * @param range  the range to check for, not null
+     * @return true if this set and the range share at least one date
+     */
+    public boolean overlaps(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        long start = range.getStart().toEpochDay();
+        long end = range.endEpochDayExclusive();
+        // find the first range ending after the start
+        int pos = Arrays.binarySearch(ends, start);
+        int index = (pos >= 0 ? pos + 1 : -pos - 1);
+        return index < starts.length && starts[index] < end && start < end;
+    }
+
+    /**
+     * Finds the index of the range containing the epoch day.
+     *
+     * @param epochDay  the epoch day to find
+     * @return the index of the range, negative if not found
+     */
+    private int indexOf(long epochDay) {
+        int pos = Arrays.binarySearch(starts, epochDay);
+        if (pos >= 0) {
+            return pos;
+        }
+        int index = -pos - 2;
+        return (index >= 0 && epochDay < ends[index] ? index : -1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a set containing the dates in this set or in the specified set.
+     * <p>
+     * This takes <i>O(n + m)</i> time.
+     *
+     * @param other  the other set, not null
+     * @return the union of the two sets, not null
+     */
+    public LocalDateRangeSet union(LocalDateRangeSet other) {
+        Objects.requireNonNull(other, "other");
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        return sweep(merge(starts, other.starts), merge(ends, other.ends), 1);
+    }
+
+    /**
+     * Returns a set containing the dates in this set or in the specified range.
+     *
+     * @param range  the range to add, not null
+     * @return the union of this set and the range, not null
+     */
+    public LocalDateRangeSet union(LocalDateRange range) {
+        return union(of(range));
+    }
+
+    /**
+     * Returns a set containing the dates in both this set and the specified set.
+     * <p>
+     * This takes <i>O(n + m)</i> time.
+     *
+     * @param other  the other set, not null
+     * @return the intersection of the two sets, not null
+     */
+    public LocalDateRangeSet intersection(LocalDateRangeSet other) {
+        Objects.requireNonNull(other, "other");
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+        return sweep(merge(starts, other.starts), merge(ends, other.ends), 2);
+    }
+
+    /**
+     * Returns a set containing the dates in both this set and the specified range.
+     *
+     * @param range  the range to intersect with, not null
+     * @return the intersection of this set and the range, not null
+     */
+    public LocalDateRangeSet intersection(LocalDateRange range) {
+        return intersection(of(range));
+    }
+
+    /**
+     * Returns a set containing the dates in this set that are not in the specified set.
+     * <p>
+     * This takes <i>O(n + m)</i> time.
+     *
+     * @param other  the other set, not null
+     * @return the difference of the two sets, not null
+     */
+    public LocalDateRangeSet difference(LocalDateRangeSet other) {
+        Objects.requireNonNull(other, "other");
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        return intersection(other.complement());
+    }
+
+    /**
+     * Returns a set containing the dates in this set that are not in the specified range.
+     *
+     * @param range  the range to remove, not null
+     * @return the difference of this set and the range, not null
+     */
+    public LocalDateRangeSet difference(LocalDateRange range) {
+        return difference(of(range));
+    }
+
+    /**
+     * Returns a set containing every date that is not in this set.
+     * <p>
+     * This takes <i>O(n)</i> time.
+     *
+     * @return the complement of this set, not null
+     */
+    public LocalDateRangeSet complement() {
+        int size = starts.length;
+        long[] newStarts = new long[size + 1];
+        long[] newEnds = new long[size + 1];
+        newStarts[0] = MIN_EPOCH_DAY;
+        System.arraycopy(ends, 0, newStarts, 1, size);
+        System.arraycopy(starts, 0, newEnds, 0, size);
+        newEnds[size] = MAX_EPOCH_DAY_EXCLUSIVE;
+        // the first or last gap is empty if this set is unbounded
+        int from = (newStarts[0] == newEnds[0] ? 1 : 0);
+        int to = (newStarts[size] == newEnds[size] ? size : size + 1);
+        if (from == 0 && to == size + 1) {
+            return new LocalDateRangeSet(newStarts, newEnds);
+        }
+        return create(Arrays.copyOfRange(newStarts, from, to), Arrays.copyOfRange(newEnds, from, to), to - from);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Merges two sorted arrays.
+     *
+     * @param a  the first sorted array, not null
+     * @param b  the second sorted array, not null
+     * @return the merged sorted array, not null
+     */
+    private static long[] merge(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            result[k++] = (a[i] <= b[j] ? a[i++] : b[j++]);
+        }
+        while (i < a.length) {
+            result[k++] = a[i++];
+        }
+        while (j < b.length) {
+            result[k++] = b[j++];
+        }
+        return result;
+    }
+
+    /**
+     * Sweeps the sorted starts and ends, outputting the ranges covered at least the specified depth.
+     * <p>
+     * As the number of ranges covering a date depends only on the count of starts and ends
+     * before it, the starts and ends can be sorted independently.
+     * Starts are processed before ends at the same epoch day, thus abutting ranges coalesce.
+     *
+     * @param starts  the sorted start epoch days, not null
+     * @param ends  the sorted end epoch days, same length as the starts, not null
+     * @param depth  the depth to output, one for union, two for intersection
+     * @return the normalized set, not null
+     */
+    private static LocalDateRangeSet sweep(long[] starts, long[] ends, int depth) {
+        int size = starts.length;
+        long[] outStarts = new long[size];
+        long[] outEnds = new long[size];
+        int out = 0;
+        int current = 0;
+        long currentStart = 0;
+        int i = 0;
+        int j = 0;
+        while (j < size) {
+            if (i < size && starts[i] <= ends[j]) {
+                if (++current == depth) {
+                    currentStart = starts[i];
+                }
+                i++;
+            } else {
+                if (current-- == depth && ends[j] > currentStart) {
+                    outStarts[out] = currentStart;
+                    outEnds[out] = ends[j];
+                    out++;
+                }
+                j++;
+            }
+        }
+        return create(outStarts, outEnds, out);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this set is equal to another set.
+     * <p>
+     * Two sets are equal if they contain the same dates.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other set
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateRangeSet) {
+            LocalDateRangeSet other = (LocalDateRangeSet) obj;
+            return Arrays.equals(starts, other.starts) && Arrays.equals(ends, other.ends);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this set.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(starts) ^ Arrays.hashCode(ends);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this set as a {@code String}, such as {@code [2007-12-03/2007-12-04, 2008-01-01/2008-02-01]}.
+     * <p>
+     * The output consists of each range in ISO-8601 format, separated by a comma and space.
+     *
+     * @return a string representation of this set, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(starts.length * 22 + 2).append('[');
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            long end = ends[i];
+            buf.append(LocalDate.ofEpochDay(starts[i])).append('/')
+                .append(end == MAX_EPOCH_DAY_EXCLUSIVE ? LocalDate.MAX : LocalDate.ofEpochDay(end));
+        }
+        return buf.append(']').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Builder of {@code LocalDateRangeSet}.
+     * <p>
+     * The builder accepts ranges in any order, which may overlap or abut.
+     * <p>
+     * This class is mutable and not thread-safe.
+     */
+    public static final class Builder {
+        /**
+         * The start epoch days, unsorted.
+         */
+        private long[] starts;
+        /**
+         * The end epoch days, unsorted.
+         */
+        private long[] ends;
+        /**
+         * The number of ranges added.
+         */
+        private int size;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity  the initial capacity
+         */
+        private Builder(int capacity) {
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+        }
+
+        /**
+         * Adds a range to the set being built.
+         *
+         * @param range  the range to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder add(LocalDateRange range) {
+            Objects.requireNonNull(range, "range");
+            if (size == starts.length) {
+                int capacity = Math.max(16, size * 2);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            starts[size] = range.getStart().toEpochDay();
+            ends[size] = range.endEpochDayExclusive();
+            size++;
+            return this;
+        }
+
+        /**
+         * Adds a number of ranges to the set being built.
+         *
+         * @param ranges  the ranges to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder addAll(Iterable<LocalDateRange> ranges) {
+            Objects.requireNonNull(ranges, "ranges");
+            for (LocalDateRange range : ranges) {
+                add(range);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the ranges of a set to the set being built.
+         *
+         * @param set  the set to add, not null
+         * @return this, for chaining, not null
+         */
+        public Builder addAll(LocalDateRangeSet set) {
+            Objects.requireNonNull(set, "set");
+            for (int i = 0; i < set.starts.length; i++) {
+                if (size == starts.length) {
+                    int capacity = Math.max(16, size + set.starts.length);
+                    starts = Arrays.copyOf(starts, capacity);
+                    ends = Arrays.copyOf(ends, capacity);
+                }
+                starts[size] = set.starts[i];
+                ends[size] = set.ends[i];
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Builds the set, normalizing the ranges.
+         * <p>
+         * The builder may continue to be used after this method is called.
+         *
+         * @return the set, not null
+         */
+        public LocalDateRangeSet build() {
+            long[] sortedStarts = Arrays.copyOf(starts, size);
+            long[] sortedEnds = Arrays.copyOf(ends, size);
+            Arrays.sort(sortedStarts);
+            Arrays.sort(sortedEnds);
+            return sweep(sortedStarts, sortedEnds, 1);
+        }
+    }
+
+}
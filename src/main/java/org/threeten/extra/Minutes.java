@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A minute-based amount of time, such as '8 minutes'.
@@ -74,6 +72,14 @@ public final class Minutes
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = 2602801843170589407L;
+    /**
+     * The largest magnitude of the cached instances.
+     */
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * Cache of instances from -CACHE_LIMIT to CACHE_LIMIT, populated on demand.
+     */
+    private static final Minutes[] CACHE = new Minutes[CACHE_LIMIT * 2 + 1];
 
     /**
      * The number of minutes per day.
@@ -84,16 +90,6 @@ public final class Minutes
      */
     private static final int MINUTES_PER_HOUR = 60;
 
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?)?", Pattern.CASE_INSENSITIVE);
-
     /**
      * The number of minutes.
      */
@@ -110,8 +106,17 @@ public final class Minutes
     public static Minutes of(int minutes) {
         if (minutes == 0) {
             return ZERO;
+        } else if (minutes < -CACHE_LIMIT || minutes > CACHE_LIMIT) {
+            return new Minutes(minutes);
         }
-        return new Minutes(minutes);
+        int index = minutes + CACHE_LIMIT;
+        Minutes cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new Minutes(minutes);
+            CACHE[index] = cached;
+        }
+        return cached;
     }
 
     /**
@@ -129,7 +134,7 @@ public final class Minutes
         if (hours == 0) {
             return ZERO;
         }
-        return new Minutes(Math.multiplyExact(hours, MINUTES_PER_HOUR));
+        return of(Math.multiplyExact(hours, MINUTES_PER_HOUR));
     }
 
     //-----------------------------------------------------------------------
@@ -213,41 +218,35 @@ public final class Minutes
      */
     public static Minutes parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            String minutesStr = matcher.group(4);
-            if (daysStr != null || hoursStr != null || minutesStr != null) {
-                int minutes = 0;
-                if (minutesStr != null) {
-                    try {
-                        minutes = Integer.parseInt(minutesStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric minutes", text, 0, ex);
-                    }
-                }
-                if (hoursStr != null) {
-                    try {
-                        int hoursAsMins = Math.multiplyExact(Integer.parseInt(hoursStr), MINUTES_PER_HOUR);
-                        minutes = Math.addExact(minutes, hoursAsMins);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric hours", text, 0, ex);
-                    }
-                }
-                if (daysStr != null) {
-                    try {
-                        int daysAsMins = Math.multiplyExact(Integer.parseInt(daysStr), MINUTES_PER_DAY);
-                        minutes = Math.addExact(minutes, daysAsMins);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Minutes, non-numeric days", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(minutes, negate));
-            }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Minutes} from a range of a text string such as {@code PTnM}.
+     * <p>
+     * This parses the characters from {@code start} to {@code end} using the same
+     * format as {@link #parse(CharSequence)}, without creating a sub-sequence.
+     * Any error index in the exception is relative to the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Minutes parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        long[] parsed = AmountParser.parse(text, start, end, "D", "HM");
+        if (parsed == null) {
+            throw new DateTimeParseException("Text cannot be parsed to Minutes", text, start);
         }
-        throw new DateTimeParseException("Text cannot be parsed to Minutes", text, 0);
+        int minutes = AmountParser.value(parsed, 3, text, start, "Text cannot be parsed to Minutes, non-numeric minutes");
+        int hours = AmountParser.value(parsed, 2, text, start, "Text cannot be parsed to Minutes, non-numeric hours");
+        minutes = Math.addExact(minutes, Math.multiplyExact(hours, MINUTES_PER_HOUR));
+        int days = AmountParser.value(parsed, 1, text, start, "Text cannot be parsed to Minutes, non-numeric days");
+        minutes = Math.addExact(minutes, Math.multiplyExact(days, MINUTES_PER_DAY));
+        return of(Math.multiplyExact(minutes, (int) parsed[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -594,4 +593,33 @@ public final class Minutes
         return "PT" + minutes + "M";
     }
 
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        buf.append("PT").append(minutes).append('M');
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable);
+        } else {
+            IsoFormat.appendAmount(appendable, "PT", minutes, 'M');
+        }
+    }
+
 }
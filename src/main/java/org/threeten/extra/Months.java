@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A month-based amount of time, such as '12 months'.
@@ -79,17 +77,17 @@ public final class Months
      */
     private static final long serialVersionUID = -8903767091325669093L;
     /**
-     * The number of months per year.
+     * The largest magnitude of the cached instances.
      */
-    private static final int MONTHS_PER_YEAR = 12;
+    private static final int CACHE_LIMIT = 1024;
     /**
-     * The pattern for parsing.
+     * Cache of instances from -CACHE_LIMIT to CACHE_LIMIT, populated on demand.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)Y)?"
-                    + "(?:([-+]?[0-9]+)M)?", Pattern.CASE_INSENSITIVE);
-
+    private static final Months[] CACHE = new Months[CACHE_LIMIT * 2 + 1];
+    /**
+     * The number of months per year.
+     */
+    private static final int MONTHS_PER_YEAR = 12;
     /**
      * The number of months.
      */
@@ -108,8 +106,17 @@ public final class Months
             return ZERO;
         } else if (months == 1) {
             return ONE;
+        } else if (months < -CACHE_LIMIT || months > CACHE_LIMIT) {
+            return new Months(months);
         }
-        return new Months(months);
+        int index = months + CACHE_LIMIT;
+        Months cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new Months(months);
+            CACHE[index] = cached;
+        }
+        return cached;
     }
 
     /**
@@ -127,7 +134,7 @@ public final class Months
         if (years == 0) {
             return ZERO;
         }
-        return new Months(Math.multiplyExact(years, MONTHS_PER_YEAR));
+        return of(Math.multiplyExact(years, MONTHS_PER_YEAR));
     }
 
     //-----------------------------------------------------------------------
@@ -205,32 +212,33 @@ public final class Months
      */
     public static Months parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
-                int months = 0;
-                if (daysStr != null) {
-                    try {
-                        months = Integer.parseInt(daysStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric months", text, 0, ex);
-                    }
-                }
-                if (weeksStr != null) {
-                    try {
-                        int years = Math.multiplyExact(Integer.parseInt(weeksStr), MONTHS_PER_YEAR);
-                        months = Math.addExact(months, years);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric years", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(months, negate));
-            }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Months} from a range of a text string such as {@code PnM}.
+     * <p>
+     * This parses the characters from {@code start} to {@code end} using the same
+     * format as {@link #parse(CharSequence)}, without creating a sub-sequence.
+     * Any error index in the exception is relative to the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Months parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        long[] parsed = AmountParser.parse(text, start, end, "YM", "");
+        if (parsed == null) {
+            throw new DateTimeParseException("Text cannot be parsed to a Months", text, start);
         }
-        throw new DateTimeParseException("Text cannot be parsed to a Months", text, 0);
+        int months = AmountParser.value(parsed, 2, text, start, "Text cannot be parsed to a Months, non-numeric months");
+        int years = AmountParser.value(parsed, 1, text, start, "Text cannot be parsed to a Months, non-numeric years");
+        months = Math.addExact(months, Math.multiplyExact(years, MONTHS_PER_YEAR));
+        return of(Math.multiplyExact(months, (int) parsed[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -578,4 +586,33 @@ public final class Months
         return "P" + months + "M";
     }
 
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        buf.append('P').append(months).append('M');
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable);
+        } else {
+            IsoFormat.appendAmount(appendable, "P", months, 'M');
+        }
+    }
+
 }
@@ -41,14 +41,20 @@ import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * A clock that does not advance on its own and that must be updated manually.
@@ -94,7 +100,11 @@ import java.util.Objects;
  * corresponding method of {@code ZonedDateTime}.
  *
  * <h3>Implementation Requirements:</h3>
- * This class is thread-safe. Updates are atomic and synchronized.
+ * This class is thread-safe. Updates are atomic and lock-free.
+ * An update reads the current instant, calculates the new instant and then
+ * publishes it only if no other update intervened, retrying otherwise.
+ * As such, an adjuster or other argument may be evaluated more than once
+ * when clocks are updated concurrently, and should be free of side effects.
  * <p>
  * While update semantics are expressed in terms of {@code ZonedDateTime}, that
  * imposes no requirements on implementation details. The implementation may
@@ -111,6 +121,16 @@ public final class MutableClock
      * Serialization version.
      */
     private static final long serialVersionUID = -6152029959790119695L;
+    /**
+     * The minimum epoch-second that can be updated without the {@code ZonedDateTime} round trip.
+     * A day inside the range of {@code ZonedDateTime} in any time-zone.
+     */
+    private static final long MIN_DIRECT_SECOND = LocalDateTime.MIN.toEpochSecond(UTC) + 86400;
+    /**
+     * The maximum epoch-second that can be updated without the {@code ZonedDateTime} round trip.
+     * A day inside the range of {@code ZonedDateTime} in any time-zone.
+     */
+    private static final long MAX_DIRECT_SECOND = LocalDateTime.MAX.toEpochSecond(UTC) - 86400;
 
     /**
      * The mutable instant of this clock.
@@ -190,10 +210,12 @@ public final class MutableClock
      */
     public void add(TemporalAmount amountToAdd) {
         Objects.requireNonNull(amountToAdd, "amountToAdd");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.plus(amountToAdd);
-            instantHolder.set(result.toInstant());
+        if (amountToAdd instanceof Duration) {
+            // a duration is the same length in any time-zone
+            Duration duration = (Duration) amountToAdd;
+            update(current -> current.plus(duration), current -> current.plus(duration));
+        } else {
+            update(null, current -> current.plus(amountToAdd));
         }
     }
 
@@ -216,10 +238,11 @@ public final class MutableClock
      */
     public void add(long amountToAdd, TemporalUnit unit) {
         Objects.requireNonNull(unit, "unit");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.plus(amountToAdd, unit);
-            instantHolder.set(result.toInstant());
+        if (unit instanceof ChronoUnit && unit.isTimeBased()) {
+            // time-based units are the same length in any time-zone
+            update(current -> current.plus(amountToAdd, unit), current -> current.plus(amountToAdd, unit));
+        } else {
+            update(null, current -> current.plus(amountToAdd, unit));
         }
     }
 
@@ -240,11 +263,7 @@ public final class MutableClock
      */
     public void set(TemporalAdjuster adjuster) {
         Objects.requireNonNull(adjuster, "adjuster");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.with(adjuster);
-            instantHolder.set(result.toInstant());
-        }
+        update(null, current -> current.with(adjuster));
     }
 
     /**
@@ -266,11 +285,66 @@ public final class MutableClock
      */
     public void set(TemporalField field, long newValue) {
         Objects.requireNonNull(field, "field");
-        synchronized (instantHolder) {
-            ZonedDateTime current = ZonedDateTime.ofInstant(instantHolder.get(), zone);
-            ZonedDateTime result = current.with(field, newValue);
-            instantHolder.set(result.toInstant());
-        }
+        update(null, current -> current.with(field, newValue));
+    }
+
+    /**
+     * Atomically updates the instant of this clock.
+     * <p>
+     * The direct operation, if present, is applied to the instant, avoiding the
+     * {@code ZonedDateTime} round trip. It is only used if it succeeds and both
+     * instants are well within the range of {@code ZonedDateTime}, otherwise
+     * the zoned operation is used, ensuring that any error is the same.
+     *
+     * @param directOperation the operation on the instant giving the same result as the zoned operation, null if none
+     * @param zonedOperation the operation on the zoned date-time, not null
+     */
+    private void update(UnaryOperator<Instant> directOperation, UnaryOperator<ZonedDateTime> zonedOperation) {
+        instantHolder.update(current -> {
+            if (directOperation != null && isDirectlyUpdatable(current)) {
+                try {
+                    Instant result = directOperation.apply(current);
+                    if (isDirectlyUpdatable(result)) {
+                        return result;
+                    }
+                } catch (DateTimeException | ArithmeticException ex) {
+                    // fall through to report the error from the zoned operation
+                }
+            }
+            return zonedOperation.apply(ZonedDateTime.ofInstant(current, zone)).toInstant();
+        });
+    }
+
+    /**
+     * Checks if the instant is well within the range of {@code ZonedDateTime}.
+     *
+     * @param instant the instant to check, not null
+     * @return true if the instant can be updated directly
+     */
+    private static boolean isDirectlyUpdatable(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        return epochSecond >= MIN_DIRECT_SECOND && epochSecond <= MAX_DIRECT_SECOND;
+    }
+
+    /**
+     * Adds a listener that is notified after each update to the instant.
+     * <p>
+     * The listener is shared by all clocks with shared updates, and is called
+     * in the thread making the update, after the update has been made.
+     *
+     * @param listener the listener to add, not null
+     */
+    void addUpdateListener(Runnable listener) {
+        instantHolder.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addUpdateListener(Runnable)}.
+     *
+     * @param listener the listener to remove, not null
+     */
+    void removeUpdateListener(Runnable listener) {
+        instantHolder.listeners.remove(listener);
     }
 
     @Override
@@ -424,14 +498,18 @@ public final class MutableClock
      * hashCode} methods.
      * <p>
      * Reads of the value are volatile and are never stale. Blind writes to the
-     * value are volatile and do not need to synchronize. Atomic read-and-write
-     * operations must synchronize on the holder object instance.
+     * value are volatile. Atomic read-and-write operations use a
+     * compare-and-set loop, so they never block.
      */
     private static final class InstantHolder {
         /**
          * The current value.
          */
-        private volatile Instant value;
+        private final AtomicReference<Instant> value;
+        /**
+         * The listeners notified after each update.
+         */
+        private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
 
         /**
          * Constructor.
@@ -439,7 +517,7 @@ public final class MutableClock
          * @param value the initial value, validated not null
          */
         InstantHolder(Instant value) {
-            this.value = value;
+            this.value = new AtomicReference<>(value);
         }
 
         /**
@@ -448,7 +526,7 @@ public final class MutableClock
          * @return the current value, not null
          */
         Instant get() {
-            return value;
+            return value.get();
         }
 
         /**
@@ -457,7 +535,29 @@ public final class MutableClock
          * @param value the new value, validated not null
          */
         void set(Instant value) {
-            this.value = value;
+            this.value.set(value);
+            notifyListeners();
+        }
+
+        /**
+         * Atomically replaces the value with the result of the operation.
+         * <p>
+         * The operation may be applied more than once if other updates intervene.
+         *
+         * @param operation the operation to apply to the current value, not null
+         */
+        void update(UnaryOperator<Instant> operation) {
+            value.updateAndGet(operation);
+            notifyListeners();
+        }
+
+        /**
+         * Notifies the listeners of an update.
+         */
+        private void notifyListeners() {
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
         }
     }
 }
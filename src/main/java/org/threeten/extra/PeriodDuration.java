@@ -37,6 +37,7 @@ import static java.time.temporal.ChronoUnit.NANOS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.ChronoUnit.YEARS;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.Duration;
@@ -657,13 +658,45 @@ public final class PeriodDuration
      */
     @Override
     public String toString() {
-        if (period.isZero()) {
-            return duration.toString();
-        }
-        if (duration.isZero()) {
-            return period.toString();
+        StringBuilder buf = new StringBuilder(32);
+        formatTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        formatTo((Appendable) buf);
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            if (period.isZero()) {
+                IsoFormat.appendDuration(appendable, duration, true);
+            } else {
+                IsoFormat.appendPeriod(appendable, period);
+                if (!duration.isZero()) {
+                    IsoFormat.appendDuration(appendable, duration, false);
+                }
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
         }
-        return period.toString() + duration.toString().substring(1);
     }
 
 }
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A second-based amount of time, such as '8 seconds'.
@@ -76,6 +74,14 @@ public final class Seconds
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = 2602801843170589407L;
+    /**
+     * The largest magnitude of the cached instances.
+     */
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * Cache of instances from -CACHE_LIMIT to CACHE_LIMIT, populated on demand.
+     */
+    private static final Seconds[] CACHE = new Seconds[CACHE_LIMIT * 2 + 1];
 
     /**
      * The number of seconds per day.
@@ -90,17 +96,6 @@ public final class Seconds
      */
     private static final int SECONDS_PER_MINUTE = 60;
 
-    /**
-     * The pattern for parsing.
-     */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)D)?"
-                    + "(?:T"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?"
-                    + "(?:([-+]?[0-9]+)S)?)?", Pattern.CASE_INSENSITIVE);
-
     /**
      * The number of seconds.
      */
@@ -117,8 +112,17 @@ public final class Seconds
     public static Seconds of(int seconds) {
         if (seconds == 0) {
             return ZERO;
+        } else if (seconds < -CACHE_LIMIT || seconds > CACHE_LIMIT) {
+            return new Seconds(seconds);
         }
-        return new Seconds(seconds);
+        int index = seconds + CACHE_LIMIT;
+        Seconds cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new Seconds(seconds);
+            CACHE[index] = cached;
+        }
+        return cached;
     }
 
     /**
@@ -136,7 +140,7 @@ public final class Seconds
         if (hours == 0) {
             return ZERO;
         }
-        return new Seconds(Math.multiplyExact(hours, SECONDS_PER_HOUR));
+        return of(Math.multiplyExact(hours, SECONDS_PER_HOUR));
     }
 
     /**
@@ -154,7 +158,7 @@ public final class Seconds
         if (minutes == 0) {
             return ZERO;
         }
-        return new Seconds(Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
+        return of(Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
     }
 
     //-----------------------------------------------------------------------
@@ -239,50 +243,37 @@ public final class Seconds
      */
     public static Seconds parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String daysStr = matcher.group(2);
-            String hoursStr = matcher.group(3);
-            String minutesStr = matcher.group(4);
-            String secondsStr = matcher.group(5);
-            if (daysStr != null || hoursStr != null || minutesStr != null || secondsStr != null) {
-                int seconds = 0;
-                if (secondsStr != null) {
-                    try {
-                        seconds = Integer.parseInt(secondsStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric seconds", text, 0, ex);
-                    }
-                }
-                if (minutesStr != null) {
-                    try {
-                        int minutesAsSecs = Math.multiplyExact(Integer.parseInt(minutesStr), SECONDS_PER_MINUTE);
-                        seconds = Math.addExact(seconds, minutesAsSecs);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric minutes", text, 0, ex);
-                    }
-                }
-                if (hoursStr != null) {
-                    try {
-                        int hoursAsSecs = Math.multiplyExact(Integer.parseInt(hoursStr), SECONDS_PER_HOUR);
-                        seconds = Math.addExact(seconds, hoursAsSecs);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric hours", text, 0, ex);
-                    }
-                }
-                if (daysStr != null) {
-                    try {
-                        int daysAsSecs = Math.multiplyExact(Integer.parseInt(daysStr), SECONDS_PER_DAY);
-                        seconds = Math.addExact(seconds, daysAsSecs);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to Seconds, non-numeric days", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(seconds, negate));
-            }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Seconds} from a range of a text string such as {@code PTnS}.
+     * <p>
+     * This parses the characters from {@code start} to {@code end} using the same
+     * format as {@link #parse(CharSequence)}, without creating a sub-sequence.
+     * Any error index in the exception is relative to the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Seconds parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        long[] parsed = AmountParser.parse(text, start, end, "D", "HMS");
+        if (parsed == null) {
+            throw new DateTimeParseException("Text cannot be parsed to Seconds", text, start);
         }
-        throw new DateTimeParseException("Text cannot be parsed to Seconds", text, 0);
+        int seconds = AmountParser.value(parsed, 4, text, start, "Text cannot be parsed to Seconds, non-numeric seconds");
+        int minutes = AmountParser.value(parsed, 3, text, start, "Text cannot be parsed to Seconds, non-numeric minutes");
+        seconds = Math.addExact(seconds, Math.multiplyExact(minutes, SECONDS_PER_MINUTE));
+        int hours = AmountParser.value(parsed, 2, text, start, "Text cannot be parsed to Seconds, non-numeric hours");
+        seconds = Math.addExact(seconds, Math.multiplyExact(hours, SECONDS_PER_HOUR));
+        int days = AmountParser.value(parsed, 1, text, start, "Text cannot be parsed to Seconds, non-numeric days");
+        seconds = Math.addExact(seconds, Math.multiplyExact(days, SECONDS_PER_DAY));
+        return of(Math.multiplyExact(seconds, (int) parsed[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -629,4 +620,33 @@ public final class Seconds
         return "PT" + seconds + "S";
     }
 
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        buf.append("PT").append(seconds).append('S');
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable);
+        } else {
+            IsoFormat.appendAmount(appendable, "PT", seconds, 'S');
+        }
+    }
+
 }
@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduled executor that runs tasks when a {@link MutableClock} is advanced.
+ * <p>
+ * This class is designed for testing and replaying time-sensitive components
+ * that schedule work, such as timeouts, retries and periodic jobs.
+ * Tasks are not run by a background thread after a real delay.
+ * Instead, they are queued against the instant of the clock at which they are due,
+ * and run in the thread that advances the clock.
+ * As such, hours of scheduled work can be replayed in milliseconds, deterministically.
+ * <p>
+ * Due tasks are run in order of the instant they are due, with tasks due at the same
+ * instant run in the order they were scheduled. There are two ways to advance time:
+ * <ul>
+ * <li>Updating the clock directly, such as by {@link MutableClock#add(java.time.temporal.TemporalAmount)} or
+ *     {@link MutableClock#setInstant(Instant)}. All tasks that are due at the new instant
+ *     of the clock are run, and observe the new instant.
+ * <li>Calling {@link #advanceTo(Instant)}, {@link #advanceBy(Duration)} or {@link #advanceToNextTask()}.
+ *     The clock is stepped to the instant each task is due before the task is run,
+ *     so each task observes the instant it was scheduled for.
+ * </ul>
+ * <p>
+ * Delays are measured from the instant of the clock when the task is scheduled.
+ * Periodic tasks scheduled at a fixed rate are rescheduled relative to the instant
+ * they were due, and those scheduled with a fixed delay relative to the instant of
+ * the clock when they complete. As with {@link java.util.concurrent.ScheduledThreadPoolExecutor},
+ * a periodic task that throws an exception is not rescheduled, and the exception
+ * is reported by its future.
+ * <p>
+ * Tasks submitted for immediate execution, via {@code execute}, {@code submit} or
+ * {@code invokeAll}, are due at the current instant and are run before the method returns,
+ * together with any other due tasks.
+ * <p>
+ * On shutdown, periodic tasks are cancelled, while delayed tasks remain queued and
+ * run as time is advanced. The scheduler terminates once no tasks remain.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe. Tasks may be scheduled from any thread, including from
+ * within a running task. Time should be advanced from one thread at a time.
+ * Tasks are never run concurrently. If time is advanced while a task is running,
+ * for example by the task itself, any tasks then due are run after the current task.
+ */
+public final class VirtualTimeScheduler
+        extends AbstractExecutorService
+        implements ScheduledExecutorService {
+
+    /**
+     * The clock that drives the scheduler.
+     */
+    private final MutableClock clock;
+    /**
+     * The queue of tasks, ordered by due instant then sequence.
+     * Also the lock guarding the mutable state of this scheduler.
+     */
+    private final PriorityQueue<ScheduledTask<?>> queue = new PriorityQueue<>();
+    /**
+     * The listener registered with the clock.
+     */
+    private final Runnable clockListener = this::runDueTasks;
+    /**
+     * The sequence number of the next task.
+     */
+    private long sequence;
+    /**
+     * Whether the scheduler has been shut down.
+     */
+    private boolean shutdown;
+    /**
+     * The thread running tasks, null if none.
+     */
+    private Thread runningThread;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a scheduler driven by the specified clock.
+     * <p>
+     * The scheduler is notified whenever the clock, or any clock with shared
+     * updates with it, is updated, until the scheduler terminates.
+     *
+     * @param clock  the clock that drives the scheduler, not null
+     * @return the scheduler, not null
+     */
+    public static VirtualTimeScheduler of(MutableClock clock) {
+        Objects.requireNonNull(clock, "clock");
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(clock);
+        clock.addUpdateListener(scheduler.clockListener);
+        return scheduler;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock  the clock, validated not null
+     */
+    private VirtualTimeScheduler(MutableClock clock) {
+        this.clock = clock;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the clock that drives this scheduler.
+     *
+     * @return the clock, not null
+     */
+    public MutableClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run.
+     *
+     * @return the number of queued tasks
+     */
+    public int getQueuedTaskCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Runs all tasks that are due at the current instant of the clock.
+     * <p>
+     * This does not change the clock, other than any change made by the tasks.
+     * If called while a task is running, this returns immediately, and the
+     * due tasks are run after the current task completes.
+     *
+     * @return the number of tasks run
+     */
+    public int runDueTasks() {
+        synchronized (queue) {
+            if (runningThread != null) {
+                return 0;
+            }
+            runningThread = Thread.currentThread();
+        }
+        int count = 0;
+        try {
+            while (true) {
+                ScheduledTask<?> task;
+                synchronized (queue) {
+                    task = queue.peek();
+                    if (task == null || task.time.isAfter(clock.instant())) {
+                        break;
+                    }
+                    queue.poll();
+                }
+                task.run();
+                count++;
+            }
+        } finally {
+            synchronized (queue) {
+                runningThread = null;
+                checkTerminated();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Advances the clock to the instant the next task is due, and runs the due tasks.
+     * <p>
+     * If the next task is already due, the clock is not changed.
+     *
+     * @return true if there was a task to run, false if the queue was empty
+     * @throws IllegalStateException if called while a task is running
+     */
+    public boolean advanceToNextTask() {
+        checkNotRunning();
+        Instant next = nextDue();
+        if (next == null) {
+            return false;
+        }
+        if (next.isAfter(clock.instant())) {
+            clock.setInstant(next);
+        }
+        runDueTasks();
+        return true;
+    }
+
+    /**
+     * Advances the clock to the specified instant, running tasks as they fall due.
+     * <p>
+     * Before each task is run, the clock is set to the instant it is due,
+     * or left unchanged if it is already due. After all tasks due at or before
+     * the target have run, the clock is set to the target.
+     * If the target is before the current instant, the clock is not changed.
+     *
+     * @param target  the instant to advance to, not null
+     * @throws IllegalStateException if called while a task is running
+     */
+    public void advanceTo(Instant target) {
+        Objects.requireNonNull(target, "target");
+        checkNotRunning();
+        Instant next = nextDue();
+        while (next != null && !next.isAfter(target)) {
+            if (next.isAfter(clock.instant())) {
+                clock.setInstant(next);
+            }
+            runDueTasks();
+            next = nextDue();
+        }
+        if (target.isAfter(clock.instant())) {
+            clock.setInstant(target);
+        }
+    }
+
+    /**
+     * Advances the clock by the specified duration, running tasks as they fall due.
+     * <p>
+     * This is equivalent to {@code advanceTo(getClock().instant().plus(duration))}.
+     *
+     * @param duration  the duration to advance by, not negative, not null
+     * @throws IllegalArgumentException if the duration is negative
+     * @throws IllegalStateException if called while a task is running
+     */
+    public void advanceBy(Duration duration) {
+        Objects.requireNonNull(duration, "duration");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must not be negative: " + duration);
+        }
+        advanceTo(clock.instant().plus(duration));
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(unit, "unit");
+        return enqueue(new ScheduledTask<Void>(command, null, dueAfter(delay, unit), null, false));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable, "callable");
+        Objects.requireNonNull(unit, "unit");
+        return enqueue(new ScheduledTask<V>(callable, dueAfter(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(unit, "unit");
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return enqueue(new ScheduledTask<Void>(command, null, dueAfter(initialDelay, unit), toDuration(period, unit), true));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(unit, "unit");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive: " + delay);
+        }
+        return enqueue(new ScheduledTask<Void>(command, null, dueAfter(initialDelay, unit), toDuration(delay, unit), false));
+    }
+
+    /**
+     * Executes the command at the current instant of the clock.
+     * <p>
+     * The command is run before this method returns, after any tasks due earlier,
+     * unless called while a task is running, in which case it is run after the current task.
+     *
+     * @param command  the command to execute, not null
+     * @throws RejectedExecutionException if the scheduler has been shut down
+     */
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+        runDueTasks();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void shutdown() {
+        synchronized (queue) {
+            shutdown = true;
+            queue.removeIf(task -> {
+                if (task.isPeriodic()) {
+                    task.cancelQueued();
+                    return true;
+                }
+                return false;
+            });
+            checkTerminated();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending;
+        synchronized (queue) {
+            shutdown = true;
+            pending = new ArrayList<>(queue);
+            queue.clear();
+            checkTerminated();
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (queue) {
+            return shutdown;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (queue) {
+            return isTerminatedLocked();
+        }
+    }
+
+    /**
+     * Waits in real time for the scheduler to terminate.
+     * <p>
+     * As time is virtual, the scheduler only terminates if it has been shut down
+     * and another thread advances time until no tasks remain.
+     *
+     * @param timeout  the maximum real time to wait
+     * @param unit  the unit of the timeout, not null
+     * @return true if the scheduler terminated, false if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (queue) {
+            while (!isTerminatedLocked()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(queue, remaining);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualTimeScheduler[" + clock.instant() + "," + getQueuedTaskCount() + " queued]";
+    }
+
+    //-----------------------------------------------------------------------
+    private Instant dueAfter(long delay, TimeUnit unit) {
+        return clock.instant().plus(toDuration(Math.max(delay, 0), unit));
+    }
+
+    private static Duration toDuration(long amount, TimeUnit unit) {
+        return Duration.ofNanos(unit.toNanos(amount));
+    }
+
+    private Instant nextDue() {
+        synchronized (queue) {
+            ScheduledTask<?> task = queue.peek();
+            return task != null ? task.time : null;
+        }
+    }
+
+    private void checkNotRunning() {
+        synchronized (queue) {
+            if (runningThread == Thread.currentThread()) {
+                throw new IllegalStateException("Time cannot be advanced by the scheduler from within a task");
+            }
+        }
+    }
+
+    private <V> ScheduledTask<V> enqueue(ScheduledTask<V> task) {
+        synchronized (queue) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Scheduler has been shut down");
+            }
+            task.sequence = sequence++;
+            queue.add(task);
+        }
+        return task;
+    }
+
+    // called with the lock held
+    private boolean isTerminatedLocked() {
+        return shutdown && queue.isEmpty() && runningThread == null;
+    }
+
+    // called with the lock held
+    private void checkTerminated() {
+        if (isTerminatedLocked()) {
+            clock.removeUpdateListener(clockListener);
+            queue.notifyAll();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A task queued against the virtual time-line.
+     *
+     * @param <V>  the type of the result
+     */
+    private final class ScheduledTask<V>
+            extends FutureTask<V>
+            implements RunnableScheduledFuture<V> {
+
+        /**
+         * The instant the task is due, only changed when not queued.
+         */
+        private Instant time;
+        /**
+         * The sequence number, to order tasks due at the same instant.
+         */
+        private long sequence;
+        /**
+         * The period or delay between runs, null if not periodic.
+         */
+        private final Duration period;
+        /**
+         * Whether the period is a fixed rate rather than a fixed delay.
+         */
+        private final boolean fixedRate;
+
+        ScheduledTask(Runnable command, V result, Instant time, Duration period, boolean fixedRate) {
+            super(command, result);
+            this.time = time;
+            this.period = period;
+            this.fixedRate = fixedRate;
+        }
+
+        ScheduledTask(Callable<V> callable, Instant time) {
+            super(callable);
+            this.time = time;
+            this.period = null;
+            this.fixedRate = false;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            Duration delay = Duration.between(clock.instant(), time);
+            try {
+                return unit.convert(delay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (ArithmeticException ex) {
+                return delay.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof ScheduledTask) {
+                ScheduledTask<?> task = (ScheduledTask<?>) other;
+                int cmp = time.compareTo(task.time);
+                return cmp != 0 ? cmp : Long.compare(sequence, task.sequence);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                time = fixedRate ? time.plus(period) : clock.instant().plus(period);
+                synchronized (queue) {
+                    if (shutdown) {
+                        super.cancel(false);
+                    } else {
+                        queue.add(this);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                synchronized (queue) {
+                    queue.remove(this);
+                    checkTerminated();
+                }
+            }
+            return cancelled;
+        }
+
+        // called with the lock held, when removing the task from the queue
+        void cancelQueued() {
+            super.cancel(false);
+        }
+    }
+
+}
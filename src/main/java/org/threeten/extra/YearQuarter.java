@@ -43,6 +43,7 @@ import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -104,6 +105,18 @@ public final class YearQuarter
      * Serialization version.
      */
     private static final long serialVersionUID = 4183400860270640070L;
+    /**
+     * The first year of the cached instances.
+     */
+    private static final int CACHE_MIN_YEAR = 1900;
+    /**
+     * The last year of the cached instances.
+     */
+    private static final int CACHE_MAX_YEAR = 2100;
+    /**
+     * Cache of instances from CACHE_MIN_YEAR to CACHE_MAX_YEAR, populated on demand.
+     */
+    private static final YearQuarter[] CACHE = new YearQuarter[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 4];
     /**
      * Parser.
      */
@@ -184,7 +197,7 @@ public final class YearQuarter
     public static YearQuarter of(int year, Quarter quarter) {
         YEAR.checkValidValue(year);
         Objects.requireNonNull(quarter, "quarter");
-        return new YearQuarter(year, quarter);
+        return create(year, quarter);
     }
 
     /**
@@ -197,7 +210,41 @@ public final class YearQuarter
      */
     public static YearQuarter of(int year, int quarter) {
         YEAR.checkValidValue(year);
-        return new YearQuarter(year, Quarter.of(quarter));
+        return create(year, Quarter.of(quarter));
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter}, using the cache if possible.
+     *
+     * @param year  the year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param quarter  the quarter-of-year to represent, validated not null
+     * @return the year-quarter, not null
+     */
+    private static YearQuarter create(int year, Quarter quarter) {
+        if (year < CACHE_MIN_YEAR || year > CACHE_MAX_YEAR) {
+            return new YearQuarter(year, quarter);
+        }
+        int index = (year - CACHE_MIN_YEAR) * 4 + quarter.ordinal();
+        YearQuarter cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new YearQuarter(year, quarter);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from a packed {@code int}.
+     * <p>
+     * This is the inverse of {@link #toPackedInt()}.
+     * The packed value is the year multiplied by four, plus the zero-based quarter.
+     *
+     * @param packed  the packed year-quarter
+     * @return the year-quarter, not null
+     */
+    public static YearQuarter ofPacked(int packed) {
+        return create(Math.floorDiv(packed, 4), Quarter.of(Math.floorMod(packed, 4) + 1));
     }
 
     //-----------------------------------------------------------------------
@@ -246,12 +293,22 @@ public final class YearQuarter
      * The string must represent a valid year-quarter.
      * The format must be {@code uuuu-'Q'Q} where the 'Q' is case insensitive.
      * Years outside the range 0000 to 9999 must be prefixed by the plus or minus symbol.
+     * <p>
+     * Text with a four digit year is parsed directly, other text uses a formatter.
      *
      * @param text  the text to parse such as "2007-Q2", not null
      * @return the parsed year-quarter, not null
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static YearQuarter parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        if (text.length() == 7 && text.charAt(4) == '-' && (text.charAt(5) == 'Q' || text.charAt(5) == 'q')) {
+            int year = parseFourDigits(text, 0);
+            int quarter = text.charAt(6) - '0';
+            if (year >= 0 && quarter >= 1 && quarter <= 4) {
+                return of(year, quarter);
+            }
+        }
         return parse(text, PARSER);
     }
 
@@ -270,6 +327,25 @@ public final class YearQuarter
         return formatter.parse(text, YearQuarter::from);
     }
 
+    /**
+     * Parses four ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the index of the first digit
+     * @return the value, negative if any character is not a digit
+     */
+    private static int parseFourDigits(CharSequence text, int start) {
+        int value = 0;
+        for (int i = start; i < start + 4; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
@@ -303,7 +379,7 @@ public final class YearQuarter
         if (year == newYear && quarter == newQuarter) {
             return this;
         }
-        return new YearQuarter(newYear, newQuarter);
+        return create(newYear, newQuarter);
     }
 
     //-----------------------------------------------------------------------
@@ -1182,6 +1258,28 @@ public final class YearQuarter
         return compareTo(other) < 0;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-quarter to a packed {@code int}.
+     * <p>
+     * The packed value is the year multiplied by four, plus the zero-based quarter,
+     * such that 2012-Q1 is 8048 and 2012-Q4 is 8051.
+     * Packed values sort in the same order as the year-quarters,
+     * and can be converted back using {@link #ofPacked(int)}.
+     * <p>
+     * Years from -536,870,912 to 536,870,911 can be packed.
+     *
+     * @return the packed year-quarter
+     * @throws DateTimeException if the year is outside the range that can be packed
+     */
+    public int toPackedInt() {
+        long packed = getProlepticQuarter();
+        if (packed != (int) packed) {
+            throw new DateTimeException("Unable to pack YearQuarter, year is out of range: " + this);
+        }
+        return (int) packed;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this year-quarter is equal to another year-quarter.
@@ -1223,21 +1321,39 @@ public final class YearQuarter
      */
     @Override
     public String toString() {
-        int absYear = Math.abs(year);
         StringBuilder buf = new StringBuilder(10);
-        if (absYear < 1000) {
-            if (year < 0) {
-                buf.append(year - 10000).deleteCharAt(1);
-            } else {
-                buf.append(year + 10000).deleteCharAt(0);
-            }
-        } else {
-            if (year > 9999) {
-                buf.append('+');
-            }
-            buf.append(year);
+        formatTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats this year-quarter to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        formatTo((Appendable) buf);
+    }
+
+    /**
+     * Formats this year-quarter to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            IsoFormat.appendYear(appendable, year);
+            appendable.append("-Q").append((char) ('0' + quarter.getValue()));
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
         }
-        return buf.append('-').append(quarter).toString();
     }
 
 }
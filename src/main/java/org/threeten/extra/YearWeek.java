@@ -36,6 +36,7 @@ import static java.time.DayOfWeek.WEDNESDAY;
 import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -95,6 +96,19 @@ public final class YearWeek
      * Serialization version.
      */
     private static final long serialVersionUID = 3381384054271883921L;
+    /**
+     * The first year of the cached instances.
+     */
+    private static final int CACHE_MIN_YEAR = 1900;
+    /**
+     * The last year of the cached instances.
+     */
+    private static final int CACHE_MAX_YEAR = 2100;
+    /**
+     * Cache of the results of {@code of(int, int)} from CACHE_MIN_YEAR to CACHE_MAX_YEAR,
+     * populated on demand, with 53 entries per year.
+     */
+    private static final YearWeek[] CACHE = new YearWeek[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 53];
 
     /**
      * Parser.
@@ -178,10 +192,30 @@ public final class YearWeek
     public static YearWeek of(int weekBasedYear, int week) {
         WEEK_BASED_YEAR.range().checkValidValue(weekBasedYear, WEEK_BASED_YEAR);
         WEEK_OF_WEEK_BASED_YEAR.range().checkValidValue(week, WEEK_OF_WEEK_BASED_YEAR);
+        if (weekBasedYear < CACHE_MIN_YEAR || weekBasedYear > CACHE_MAX_YEAR) {
+            return create(weekBasedYear, week);
+        }
+        int index = (weekBasedYear - CACHE_MIN_YEAR) * 53 + week - 1;
+        YearWeek cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = create(weekBasedYear, week);
+            CACHE[index] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Creates an instance of {@code YearWeek}, adjusting week 53 if necessary.
+     *
+     * @param weekBasedYear  the week-based-year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param week  the week-of-week-based-year to represent, validated from 1 to 53
+     * @return the year-week, not null
+     * @throws DateTimeException if the adjusted year is invalid
+     */
+    private static YearWeek create(int weekBasedYear, int week) {
         if (week == 53 && weekRange(weekBasedYear) < 53) {
-            week = 1;
-            weekBasedYear++;
-            WEEK_BASED_YEAR.range().checkValidValue(weekBasedYear, WEEK_BASED_YEAR);
+            return of(weekBasedYear + 1, 1);
         }
         return new YearWeek(weekBasedYear, week);
     }
@@ -196,6 +230,21 @@ public final class YearWeek
         return 52;
     }
 
+    /**
+     * Obtains an instance of {@code YearWeek} from a packed {@code int}.
+     * <p>
+     * This is the inverse of {@link #toPackedInt()}.
+     * The packed value is the number of weeks from 1970-W01.
+     *
+     * @param packed  the packed year-week
+     * @return the year-week, not null
+     */
+    public static YearWeek ofPacked(int packed) {
+        // the week-based-year and week are those of the Thursday of the week
+        LocalDate thursday = LocalDate.ofEpochDay(packed * 7L);
+        return of(thursday.getYear(), (thursday.getDayOfYear() - 1) / 7 + 1);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code YearWeek} from a temporal object.
@@ -243,12 +292,24 @@ public final class YearWeek
      * Week 53 will be adjusted to week 1 of the following year if necessary.
      * The format must be {@code YYYY-'W'ww}.
      * Years outside the range 0000 to 9999 must be prefixed by the plus or minus symbol.
+     * <p>
+     * Text with a four digit year is parsed directly, other text uses a formatter.
      *
      * @param text  the text to parse such as "2007-W13", not null
      * @return the parsed year-week, not null
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static YearWeek parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        if (text.length() == 8 && text.charAt(4) == '-' && (text.charAt(5) == 'W' || text.charAt(5) == 'w')) {
+            int year = parseFourDigits(text, 0);
+            int tens = text.charAt(6) - '0';
+            int units = text.charAt(7) - '0';
+            int week = tens * 10 + units;
+            if (year >= 0 && tens >= 0 && tens <= 5 && units >= 0 && units <= 9 && week >= 1 && week <= 53) {
+                return of(year, week);
+            }
+        }
         return parse(text, PARSER);
     }
 
@@ -267,6 +328,25 @@ public final class YearWeek
         return formatter.parse(text, YearWeek::from);
     }
 
+    /**
+     * Parses four ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the index of the first digit
+     * @return the value, negative if any character is not a digit
+     */
+    private static int parseFourDigits(CharSequence text, int start) {
+        int value = 0;
+        for (int i = start; i < start + 4; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
@@ -732,6 +812,30 @@ public final class YearWeek
         return compareTo(other) < 0;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-week to a packed {@code int}.
+     * <p>
+     * The packed value is the proleptic week index, the number of weeks from 1970-W01,
+     * such that 1970-W02 is 1 and 1969-W52 is -1.
+     * Packed values sort in the same order as the year-weeks,
+     * and can be converted back using {@link #ofPacked(int)}.
+     * <p>
+     * Week-based-years from approximately -41 million to 41 million can be packed.
+     *
+     * @return the packed year-week
+     * @throws DateTimeException if the year is outside the range that can be packed
+     */
+    public int toPackedInt() {
+        // 1970-01-01 is a Thursday, so the Monday of 1970-W01 is epoch-day -3
+        long jan4 = LocalDate.of(year, 1, 4).toEpochDay();
+        long packed = Math.floorDiv(jan4 + 3, 7) + week - 1;
+        if (packed != (int) packed) {
+            throw new DateTimeException("Unable to pack YearWeek, year is out of range: " + this);
+        }
+        return (int) packed;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this year-week is equal to another year-week.
@@ -771,21 +875,40 @@ public final class YearWeek
      */
     @Override
     public String toString() {
-        int absYear = Math.abs(year);
         StringBuilder buf = new StringBuilder(10);
-        if (absYear < 1000) {
-            if (year < 0) {
-                buf.append(year - 10000).deleteCharAt(1);
-            } else {
-                buf.append(year + 10000).deleteCharAt(0);
-            }
-        } else {
-            if (year > 9999) {
-                buf.append('+');
-            }
-            buf.append(year);
+        formatTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats this year-week to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        formatTo((Appendable) buf);
+    }
+
+    /**
+     * Formats this year-week to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            IsoFormat.appendYear(appendable, year);
+            appendable.append(week < 10 ? "-W0" : "-W");
+            IsoFormat.appendNumber(appendable, week);
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
         }
-        return buf.append(week < 10 ? "-W0" : "-W").append(week).toString();
     }
 
 }
@@ -45,8 +45,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A year-based amount of time, such as '12 years'.
@@ -79,11 +77,13 @@ public final class Years
      */
     private static final long serialVersionUID = -8903767091325669093L;
     /**
-     * The pattern for parsing.
+     * The largest magnitude of the cached instances.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P([-+]?[0-9]+)Y", Pattern.CASE_INSENSITIVE);
-
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * Cache of instances from -CACHE_LIMIT to CACHE_LIMIT, populated on demand.
+     */
+    private static final Years[] CACHE = new Years[CACHE_LIMIT * 2 + 1];
     /**
      * The number of years.
      */
@@ -102,8 +102,17 @@ public final class Years
             return ZERO;
         } else if (years == 1) {
             return ONE;
+        } else if (years < -CACHE_LIMIT || years > CACHE_LIMIT) {
+            return new Years(years);
+        }
+        int index = years + CACHE_LIMIT;
+        Years cached = CACHE[index];
+        if (cached == null) {
+            // a race may create duplicate instances, which is harmless as the class is immutable
+            cached = new Years(years);
+            CACHE[index] = cached;
         }
-        return new Years(years);
+        return cached;
     }
 
     //-----------------------------------------------------------------------
@@ -175,18 +184,31 @@ public final class Years
      */
     public static Years parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String str = matcher.group(2);
-            try {
-                int val = Integer.parseInt(str);
-                return of(Math.multiplyExact(val, negate));
-            } catch (NumberFormatException ex) {
-                throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0, ex);
-            }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains a {@code Years} from a range of a text string such as {@code PnY}.
+     * <p>
+     * This parses the characters from {@code start} to {@code end} using the same
+     * format as {@link #parse(CharSequence)}, without creating a sub-sequence.
+     * Any error index in the exception is relative to the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period
+     */
+    public static Years parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        long[] parsed = AmountParser.parse(text, start, end, "Y", "");
+        if (parsed == null) {
+            throw new DateTimeParseException("Text cannot be parsed to a Years", text, start);
         }
-        throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0);
+        int years = AmountParser.value(parsed, 1, text, start, "Text cannot be parsed to a Years");
+        return of(Math.multiplyExact(years, (int) parsed[0]));
     }
 
     //-----------------------------------------------------------------------
@@ -534,4 +556,33 @@ public final class Years
         return "P" + years + "Y";
     }
 
+    /**
+     * Formats this amount to the specified {@code StringBuilder}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param buf  the buffer to append to, not null
+     */
+    public void formatTo(StringBuilder buf) {
+        Objects.requireNonNull(buf, "buf");
+        buf.append('P').append(years).append('Y');
+    }
+
+    /**
+     * Formats this amount to the specified {@code Appendable}.
+     * <p>
+     * The output is the same as {@link #toString()}, appended without creating intermediate strings.
+     *
+     * @param appendable  the appendable to append to, not null
+     * @throws DateTimeException if an IO error occurs
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            formatTo((StringBuilder) appendable);
+        } else {
+            IsoFormat.appendAmount(appendable, "P", years, 'Y');
+        }
+    }
+
 }
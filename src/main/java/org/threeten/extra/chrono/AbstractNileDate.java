@@ -90,9 +90,25 @@ abstract class AbstractNileDate
 
     @Override
     public long toEpochDay() {
-        long year = (long) getProlepticYear();
-        long calendarEpochDay = ((year - 1) * 365) + Math.floorDiv(year, 4) + (getDayOfYear() - 1);
-        return calendarEpochDay - getEpochDayDifference();
+        return epochDayOf(getProlepticYear(), getMonth(), getDayOfMonth(), getEpochDayDifference());
+    }
+
+    /**
+     * Converts the proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year, from 1 to 13
+     * @param dayOfMonth  the day-of-month
+     * @param epochDayDifference  the difference in days between the calendar epoch and 1970-01-01 (ISO)
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth, int epochDayDifference) {
+        long year = (long) prolepticYear;
+        int dayOfYear = (month - 1) * 30 + dayOfMonth;
+        long calendarEpochDay = ((year - 1) * 365) + Math.floorDiv(year, 4) + (dayOfYear - 1);
+        return calendarEpochDay - epochDayDifference;
     }
 
 }
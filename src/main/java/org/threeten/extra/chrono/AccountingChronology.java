@@ -107,6 +107,10 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * Range of days in year.
      */
     static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 364, 371);
+    /**
+     * Range of years that may be in the precomputed year-start window.
+     */
+    private static final ValueRange YEAR_START_TABLE_RANGE = ValueRange.of(-999_999, 999_999);
 
     /**
      * The day of the week on which a given Accounting year ends.
@@ -129,6 +133,14 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * The month which will have the leap-week added.
      */
     private final int leapWeekInMonth;
+    /**
+     * The first year of the precomputed year-start window.
+     */
+    private final int yearStartTableMinYear;
+    /**
+     * The number of years in the precomputed year-start window, zero if there is no window.
+     */
+    private final int yearStartTableYears;
 
     /**
      * Difference in days between accounting year end and ISO month end, in ISO year 0.
@@ -146,6 +158,11 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * Number of days from the start of Accounting year 1 (for this chronology) to the start of ISO 1970
      */
     private final transient int days0001ToIso1970;
+    /**
+     * The start epoch-days of the years in the precomputed window, followed by the day after the last year.
+     * Built lazily on first use.
+     */
+    private transient volatile long[] yearStarts;
 
     //-----------------------------------------------------------------------
     /**
@@ -161,6 +178,28 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * @throws DateTimeException if the chronology cannot be built.
      */
     static AccountingChronology create(DayOfWeek endsOn, Month end, boolean inLastWeek, AccountingYearDivision division, int leapWeekInMonth) {
+        return create(endsOn, end, inLastWeek, division, leapWeekInMonth, 0, -1);
+    }
+
+    /**
+     * Creates an {@code AccountingChronology} validating the input.
+     * Package private as only meant to be called from the builder.
+     * <p>
+     * The year-start window is a performance option only.
+     * An empty window, where the maximum year is less than the minimum year, disables it.
+     * 
+     * @param endsOn  The day-of-week a given year ends on.
+     * @param end The  month-end the year is based on.
+     * @param inLastWeek  Whether the year ends in the last week of the month, or nearest the end-of-month.
+     * @param division  How the year is divided.
+     * @param leapWeekInMonth  The month in which the leap-week resides.
+     * @param tableMinYear  The first year of the precomputed year-start window.
+     * @param tableMaxYear  The last year of the precomputed year-start window.
+     * @return The created Chronology, not null.
+     * @throws DateTimeException if the chronology cannot be built.
+     */
+    static AccountingChronology create(DayOfWeek endsOn, Month end, boolean inLastWeek, AccountingYearDivision division, int leapWeekInMonth,
+            int tableMinYear, int tableMaxYear) {
         if (endsOn == null || end == null || division == null || leapWeekInMonth == 0) {
             throw new IllegalStateException("AccountingCronology cannot be built: "
                     + (endsOn == null ? "| ending day-of-week |" : "")
@@ -173,6 +212,11 @@ public final class AccountingChronology extends AbstractChronology implements Se
             throw new IllegalStateException("Leap week cannot not be placed in non-existant month " + leapWeekInMonth
                     + ", range is [" + division.getMonthsInYearRange() + "].");
         }
+        if (tableMaxYear >= tableMinYear && (!YEAR_START_TABLE_RANGE.isValidIntValue(tableMinYear) || !YEAR_START_TABLE_RANGE.isValidIntValue(tableMaxYear))) {
+            throw new IllegalStateException("Precomputed year-start window [" + tableMinYear + ", " + tableMaxYear
+                    + "] is outside the range [" + YEAR_START_TABLE_RANGE + "].");
+        }
+        int tableYears = Math.max(tableMaxYear - tableMinYear + 1, 0);
 
         // Derive cached information.
         LocalDate endingLimit = inLastWeek ? LocalDate.of(0, end, 1).with(TemporalAdjusters.lastDayOfMonth()) :
@@ -191,7 +235,8 @@ public final class AccountingChronology extends AbstractChronology implements Se
         ValueRange dayOfMonthRange = ValueRange.of(1, shortestMonthLength * 7, longestMonthLength * 7);
         int daysToEpoch = Math.toIntExact(0 - yearZeroEnd.plusDays(1).toEpochDay());
 
-        return new AccountingChronology(endsOn, end, inLastWeek, division, leapWeekInMonth, yearZeroDifference, alignedWeekOfMonthRange, dayOfMonthRange, daysToEpoch);
+        return new AccountingChronology(endsOn, end, inLastWeek, division, leapWeekInMonth, tableMinYear, tableYears,
+                yearZeroDifference, alignedWeekOfMonthRange, dayOfMonthRange, daysToEpoch);
     }
 
     //-----------------------------------------------------------------------
@@ -203,18 +248,23 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * @param inLastWeek  Whether the year ends in the last week of the month, or nearest the end-of-month.
      * @param division  How the year is divided.
      * @param leapWeekInMonth  The month in which the leap-week resides.
+     * @param yearStartTableMinYear  The first year of the precomputed year-start window.
+     * @param yearStartTableYears  The number of years in the precomputed year-start window.
      * @param yearZeroDifference  Difference in days between accounting year end and ISO month end, in ISO year 0.
      * @param alignedWeekOfMonthRange  Range of weeks in month.
      * @param dayOfMonthRange  Range of days in month.
      * @param daysToEpoch  The number of days between the start of Accounting 1 and ISO 1970.
      */
-    private AccountingChronology(DayOfWeek endsOn, Month end, boolean inLastWeek, AccountingYearDivision division, int leapWeekInMonth, int yearZeroDifference, ValueRange alignedWeekOfMonthRange,
+    private AccountingChronology(DayOfWeek endsOn, Month end, boolean inLastWeek, AccountingYearDivision division, int leapWeekInMonth,
+            int yearStartTableMinYear, int yearStartTableYears, int yearZeroDifference, ValueRange alignedWeekOfMonthRange,
             ValueRange dayOfMonthRange, int daysToEpoch) {
         this.endsOn = endsOn;
         this.end = end;
         this.inLastWeek = inLastWeek;
         this.division = division;
         this.leapWeekInMonth = leapWeekInMonth;
+        this.yearStartTableMinYear = yearStartTableMinYear;
+        this.yearStartTableYears = yearStartTableYears;
         this.yearZeroDifference = yearZeroDifference;
         this.alignedWeekOfMonthRange = alignedWeekOfMonthRange;
         this.dayOfMonthRange = dayOfMonthRange;
@@ -227,7 +277,8 @@ public final class AccountingChronology extends AbstractChronology implements Se
      * @return a built, validated instance.
      */
     private Object readResolve() {
-        return AccountingChronology.create(endsOn, end, inLastWeek, getDivision(), leapWeekInMonth);
+        return AccountingChronology.create(endsOn, end, inLastWeek, getDivision(), leapWeekInMonth,
+                yearStartTableMinYear, yearStartTableMinYear + yearStartTableYears - 1);
     }
 
     //-----------------------------------------------------------------------
@@ -243,6 +294,32 @@ public final class AccountingChronology extends AbstractChronology implements Se
         return days0001ToIso1970;
     }
 
+    int getYearStartTableMinYear() {
+        return yearStartTableMinYear;
+    }
+
+    /**
+     * Gets the precomputed year-start table, building it on first use.
+     * <p>
+     * Element {@code i} is the epoch-day of the first day of year {@code getYearStartTableMinYear() + i}.
+     * The last element is the epoch-day after the end of the window, so the length of
+     * every year in the window is the difference of adjacent elements.
+     * Concurrent first calls may each build the table, but all build the same values.
+     *
+     * @return the table, null if this chronology has no year-start window
+     */
+    long[] getYearStarts() {
+        long[] starts = yearStarts;
+        if (starts == null && yearStartTableYears > 0) {
+            starts = new long[yearStartTableYears + 1];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = AccountingDate.yearStartEpochDay(this, (long) yearStartTableMinYear + i);
+            }
+            yearStarts = starts;
+        }
+        return starts;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the ID of the chronology - 'Accounting'.
@@ -79,6 +79,14 @@ public final class AccountingChronologyBuilder {
      * The month which will have the leap-week added.
      */
     private int leapWeekInMonth;
+    /**
+     * The first year of the precomputed year-start window.
+     */
+    private int yearStartTableMinYear;
+    /**
+     * The last year of the precomputed year-start window, less than the first if there is no window.
+     */
+    private int yearStartTableMaxYear = -1;
 
     /**
      * Constructs a new instance of the builder.
@@ -153,6 +161,31 @@ public final class AccountingChronologyBuilder {
         return this;
     }
 
+    /**
+     * Sets the window of years for which the start of each year is precomputed.
+     * <p>
+     * Converting to and from the epoch-day must find the start of the Accounting year,
+     * which otherwise involves a calculation over the floating leap-weeks on every call.
+     * When a window is set, the chronology lazily builds a table of year-start epoch-days
+     * for the years in the window on first use, and looks up dates in the window in the table.
+     * Dates outside the window continue to be calculated.
+     * The table holds one {@code long} per year, so a window of a few centuries is typical.
+     * <p>
+     * The window does not affect the calendar system, so it is not part of
+     * {@code equals}, {@code hashCode} or {@code toString} of the chronology.
+     * A window where the maximum year is less than the minimum year disables the table.
+     * 
+     * @param minYear  the first proleptic-year in the window, from -999,999 to 999,999
+     * @param maxYear  the last proleptic-year in the window, from -999,999 to 999,999
+     * 
+     * @return this, for chaining, not null.
+     */
+    public AccountingChronologyBuilder withPrecomputedYears(int minYear, int maxYear) {
+        this.yearStartTableMinYear = minYear;
+        this.yearStartTableMaxYear = maxYear;
+        return this;
+    }
+
     /**
      * Completes this builder by creating the {@code AccountingChronology}.
      * 
@@ -160,7 +193,8 @@ public final class AccountingChronologyBuilder {
      * @throws DateTimeException if the chronology cannot be built.
      */
     public AccountingChronology toChronology() {
-        return AccountingChronology.create(endsOn, end, inLastWeek, division, leapWeekInMonth);
+        return AccountingChronology.create(endsOn, end, inLastWeek, division, leapWeekInMonth,
+                yearStartTableMinYear, yearStartTableMaxYear);
     }
 
 }
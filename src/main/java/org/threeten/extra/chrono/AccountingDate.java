@@ -36,6 +36,10 @@ import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
 import static org.threeten.extra.chrono.AccountingChronology.DAY_OF_YEAR_RANGE;
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 
 import java.io.Serializable;
 import java.time.Clock;
@@ -231,19 +235,8 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
      */
     static AccountingDate ofYearDay(AccountingChronology chronology, int prolepticYear, int dayOfYear) {
         Objects.requireNonNull(chronology, "A previously setup chronology is required.");
-        YEAR.checkValidValue(prolepticYear);
-        DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, DAY_OF_YEAR);
-        boolean leap = chronology.isLeapYear(prolepticYear);
-        if (dayOfYear > WEEKS_IN_YEAR * DAYS_IN_WEEK && !leap) {
-            throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
-        }
-
-        int month = (leap ? chronology.getDivision().getMonthFromElapsedWeeks((dayOfYear - 1) / DAYS_IN_WEEK, chronology.getLeapWeekInMonth())
-                : chronology.getDivision().getMonthFromElapsedWeeks((dayOfYear - 1) / DAYS_IN_WEEK));
-        int dayOfMonth = dayOfYear - (leap ? chronology.getDivision().getWeeksAtStartOfMonth(month, chronology.getLeapWeekInMonth())
-                : chronology.getDivision().getWeeksAtStartOfMonth(month)) * DAYS_IN_WEEK;
-
-        return new AccountingDate(chronology, prolepticYear, month, dayOfMonth);
+        long fields = fieldsOfYearDay(chronology, prolepticYear, dayOfYear, chronology.isLeapYear(prolepticYear));
+        return new AccountingDate(chronology, prolepticYear, monthOf(fields), dayOf(fields));
     }
 
     /**
@@ -257,7 +250,34 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
      *  NullPointerException if an AccountingChronology was not provided
      */
     static AccountingDate ofEpochDay(AccountingChronology chronology, long epochDay) {
+        long fields = fieldsOfEpochDay(chronology, epochDay);
+        return new AccountingDate(chronology, yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Accounting proleptic-year, month and day, without creating a date.
+     *
+     * @param chronology  the chronology, not null
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(AccountingChronology chronology, long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
+        long[] yearStarts = chronology.getYearStarts();
+        if (yearStarts != null && epochDay >= yearStarts[0] && epochDay < yearStarts[yearStarts.length - 1]) {
+            // Estimate the index from the mean year length, then correct by at most a year either way.
+            int index = (int) Math.min((epochDay - yearStarts[0]) * 400 / DAYS_PER_LONG_CYCLE, yearStarts.length - 2);
+            while (yearStarts[index] > epochDay) {
+                index--;
+            }
+            while (yearStarts[index + 1] <= epochDay) {
+                index++;
+            }
+            boolean leap = yearStarts[index + 1] - yearStarts[index] > WEEKS_IN_YEAR * DAYS_IN_WEEK;
+            return fieldsOfYearDay(chronology, chronology.getYearStartTableMinYear() + index, (int) (epochDay - yearStarts[index]) + 1, leap);
+        }
         // Use Accounting 1 to help with 0-counts.  Leap years can occur at any time.
         long accountingEpochDay = epochDay + chronology.getDays0001ToIso1970();
 
@@ -277,7 +297,75 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
             year++;
         }
 
-        return ofYearDay(chronology, year + 400 * longCycle, daysInLongCycle - yearStart + 1);
+        int prolepticYear = year + 400 * longCycle;
+        return fieldsOfYearDay(chronology, prolepticYear, daysInLongCycle - yearStart + 1, chronology.isLeapYear(prolepticYear));
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to the packed fields, validating them.
+     *
+     * @param chronology  the chronology, not null
+     * @param prolepticYear  the Accounting proleptic-year
+     * @param dayOfYear  the Accounting day-of-year
+     * @param leap  whether the year is a leap year
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the year or day-of-year is invalid
+     */
+    private static long fieldsOfYearDay(AccountingChronology chronology, int prolepticYear, int dayOfYear, boolean leap) {
+        YEAR.checkValidValue(prolepticYear);
+        DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, DAY_OF_YEAR);
+        if (dayOfYear > WEEKS_IN_YEAR * DAYS_IN_WEEK && !leap) {
+            throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
+        }
+
+        int month = (leap ? chronology.getDivision().getMonthFromElapsedWeeks((dayOfYear - 1) / DAYS_IN_WEEK, chronology.getLeapWeekInMonth())
+                : chronology.getDivision().getMonthFromElapsedWeeks((dayOfYear - 1) / DAYS_IN_WEEK));
+        int dayOfMonth = dayOfYear - (leap ? chronology.getDivision().getWeeksAtStartOfMonth(month, chronology.getLeapWeekInMonth())
+                : chronology.getDivision().getWeeksAtStartOfMonth(month)) * DAYS_IN_WEEK;
+
+        return packFields(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Converts the Accounting proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param chronology  the chronology, not null
+     * @param prolepticYear  the Accounting proleptic-year
+     * @param month  the Accounting month-of-year, from 1 to 13
+     * @param dayOfMonth  the Accounting day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(AccountingChronology chronology, int prolepticYear, int month, int dayOfMonth) {
+        long[] yearStarts = chronology.getYearStarts();
+        long index = (long) prolepticYear - chronology.getYearStartTableMinYear();
+        long yearStart;
+        boolean leap;
+        if (yearStarts != null && index >= 0 && index < yearStarts.length - 1) {
+            yearStart = yearStarts[(int) index];
+            leap = yearStarts[(int) index + 1] - yearStart > WEEKS_IN_YEAR * DAYS_IN_WEEK;
+        } else {
+            yearStart = yearStartEpochDay(chronology, prolepticYear);
+            leap = chronology.isLeapYear(prolepticYear);
+        }
+        int weeksAtStartOfMonth = (leap ? chronology.getDivision().getWeeksAtStartOfMonth(month, chronology.getLeapWeekInMonth())
+                : chronology.getDivision().getWeeksAtStartOfMonth(month));
+        return yearStart + weeksAtStartOfMonth * DAYS_IN_WEEK + (dayOfMonth - 1);
+    }
+
+    /**
+     * Calculates the epoch-day of the first day of an Accounting year.
+     * <p>
+     * This always uses the arithmetic, never the precomputed table, as it is used to build the table.
+     *
+     * @param chronology  the chronology, not null
+     * @param prolepticYear  the Accounting proleptic-year
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long yearStartEpochDay(AccountingChronology chronology, long prolepticYear) {
+        long accountingEpochDay = ((prolepticYear - 1) * WEEKS_IN_YEAR + chronology.previousLeapYears(prolepticYear)) * DAYS_IN_WEEK;
+        return accountingEpochDay - chronology.getDays0001ToIso1970();
     }
 
     private static AccountingDate resolvePreviousValid(AccountingChronology chronology, int prolepticYear, int month, int day) {
@@ -461,9 +549,7 @@ public final class AccountingDate extends AbstractDate implements ChronoLocalDat
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = prolepticYear;
-        long accountingEpochDay = ((year - 1) * WEEKS_IN_YEAR + chronology.previousLeapYears(year)) * DAYS_IN_WEEK + (getDayOfYear() - 1);
-        return accountingEpochDay - chronology.getDays0001ToIso1970();
+        return epochDayOf(chronology, prolepticYear, month, day);
     }
 
     //-------------------------------------------------------------------------
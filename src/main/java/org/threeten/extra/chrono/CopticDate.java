@@ -36,6 +36,10 @@ import static java.time.temporal.ChronoField.DAY_OF_YEAR;
 import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 
 import java.io.Serializable;
 import java.time.Clock;
@@ -216,6 +220,19 @@ public final class CopticDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static CopticDate ofEpochDay(final long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new CopticDate(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Coptic proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(final long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
         long copticED = epochDay + EPOCH_DAY_DIFFERENCE;
         int adjustment = 0;
@@ -226,9 +243,24 @@ public final class CopticDate
         int prolepticYear = (int) (((copticED * 4) + 1463) / 1461);
         int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
         int doy0 = (int) (copticED - startYearEpochDay);
+        CopticChronology.YEAR_RANGE.checkValidValue(prolepticYear + adjustment, YEAR);
         int month = doy0 / 30 + 1;
         int dom = doy0 % 30 + 1;
-        return new CopticDate(prolepticYear + adjustment, month, dom);
+        return packFields(prolepticYear + adjustment, month, dom);
+    }
+
+    /**
+     * Converts the Coptic proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month-of-year, from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return epochDayOf(prolepticYear, month, dayOfMonth, EPOCH_DAY_DIFFERENCE);
     }
 
     private static CopticDate resolvePreviousValid(int prolepticYear, int month, int day) {
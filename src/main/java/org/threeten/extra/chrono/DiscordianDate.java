@@ -43,6 +43,10 @@ import static org.threeten.extra.chrono.DiscordianChronology.DAYS_IN_WEEK;
 import static org.threeten.extra.chrono.DiscordianChronology.MONTHS_IN_YEAR;
 import static org.threeten.extra.chrono.DiscordianChronology.OFFSET_FROM_ISO_0000;
 import static org.threeten.extra.chrono.DiscordianChronology.WEEKS_IN_YEAR;
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 
 import java.io.Serializable;
 import java.time.Clock;
@@ -227,27 +231,8 @@ public final class DiscordianDate
      *  or if the day-of-year is invalid for the year
      */
     static DiscordianDate ofYearDay(int prolepticYear, int dayOfYear) {
-        DiscordianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
-        DAY_OF_YEAR.checkValidValue(dayOfYear);
-        boolean leap = DiscordianChronology.INSTANCE.isLeapYear(prolepticYear);
-        if (dayOfYear == 366 && !leap) {
-            throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
-        }
-
-        if (leap) {
-            if (dayOfYear == ST_TIBS_OFFSET) {
-                // Take care of special case of St Tib's Day.
-                return new DiscordianDate(prolepticYear, 0, 0);
-            } else if (dayOfYear > ST_TIBS_OFFSET) {
-                // Offset dayOfYear to account for added day.
-                dayOfYear--;
-            }
-        }
-
-        int month = (dayOfYear - 1) / DAYS_IN_MONTH + 1;
-        int dayOfMonth = (dayOfYear - 1) % DAYS_IN_MONTH + 1;
-
-        return new DiscordianDate(prolepticYear, month, dayOfMonth);
+        long fields = fieldsOfYearDay(prolepticYear, dayOfYear);
+        return new DiscordianDate(prolepticYear, monthOf(fields), dayOf(fields));
     }
 
     /**
@@ -259,6 +244,19 @@ public final class DiscordianDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static DiscordianDate ofEpochDay(final long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new DiscordianDate(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Discordian proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(final long epochDay) {
         DiscordianChronology.EPOCH_DAY_RANGE.checkValidValue(epochDay, EPOCH_DAY);
 
         // use of Discordian 1167 makes leap year at end of long cycle
@@ -268,7 +266,7 @@ public final class DiscordianDate
         long daysInLongCycle = Math.floorMod(discordianEpochDay, DAYS_PER_LONG_CYCLE);
         if (daysInLongCycle == DAYS_PER_LONG_CYCLE - 1) {
             int year = (int) (longCycle * 400) + 400;
-            return ofYearDay(year + OFFSET_FROM_ISO_0000, 366);
+            return fieldsOfYearDay(year + OFFSET_FROM_ISO_0000, 366);
         }
 
         int cycle = (int) daysInLongCycle / DAYS_PER_CYCLE;
@@ -278,13 +276,70 @@ public final class DiscordianDate
 
         if (dayInShortCycle == DAYS_PER_SHORT_CYCLE - 1) {
             int year = (int) (longCycle * 400) + (cycle * 100) + (shortCycle * 4) + 4;
-            return ofYearDay(year + OFFSET_FROM_ISO_0000, 366);
+            return fieldsOfYearDay(year + OFFSET_FROM_ISO_0000, 366);
         }
 
         int year = (int) (longCycle * 400) + (cycle * 100) + (shortCycle * 4) + (dayInShortCycle / 365) + 1;
         int dayOfYear = (dayInShortCycle % 365) + 1;
 
-        return ofYearDay(year + OFFSET_FROM_ISO_0000, dayOfYear);
+        return fieldsOfYearDay(year + OFFSET_FROM_ISO_0000, dayOfYear);
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to the packed fields, validating them.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param dayOfYear  the Discordian day-of-year
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the year or day-of-year is invalid
+     */
+    private static long fieldsOfYearDay(int prolepticYear, int dayOfYear) {
+        DiscordianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
+        DAY_OF_YEAR.checkValidValue(dayOfYear);
+        boolean leap = DiscordianChronology.INSTANCE.isLeapYear(prolepticYear);
+        if (dayOfYear == 366 && !leap) {
+            throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
+        }
+
+        if (leap) {
+            if (dayOfYear == ST_TIBS_OFFSET) {
+                // Take care of special case of St Tib's Day.
+                return packFields(prolepticYear, 0, 0);
+            } else if (dayOfYear > ST_TIBS_OFFSET) {
+                // Offset dayOfYear to account for added day.
+                dayOfYear--;
+            }
+        }
+
+        int month = (dayOfYear - 1) / DAYS_IN_MONTH + 1;
+        int dayOfMonth = (dayOfYear - 1) % DAYS_IN_MONTH + 1;
+
+        return packFields(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Converts the Discordian proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the Discordian proleptic-year
+     * @param month  the Discordian month-of-year, from 0 to 5
+     * @param dayOfMonth  the Discordian day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        long year = prolepticYear;
+        int dayOfYear;
+        if (month == 0 && dayOfMonth == 0) {
+            // St. Tib's Day isn't part of any month, but would be the 60th day of the year.
+            dayOfYear = ST_TIBS_OFFSET;
+        } else {
+            dayOfYear = (month - 1) * DAYS_IN_MONTH + dayOfMonth;
+            // If after St. Tib's day, need to offset to account for it.
+            dayOfYear += (dayOfYear >= ST_TIBS_OFFSET && DiscordianChronology.INSTANCE.isLeapYear(year) ? 1 : 0);
+        }
+        long discordianEpochDay = ((year - OFFSET_FROM_ISO_0000 - 1) * 365) + getLeapYearsBefore(year) + (dayOfYear - 1);
+        return discordianEpochDay - DISCORDIAN_1167_TO_ISO_1970;
     }
 
     private static DiscordianDate resolvePreviousValid(int prolepticYear, int month, int day) {
@@ -720,9 +775,7 @@ public final class DiscordianDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = prolepticYear;
-        long discordianEpochDay = ((year - OFFSET_FROM_ISO_0000 - 1) * 365) + getLeapYearsBefore(year) + (getDayOfYear() - 1);
-        return discordianEpochDay - DISCORDIAN_1167_TO_ISO_1970;
+        return epochDayOf(prolepticYear, month, day);
     }
 
     //-------------------------------------------------------------------------
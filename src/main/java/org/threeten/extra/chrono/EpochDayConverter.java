@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+
+import java.time.DateTimeException;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.util.Objects;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Converts epoch days to and from date fields in bulk, without creating date objects.
+ * <p>
+ * Calling {@link Chronology#dateEpochDay(long)} creates a date object for each epoch day.
+ * When re-keying large columns of epoch days to another calendar system, that allocation dominates.
+ * This class converts arrays of epoch days directly to arrays of proleptic year, month-of-year and
+ * day-of-month, or to a single array of packed values, and back again.
+ * <p>
+ * The arithmetic is the same as that used by the date classes of each chronology.
+ * Conversions are allocation-free for {@code IsoChronology} and all the chronologies in this package.
+ * Other chronologies are supported by creating a date for each value.
+ * <p>
+ * The packed form holds the proleptic year in the upper 21 bits, the month-of-year in the next 4 bits
+ * and the day-of-month in the lower 7 bits. It can represent years from -1,048,576 to 1,048,575.
+ * Within a year, packed values sort in the same order as the month and day, except for
+ * St. Tib's Day in the Discordian calendar system, which is held as month zero.
+ *
+ * <h3>Implementation Requirements</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class EpochDayConverter {
+
+    /**
+     * The number of bits used by the day-of-month in the packed form.
+     */
+    private static final int DAY_BITS = 7;
+    /**
+     * The number of bits used by the month-of-year and day-of-month in the packed form.
+     */
+    private static final int MONTH_DAY_BITS = 11;
+    /**
+     * The smallest packable year.
+     */
+    private static final int MIN_PACKED_YEAR = -(1 << (31 - MONTH_DAY_BITS));
+    /**
+     * The largest packable year.
+     */
+    private static final int MAX_PACKED_YEAR = (1 << (31 - MONTH_DAY_BITS)) - 1;
+    /**
+     * The number of days in a 400 year ISO cycle.
+     */
+    private static final long DAYS_PER_ISO_CYCLE = 146097;
+    /**
+     * The number of days from ISO year zero to 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_ISO_CYCLE * 5L) - (30L * 365L + 7L);
+    /**
+     * The epoch day of the British cutover.
+     */
+    private static final long CUTOVER_EPOCH_DAY = BritishCutoverChronology.CUTOVER.toEpochDay();
+
+    /**
+     * The chronology.
+     */
+    private final Chronology chronology;
+    /**
+     * The function to convert an epoch day to fields, packed by {@link #packFields(long, int, int)}.
+     */
+    private final LongUnaryOperator toFields;
+    /**
+     * The function to convert fields to an epoch day.
+     */
+    private final FieldsToEpochDay toEpochDay;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a converter for the specified chronology.
+     * <p>
+     * All chronologies are supported, but only {@code IsoChronology} and the chronologies
+     * in this package are converted without allocation.
+     *
+     * @param chronology  the chronology, not null
+     * @return the converter, not null
+     */
+    public static EpochDayConverter of(Chronology chronology) {
+        Objects.requireNonNull(chronology, "chronology");
+        if (chronology instanceof IsoChronology) {
+            return new EpochDayConverter(chronology, EpochDayConverter::isoFieldsOfEpochDay, EpochDayConverter::isoEpochDayOf);
+        }
+        if (chronology instanceof JulianChronology) {
+            return new EpochDayConverter(chronology, JulianDate::fieldsOfEpochDay, JulianDate::epochDayOf);
+        }
+        if (chronology instanceof BritishCutoverChronology) {
+            return new EpochDayConverter(chronology, EpochDayConverter::cutoverFieldsOfEpochDay, EpochDayConverter::cutoverEpochDayOf);
+        }
+        if (chronology instanceof CopticChronology) {
+            return new EpochDayConverter(chronology, CopticDate::fieldsOfEpochDay, CopticDate::epochDayOf);
+        }
+        if (chronology instanceof EthiopicChronology) {
+            return new EpochDayConverter(chronology, EthiopicDate::fieldsOfEpochDay, EthiopicDate::epochDayOf);
+        }
+        if (chronology instanceof PaxChronology) {
+            return new EpochDayConverter(chronology, PaxDate::fieldsOfEpochDay, PaxDate::epochDayOf);
+        }
+        if (chronology instanceof Symmetry454Chronology) {
+            return new EpochDayConverter(chronology, Symmetry454Date::fieldsOfEpochDay, Symmetry454Date::epochDayOf);
+        }
+        if (chronology instanceof Symmetry010Chronology) {
+            return new EpochDayConverter(chronology, Symmetry010Date::fieldsOfEpochDay, Symmetry010Date::epochDayOf);
+        }
+        if (chronology instanceof InternationalFixedChronology) {
+            return new EpochDayConverter(chronology, InternationalFixedDate::fieldsOfEpochDay, InternationalFixedDate::epochDayOf);
+        }
+        if (chronology instanceof DiscordianChronology) {
+            return new EpochDayConverter(chronology, DiscordianDate::fieldsOfEpochDay, DiscordianDate::epochDayOf);
+        }
+        if (chronology instanceof AccountingChronology) {
+            AccountingChronology accounting = (AccountingChronology) chronology;
+            return new EpochDayConverter(chronology,
+                    epochDay -> AccountingDate.fieldsOfEpochDay(accounting, epochDay),
+                    (year, month, day) -> AccountingDate.epochDayOf(accounting, year, month, day));
+        }
+        return new EpochDayConverter(chronology,
+                epochDay -> {
+                    ChronoLocalDate date = chronology.dateEpochDay(epochDay);
+                    return packFields(date.getLong(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH));
+                },
+                (year, month, day) -> chronology.date(year, month, day).toEpochDay());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chronology  the chronology, not null
+     * @param toFields  the function to convert to fields, not null
+     * @param toEpochDay  the function to convert to an epoch day, not null
+     */
+    private EpochDayConverter(Chronology chronology, LongUnaryOperator toFields, FieldsToEpochDay toEpochDay) {
+        this.chronology = chronology;
+        this.toFields = toFields;
+        this.toEpochDay = toEpochDay;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of this converter.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return chronology;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts epoch days to the proleptic year, month-of-year and day-of-month.
+     * <p>
+     * The fields of {@code epochDays[i]} are written to {@code years[i]}, {@code months[i]} and {@code days[i]}.
+     * Each output array must be at least as long as the input array.
+     *
+     * @param epochDays  the epoch days to convert, not null
+     * @param years  the array to write the proleptic years to, not null
+     * @param months  the array to write the months to, not null
+     * @param days  the array to write the days to, not null
+     * @throws IllegalArgumentException if an output array is too short
+     * @throws DateTimeException if an epoch day is invalid for the chronology
+     */
+    public void toFields(long[] epochDays, int[] years, int[] months, int[] days) {
+        int length = epochDays.length;
+        checkLength(years, length);
+        checkLength(months, length);
+        checkLength(days, length);
+        for (int i = 0; i < length; i++) {
+            long fields = toFields.applyAsLong(epochDays[i]);
+            years[i] = yearOf(fields);
+            months[i] = monthOf(fields);
+            days[i] = dayOf(fields);
+        }
+    }
+
+    /**
+     * Converts epoch days to packed date fields.
+     * <p>
+     * The packed form of {@code epochDays[i]} is written to {@code packed[i]}.
+     * The output array must be at least as long as the input array.
+     *
+     * @param epochDays  the epoch days to convert, not null
+     * @param packed  the array to write the packed fields to, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if an epoch day is invalid for the chronology,
+     *  or if the year cannot be packed
+     */
+    public void toPacked(long[] epochDays, int[] packed) {
+        int length = epochDays.length;
+        checkLength(packed, length);
+        for (int i = 0; i < length; i++) {
+            long fields = toFields.applyAsLong(epochDays[i]);
+            packed[i] = pack(yearOf(fields), monthOf(fields), dayOf(fields));
+        }
+    }
+
+    /**
+     * Converts the proleptic year, month-of-year and day-of-month to epoch days.
+     * <p>
+     * The epoch day of {@code years[i]}, {@code months[i]} and {@code days[i]} is written to {@code epochDays[i]}.
+     * The input arrays must be at least as long as the output array.
+     *
+     * @param years  the proleptic years, not null
+     * @param months  the months, not null
+     * @param days  the days, not null
+     * @param epochDays  the array to write the epoch days to, not null
+     * @throws IllegalArgumentException if an input array is too short
+     * @throws DateTimeException if a date is invalid for the chronology
+     */
+    public void toEpochDays(int[] years, int[] months, int[] days, long[] epochDays) {
+        int length = epochDays.length;
+        checkLength(years, length);
+        checkLength(months, length);
+        checkLength(days, length);
+        for (int i = 0; i < length; i++) {
+            epochDays[i] = checkedEpochDay(years[i], months[i], days[i]);
+        }
+    }
+
+    /**
+     * Converts packed date fields to epoch days.
+     * <p>
+     * The epoch day of {@code packed[i]} is written to {@code epochDays[i]}.
+     * The input array must be at least as long as the output array.
+     *
+     * @param packed  the packed fields, not null
+     * @param epochDays  the array to write the epoch days to, not null
+     * @throws IllegalArgumentException if the input array is too short
+     * @throws DateTimeException if a date is invalid for the chronology
+     */
+    public void packedToEpochDays(int[] packed, long[] epochDays) {
+        int length = epochDays.length;
+        checkLength(packed, length);
+        for (int i = 0; i < length; i++) {
+            int value = packed[i];
+            epochDays[i] = checkedEpochDay(unpackYear(value), unpackMonth(value), unpackDay(value));
+        }
+    }
+
+    /**
+     * Converts the fields to an epoch day, validating that the date exists.
+     *
+     * @param year  the proleptic year
+     * @param month  the month
+     * @param day  the day
+     * @return the epoch day
+     * @throws DateTimeException if the date is invalid
+     */
+    private long checkedEpochDay(int year, int month, int day) {
+        // the date is valid if converting back produces the same fields
+        try {
+            long epochDay = toEpochDay.epochDayOf(year, month, day);
+            if (toFields.applyAsLong(epochDay) == packFields(year, month, day)) {
+                return epochDay;
+            }
+        } catch (RuntimeException ex) {
+            // fall through to the standard error
+        }
+        chronology.date(year, month, day);
+        throw new DateTimeException("Invalid date: " + year + '/' + month + '/' + day);
+    }
+
+    /**
+     * Checks the length of an array.
+     *
+     * @param array  the array, not null
+     * @param length  the required length
+     */
+    private static void checkLength(int[] array, int length) {
+        if (array.length < length) {
+            throw new IllegalArgumentException("Array length must be at least " + length + " but was " + array.length);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs the proleptic year, month-of-year and day-of-month into an {@code int}.
+     *
+     * @param prolepticYear  the proleptic year, from -1,048,576 to 1,048,575
+     * @param month  the month-of-year, from 0 to 15
+     * @param dayOfMonth  the day-of-month, from 0 to 127
+     * @return the packed fields
+     * @throws DateTimeException if a field cannot be packed
+     */
+    public static int pack(int prolepticYear, int month, int dayOfMonth) {
+        if (prolepticYear < MIN_PACKED_YEAR || prolepticYear > MAX_PACKED_YEAR) {
+            throw new DateTimeException("Year cannot be packed: " + prolepticYear);
+        }
+        if (month < 0 || month >= (1 << (MONTH_DAY_BITS - DAY_BITS)) || dayOfMonth < 0 || dayOfMonth >= (1 << DAY_BITS)) {
+            throw new DateTimeException("Month and day cannot be packed: " + month + '/' + dayOfMonth);
+        }
+        return (prolepticYear << MONTH_DAY_BITS) | (month << DAY_BITS) | dayOfMonth;
+    }
+
+    /**
+     * Extracts the proleptic year from packed fields.
+     *
+     * @param packed  the packed fields
+     * @return the proleptic year
+     */
+    public static int unpackYear(int packed) {
+        return packed >> MONTH_DAY_BITS;
+    }
+
+    /**
+     * Extracts the month-of-year from packed fields.
+     *
+     * @param packed  the packed fields
+     * @return the month-of-year
+     */
+    public static int unpackMonth(int packed) {
+        return (packed >>> DAY_BITS) & ((1 << (MONTH_DAY_BITS - DAY_BITS)) - 1);
+    }
+
+    /**
+     * Extracts the day-of-month from packed fields.
+     *
+     * @param packed  the packed fields
+     * @return the day-of-month
+     */
+    public static int unpackDay(int packed) {
+        return packed & ((1 << DAY_BITS) - 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs the fields into a {@code long} for use within this package.
+     * <p>
+     * Unlike {@link #pack(int, int, int)}, this can hold any {@code int} year.
+     * The month and day are masked to eight bits, so a value out of range cannot corrupt the year.
+     * Callers validate the fields before packing.
+     *
+     * @param prolepticYear  the proleptic year
+     * @param month  the month-of-year, from 0 to 255
+     * @param dayOfMonth  the day-of-month, from 0 to 255
+     * @return the packed fields
+     */
+    static long packFields(long prolepticYear, int month, int dayOfMonth) {
+        return (prolepticYear << 16) | ((month & 0xFF) << 8) | (dayOfMonth & 0xFF);
+    }
+
+    /**
+     * Extracts the proleptic year from fields packed by {@link #packFields(long, int, int)}.
+     *
+     * @param fields  the packed fields
+     * @return the proleptic year
+     */
+    static int yearOf(long fields) {
+        return (int) (fields >> 16);
+    }
+
+    /**
+     * Extracts the month-of-year from fields packed by {@link #packFields(long, int, int)}.
+     *
+     * @param fields  the packed fields
+     * @return the month-of-year
+     */
+    static int monthOf(long fields) {
+        return (int) (fields >>> 8) & 0xFF;
+    }
+
+    /**
+     * Extracts the day-of-month from fields packed by {@link #packFields(long, int, int)}.
+     *
+     * @param fields  the packed fields
+     * @return the day-of-month
+     */
+    static int dayOf(long fields) {
+        return (int) fields & 0xFF;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch day to ISO fields, using the same algorithm as {@code LocalDate}.
+     *
+     * @param epochDay  the epoch day
+     * @return the packed fields
+     */
+    private static long isoFieldsOfEpochDay(long epochDay) {
+        EPOCH_DAY.checkValidValue(epochDay);
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_ISO_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_ISO_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_ISO_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;  // reset any negative year
+        int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return packFields(yearEst, month, dom);
+    }
+
+    /**
+     * Converts ISO fields to an epoch day, using the same algorithm as {@code LocalDate}.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year
+     * @param day  the day-of-month
+     * @return the epoch day
+     */
+    private static long isoEpochDayOf(int year, int month, int day) {
+        long y = year;
+        long m = month;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367 * m - 362) / 12;
+        total += day - 1;
+        if (m > 2) {
+            total--;
+            if (IsoChronology.INSTANCE.isLeapYear(year) == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts an epoch day to British cutover fields.
+     *
+     * @param epochDay  the epoch day
+     * @return the packed fields
+     */
+    private static long cutoverFieldsOfEpochDay(long epochDay) {
+        return (epochDay < CUTOVER_EPOCH_DAY ? JulianDate.fieldsOfEpochDay(epochDay) : isoFieldsOfEpochDay(epochDay));
+    }
+
+    /**
+     * Converts British cutover fields to an epoch day.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year
+     * @param day  the day-of-month
+     * @return the epoch day
+     */
+    private static long cutoverEpochDayOf(int year, int month, int day) {
+        long fields = packFields(year, month, day);
+        long cutover = packFields(BritishCutoverChronology.CUTOVER_YEAR, 9, 14);
+        return (fields < cutover ? JulianDate.epochDayOf(year, month, day) : isoEpochDayOf(year, month, day));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts date fields to an epoch day.
+     */
+    @FunctionalInterface
+    private interface FieldsToEpochDay {
+        /**
+         * Converts date fields to an epoch day.
+         *
+         * @param year  the proleptic year
+         * @param month  the month-of-year
+         * @param day  the day-of-month
+         * @return the epoch day
+         */
+        long epochDayOf(int year, int month, int day);
+    }
+
+}
@@ -36,6 +36,10 @@ import static java.time.temporal.ChronoField.DAY_OF_YEAR;
 import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 
 import java.io.Serializable;
 import java.time.Clock;
@@ -218,6 +222,19 @@ public final class EthiopicDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static EthiopicDate ofEpochDay(final long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new EthiopicDate(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Ethiopic proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(final long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
         long ethiopicED = epochDay + EPOCH_DAY_DIFFERENCE;
         int adjustment = 0;
@@ -228,9 +245,24 @@ public final class EthiopicDate
         int prolepticYear = (int) (((ethiopicED * 4) + 1463) / 1461);
         int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
         int doy0 = (int) (ethiopicED - startYearEpochDay);
+        EthiopicChronology.YEAR_RANGE.checkValidValue(prolepticYear + adjustment, YEAR);
         int month = doy0 / 30 + 1;
         int dom = doy0 % 30 + 1;
-        return new EthiopicDate(prolepticYear + adjustment, month, dom);
+        return packFields(prolepticYear + adjustment, month, dom);
+    }
+
+    /**
+     * Converts the Ethiopic proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the Ethiopic proleptic-year
+     * @param month  the Ethiopic month-of-year, from 1 to 13
+     * @param dayOfMonth  the Ethiopic day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        return epochDayOf(prolepticYear, month, dayOfMonth, EPOCH_DAY_DIFFERENCE);
     }
 
     private static EthiopicDate resolvePreviousValid(int prolepticYear, int month, int day) {
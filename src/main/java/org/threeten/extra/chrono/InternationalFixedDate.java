@@ -31,6 +31,10 @@
  */
 package org.threeten.extra.chrono;
 
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 import static org.threeten.extra.chrono.InternationalFixedChronology.DAYS_0000_TO_1970;
 import static org.threeten.extra.chrono.InternationalFixedChronology.DAYS_IN_LONG_MONTH;
 import static org.threeten.extra.chrono.InternationalFixedChronology.DAYS_IN_MONTH;
@@ -246,27 +250,8 @@ public final class InternationalFixedDate
      *  or if the day-of-year is invalid for the year
      */
     static InternationalFixedDate ofYearDay(int prolepticYear, int dayOfYear) {
-        YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
-        ChronoField.DAY_OF_YEAR.checkValidValue(dayOfYear);
-
-        boolean isLeapYear = INSTANCE.isLeapYear(prolepticYear);
-        int lastDoy = (DAYS_IN_YEAR + (isLeapYear ? 1 : 0));
-        if (dayOfYear > lastDoy) {
-            throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
-        }
-        if (dayOfYear == lastDoy) {
-            return new InternationalFixedDate(prolepticYear, 13, 29);
-        }
-        if (dayOfYear == LEAP_DAY_AS_DAY_OF_YEAR && isLeapYear) {
-            return new InternationalFixedDate(prolepticYear, 6, 29);
-        }
-        int doy0 = dayOfYear - 1;
-        if (dayOfYear >= LEAP_DAY_AS_DAY_OF_YEAR && isLeapYear) {
-            doy0--;
-        }
-        int month = (doy0 / DAYS_IN_MONTH) + 1;
-        int day = (doy0 % DAYS_IN_MONTH) + 1;
-        return new InternationalFixedDate(prolepticYear, month, day);
+        long fields = fieldsOfYearDay(prolepticYear, dayOfYear);
+        return new InternationalFixedDate(prolepticYear, monthOf(fields), dayOf(fields));
     }
 
     /**
@@ -278,6 +263,19 @@ public final class InternationalFixedDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static InternationalFixedDate ofEpochDay(long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new InternationalFixedDate(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the InternationalFixed proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(long epochDay) {
         EPOCH_DAY_RANGE.checkValidValue(epochDay, ChronoField.EPOCH_DAY);
         long zeroDay = epochDay + DAYS_0000_TO_1970;
 
@@ -299,7 +297,56 @@ public final class InternationalFixedDate
             doy = DAYS_IN_YEAR + (isLeapYear ? 1 : 0);
         }
 
-        return ofYearDay((int) year, (int) doy);
+        return fieldsOfYearDay((int) year, (int) doy);
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to the packed fields, validating them.
+     *
+     * @param prolepticYear  the InternationalFixed proleptic-year
+     * @param dayOfYear  the InternationalFixed day-of-year
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the year or day-of-year is invalid
+     */
+    private static long fieldsOfYearDay(int prolepticYear, int dayOfYear) {
+        YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
+        ChronoField.DAY_OF_YEAR.checkValidValue(dayOfYear);
+
+        boolean isLeapYear = INSTANCE.isLeapYear(prolepticYear);
+        int lastDoy = (DAYS_IN_YEAR + (isLeapYear ? 1 : 0));
+        if (dayOfYear > lastDoy) {
+            throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
+        }
+        if (dayOfYear == lastDoy) {
+            return packFields(prolepticYear, 13, 29);
+        }
+        if (dayOfYear == LEAP_DAY_AS_DAY_OF_YEAR && isLeapYear) {
+            return packFields(prolepticYear, 6, 29);
+        }
+        int doy0 = dayOfYear - 1;
+        if (dayOfYear >= LEAP_DAY_AS_DAY_OF_YEAR && isLeapYear) {
+            doy0--;
+        }
+        int month = (doy0 / DAYS_IN_MONTH) + 1;
+        int day = (doy0 % DAYS_IN_MONTH) + 1;
+        return packFields(prolepticYear, month, day);
+    }
+
+    /**
+     * Converts the InternationalFixed proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the InternationalFixed proleptic-year
+     * @param month  the InternationalFixed month-of-year, from 1 to 13
+     * @param dayOfMonth  the InternationalFixed day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        int dayOfYear = ((month - 1) * DAYS_IN_MONTH + dayOfMonth) + (month > 6 && INSTANCE.isLeapYear(prolepticYear) ? 1 : 0);
+        long epochDay = ((long) prolepticYear) * DAYS_IN_YEAR +
+                InternationalFixedChronology.getLeapYearsBefore(prolepticYear) + dayOfYear;
+        return epochDay - DAYS_0000_TO_1970;
     }
 
     /**
@@ -757,9 +804,7 @@ public final class InternationalFixedDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long epochDay = ((long) this.prolepticYear) * DAYS_IN_YEAR +
-                InternationalFixedChronology.getLeapYearsBefore(this.prolepticYear) + this.dayOfYear;
-        return epochDay - DAYS_0000_TO_1970;
+        return epochDayOf(prolepticYear, month, day);
     }
 
     /**
@@ -36,6 +36,10 @@ import static java.time.temporal.ChronoField.DAY_OF_YEAR;
 import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 
 import java.io.Serializable;
 import java.time.Clock;
@@ -206,19 +210,8 @@ public final class JulianDate
      *  or if the day-of-year is invalid for the year
      */
     static JulianDate ofYearDay(int prolepticYear, int dayOfYear) {
-        JulianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
-        DAY_OF_YEAR.checkValidValue(dayOfYear);
-        boolean leap = JulianChronology.INSTANCE.isLeapYear(prolepticYear);
-        if (dayOfYear == 366 && leap == false) {
-            throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
-        }
-        Month moy = Month.of((dayOfYear - 1) / 31 + 1);
-        int monthEnd = moy.firstDayOfYear(leap) + moy.length(leap) - 1;
-        if (dayOfYear > monthEnd) {
-            moy = moy.plus(1);
-        }
-        int dom = dayOfYear - moy.firstDayOfYear(leap) + 1;
-        return new JulianDate(prolepticYear, moy.getValue(), dom);
+        long fields = fieldsOfYearDay(prolepticYear, dayOfYear);
+        return new JulianDate(prolepticYear, monthOf(fields), dayOf(fields));
     }
 
     /**
@@ -230,6 +223,19 @@ public final class JulianDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static JulianDate ofEpochDay(final long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new JulianDate(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Julian proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(final long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);  // validate outer bounds
         // use of Julian 0001 makes leap year at end of cycle
         long julianEpochDay = epochDay + JULIAN_0001_TO_ISO_1970;
@@ -237,11 +243,52 @@ public final class JulianDate
         long daysInCycle = Math.floorMod(julianEpochDay, DAYS_PER_CYCLE);
         if (daysInCycle == DAYS_PER_CYCLE - 1) {
             int year = (int) ((cycle * 4 + 3) + 1);
-            return ofYearDay(year, 366);
+            return fieldsOfYearDay(year, 366);
         }
         int year = (int) ((cycle * 4 + daysInCycle / 365) + 1);
         int doy = (int) ((daysInCycle % 365) + 1);
-        return ofYearDay(year, doy);
+        return fieldsOfYearDay(year, doy);
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to the packed fields, validating them.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param dayOfYear  the Julian day-of-year
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the year or day-of-year is invalid
+     */
+    private static long fieldsOfYearDay(int prolepticYear, int dayOfYear) {
+        JulianChronology.YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
+        DAY_OF_YEAR.checkValidValue(dayOfYear);
+        boolean leap = JulianChronology.INSTANCE.isLeapYear(prolepticYear);
+        if (dayOfYear == 366 && leap == false) {
+            throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + prolepticYear + "' is not a leap year");
+        }
+        Month moy = Month.of((dayOfYear - 1) / 31 + 1);
+        int monthEnd = moy.firstDayOfYear(leap) + moy.length(leap) - 1;
+        if (dayOfYear > monthEnd) {
+            moy = moy.plus(1);
+        }
+        int dom = dayOfYear - moy.firstDayOfYear(leap) + 1;
+        return packFields(prolepticYear, moy.getValue(), dom);
+    }
+
+    /**
+     * Converts the Julian proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the Julian proleptic-year
+     * @param month  the Julian month-of-year, from 1 to 12
+     * @param dayOfMonth  the Julian day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        long year = (long) prolepticYear;
+        int dayOfYear = Month.of(month).firstDayOfYear(JulianChronology.INSTANCE.isLeapYear(year)) + dayOfMonth - 1;
+        long julianEpochDay = ((year - 1) * 365) + Math.floorDiv((year - 1), 4) + (dayOfYear - 1);
+        return julianEpochDay - JULIAN_0001_TO_ISO_1970;
     }
 
     private static JulianDate resolvePreviousValid(int prolepticYear, int month, int day) {
@@ -457,9 +504,7 @@ public final class JulianDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = (long) prolepticYear;
-        long julianEpochDay = ((year - 1) * 365) + Math.floorDiv((year - 1), 4) + (getDayOfYear() - 1);
-        return julianEpochDay - JULIAN_0001_TO_ISO_1970;
+        return epochDayOf(prolepticYear, month, day);
     }
 
 }
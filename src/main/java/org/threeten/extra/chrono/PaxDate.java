@@ -36,6 +36,10 @@ import static java.time.temporal.ChronoField.DAY_OF_YEAR;
 import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 import static org.threeten.extra.chrono.PaxChronology.DAYS_IN_MONTH;
 import static org.threeten.extra.chrono.PaxChronology.DAYS_IN_WEEK;
 import static org.threeten.extra.chrono.PaxChronology.DAYS_IN_YEAR;
@@ -246,29 +250,8 @@ public final class PaxDate
      *  or if the day-of-year is invalid for the year
      */
     static PaxDate ofYearDay(int prolepticYear, int dayOfYear) {
-        YEAR.checkValidValue(prolepticYear);
-        PaxChronology.DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, DAY_OF_YEAR);
-        boolean leap = PaxChronology.INSTANCE.isLeapYear(prolepticYear);
-        if (dayOfYear > DAYS_IN_YEAR && !leap) {
-            throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
-        }
-
-        int month = ((dayOfYear - 1) / DAYS_IN_MONTH) + 1;
-
-        // In leap years, the leap-month is shorter than the following month, so needs to be adjusted.
-        if (leap && month == MONTHS_IN_YEAR && dayOfYear >= (DAYS_IN_YEAR + DAYS_IN_WEEK) - DAYS_IN_MONTH + 1) {
-            month++;
-        }
-
-        // Subtract days-at-start-of-month from days in year
-        int dayOfMonth = dayOfYear - (month - 1) * DAYS_IN_MONTH;
-
-        // Adjust for shorter inserted leap-month.
-        if (month == MONTHS_IN_YEAR + 1) {
-            dayOfMonth += (DAYS_IN_MONTH - DAYS_IN_WEEK);
-        }
-
-        return of(prolepticYear, month, dayOfMonth);
+        long fields = fieldsOfYearDay(prolepticYear, dayOfYear);
+        return new PaxDate(prolepticYear, monthOf(fields), dayOf(fields));
     }
 
     /**
@@ -280,6 +263,19 @@ public final class PaxDate
      * @throws DateTimeException if the epoch-day is out of range
      */
     static PaxDate ofEpochDay(long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new PaxDate(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Pax proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(long epochDay) {
         EPOCH_DAY.range().checkValidValue(epochDay, EPOCH_DAY);
         // use of Pax 0001 makes non-leap century at end of (long) cycle.
         long paxEpochDay = epochDay + PAX_0001_TO_ISO_1970;
@@ -289,7 +285,7 @@ public final class PaxDate
         if (dayOfCycle >= DAYS_PER_CYCLE - DAYS_IN_YEAR - DAYS_IN_WEEK) {
             // Is in the century year
             int dayOfYear = dayOfCycle - (DAYS_PER_CYCLE - DAYS_IN_YEAR - DAYS_IN_WEEK) + 1;
-            return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + YEARS_IN_CENTURY, dayOfYear);
+            return fieldsOfYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + YEARS_IN_CENTURY, dayOfYear);
         }
 
         // For negative years, the cycle of leap years runs the other direction for 99s and 6s.
@@ -297,7 +293,7 @@ public final class PaxDate
             if (dayOfCycle >= DAYS_PER_CYCLE - 2 * DAYS_IN_YEAR - 2 * DAYS_IN_WEEK) {
                 // Is in the '99 year
                 int dayOfYear = dayOfCycle - (DAYS_PER_CYCLE - 2 * DAYS_IN_YEAR - 2 * DAYS_IN_WEEK) + 1;
-                return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + (YEARS_IN_CENTURY - 1), dayOfYear);
+                return fieldsOfYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + (YEARS_IN_CENTURY - 1), dayOfYear);
             }
             // Otherwise, part of the regular 6-year cycle.
             int sixCycle = dayOfCycle / DAYS_PER_SIX_CYCLE;
@@ -308,11 +304,11 @@ public final class PaxDate
                 year--;
                 dayOfYear += DAYS_IN_YEAR;
             }
-            return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + sixCycle * 6 + year, dayOfYear);
+            return fieldsOfYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + sixCycle * 6 + year, dayOfYear);
         } else {
             if (dayOfCycle < DAYS_IN_YEAR + DAYS_IN_WEEK) {
                 // -'99 year is at _start_ of cycle (first year encountered).
-                return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + 1, dayOfCycle + 1);
+                return fieldsOfYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY + 1, dayOfCycle + 1);
             }
             // Otherwise, part of the regular 6-year cycle, but offset -'96 to be end of six-year-cycle first.
             int offsetCycle = dayOfCycle + 2 * DAYS_IN_YEAR - DAYS_IN_WEEK;
@@ -324,8 +320,59 @@ public final class PaxDate
                 year--;
                 dayOfYear += DAYS_IN_YEAR;
             }
-            return ofYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY - 2 + (sixCycle * 6 + year), dayOfYear);
+            return fieldsOfYearDay(longCycle * (4 * YEARS_IN_CENTURY) + cycle * YEARS_IN_CENTURY - 2 + (sixCycle * 6 + year), dayOfYear);
+        }
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to the packed fields, validating them.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param dayOfYear  the Pax day-of-year
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the year or day-of-year is invalid
+     */
+    private static long fieldsOfYearDay(int prolepticYear, int dayOfYear) {
+        YEAR.checkValidValue(prolepticYear);
+        PaxChronology.DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, DAY_OF_YEAR);
+        boolean leap = PaxChronology.INSTANCE.isLeapYear(prolepticYear);
+        if (dayOfYear > DAYS_IN_YEAR && !leap) {
+            throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
+        }
+
+        int month = ((dayOfYear - 1) / DAYS_IN_MONTH) + 1;
+
+        // In leap years, the leap-month is shorter than the following month, so needs to be adjusted.
+        if (leap && month == MONTHS_IN_YEAR && dayOfYear >= (DAYS_IN_YEAR + DAYS_IN_WEEK) - DAYS_IN_MONTH + 1) {
+            month++;
+        }
+
+        // Subtract days-at-start-of-month from days in year
+        int dayOfMonth = dayOfYear - (month - 1) * DAYS_IN_MONTH;
+
+        // Adjust for shorter inserted leap-month.
+        if (month == MONTHS_IN_YEAR + 1) {
+            dayOfMonth += (DAYS_IN_MONTH - DAYS_IN_WEEK);
         }
+
+        return packFields(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Converts the Pax proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the Pax proleptic-year
+     * @param month  the Pax month-of-year, from 1 to 14
+     * @param dayOfMonth  the Pax day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        int dayOfYear = (month - 1) * DAYS_IN_MONTH
+                - (month == MONTHS_IN_YEAR + 1 ? DAYS_IN_MONTH - DAYS_IN_WEEK : 0) + dayOfMonth;
+        long paxEpochDay = ((long) prolepticYear - 1) * DAYS_IN_YEAR + getLeapYearsBefore(prolepticYear) * DAYS_IN_WEEK + dayOfYear - 1;
+        return paxEpochDay - PAX_0001_TO_ISO_1970;
     }
 
     private static PaxDate resolvePreviousValid(int prolepticYear, int month, int day) {
@@ -677,8 +724,7 @@ public final class PaxDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long paxEpochDay = ((long) getProlepticYear() - 1) * DAYS_IN_YEAR + getLeapYearsBefore(getProlepticYear()) * DAYS_IN_WEEK + getDayOfYear() - 1;
-        return paxEpochDay - PAX_0001_TO_ISO_1970;
+        return epochDayOf(getProlepticYear(), month, getDayOfMonth());
     }
 
 }
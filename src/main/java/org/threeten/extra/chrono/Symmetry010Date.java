@@ -31,6 +31,10 @@
  */
 package org.threeten.extra.chrono;
 
+import static org.threeten.extra.chrono.EpochDayConverter.dayOf;
+import static org.threeten.extra.chrono.EpochDayConverter.monthOf;
+import static org.threeten.extra.chrono.EpochDayConverter.packFields;
+import static org.threeten.extra.chrono.EpochDayConverter.yearOf;
 import static org.threeten.extra.chrono.Symmetry010Chronology.DAYS_0001_TO_1970;
 import static org.threeten.extra.chrono.Symmetry010Chronology.DAYS_IN_MONTH;
 import static org.threeten.extra.chrono.Symmetry010Chronology.DAYS_IN_MONTH_LONG;
@@ -234,26 +238,8 @@ public final class Symmetry010Date
      *  or if the day-of-year is invalid for the year
      */
     static Symmetry010Date ofYearDay(int prolepticYear, int dayOfYear) {
-        YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
-        DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, ChronoField.DAY_OF_YEAR);
-        boolean leap = INSTANCE.isLeapYear(prolepticYear);
-        if (dayOfYear > DAYS_IN_YEAR && !leap) {
-            throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
-        }
-
-        int offset = Math.min(dayOfYear, DAYS_IN_YEAR) - 1;
-        int quarter = offset / DAYS_IN_QUARTER;
-        int day = ((dayOfYear - 1) - quarter * DAYS_IN_QUARTER) + 1;
-        int month = 1 + quarter * 3;
-
-        if (day > DAYS_IN_MONTH + DAYS_IN_MONTH + 1) {
-            month += 2;
-            day -= DAYS_IN_MONTH + DAYS_IN_MONTH + 1;
-        } else if (day > DAYS_IN_MONTH) {
-            month += 1;
-            day -= DAYS_IN_MONTH;
-        }
-        return new Symmetry010Date(prolepticYear, month, day);
+        long fields = fieldsOfYearDay(prolepticYear, dayOfYear);
+        return new Symmetry010Date(prolepticYear, monthOf(fields), dayOf(fields));
     }
 
     /**
@@ -265,6 +251,19 @@ public final class Symmetry010Date
      * @throws DateTimeException if the epoch-day is out of range
      */
     static Symmetry010Date ofEpochDay(long epochDay) {
+        long fields = fieldsOfEpochDay(epochDay);
+        return new Symmetry010Date(yearOf(fields), monthOf(fields), dayOf(fields));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an epoch-day to the Symmetry010 proleptic-year, month and day, without creating a date.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the epoch-day is out of range
+     */
+    static long fieldsOfEpochDay(long epochDay) {
         EPOCH_DAY_RANGE.checkValidValue(epochDay + 3, ChronoField.EPOCH_DAY);
         long zeroDay = epochDay + DAYS_0001_TO_1970 + 1;
         long year = 1 + ((293 * zeroDay) / DAYS_PER_CYCLE);
@@ -280,7 +279,56 @@ public final class Symmetry010Date
             doy -= diy;
             year++;
         }
-        return ofYearDay((int) year, (int) doy);
+        return fieldsOfYearDay((int) year, (int) doy);
+    }
+
+    /**
+     * Converts a proleptic-year and day-of-year to the packed fields, validating them.
+     *
+     * @param prolepticYear  the Symmetry010 proleptic-year
+     * @param dayOfYear  the Symmetry010 day-of-year
+     * @return the fields, packed by {@link EpochDayConverter}
+     * @throws DateTimeException if the year or day-of-year is invalid
+     */
+    private static long fieldsOfYearDay(int prolepticYear, int dayOfYear) {
+        YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR_OF_ERA);
+        DAY_OF_YEAR_RANGE.checkValidValue(dayOfYear, ChronoField.DAY_OF_YEAR);
+        boolean leap = INSTANCE.isLeapYear(prolepticYear);
+        if (dayOfYear > DAYS_IN_YEAR && !leap) {
+            throw new DateTimeException("Invalid date 'DayOfYear " + dayOfYear + "' as '" + prolepticYear + "' is not a leap year");
+        }
+
+        int offset = Math.min(dayOfYear, DAYS_IN_YEAR) - 1;
+        int quarter = offset / DAYS_IN_QUARTER;
+        int day = ((dayOfYear - 1) - quarter * DAYS_IN_QUARTER) + 1;
+        int month = 1 + quarter * 3;
+
+        if (day > DAYS_IN_MONTH + DAYS_IN_MONTH + 1) {
+            month += 2;
+            day -= DAYS_IN_MONTH + DAYS_IN_MONTH + 1;
+        } else if (day > DAYS_IN_MONTH) {
+            month += 1;
+            day -= DAYS_IN_MONTH;
+        }
+        return packFields(prolepticYear, month, day);
+    }
+
+    /**
+     * Converts the Symmetry010 proleptic-year, month and day to an epoch-day, without creating a date.
+     * <p>
+     * The fields are not validated.
+     *
+     * @param prolepticYear  the Symmetry010 proleptic-year
+     * @param month  the Symmetry010 month-of-year, from 1 to 12
+     * @param dayOfMonth  the Symmetry010 day-of-month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long epochDayOf(int prolepticYear, int month, int dayOfMonth) {
+        int dayOfYear = DAYS_IN_MONTH * (month - 1) + (month / 3) + dayOfMonth;
+        return (long) (prolepticYear - 1) * DAYS_IN_YEAR +
+                Symmetry010Chronology.getLeapYearsBefore(prolepticYear) * DAYS_IN_WEEK +
+                dayOfYear -
+                DAYS_0001_TO_1970 - 1;
     }
 
     /**
@@ -625,13 +673,7 @@ public final class Symmetry010Date
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long epochDay =
-                (long) (this.prolepticYear - 1) * DAYS_IN_YEAR +
-                Symmetry010Chronology.getLeapYearsBefore(this.prolepticYear) * DAYS_IN_WEEK +
-                this.dayOfYear -
-                DAYS_0001_TO_1970 - 1;
-
-        return epochDay;
+        return epochDayOf(prolepticYear, month, day);
     }
 
     /**
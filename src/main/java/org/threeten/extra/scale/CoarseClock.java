@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A clock and time-source that returns a cached instant, updated on a regular tick.
+ * <p>
+ * Obtaining the current time is normally cheap, but it allocates a new instant on each call,
+ * and for {@code UtcInstant} and {@code TaiInstant} also performs a leap-second conversion.
+ * Code that timestamps at a very high rate, such as logging and metrics, often needs only
+ * coarse precision. This class reads the underlying clock once per tick on a single
+ * background thread, converting to each time-scale, and caches the results.
+ * Each call to {@link #instant()}, {@link #millis()}, {@link #utcInstant()} or
+ * {@link #taiInstant()} is then a volatile read of the cached value without allocation.
+ * <p>
+ * The values returned lag the underlying clock by up to one tick, plus any delay in
+ * scheduling the background thread. Successive values are equal within a tick.
+ * <p>
+ * The background thread is a daemon thread. It is stopped by {@link #close()},
+ * after which the clock reads the underlying clock directly on each call.
+ * Clocks obtained by {@link #withZone(ZoneId)} share the cached values and background thread.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe.
+ */
+public final class CoarseClock
+        extends Clock
+        implements TimeSource, AutoCloseable {
+
+    /**
+     * The largest tick, limited by scheduling in nanoseconds, about 292 years.
+     */
+    private static final Duration MAX_TICK = Duration.ofNanos(Long.MAX_VALUE);
+
+    /**
+     * The shared updater.
+     */
+    private final Updater updater;
+    /**
+     * The time-zone of this clock.
+     */
+    private final ZoneId zone;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a coarse clock reading the best available system clock, in the UTC time-zone.
+     * <p>
+     * A background thread is started to update the cached value.
+     *
+     * @param tick  the interval between updates, positive, not null
+     * @return the clock, not null
+     * @throws IllegalArgumentException if the tick is zero, negative or exceeds {@code Long.MAX_VALUE} nanoseconds
+     */
+    public static CoarseClock of(Duration tick) {
+        return of(Clock.systemUTC(), tick);
+    }
+
+    /**
+     * Obtains a coarse clock reading the specified clock, in the time-zone of that clock.
+     * <p>
+     * A background thread is started to update the cached value.
+     *
+     * @param source  the clock to read, not null
+     * @param tick  the interval between updates, positive, not null
+     * @return the clock, not null
+     * @throws IllegalArgumentException if the tick is zero, negative or exceeds {@code Long.MAX_VALUE} nanoseconds
+     */
+    public static CoarseClock of(Clock source, Duration tick) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(tick, "tick");
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive: " + tick);
+        }
+        if (tick.compareTo(MAX_TICK) > 0) {
+            throw new IllegalArgumentException("Tick must not exceed " + MAX_TICK + ": " + tick);
+        }
+        Updater updater = new Updater(source, tick);
+        updater.start();
+        return new CoarseClock(updater, source.getZone());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param updater  the updater, not null
+     * @param zone  the time-zone, not null
+     */
+    private CoarseClock(Updater updater, ZoneId zone) {
+        this.updater = updater;
+        this.zone = zone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the interval between updates.
+     *
+     * @return the tick, not null
+     */
+    public Duration getTick() {
+        return updater.tick;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Returns a copy of this clock with a different time-zone.
+     * <p>
+     * The returned clock shares the cached values and background thread with this clock.
+     *
+     * @param zone  the time-zone to change to, not null
+     * @return a clock based on this clock with the specified time-zone, not null
+     */
+    @Override
+    public CoarseClock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+        return new CoarseClock(updater, zone);
+    }
+
+    /**
+     * Gets the cached {@code Instant}.
+     *
+     * @return the instant as at the last tick, not null
+     */
+    @Override
+    public Instant instant() {
+        return updater.snapshot().instant;
+    }
+
+    /**
+     * Gets the cached instant in milliseconds from the epoch of 1970-01-01T00:00Z.
+     *
+     * @return the millisecond instant as at the last tick
+     */
+    @Override
+    public long millis() {
+        return updater.snapshot().millis;
+    }
+
+    /**
+     * Gets the cached {@code UtcInstant}.
+     *
+     * @return the UTC instant as at the last tick, not null
+     */
+    @Override
+    public UtcInstant utcInstant() {
+        return updater.snapshot().utcInstant;
+    }
+
+    /**
+     * Gets the cached {@code TaiInstant}.
+     *
+     * @return the TAI instant as at the last tick, not null
+     */
+    @Override
+    public TaiInstant taiInstant() {
+        return updater.snapshot().taiInstant;
+    }
+
+    /**
+     * Stops the background thread.
+     * <p>
+     * This clock, and all clocks sharing its updates, then read the underlying clock
+     * directly on each call. Closing more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        updater.stop();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this clock is equal to another clock.
+     * <p>
+     * Clocks are equal if they share cached values and have the same time-zone.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other clock
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof CoarseClock) {
+            CoarseClock other = (CoarseClock) obj;
+            return updater == other.updater && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this clock, which is constant for this instance.
+     *
+     * @return a constant hash code for this instance
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(updater) ^ zone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock[" + updater.source + "," + updater.tick + "," + zone + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The values cached at one tick.
+     */
+    private static final class Snapshot {
+        private final Instant instant;
+        private final long millis;
+        private final UtcInstant utcInstant;
+        private final TaiInstant taiInstant;
+
+        Snapshot(Instant instant) {
+            this.instant = instant;
+            this.millis = instant.toEpochMilli();
+            this.utcInstant = UtcInstant.of(instant);
+            this.taiInstant = utcInstant.toTaiInstant();
+        }
+    }
+
+    /**
+     * The background updater, shared by all clocks with the same cached values.
+     */
+    private static final class Updater {
+        /**
+         * The marker for a stopped updater.
+         */
+        private static final Snapshot STOPPED = new Snapshot(Instant.EPOCH);
+
+        private final Clock source;
+        private final Duration tick;
+        private final AtomicReference<Snapshot> current;
+        private final ScheduledExecutorService executor;
+
+        Updater(Clock source, Duration tick) {
+            this.source = source;
+            this.tick = tick;
+            this.current = new AtomicReference<>(new Snapshot(source.instant()));
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CoarseClock-updater");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        void start() {
+            long nanos = tick.toNanos();
+            executor.scheduleAtFixedRate(this::update, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+
+        void stop() {
+            current.set(STOPPED);
+            executor.shutdownNow();
+        }
+
+        Snapshot snapshot() {
+            Snapshot snapshot = current.get();
+            return snapshot != STOPPED ? snapshot : new Snapshot(source.instant());
+        }
+
+        private void update() {
+            Snapshot previous = current.get();
+            if (previous != STOPPED) {
+                try {
+                    // does not replace the marker if stopped concurrently
+                    current.compareAndSet(previous, new Snapshot(source.instant()));
+                } catch (RuntimeException ex) {
+                    // keep the previous value, an exception would cancel future updates
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The fixed-width binary encoding shared by {@code TaiInstant} and {@code UtcInstant}.
+ * <p>
+ * Each encoded value is 12 bytes, big-endian, with the sign bit of the leading signed field
+ * flipped so that comparing the encoded bytes as unsigned values matches the time-line order.
+ * The methods read and write big-endian values whatever the byte order of the buffer.
+ */
+final class InstantEncoding {
+
+    /**
+     * The number of bytes in an encoded instant.
+     */
+    static final int BYTES = 12;
+
+    /**
+     * Restricted constructor.
+     */
+    private InstantEncoding() {
+    }
+
+    //-----------------------------------------------------------------------
+    static void putLong(ByteBuffer buffer, long value) {
+        buffer.putLong(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+    }
+
+    static void putInt(ByteBuffer buffer, int value) {
+        buffer.putInt(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value));
+    }
+
+    static long getLong(ByteBuffer buffer) {
+        long value = buffer.getLong();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+    static int getInt(ByteBuffer buffer) {
+        int value = buffer.getInt();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares two encoded instants at the current position of each buffer.
+     *
+     * @param first  the first buffer, not null
+     * @param second  the second buffer, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    static int compare(ByteBuffer first, ByteBuffer second) {
+        int cmp = Long.compareUnsigned(getLong(first, first.position()), getLong(second, second.position()));
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Integer.compareUnsigned(getInt(first, first.position() + 8), getInt(second, second.position() + 8));
+    }
+
+    /**
+     * Compares two encoded instants in byte arrays.
+     *
+     * @param first  the first array, not null
+     * @param firstOffset  the offset of the first encoded instant
+     * @param second  the second array, not null
+     * @param secondOffset  the offset of the second encoded instant
+     * @return the comparator value, negative if less, positive if greater
+     */
+    static int compare(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+        if (firstOffset < 0 || firstOffset > first.length - BYTES || secondOffset < 0 || secondOffset > second.length - BYTES) {
+            throw new IndexOutOfBoundsException("Encoded instant must be within the array");
+        }
+        for (int i = 0; i < BYTES; i++) {
+            int cmp = Integer.compare(first[firstOffset + i] & 0xFF, second[secondOffset + i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private static long getLong(ByteBuffer buffer, int index) {
+        long value = buffer.getLong(index);
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+    private static int getInt(ByteBuffer buffer, int index) {
+        int value = buffer.getInt(index);
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+
+}
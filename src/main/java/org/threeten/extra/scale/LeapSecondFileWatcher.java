@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+
+/**
+ * Watches a leap second file, loading new leap seconds into the system rules as the file changes.
+ * <p>
+ * The system default {@link UtcRules} are loaded once from the classpath.
+ * Long-running applications can use this class to pick up new leap seconds
+ * from a file maintained outside the application, without restarting.
+ * The file has the same format as {@code LeapSeconds.txt}, one line per leap second
+ * with the date of the leap second and the TAI offset after it, such as {@code 2016-12-31 37}.
+ * <p>
+ * The file is loaded when watching starts, and again in a background daemon thread
+ * whenever it is created or modified. The rules are only changed if the file contains
+ * a newer leap second than the current rules, in which case the new leap seconds are
+ * published atomically and the listeners added by {@link UtcRules#addSystemRulesListener(Runnable)}
+ * are notified on the background thread. A file that cannot be read or parsed in the background,
+ * for example because it is partially written, is ignored until it next changes.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe.
+ */
+public final class LeapSecondFileWatcher implements AutoCloseable {
+
+    /**
+     * The rules to update.
+     */
+    private final SystemUtcRules rules;
+    /**
+     * The absolute path of the file.
+     */
+    private final Path file;
+    /**
+     * The watch service.
+     */
+    private final WatchService watchService;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Loads the specified file into the system rules, and watches it for changes.
+     * <p>
+     * The file is loaded immediately if it exists, and must be valid.
+     * The directory containing the file must exist.
+     * The watcher should be closed when no longer required.
+     *
+     * @param file  the leap second file, not null
+     * @return the watcher, not null
+     * @throws IOException if the file is invalid, or the directory cannot be watched
+     */
+    public static LeapSecondFileWatcher watch(Path file) throws IOException {
+        return watch(SystemUtcRules.INSTANCE, file);
+    }
+
+    /**
+     * Loads the specified file into the specified rules, and watches it for changes.
+     *
+     * @param rules  the rules to update, not null
+     * @param file  the leap second file, not null
+     * @return the watcher, not null
+     * @throws IOException if the file is invalid, or the directory cannot be watched
+     */
+    static LeapSecondFileWatcher watch(SystemUtcRules rules, Path file) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Path absolute = file.toAbsolutePath();
+        LeapSecondFileWatcher watcher = new LeapSecondFileWatcher(rules, absolute, absolute.getFileSystem().newWatchService());
+        try {
+            watcher.reload();
+            absolute.getParent().register(watcher.watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException | RuntimeException ex) {
+            watcher.close();
+            throw ex;
+        }
+        Thread thread = new Thread(watcher::run, "LeapSecondFileWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param rules  the rules to update, not null
+     * @param file  the absolute path of the file, not null
+     * @param watchService  the watch service, not null
+     */
+    private LeapSecondFileWatcher(SystemUtcRules rules, Path file, WatchService watchService) {
+        this.rules = rules;
+        this.file = file;
+        this.watchService = watchService;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the absolute path of the file being watched.
+     *
+     * @return the file, not null
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Loads the file immediately, without waiting for a change to be detected.
+     * <p>
+     * The rules are only changed if the file contains a newer leap second than the current rules.
+     *
+     * @return true if the rules were changed, false if unchanged or the file does not exist
+     * @throws IOException if the file is invalid
+     */
+    public boolean reload() throws IOException {
+        if (Files.exists(file) == false) {
+            return false;
+        }
+        return rules.load(file.toUri().toURL());
+    }
+
+    /**
+     * Stops watching the file.
+     * <p>
+     * The leap seconds already loaded remain in the rules.
+     *
+     * @throws IOException if an error occurs closing the watch service
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Waits for changes to the file, until closed.
+     */
+    private void run() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                changed |= event.kind() == OVERFLOW || file.getFileName().equals(event.context());
+            }
+            if (changed) {
+                try {
+                    reload();
+                } catch (IOException ex) {
+                    // ignored, as the file may be partially written, reloaded on the next change
+                } catch (RuntimeException ex) {
+                    // reported, but the file must continue to be watched
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+                }
+            }
+            if (key.reset() == false) {
+                return;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this watcher as a {@code String}.
+     *
+     * @return a string representation of this watcher, not null
+     */
+    @Override
+    public String toString() {
+        return "LeapSecondFileWatcher[" + file + "]";
+    }
+
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.threeten.extra.scale.UtcRules.NANOS_PER_SECOND;
+import static org.threeten.extra.scale.UtcRules.OFFSET_MJD_EPOCH;
+import static org.threeten.extra.scale.UtcRules.OFFSET_MJD_TAI;
+import static org.threeten.extra.scale.UtcRules.SECS_PER_DAY;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A linear leap-second smear, spreading each leap second over a window of time.
+ * <p>
+ * Some systems, notably large computing clusters, do not step their clocks for a leap second.
+ * Instead, the clock is slowed down or sped up for a window of time around the leap second,
+ * so that every day still has 86400 seconds and the clock is never discontinuous.
+ * For example, a common approach is a 24 hour linear smear from noon to noon UTC,
+ * centred on the leap second, which is obtained by {@code LeapSmear.of(Duration.ofHours(24))}.
+ * <p>
+ * This class converts between the <i>smeared</i> time-scale and the TAI time-scale,
+ * and between the smeared time-scale and the Java time-scale of {@link Instant}.
+ * Smeared timestamps are represented using {@code Instant}, as both have 86400 seconds per day.
+ * Away from leap seconds, the two are identical, and the conversion returns the same instant.
+ * They only differ within the smear window, or within the last 1000 seconds of a leap-second day
+ * where the Java time-scale applies UTC-SLS.
+ * <p>
+ * The leap seconds, and the windows around them, are precomputed into a table when the
+ * smear is created, so later changes to the rules are not seen. The conversion methods look up
+ * the most recent window first, and the bulk conversion methods resume from the window of the
+ * previous element, so conversion of current or sorted values does not search the table.
+ * <p>
+ * Conversion within a window is linear, and accurate to within a nanosecond.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LeapSmear {
+
+    /**
+     * The number of seconds from the TAI epoch of 1958-01-01 to the epoch of 1970-01-01.
+     */
+    private static final long TAI_SECONDS_AT_EPOCH = (OFFSET_MJD_EPOCH - OFFSET_MJD_TAI) * SECS_PER_DAY;
+    /**
+     * The length of the UTC-SLS adjustment at the end of a leap-second day, in seconds.
+     */
+    private static final long SLS_SECONDS = 1000;
+
+    /**
+     * The rules.
+     */
+    private final UtcRules rules;
+    /**
+     * The duration of the window before midnight at the end of the leap-second day.
+     */
+    private final Duration before;
+    /**
+     * The duration of the window after midnight at the end of the leap-second day.
+     */
+    private final Duration after;
+    /**
+     * The TAI offset before the first leap second.
+     */
+    private final int initialOffset;
+    /**
+     * The leap-second adjustment of each window, -1 or 1.
+     */
+    private final int[] adjustments;
+    /**
+     * The TAI offset after each window.
+     */
+    private final int[] offsetsAfter;
+    /**
+     * The smeared epoch-second at the start of each window.
+     */
+    private final long[] smearedStarts;
+    /**
+     * The smeared epoch-second at the end of each window.
+     */
+    private final long[] smearedEnds;
+    /**
+     * The TAI second at the start of each window.
+     */
+    private final long[] taiStarts;
+    /**
+     * The TAI second at the end of each window.
+     */
+    private final long[] taiEnds;
+    /**
+     * The first epoch-second of each window or UTC-SLS adjustment, where smeared and Java time differ.
+     */
+    private final long[] differentStarts;
+    /**
+     * The epoch-second after each window or UTC-SLS adjustment, where smeared and Java time differ.
+     */
+    private final long[] differentEnds;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a smear of the specified length, centred on each leap second, using the system rules.
+     * <p>
+     * The window starts half the duration before midnight at the end of each leap-second day
+     * and ends half the duration after.
+     *
+     * @param window  the length of the window, a positive even number of seconds, not null
+     * @return the smear, not null
+     * @throws IllegalArgumentException if the window is invalid
+     */
+    public static LeapSmear of(Duration window) {
+        Objects.requireNonNull(window, "window");
+        if (window.getNano() != 0 || window.getSeconds() % 2 != 0) {
+            throw new IllegalArgumentException("Window must be an even number of seconds: " + window);
+        }
+        Duration half = window.dividedBy(2);
+        return of(UtcRules.system(), half, half);
+    }
+
+    /**
+     * Obtains a smear around midnight at the end of each leap-second day, using the specified rules.
+     * <p>
+     * Each window starts the specified duration before midnight and ends the specified duration after.
+     * The durations must be whole seconds, together at least two seconds,
+     * and the windows around successive leap seconds must not overlap.
+     *
+     * @param rules  the leap-second rules, not null
+     * @param before  the duration of the window before midnight, not negative, not null
+     * @param after  the duration of the window after midnight, not negative, not null
+     * @return the smear, not null
+     * @throws IllegalArgumentException if the window is invalid
+     */
+    public static LeapSmear of(UtcRules rules, Duration before, Duration after) {
+        Objects.requireNonNull(rules, "rules");
+        Objects.requireNonNull(before, "before");
+        Objects.requireNonNull(after, "after");
+        if (before.isNegative() || after.isNegative() || before.getNano() != 0 || after.getNano() != 0) {
+            throw new IllegalArgumentException("Window must be whole seconds, not negative: " + before + ", " + after);
+        }
+        if (before.plus(after).getSeconds() < 2) {
+            throw new IllegalArgumentException("Window must be at least two seconds: " + before.plus(after));
+        }
+        return new LeapSmear(rules, before, after);
+    }
+
+    /**
+     * Constructor, precomputing the windows.
+     *
+     * @param rules  the rules, not null
+     * @param before  the validated duration before midnight, not null
+     * @param after  the validated duration after midnight, not null
+     */
+    private LeapSmear(UtcRules rules, Duration before, Duration after) {
+        this.rules = rules;
+        this.before = before;
+        this.after = after;
+        long[] dates = rules.getLeapSecondDates();
+        long[] leapDates = Arrays.stream(dates).filter(mjd -> rules.getLeapSecondAdjustment(mjd) != 0).toArray();
+        int size = leapDates.length;
+        this.initialOffset = rules.getTaiOffset(size > 0 ? leapDates[0] : dates.length > 0 ? dates[0] : OFFSET_MJD_EPOCH);
+        this.adjustments = new int[size];
+        this.offsetsAfter = new int[size];
+        this.smearedStarts = new long[size];
+        this.smearedEnds = new long[size];
+        this.taiStarts = new long[size];
+        this.taiEnds = new long[size];
+        this.differentStarts = new long[size];
+        this.differentEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            long mjd = leapDates[i];
+            int offsetBefore = rules.getTaiOffset(mjd);
+            int adjustment = rules.getLeapSecondAdjustment(mjd);
+            long midnight = (mjd + 1 - OFFSET_MJD_EPOCH) * SECS_PER_DAY;
+            adjustments[i] = adjustment;
+            offsetsAfter[i] = offsetBefore + adjustment;
+            smearedStarts[i] = midnight - before.getSeconds();
+            smearedEnds[i] = midnight + after.getSeconds();
+            taiStarts[i] = smearedStarts[i] + TAI_SECONDS_AT_EPOCH + offsetBefore;
+            taiEnds[i] = smearedEnds[i] + TAI_SECONDS_AT_EPOCH + offsetsAfter[i];
+            differentStarts[i] = Math.min(smearedStarts[i], midnight - SLS_SECONDS);
+            differentEnds[i] = Math.max(smearedEnds[i], midnight);
+            if (i > 0 && differentStarts[i] < differentEnds[i - 1]) {
+                throw new IllegalArgumentException("Window is too long, overlapping the windows of adjacent leap seconds");
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the leap-second rules.
+     *
+     * @return the rules, not null
+     */
+    public UtcRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the duration of the window before midnight at the end of a leap-second day.
+     *
+     * @return the duration, not null
+     */
+    public Duration getBefore() {
+        return before;
+    }
+
+    /**
+     * Gets the duration of the window after midnight at the end of a leap-second day.
+     *
+     * @return the duration, not null
+     */
+    public Duration getAfter() {
+        return after;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a TAI instant to the smeared time-scale.
+     *
+     * @param taiInstant  the TAI instant, not null
+     * @return the smeared instant, not null
+     * @throws DateTimeException if the range of {@code Instant} is exceeded
+     */
+    public Instant toSmeared(TaiInstant taiInstant) {
+        return toSmeared(taiInstant, locate(taiStarts, taiInstant.getTaiSeconds(), taiStarts.length - 1));
+    }
+
+    /**
+     * Converts a smeared instant to the TAI time-scale.
+     *
+     * @param smeared  the smeared instant, not null
+     * @return the TAI instant, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public TaiInstant toTai(Instant smeared) {
+        return toTai(smeared, locate(smearedStarts, smeared.getEpochSecond(), smearedStarts.length - 1));
+    }
+
+    /**
+     * Converts a smeared instant to the UTC time-scale.
+     *
+     * @param smeared  the smeared instant, not null
+     * @return the UTC instant, not null
+     * @throws DateTimeException if the range of {@code UtcInstant} is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public UtcInstant toUtc(Instant smeared) {
+        return rules.convertToUtc(toTai(smeared));
+    }
+
+    /**
+     * Converts an instant on the Java time-scale to the smeared time-scale.
+     * <p>
+     * Away from leap seconds, the same instant is returned.
+     *
+     * @param instant  the instant on the Java time-scale, not null
+     * @return the smeared instant, not null
+     * @throws DateTimeException if the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public Instant toSmeared(Instant instant) {
+        return toSmeared(instant, locate(differentStarts, instant.getEpochSecond(), differentStarts.length - 1));
+    }
+
+    /**
+     * Converts a smeared instant to the Java time-scale.
+     * <p>
+     * Away from leap seconds, the same instant is returned.
+     *
+     * @param smeared  the smeared instant, not null
+     * @return the instant on the Java time-scale, not null
+     * @throws DateTimeException if the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public Instant toInstant(Instant smeared) {
+        return toInstant(smeared, locate(differentStarts, smeared.getEpochSecond(), differentStarts.length - 1));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of instants on the Java time-scale to the smeared time-scale.
+     * <p>
+     * Conversion is fastest when the input is sorted.
+     * The same array may be passed as input and output.
+     *
+     * @param instants  the instants on the Java time-scale, not null, no null elements
+     * @param results  the array to receive the smeared instants, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void toSmeared(Instant[] instants, Instant[] results) {
+        checkLengths(instants.length, results.length);
+        int hint = differentStarts.length - 1;
+        for (int i = 0; i < instants.length; i++) {
+            Instant instant = instants[i];
+            hint = locate(differentStarts, instant.getEpochSecond(), hint);
+            results[i] = toSmeared(instant, hint);
+        }
+    }
+
+    /**
+     * Converts an array of smeared instants to the Java time-scale.
+     * <p>
+     * Conversion is fastest when the input is sorted.
+     * The same array may be passed as input and output.
+     *
+     * @param smeared  the smeared instants, not null, no null elements
+     * @param results  the array to receive the instants on the Java time-scale, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if the valid range is exceeded
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void toInstants(Instant[] smeared, Instant[] results) {
+        checkLengths(smeared.length, results.length);
+        int hint = differentStarts.length - 1;
+        for (int i = 0; i < smeared.length; i++) {
+            Instant instant = smeared[i];
+            hint = locate(differentStarts, instant.getEpochSecond(), hint);
+            results[i] = toInstant(instant, hint);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private Instant toSmeared(TaiInstant taiInstant, int index) {
+        long taiSeconds = taiInstant.getTaiSeconds();
+        if (index < 0) {
+            return Instant.ofEpochSecond(taiSeconds - TAI_SECONDS_AT_EPOCH - initialOffset, taiInstant.getNano());
+        }
+        if (taiSeconds >= taiEnds[index]) {
+            return Instant.ofEpochSecond(taiSeconds - TAI_SECONDS_AT_EPOCH - offsetsAfter[index], taiInstant.getNano());
+        }
+        // elapsed smeared time is elapsed TAI time scaled by W / (W + adjustment)
+        long elapsedNanos = (taiSeconds - taiStarts[index]) * NANOS_PER_SECOND + taiInstant.getNano();
+        long taiWindowSeconds = taiEnds[index] - taiStarts[index];
+        long smearedNanos = elapsedNanos - Math.floorDiv(adjustments[index] * elapsedNanos, taiWindowSeconds);
+        return Instant.ofEpochSecond(smearedStarts[index], smearedNanos);
+    }
+
+    private TaiInstant toTai(Instant smeared, int index) {
+        long epochSecond = smeared.getEpochSecond();
+        if (index < 0) {
+            return TaiInstant.ofTaiSeconds(Math.addExact(epochSecond, TAI_SECONDS_AT_EPOCH + initialOffset), smeared.getNano());
+        }
+        if (epochSecond >= smearedEnds[index]) {
+            return TaiInstant.ofTaiSeconds(Math.addExact(epochSecond, TAI_SECONDS_AT_EPOCH + offsetsAfter[index]), smeared.getNano());
+        }
+        // elapsed TAI time is elapsed smeared time scaled by (W + adjustment) / W
+        long elapsedNanos = (epochSecond - smearedStarts[index]) * NANOS_PER_SECOND + smeared.getNano();
+        long windowSeconds = smearedEnds[index] - smearedStarts[index];
+        long taiNanos = elapsedNanos + Math.floorDiv(adjustments[index] * elapsedNanos, windowSeconds);
+        return TaiInstant.ofTaiSeconds(taiStarts[index], taiNanos);
+    }
+
+    private Instant toSmeared(Instant instant, int index) {
+        if (index < 0 || instant.getEpochSecond() >= differentEnds[index]) {
+            return instant;
+        }
+        TaiInstant taiInstant = rules.convertToTai(instant);
+        return toSmeared(taiInstant, locate(taiStarts, taiInstant.getTaiSeconds(), index));
+    }
+
+    private Instant toInstant(Instant smeared, int index) {
+        if (index < 0 || smeared.getEpochSecond() >= differentEnds[index]) {
+            return smeared;
+        }
+        return rules.convertToInstant(toTai(smeared, locate(smearedStarts, smeared.getEpochSecond(), index)));
+    }
+
+    /**
+     * Finds the index of the last start at or before the value.
+     * <p>
+     * The hint, and the index after it, are checked before searching.
+     *
+     * @param starts  the sorted starts
+     * @param value  the value to find
+     * @param hint  the index to check first, may be -1
+     * @return the index, -1 if before the first start
+     */
+    private static int locate(long[] starts, long value, int hint) {
+        int length = starts.length;
+        if (hint >= 0 && hint < length && starts[hint] <= value) {
+            if (hint + 1 == length || value < starts[hint + 1]) {
+                return hint;
+            }
+            if (hint + 2 == length || value < starts[hint + 2]) {
+                return hint + 1;
+            }
+        }
+        int pos = Arrays.binarySearch(starts, value);
+        return pos >= 0 ? pos : ~pos - 1;
+    }
+
+    private static void checkLengths(int inputLength, int resultLength) {
+        if (inputLength != resultLength) {
+            throw new IllegalArgumentException("Array lengths differ: " + inputLength + " and " + resultLength);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this smear is equal to another smear.
+     * <p>
+     * The comparison is based on the rules and the window.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other smear
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LeapSmear) {
+            LeapSmear other = (LeapSmear) obj;
+            return rules.equals(other.rules) && before.equals(other.before) && after.equals(other.after);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this smear.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return rules.hashCode() ^ before.hashCode() ^ Integer.rotateLeft(after.hashCode(), 16);
+    }
+
+    /**
+     * Outputs this smear as a {@code String}.
+     *
+     * @return a string representation of this smear, not null
+     */
+    @Override
+    public String toString() {
+        return "LeapSmear[" + rules.getName() + ",-" + before + ",+" + after + "]";
+    }
+
+}
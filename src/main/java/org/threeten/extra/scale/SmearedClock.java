@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * A clock and time-source that reads a clock following a leap-second smear.
+ * <p>
+ * On systems that smear leap seconds, the system clock does not step for a leap second,
+ * but runs slightly slow or fast for a window around it, as described by {@link LeapSmear}.
+ * This class wraps such a clock, using the smear to provide the correct UTC and TAI instants.
+ * <p>
+ * The {@link #instant()} method returns the smeared instant read from the underlying clock,
+ * unchanged, so that this class can be used anywhere a {@code Clock} is expected.
+ * The {@link #utcInstant()} and {@link #taiInstant()} methods remove the smear.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe, providing the underlying clock is.
+ */
+public final class SmearedClock
+        extends Clock
+        implements TimeSource {
+
+    /**
+     * The underlying smeared clock.
+     */
+    private final Clock clock;
+    /**
+     * The smear followed by the clock.
+     */
+    private final LeapSmear smear;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a clock reading the system clock, which follows the specified smear.
+     *
+     * @param smear  the smear followed by the system clock, not null
+     * @return the clock, not null
+     */
+    public static SmearedClock of(LeapSmear smear) {
+        return of(Clock.systemUTC(), smear);
+    }
+
+    /**
+     * Obtains a clock reading the specified clock, which follows the specified smear.
+     *
+     * @param clock  the underlying smeared clock, not null
+     * @param smear  the smear followed by the clock, not null
+     * @return the clock, not null
+     */
+    public static SmearedClock of(Clock clock, LeapSmear smear) {
+        Objects.requireNonNull(clock, "clock");
+        Objects.requireNonNull(smear, "smear");
+        return new SmearedClock(clock, smear);
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param clock  the underlying clock, not null
+     * @param smear  the smear, not null
+     */
+    private SmearedClock(Clock clock, LeapSmear smear) {
+        this.clock = clock;
+        this.smear = smear;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the underlying smeared clock.
+     *
+     * @return the clock, not null
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the smear followed by the underlying clock.
+     *
+     * @return the smear, not null
+     */
+    public LeapSmear getSmear() {
+        return smear;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    @Override
+    public SmearedClock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        if (zone.equals(clock.getZone())) {
+            return this;
+        }
+        return new SmearedClock(clock.withZone(zone), smear);
+    }
+
+    @Override
+    public long millis() {
+        return clock.millis();
+    }
+
+    /**
+     * Gets the current smeared instant, as read from the underlying clock.
+     *
+     * @return the smeared instant, not null
+     */
+    @Override
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    /**
+     * Gets the current instant on the UTC time-scale, removing the smear.
+     *
+     * @return the UTC instant, not null
+     */
+    @Override
+    public UtcInstant utcInstant() {
+        return smear.toUtc(clock.instant());
+    }
+
+    /**
+     * Gets the current instant on the TAI time-scale, removing the smear.
+     *
+     * @return the TAI instant, not null
+     */
+    @Override
+    public TaiInstant taiInstant() {
+        return smear.toTai(clock.instant());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof SmearedClock) {
+            SmearedClock other = (SmearedClock) obj;
+            return clock.equals(other.clock) && smear.equals(other.smear);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return clock.hashCode() ^ smear.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SmearedClock[" + clock + "," + smear + "]";
+    }
+
+}
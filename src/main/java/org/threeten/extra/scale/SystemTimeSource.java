@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.threeten.extra.scale.UtcRules.NANOS_PER_SECOND;
+import static org.threeten.extra.scale.UtcRules.OFFSET_MJD_EPOCH;
+import static org.threeten.extra.scale.UtcRules.OFFSET_MJD_TAI;
+import static org.threeten.extra.scale.UtcRules.SECS_PER_DAY;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A time-source based on a {@code Clock}, converting to UTC and TAI using the system leap-second rules.
+ * <p>
+ * The instant of the clock is converted using the UTC-SLS algorithm, as per
+ * {@link UtcRules#convertToUtc(Instant)} and {@link UtcRules#convertToTai(Instant)}.
+ * <p>
+ * Leap seconds are rare, so the TAI offset is the same for long periods.
+ * This class caches the offset for the period between two leap-second dates that contains
+ * the current instant. While the instant remains in that period, {@link #utcInstant()} and
+ * {@link #taiInstant()} cost one read of the clock plus simple arithmetic,
+ * with no search of the leap-second rules.
+ * The cache is refreshed when the instant leaves the period, or when the rules change.
+ * On a day with a leap second, the UTC-SLS adjustment is applied by the rules on each call.
+ * <p>
+ * As the {@code Clock} is usually based on a POSIX-like system clock, the result
+ * is only as accurate as that clock, and is not a true UTC or TAI clock.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * It is serializable if the clock is serializable.
+ */
+public final class SystemTimeSource
+        implements TimeSource, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 3518207626451478367L;
+    /**
+     * The time-source using the best available system clock.
+     */
+    private static final SystemTimeSource SYSTEM = new SystemTimeSource(Clock.systemUTC());
+    /**
+     * The number of seconds from the TAI epoch of 1958-01-01 to the epoch of 1970-01-01.
+     */
+    private static final long TAI_SECONDS_AT_EPOCH = (OFFSET_MJD_EPOCH - OFFSET_MJD_TAI) * SECS_PER_DAY;
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+    /**
+     * The cached span of time with a constant TAI offset, null until first used.
+     */
+    private transient volatile Span span;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a time-source based on the best available system clock.
+     *
+     * @return the time-source, not null
+     */
+    public static SystemTimeSource system() {
+        return SYSTEM;
+    }
+
+    /**
+     * Obtains a time-source based on the specified clock.
+     *
+     * @param clock  the clock to read, not null
+     * @return the time-source, not null
+     */
+    public static SystemTimeSource of(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return new SystemTimeSource(clock);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock  the clock, validated not null
+     */
+    private SystemTimeSource(Clock clock) {
+        this.clock = clock;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the clock that this time-source reads.
+     *
+     * @return the clock, not null
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    @Override
+    public UtcInstant utcInstant() {
+        Instant instant = clock.instant();
+        long epochSecond = instant.getEpochSecond();
+        Span current = currentSpan(epochSecond);
+        if (current == null) {
+            return UtcRules.system().convertToUtc(instant);
+        }
+        long mjd = Math.floorDiv(epochSecond, SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+        long nanoOfDay = Math.floorMod(epochSecond, SECS_PER_DAY) * NANOS_PER_SECOND + instant.getNano();
+        return UtcInstant.ofValidated(mjd, nanoOfDay);
+    }
+
+    @Override
+    public TaiInstant taiInstant() {
+        Instant instant = clock.instant();
+        long epochSecond = instant.getEpochSecond();
+        Span current = currentSpan(epochSecond);
+        if (current == null) {
+            return UtcRules.system().convertToTai(instant);
+        }
+        return TaiInstant.ofTaiSeconds(epochSecond + current.taiShift, instant.getNano());
+    }
+
+    /**
+     * Gets the cached span containing the epoch-second, refreshing it if necessary.
+     *
+     * @param epochSecond  the epoch-second
+     * @return the span, null if the epoch-second is on a leap-second date
+     */
+    private Span currentSpan(long epochSecond) {
+        SystemUtcRules rules = SystemUtcRules.INSTANCE;
+        Span current = span;
+        if (current != null && current.contains(epochSecond) && current.version == rules.getVersion()) {
+            return current;
+        }
+        current = Span.of(rules, Math.floorDiv(epochSecond, SECS_PER_DAY) + OFFSET_MJD_EPOCH);
+        if (current != null) {
+            span = current;
+        }
+        return current;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this time-source is equal to another time-source.
+     * <p>
+     * The comparison is based on the clock.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other time-source
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof SystemTimeSource) {
+            return clock.equals(((SystemTimeSource) obj).clock);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this time-source.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return clock.hashCode();
+    }
+
+    /**
+     * A string representation of this time-source.
+     *
+     * @return the string representation, not null
+     */
+    @Override
+    public String toString() {
+        return "SystemTimeSource[" + clock + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A span of time between two leap-second dates, in which the TAI offset is constant.
+     */
+    private static final class Span {
+        /**
+         * The version of the rules the span was derived from.
+         */
+        private final Object version;
+        /**
+         * The first epoch-second of the span, inclusive.
+         */
+        private final long startSecond;
+        /**
+         * The last epoch-second of the span, exclusive.
+         */
+        private final long endSecond;
+        /**
+         * The amount to add to an epoch-second in the span to obtain the TAI second.
+         */
+        private final long taiShift;
+
+        private Span(Object version, long startSecond, long endSecond, long taiShift) {
+            this.version = version;
+            this.startSecond = startSecond;
+            this.endSecond = endSecond;
+            this.taiShift = taiShift;
+        }
+
+        /**
+         * Obtains the span containing the Modified Julian Day.
+         *
+         * @param rules  the rules, not null
+         * @param mjd  the Modified Julian Day
+         * @return the span, null if the day is a leap-second date
+         */
+        static Span of(SystemUtcRules rules, long mjd) {
+            // read the version first, so that any later change to the rules is detected
+            Object version = rules.getVersion();
+            long[] dates = rules.getLeapSecondDates();
+            int pos = Arrays.binarySearch(dates, mjd);
+            if (pos >= 0) {
+                return null;
+            }
+            pos = ~pos;
+            long startSecond = pos > 0 ? (dates[pos - 1] + 1 - OFFSET_MJD_EPOCH) * SECS_PER_DAY : Long.MIN_VALUE;
+            long endSecond = pos < dates.length ? (dates[pos] - OFFSET_MJD_EPOCH) * SECS_PER_DAY : Long.MAX_VALUE;
+            long taiShift = TAI_SECONDS_AT_EPOCH + rules.getTaiOffset(mjd);
+            return new Span(version, startSecond, endSecond, taiShift);
+        }
+
+        boolean contains(long epochSecond) {
+            return epochSecond >= startSecond && epochSecond < endSecond;
+        }
+    }
+
+}
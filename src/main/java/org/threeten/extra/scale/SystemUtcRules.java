@@ -31,8 +31,11 @@
  */
 package org.threeten.extra.scale;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.io.StreamCorruptedException;
@@ -45,6 +48,7 @@ import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -62,6 +66,18 @@ final class SystemUtcRules extends UtcRules implements Serializable {
      * The leap seconds config file.
      */
     private static final String LEAP_SECONDS_TXT = "org/threeten/extra/scale/LeapSeconds.txt";
+    /**
+     * The precompiled leap seconds file, generated from the config file.
+     */
+    static final String LEAP_SECONDS_DAT = "org/threeten/extra/scale/LeapSeconds.dat";
+    /**
+     * The magic number at the start of the precompiled leap seconds file.
+     */
+    static final int BINARY_MAGIC = 0x4C454150;
+    /**
+     * The format version of the precompiled leap seconds file.
+     */
+    static final short BINARY_VERSION = 1;
     /**
      * Leap second file format.
      */
@@ -79,17 +95,36 @@ final class SystemUtcRules extends UtcRules implements Serializable {
      * The table of leap second dates.
      */
     private AtomicReference<Data> dataRef = new AtomicReference<Data>(loadLeapSeconds());
+    /**
+     * The listeners notified when the rules change.
+     */
+    private final transient List<Runnable> listeners = new CopyOnWriteArrayList<>();
 
     /** Data holder. */
     private static final class Data implements Serializable {
         /** Serialization version. */
         private static final long serialVersionUID = -3655687912882817265L;
+        /** The number of days in each bucket of the region table, as a power of two. */
+        private static final int BUCKET_SHIFT = 5;
+        /** The maximum number of buckets in the region table, covering about 350 years. */
+        private static final int MAX_BUCKETS = 4096;
         /** Constructor. */
         private Data(long[] dates, int[] offsets, long[] taiSeconds) {
             super();
             this.dates = dates;
             this.offsets = offsets;
             this.taiSeconds = taiSeconds;
+            // far future leap seconds are found by binary search, keeping the table small
+            long buckets = ((getNewestDate() - dates[0]) >>> BUCKET_SHIFT) + 1;
+            this.regions = new int[(int) Math.min(buckets, MAX_BUCKETS)];
+            int pos = 0;
+            for (int i = 0; i < regions.length; i++) {
+                long bucketStart = dates[0] + ((long) i << BUCKET_SHIFT);
+                while (pos < dates.length && dates[pos] < bucketStart) {
+                    pos++;
+                }
+                regions[i] = pos;
+            }
         }
         /** The table of leap second date when the leap second occurs. */
         private final long[] dates;
@@ -97,6 +132,8 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         private final int[] offsets;
         /** The table of TAI second when the new offset starts. */
         private final long[] taiSeconds;
+        /** The number of leap second dates before the start of each bucket of days. */
+        private final int[] regions;
 
         /**
          * @return The modified Julian Date of the newest leap second
@@ -104,6 +141,58 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         public long getNewestDate() {
             return dates[dates.length - 1];
         }
+
+        /**
+         * Finds the number of leap second dates before the specified date.
+         * <p>
+         * Dates after the newest leap second are checked first, with older dates
+         * found by direct lookup in the region table, avoiding a binary search.
+         * Dates beyond the end of the region table use a binary search.
+         *
+         * @param mjDay  the date as a Modified Julian Day
+         * @return the number of leap second dates strictly before the date
+         */
+        int countBefore(long mjDay) {
+            if (mjDay > getNewestDate()) {
+                return dates.length;
+            }
+            if (mjDay <= dates[0]) {
+                return 0;
+            }
+            long bucket = (mjDay - dates[0]) >>> BUCKET_SHIFT;
+            if (bucket >= regions.length) {
+                int found = Arrays.binarySearch(dates, mjDay);
+                return found >= 0 ? found : -found - 1;
+            }
+            int pos = regions[(int) bucket];
+            while (dates[pos] < mjDay) {
+                pos++;
+            }
+            return pos;
+        }
+
+        /**
+         * Finds the index of the newest region starting at or before the TAI second.
+         *
+         * @param taiSecs  the TAI seconds
+         * @return the index in the tables, -1 if before the first region
+         */
+        int regionOf(long taiSecs) {
+            int last = taiSeconds.length - 1;
+            if (taiSecs >= taiSeconds[last]) {
+                return last;
+            }
+            // the TAI offset is small, so the estimated date is within a day of the actual date
+            long estimatedMjd = Math.floorDiv(taiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            int pos = countBefore(estimatedMjd) - 1;
+            while (pos >= 0 && taiSeconds[pos] > taiSecs) {
+                pos--;
+            }
+            while (pos < last && taiSeconds[pos + 1] <= taiSecs) {
+                pos++;
+            }
+            return pos;
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -157,6 +246,92 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         if (dataRef.compareAndSet(data, newData) == false) {
             throw new ConcurrentModificationException("Unable to update leap second rules as they have already been updated");
         }
+        notifyListeners();
+    }
+
+    /**
+     * Loads leap seconds from a file in the standard {@code LeapSeconds.txt} format.
+     * <p>
+     * As with the files on the classpath, the loaded data replaces the current data
+     * only if it has a newer leap second, so that an older file cannot remove leap seconds.
+     * The new data is published atomically, and the listeners are notified.
+     *
+     * @param url  the file to load, not null
+     * @return true if the rules were updated
+     * @throws IOException if the file cannot be read or is invalid
+     */
+    boolean load(URL url) throws IOException {
+        Data newData;
+        try {
+            newData = loadLeapSeconds(url);
+        } catch (RuntimeException ex) {
+            throw new StreamCorruptedException("Invalid leap second file: " + ex.getMessage());
+        }
+        if (newData.dates.length == 0) {
+            throw new StreamCorruptedException("Invalid leap second file, no leap seconds found");
+        }
+        for (int i = 1; i < newData.dates.length; i++) {
+            if (newData.dates[i] <= newData.dates[i - 1]) {
+                throw new StreamCorruptedException("Invalid leap second file, dates must be in order");
+            }
+        }
+        Data data;
+        do {
+            data = dataRef.get();
+            if (newData.getNewestDate() <= data.getNewestDate()) {
+                return false;
+            }
+        } while (dataRef.compareAndSet(data, newData) == false);
+        notifyListeners();
+        return true;
+    }
+
+    /**
+     * Adds a listener that is notified after the rules change.
+     *
+     * @param listener  the listener to add, not null
+     */
+    void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(Runnable)}.
+     *
+     * @param listener  the listener to remove, not null
+     */
+    void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies the listeners of a change.
+     * <p>
+     * The change has already been published, so an exception from one listener must not
+     * prevent the others from being notified, nor be reported as a failure of the change.
+     * Any exception is instead passed to the uncaught exception handler of the current thread.
+     */
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException ex) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+            }
+        }
+    }
+
+    /**
+     * Gets an object identifying the current version of the rules.
+     * <p>
+     * The identity of the returned object changes whenever a leap second is registered,
+     * allowing callers to cache values derived from the rules.
+     *
+     * @return the current version, compared by identity, not null
+     */
+    Object getVersion() {
+        return dataRef.get();
     }
 
     //-----------------------------------------------------------------------
@@ -168,15 +343,14 @@ final class SystemUtcRules extends UtcRules implements Serializable {
     @Override
     public int getLeapSecondAdjustment(long mjDay) {
         Data data = dataRef.get();
-        int pos = Arrays.binarySearch(data.dates, mjDay);
-        return pos > 0 ? data.offsets[pos] - data.offsets[pos - 1] : 0;
+        int pos = data.countBefore(mjDay);
+        return pos > 0 && pos < data.dates.length && data.dates[pos] == mjDay ? data.offsets[pos] - data.offsets[pos - 1] : 0;
     }
 
     @Override
     public int getTaiOffset(long mjDay) {
         Data data = dataRef.get();
-        int pos = Arrays.binarySearch(data.dates, mjDay);
-        pos = (pos < 0 ? ~pos : pos);
+        int pos = data.countBefore(mjDay);
         return pos > 0 ? data.offsets[pos - 1] : 10;
     }
 
@@ -191,9 +365,7 @@ final class SystemUtcRules extends UtcRules implements Serializable {
     public UtcInstant convertToUtc(TaiInstant taiInstant) {
         Data data = dataRef.get();
         long[] mjds = data.dates;
-        long[] tais = data.taiSeconds;
-        int pos = Arrays.binarySearch(tais, taiInstant.getTaiSeconds());
-        pos = (pos >= 0 ? pos : ~pos - 1);
+        int pos = data.regionOf(taiInstant.getTaiSeconds());
         int taiOffset = (pos >= 0 ? data.offsets[pos] : 10);
         long adjustedTaiSecs = taiInstant.getTaiSeconds() - taiOffset;
         long mjd = Math.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
@@ -209,14 +381,22 @@ final class SystemUtcRules extends UtcRules implements Serializable {
     //-----------------------------------------------------------------------
     /**
      * Loads the rules from files in the class loader, often jar files.
+     * <p>
+     * The leap seconds shipped with this library are loaded from a precompiled binary file,
+     * generated from the text file, avoiding parsing it on startup.
+     * Text files elsewhere on the classpath override the binary file if they have a newer leap second.
+     * The text file shipped with this library is only parsed if the binary file cannot be loaded.
      *
      * @return the list of loaded rules, not null
      * @throws Exception if an error occurs
      */
     private static Data loadLeapSeconds() {
-        Data bestData = null;
+        Data binaryData = loadBinaryLeapSeconds();
+        Data bestData = binaryData;
         URL url = null;
         try {
+            URL ownUrl = SystemUtcRules.class.getResource("/" + LEAP_SECONDS_TXT);
+            String ownLocation = (ownUrl != null ? ownUrl.toExternalForm() : null);
             // this is the new location of the file, working on Java 8, Java 9 class path and Java 9 module path
             Enumeration<URL> en = Thread.currentThread().getContextClassLoader().getResources("META-INF/" + LEAP_SECONDS_TXT);
             while (en.hasMoreElements()) {
@@ -230,14 +410,17 @@ final class SystemUtcRules extends UtcRules implements Serializable {
             en = Thread.currentThread().getContextClassLoader().getResources(LEAP_SECONDS_TXT);
             while (en.hasMoreElements()) {
                 url = en.nextElement();
+                if (binaryData != null && url.toExternalForm().equals(ownLocation)) {
+                    continue;  // already loaded from the binary file
+                }
                 Data candidate = loadLeapSeconds(url);
                 if (bestData == null || candidate.getNewestDate() > bestData.getNewestDate()) {
                     bestData = candidate;
                 }
             }
             // this location is the canonical one, and class-based loading works on Java 9 module path
-            url = SystemUtcRules.class.getResource("/" + LEAP_SECONDS_TXT);
-            if (url != null) {
+            url = ownUrl;
+            if (url != null && binaryData == null) {
                 Data candidate = loadLeapSeconds(url);
                 if (bestData == null || candidate.getNewestDate() > bestData.getNewestDate()) {
                     bestData = candidate;
@@ -254,13 +437,49 @@ final class SystemUtcRules extends UtcRules implements Serializable {
         return bestData;
     }
 
+    /**
+     * Loads the precompiled leap second rules shipped with this library.
+     * <p>
+     * The binary format is the magic number {@code 0x4C454150}, the format version as a short,
+     * the number of leap seconds as a short, then the Modified Julian Day and new TAI offset
+     * of each leap second, as an int and a short, all big-endian.
+     *
+     * @return the loaded rules, null if the file is missing or invalid
+     */
+    private static Data loadBinaryLeapSeconds() {
+        InputStream in = SystemUtcRules.class.getResourceAsStream("/" + LEAP_SECONDS_DAT);
+        if (in == null) {
+            return null;
+        }
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            if (data.readInt() != BINARY_MAGIC || data.readShort() != BINARY_VERSION) {
+                return null;
+            }
+            int size = data.readShort();
+            if (size <= 0) {
+                return null;
+            }
+            long[] datesData = new long[size];
+            int[] offsetsData = new int[size];
+            long[] taiData = new long[size];
+            for (int i = 0; i < size; i++) {
+                datesData[i] = data.readInt();
+                offsetsData[i] = data.readShort();
+                taiData[i] = tai(datesData[i], offsetsData[i]);
+            }
+            return new Data(datesData, offsetsData, taiData);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
     /**
      * Loads the leap second rules from a URL, often in a jar file.
      *
      * @param url  the jar file to load, not null
      * @throws Exception if an error occurs
      */
-    private static Data loadLeapSeconds(URL url) throws ClassNotFoundException, IOException {
+    private static Data loadLeapSeconds(URL url) throws IOException {
         List<String> lines;
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
             lines = reader.lines().collect(Collectors.toList());
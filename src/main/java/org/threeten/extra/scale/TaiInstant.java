@@ -32,6 +32,10 @@
 package org.threeten.extra.scale;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
@@ -88,6 +92,12 @@ public final class TaiInstant
     // does not implement Temporal as that would enable methods like
     // Duration.between which gives the wrong answer due to lossy conversion
 
+    /**
+     * The number of bytes used by the binary encoding, 12.
+     *
+     * @see #writeTo(ByteBuffer)
+     */
+    public static final int BYTES = InstantEncoding.BYTES;
     /**
      * Constant for nanos per second.
      */
@@ -210,6 +220,61 @@ public final class TaiInstant
         throw new DateTimeParseException("The text could not be parsed", text, 0);
     }
 
+    /**
+     * Reads an instance of {@code TaiInstant} from the binary encoding.
+     * <p>
+     * This reads the 12 bytes written by {@link #writeTo(ByteBuffer)} from the
+     * current position of the buffer, advancing the position.
+     *
+     * @param buffer  the buffer to read from, not null
+     * @return the TAI instant, not null
+     * @throws BufferUnderflowException if there are fewer than 12 bytes remaining
+     * @throws DateTimeException if the bytes are not a valid encoded instant
+     */
+    public static TaiInstant readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < BYTES) {
+            throw new BufferUnderflowException();
+        }
+        long seconds = InstantEncoding.getLong(buffer) ^ Long.MIN_VALUE;
+        int nanos = InstantEncoding.getInt(buffer);
+        if (nanos < 0 || nanos >= NANOS_PER_SECOND) {
+            throw new DateTimeException("Invalid encoded TaiInstant, nanosecond out of range: " + nanos);
+        }
+        return new TaiInstant(seconds, nanos);
+    }
+
+    /**
+     * Compares two instants in the binary encoding, without decoding them.
+     * <p>
+     * The 12 bytes at the current position of each buffer are compared, without changing the positions.
+     * The result is the same as decoding the instants and calling {@link #compareTo(TaiInstant)}.
+     * This method is suitable for use as a {@code Comparator<ByteBuffer>}.
+     *
+     * @param first  the buffer containing the first encoded instant, not null
+     * @param second  the buffer containing the second encoded instant, not null
+     * @return the comparator value, negative if less, positive if greater
+     * @throws IndexOutOfBoundsException if either buffer has fewer than 12 bytes remaining
+     */
+    public static int compareEncoded(ByteBuffer first, ByteBuffer second) {
+        return InstantEncoding.compare(first, second);
+    }
+
+    /**
+     * Compares two instants in the binary encoding held in byte arrays, without decoding them.
+     * <p>
+     * The result is the same as decoding the instants and calling {@link #compareTo(TaiInstant)}.
+     *
+     * @param first  the array containing the first encoded instant, not null
+     * @param firstOffset  the offset of the first encoded instant in the array
+     * @param second  the array containing the second encoded instant, not null
+     * @param secondOffset  the offset of the second encoded instant in the array
+     * @return the comparator value, negative if less, positive if greater
+     * @throws IndexOutOfBoundsException if either encoded instant is not within its array
+     */
+    public static int compareEncoded(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+        return InstantEncoding.compare(first, firstOffset, second, secondOffset);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance.
@@ -394,6 +459,30 @@ public final class TaiInstant
         return UtcRules.system().convertToUtc(this);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes this instant to a buffer in a fixed-width binary encoding.
+     * <p>
+     * The encoding is 12 bytes, the TAI seconds as a long with the sign bit flipped,
+     * followed by the nanosecond-of-second as an int, both big-endian whatever
+     * the byte order of the buffer. This ensures that the order of the encoded bytes,
+     * compared as unsigned values, matches the order of the instants.
+     * The bytes are written at the current position of the buffer, advancing the position.
+     *
+     * @param buffer  the buffer to write to, not null
+     * @return the buffer, not null
+     * @throws BufferOverflowException if there are fewer than 12 bytes remaining
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     */
+    public ByteBuffer writeTo(ByteBuffer buffer) {
+        if (buffer.remaining() < BYTES) {
+            throw new BufferOverflowException();
+        }
+        InstantEncoding.putLong(buffer, seconds ^ Long.MIN_VALUE);
+        InstantEncoding.putInt(buffer, nanos);
+        return buffer;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this instant to another based on the time-line.
@@ -38,6 +38,10 @@ import static org.threeten.extra.scale.UtcRules.OFFSET_MJD_EPOCH;
 import static org.threeten.extra.scale.UtcRules.SECS_PER_DAY;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
@@ -109,6 +113,12 @@ public final class UtcInstant
     // does not implement Temporal as that would enable methods like
     // Duration.between which gives the wrong answer due to lossy conversion
 
+    /**
+     * The number of bytes used by the binary encoding, 12.
+     *
+     * @see #writeTo(ByteBuffer)
+     */
+    public static final int BYTES = InstantEncoding.BYTES;
     /**
      * Serialization version.
      */
@@ -152,6 +162,20 @@ public final class UtcInstant
         return new UtcInstant(mjDay, nanoOfDay);
     }
 
+    /**
+     * Obtains an instance of {@code UtcInstant} without validating the nanosecond-of-day.
+     * <p>
+     * This is for callers that have already established that the nanosecond-of-day
+     * is valid for the Modified Julian Day.
+     *
+     * @param mjDay  the date as a Modified Julian Day (number of days from the epoch of 1858-11-17)
+     * @param nanoOfDay  the nanoseconds within the day, valid for the day
+     * @return the UTC instant, not null
+     */
+    static UtcInstant ofValidated(long mjDay, long nanoOfDay) {
+        return new UtcInstant(mjDay, nanoOfDay);
+    }
+
     /**
      * Obtains an instance of {@code UtcInstant} from an {@code Instant}.
      * <p>
@@ -217,6 +241,59 @@ public final class UtcInstant
         return UtcInstant.ofModifiedJulianDay(mjd, nanoOfDay);
     }
 
+    /**
+     * Reads an instance of {@code UtcInstant} from the binary encoding.
+     * <p>
+     * This reads the 12 bytes written by {@link #writeTo(ByteBuffer)} from the
+     * current position of the buffer, advancing the position.
+     * The nano-of-day is validated using the system leap second rules.
+     *
+     * @param buffer  the buffer to read from, not null
+     * @return the UTC instant, not null
+     * @throws BufferUnderflowException if there are fewer than 12 bytes remaining
+     * @throws DateTimeException if the bytes are not a valid encoded instant
+     */
+    public static UtcInstant readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < BYTES) {
+            throw new BufferUnderflowException();
+        }
+        long mjd = InstantEncoding.getInt(buffer) ^ Integer.MIN_VALUE;
+        long nanoOfDay = InstantEncoding.getLong(buffer);
+        return UtcInstant.ofModifiedJulianDay(mjd, nanoOfDay);
+    }
+
+    /**
+     * Compares two instants in the binary encoding, without decoding them.
+     * <p>
+     * The 12 bytes at the current position of each buffer are compared, without changing the positions.
+     * The result is the same as decoding the instants and calling {@link #compareTo(UtcInstant)}.
+     * This method is suitable for use as a {@code Comparator<ByteBuffer>}.
+     *
+     * @param first  the buffer containing the first encoded instant, not null
+     * @param second  the buffer containing the second encoded instant, not null
+     * @return the comparator value, negative if less, positive if greater
+     * @throws IndexOutOfBoundsException if either buffer has fewer than 12 bytes remaining
+     */
+    public static int compareEncoded(ByteBuffer first, ByteBuffer second) {
+        return InstantEncoding.compare(first, second);
+    }
+
+    /**
+     * Compares two instants in the binary encoding held in byte arrays, without decoding them.
+     * <p>
+     * The result is the same as decoding the instants and calling {@link #compareTo(UtcInstant)}.
+     *
+     * @param first  the array containing the first encoded instant, not null
+     * @param firstOffset  the offset of the first encoded instant in the array
+     * @param second  the array containing the second encoded instant, not null
+     * @param secondOffset  the offset of the second encoded instant in the array
+     * @return the comparator value, negative if less, positive if greater
+     * @throws IndexOutOfBoundsException if either encoded instant is not within its array
+     */
+    public static int compareEncoded(byte[] first, int firstOffset, byte[] second, int secondOffset) {
+        return InstantEncoding.compare(first, firstOffset, second, secondOffset);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance.
@@ -399,6 +476,37 @@ public final class UtcInstant
         return UtcRules.system().convertToTai(this);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes this instant to a buffer in a fixed-width binary encoding.
+     * <p>
+     * The encoding is 12 bytes, the Modified Julian Day as an int with the sign bit flipped,
+     * followed by the nano-of-day as a long, both big-endian whatever the byte order of the buffer.
+     * This ensures that the order of the encoded bytes, compared as unsigned values,
+     * matches the order of the instants.
+     * The bytes are written at the current position of the buffer, advancing the position.
+     * <p>
+     * The encoding supports Modified Julian Days that fit in an {@code int},
+     * about 5.8 million years either side of the epoch of 1858-11-17.
+     *
+     * @param buffer  the buffer to write to, not null
+     * @return the buffer, not null
+     * @throws DateTimeException if the Modified Julian Day is outside the range of the encoding
+     * @throws BufferOverflowException if there are fewer than 12 bytes remaining
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     */
+    public ByteBuffer writeTo(ByteBuffer buffer) {
+        if (mjDay < Integer.MIN_VALUE || mjDay > Integer.MAX_VALUE) {
+            throw new DateTimeException("Modified Julian Day is outside the range of the binary encoding: " + mjDay);
+        }
+        if (buffer.remaining() < BYTES) {
+            throw new BufferOverflowException();
+        }
+        InstantEncoding.putInt(buffer, (int) mjDay ^ Integer.MIN_VALUE);
+        InstantEncoding.putLong(buffer, nanoOfDay);
+        return buffer;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this instant to another based on the time-line.
@@ -33,7 +33,9 @@ package org.threeten.extra.scale;
 
 import java.time.DateTimeException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
+import java.util.Objects;
 
 /**
  * Rules defining the UTC time-scale, notably when leap seconds occur.
@@ -114,6 +116,33 @@ public abstract class UtcRules {
         SystemUtcRules.INSTANCE.register(mjDay, leapAdjustment);
     }
 
+    /**
+     * Adds a listener that is notified when the system default leap second rules change.
+     * <p>
+     * The rules change when a leap second is registered using {@link #registerLeapSecond(long, int)},
+     * or loaded by a {@link LeapSecondFileWatcher}. The listener is called on the thread making
+     * the change, after the change is visible, and may be used to refresh values cached from the rules.
+     * <p>
+     * An exception thrown by a listener does not affect the change or the other listeners.
+     * It is passed to the uncaught exception handler of the thread making the change.
+     *
+     * @param listener  the listener to add, not null
+     */
+    public static void addSystemRulesListener(Runnable listener) {
+        Objects.requireNonNull(listener, "listener");
+        SystemUtcRules.INSTANCE.addListener(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addSystemRulesListener(Runnable)}.
+     *
+     * @param listener  the listener to remove, not null
+     */
+    public static void removeSystemRulesListener(Runnable listener) {
+        Objects.requireNonNull(listener, "listener");
+        SystemUtcRules.INSTANCE.removeListener(listener);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an instance of the rules.
@@ -334,6 +363,200 @@ public abstract class UtcRules {
         return convertToTai(convertToUtc(instant));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of instants, expressed as epoch-seconds and nanoseconds, to the TAI time-scale.
+     * <p>
+     * This is the bulk equivalent of {@link #convertToTai(Instant)}, writing the TAI seconds
+     * and nanosecond-of-second of each element to the output arrays without creating objects.
+     * Where the input is sorted, the leap-second table is traversed once from start to end.
+     * The output arrays may be the same as the input arrays.
+     * <p>
+     * The standard implementation uses {@link #getLeapSecondDates()}, {@link #getLeapSecondAdjustment(long)}
+     * and {@link #getTaiOffset(long)}, relying on the TAI offset only changing after a leap-second date.
+     *
+     * @param epochSeconds  the seconds from the epoch of 1970-01-01T00:00:00Z, not null
+     * @param nanos  the nanosecond-of-second of each instant, from 0 to 999,999,999, not null
+     * @param taiSeconds  the array to receive the TAI seconds, not null
+     * @param taiNanos  the array to receive the TAI nanosecond-of-second, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nanosecond is invalid
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertInstantsToTai(long[] epochSeconds, int[] nanos, long[] taiSeconds, int[] taiNanos) {
+        checkLengths(epochSeconds.length, nanos.length, taiSeconds.length, taiNanos.length);
+        LeapTable table = new LeapTable(this);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSecond = epochSeconds[i];
+            int nano = checkNano(nanos[i]);
+            long mjd = Math.floorDiv(epochSecond, SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+            long utcNanos = table.toUtcNanos(mjd, Math.floorMod(epochSecond, SECS_PER_DAY) * NANOS_PER_SECOND + nano);
+            taiSeconds[i] = table.toTaiSeconds(mjd, utcNanos);
+            taiNanos[i] = (int) (utcNanos % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts an array of TAI instants, expressed as TAI seconds and nanoseconds, to epoch-seconds.
+     * <p>
+     * This is the bulk equivalent of {@link #convertToInstant(TaiInstant)}, writing the epoch-seconds
+     * and nanosecond-of-second of each element to the output arrays without creating objects.
+     * Where the input is sorted, the leap-second table is traversed once from start to end.
+     * The output arrays may be the same as the input arrays.
+     * <p>
+     * The standard implementation uses {@link #getLeapSecondDates()}, {@link #getLeapSecondAdjustment(long)}
+     * and {@link #getTaiOffset(long)}, relying on the TAI offset only changing after a leap-second date.
+     *
+     * @param taiSeconds  the seconds from the epoch of 1958-01-01T00:00:00(TAI), not null
+     * @param taiNanos  the nanosecond-of-second of each TAI instant, from 0 to 999,999,999, not null
+     * @param epochSeconds  the array to receive the epoch-seconds, not null
+     * @param nanos  the array to receive the nanosecond-of-second, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nanosecond is invalid
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertTaiToInstants(long[] taiSeconds, int[] taiNanos, long[] epochSeconds, int[] nanos) {
+        checkLengths(taiSeconds.length, taiNanos.length, epochSeconds.length, nanos.length);
+        LeapTable table = new LeapTable(this);
+        for (int i = 0; i < taiSeconds.length; i++) {
+            long utcNanos = table.toUtc(taiSeconds[i], checkNano(taiNanos[i]));
+            long mjd = table.mjd;
+            long slsNanos = table.toSlsNanos(mjd, utcNanos);
+            epochSeconds[i] = Math.addExact(Math.multiplyExact(mjd - OFFSET_MJD_EPOCH, SECS_PER_DAY), slsNanos / NANOS_PER_SECOND);
+            nanos[i] = (int) (slsNanos % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts an array of UTC instants, expressed as Modified Julian Day and nano-of-day, to the TAI time-scale.
+     * <p>
+     * This is the bulk equivalent of {@link #convertToTai(UtcInstant)}, writing the TAI seconds
+     * and nanosecond-of-second of each element to the output arrays without creating objects.
+     * Where the input is sorted, the leap-second table is traversed once from start to end.
+     * The output arrays may be the same as the input arrays.
+     * <p>
+     * The standard implementation uses {@link #getLeapSecondDates()}, {@link #getLeapSecondAdjustment(long)}
+     * and {@link #getTaiOffset(long)}, relying on the TAI offset only changing after a leap-second date.
+     *
+     * @param mjDays  the dates as Modified Julian Days, not null
+     * @param nanoOfDays  the nanoseconds within each day, including leap seconds, not null
+     * @param taiSeconds  the array to receive the TAI seconds, not null
+     * @param taiNanos  the array to receive the TAI nanosecond-of-second, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nano-of-day is invalid
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertUtcToTai(long[] mjDays, long[] nanoOfDays, long[] taiSeconds, int[] taiNanos) {
+        checkLengths(mjDays.length, nanoOfDays.length, taiSeconds.length, taiNanos.length);
+        LeapTable table = new LeapTable(this);
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long nanoOfDay = table.checkNanoOfDay(mjd, nanoOfDays[i]);
+            taiSeconds[i] = table.toTaiSeconds(mjd, nanoOfDay);
+            taiNanos[i] = (int) (nanoOfDay % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts an array of TAI instants, expressed as TAI seconds and nanoseconds, to the UTC time-scale.
+     * <p>
+     * This is the bulk equivalent of {@link #convertToUtc(TaiInstant)}, writing the Modified Julian Day
+     * and nano-of-day of each element to the output arrays without creating objects.
+     * Where the input is sorted, the leap-second table is traversed once from start to end.
+     * The output arrays may be the same as the input arrays.
+     * <p>
+     * The standard implementation uses {@link #getLeapSecondDates()}, {@link #getLeapSecondAdjustment(long)}
+     * and {@link #getTaiOffset(long)}, relying on the TAI offset only changing after a leap-second date.
+     *
+     * @param taiSeconds  the seconds from the epoch of 1958-01-01T00:00:00(TAI), not null
+     * @param taiNanos  the nanosecond-of-second of each TAI instant, from 0 to 999,999,999, not null
+     * @param mjDays  the array to receive the Modified Julian Days, not null
+     * @param nanoOfDays  the array to receive the nano-of-day, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nanosecond is invalid
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertTaiToUtc(long[] taiSeconds, int[] taiNanos, long[] mjDays, long[] nanoOfDays) {
+        checkLengths(taiSeconds.length, taiNanos.length, mjDays.length, nanoOfDays.length);
+        LeapTable table = new LeapTable(this);
+        for (int i = 0; i < taiSeconds.length; i++) {
+            nanoOfDays[i] = table.toUtc(taiSeconds[i], checkNano(taiNanos[i]));
+            mjDays[i] = table.mjd;
+        }
+    }
+
+    /**
+     * Converts an array of UTC instants, expressed as Modified Julian Day and nano-of-day, to epoch-seconds.
+     * <p>
+     * This is the bulk equivalent of {@link #convertToInstant(UtcInstant)}, writing the epoch-seconds
+     * and nanosecond-of-second of each element to the output arrays without creating objects.
+     * Where the input is sorted, the leap-second table is traversed once from start to end.
+     * The output arrays may be the same as the input arrays.
+     * <p>
+     * The standard implementation uses {@link #getLeapSecondDates()}, {@link #getLeapSecondAdjustment(long)}
+     * and {@link #getTaiOffset(long)}, relying on the TAI offset only changing after a leap-second date.
+     *
+     * @param mjDays  the dates as Modified Julian Days, not null
+     * @param nanoOfDays  the nanoseconds within each day, including leap seconds, not null
+     * @param epochSeconds  the array to receive the epoch-seconds, not null
+     * @param nanos  the array to receive the nanosecond-of-second, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nano-of-day is invalid
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void convertUtcToInstants(long[] mjDays, long[] nanoOfDays, long[] epochSeconds, int[] nanos) {
+        checkLengths(mjDays.length, nanoOfDays.length, epochSeconds.length, nanos.length);
+        LeapTable table = new LeapTable(this);
+        for (int i = 0; i < mjDays.length; i++) {
+            long mjd = mjDays[i];
+            long slsNanos = table.toSlsNanos(mjd, table.checkNanoOfDay(mjd, nanoOfDays[i]));
+            epochSeconds[i] = Math.addExact(Math.multiplyExact(Math.subtractExact(mjd, OFFSET_MJD_EPOCH), SECS_PER_DAY), slsNanos / NANOS_PER_SECOND);
+            nanos[i] = (int) (slsNanos % NANOS_PER_SECOND);
+        }
+    }
+
+    /**
+     * Converts an array of instants, expressed as epoch-seconds and nanoseconds, to the UTC time-scale.
+     * <p>
+     * This is the bulk equivalent of {@link #convertToUtc(Instant)}, writing the Modified Julian Day
+     * and nano-of-day of each element to the output arrays without creating objects.
+     * Where the input is sorted, the leap-second table is traversed once from start to end.
+     * The output arrays may be the same as the input arrays.
+     * <p>
+     * The standard implementation uses {@link #getLeapSecondDates()}, {@link #getLeapSecondAdjustment(long)}
+     * and {@link #getTaiOffset(long)}, relying on the TAI offset only changing after a leap-second date.
+     *
+     * @param epochSeconds  the seconds from the epoch of 1970-01-01T00:00:00Z, not null
+     * @param nanos  the nanosecond-of-second of each instant, from 0 to 999,999,999, not null
+     * @param mjDays  the array to receive the Modified Julian Days, not null
+     * @param nanoOfDays  the array to receive the nano-of-day, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a nanosecond is invalid
+     */
+    public void convertInstantsToUtc(long[] epochSeconds, int[] nanos, long[] mjDays, long[] nanoOfDays) {
+        checkLengths(epochSeconds.length, nanos.length, mjDays.length, nanoOfDays.length);
+        LeapTable table = new LeapTable(this);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSecond = epochSeconds[i];
+            long mjd = Math.floorDiv(epochSecond, SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+            nanoOfDays[i] = table.toUtcNanos(mjd, Math.floorMod(epochSecond, SECS_PER_DAY) * NANOS_PER_SECOND + checkNano(nanos[i]));
+            mjDays[i] = mjd;
+        }
+    }
+
+    private static void checkLengths(int inputLength, int inputNanosLength, int resultLength, int resultNanosLength) {
+        if (inputLength != inputNanosLength || inputLength != resultLength || inputLength != resultNanosLength) {
+            throw new IllegalArgumentException("Array lengths differ");
+        }
+    }
+
+    private static int checkNano(int nano) {
+        if (nano < 0 || nano >= NANOS_PER_SECOND) {
+            throw new DateTimeException("Nanosecond-of-second must be between 0 and 999,999,999: " + nano);
+        }
+        return nano;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * A string representation of these rules.
@@ -345,4 +568,123 @@ public abstract class UtcRules {
         return "UtcRules[" + getName() + ']';
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The leap-second table of a set of rules, with a cursor for bulk conversion.
+     * <p>
+     * The cursor moves forwards through the table, so sorted input does not search.
+     * Unsorted input falls back to a binary search when the cursor has to move backwards.
+     */
+    private static final class LeapTable {
+        /** The leap-second dates. */
+        private final long[] dates;
+        /** The leap-second adjustment on each date. */
+        private final int[] adjustments;
+        /** The TAI offset after each date. */
+        private final int[] offsetsAfter;
+        /** The TAI second at the start of the day after each date. */
+        private final long[] taiStarts;
+        /** The TAI offset before the first date. */
+        private final int initialOffset;
+        /** The number of dates before the last date looked up. */
+        private int datePos;
+        /** The number of TAI starts at or before the last TAI second looked up. */
+        private int taiPos;
+        /** The Modified Julian Day of the last conversion from TAI. */
+        private long mjd;
+
+        private LeapTable(UtcRules rules) {
+            dates = rules.getLeapSecondDates();
+            adjustments = new int[dates.length];
+            offsetsAfter = new int[dates.length];
+            taiStarts = new long[dates.length];
+            initialOffset = rules.getTaiOffset(dates.length > 0 ? dates[0] : OFFSET_MJD_EPOCH);
+            for (int i = 0; i < dates.length; i++) {
+                adjustments[i] = rules.getLeapSecondAdjustment(dates[i]);
+                offsetsAfter[i] = rules.getTaiOffset(dates[i] + 1);
+                taiStarts[i] = (dates[i] + 1 - OFFSET_MJD_TAI) * SECS_PER_DAY + offsetsAfter[i];
+            }
+        }
+
+        private int dateIndex(long mjDay) {
+            int pos = datePos;
+            if (pos > 0 && dates[pos - 1] >= mjDay) {
+                pos = Arrays.binarySearch(dates, mjDay);
+                pos = (pos < 0 ? ~pos : pos);
+            } else {
+                while (pos < dates.length && dates[pos] < mjDay) {
+                    pos++;
+                }
+            }
+            datePos = pos;
+            return pos;
+        }
+
+        private int taiIndex(long taiSecs) {
+            int pos = taiPos;
+            if (pos > 0 && taiStarts[pos - 1] > taiSecs) {
+                pos = Arrays.binarySearch(taiStarts, taiSecs);
+                pos = (pos < 0 ? ~pos : pos + 1);
+            } else {
+                while (pos < taiStarts.length && taiStarts[pos] <= taiSecs) {
+                    pos++;
+                }
+            }
+            taiPos = pos;
+            return pos;
+        }
+
+        private int leapAdjustment(long mjDay) {
+            int pos = dateIndex(mjDay);
+            return pos < dates.length && dates[pos] == mjDay ? adjustments[pos] : 0;
+        }
+
+        private long checkNanoOfDay(long mjDay, long nanoOfDay) {
+            long maxNanos = (SECS_PER_DAY + leapAdjustment(mjDay)) * NANOS_PER_SECOND;
+            if (nanoOfDay < 0 || nanoOfDay >= maxNanos) {
+                throw new DateTimeException("Nanosecond-of-day must be between 0 and " + maxNanos + " on date " + mjDay);
+            }
+            return nanoOfDay;
+        }
+
+        private long toTaiSeconds(long mjDay, long nanoOfDay) {
+            int pos = dateIndex(mjDay);
+            int offset = pos > 0 ? offsetsAfter[pos - 1] : initialOffset;
+            long taiUtcDaySeconds = Math.multiplyExact(Math.subtractExact(mjDay, OFFSET_MJD_TAI), SECS_PER_DAY);
+            return Math.addExact(taiUtcDaySeconds, nanoOfDay / NANOS_PER_SECOND + offset);
+        }
+
+        private long toUtc(long taiSecs, int nano) {
+            int pos = taiIndex(taiSecs);
+            int offset = pos > 0 ? offsetsAfter[pos - 1] : initialOffset;
+            long adjustedTaiSecs = taiSecs - offset;
+            long mjDay = Math.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            long nanoOfDay = Math.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + nano;
+            if (pos < dates.length && mjDay == dates[pos] + 1) {  // in leap second
+                mjDay--;
+                nanoOfDay += SECS_PER_DAY * NANOS_PER_SECOND;
+            }
+            mjd = mjDay;
+            return nanoOfDay;
+        }
+
+        private long toUtcNanos(long mjDay, long slsNanos) {
+            int leapAdj = leapAdjustment(mjDay);
+            long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+            if (leapAdj != 0 && slsNanos >= startSlsNanos) {
+                return startSlsNanos + ((slsNanos - startSlsNanos) * 1000) / (1000 - leapAdj);  // apply UTC-SLS mapping
+            }
+            return slsNanos;
+        }
+
+        private long toSlsNanos(long mjDay, long utcNanos) {
+            int leapAdj = leapAdjustment(mjDay);
+            long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+            if (leapAdj != 0 && utcNanos >= startSlsNanos) {
+                return utcNanos - leapAdj * (utcNanos - startSlsNanos) / 1000;  // apply UTC-SLS mapping
+            }
+            return utcNanos;
+        }
+    }
+
 }
@@ -94,6 +94,17 @@ public class TestDays {
     }
 
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Days.of(5), Days.of(5));
+        assertSame(Days.of(-1024), Days.of(-1024));
+        assertSame(Days.of(1024), Days.of(1024));
+        assertSame(Days.of(5), Days.parse("P5D"));
+        assertSame(Days.of(5), Days.of(2).plus(3));
+        assertEquals(1025, Days.of(1025).getAmount());
+        assertEquals(-1025, Days.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(0, Days.of(0).getAmount());
@@ -244,6 +255,67 @@ public class TestDays {
         Days.parse((CharSequence) null);
     }
 
+    @Test
+    public void test_parse_CharSequence_caseInsensitive() {
+        assertEquals(Days.of(17), Days.parse("p2w3d"));
+        assertEquals(Days.of(-17), Days.parse("-p2W3d"));
+    }
+
+    @Test
+    public void test_parse_CharSequence_intBounds() {
+        assertEquals(Days.of(Integer.MAX_VALUE), Days.parse("P2147483647D"));
+        assertEquals(Days.of(Integer.MIN_VALUE), Days.parse("P-2147483648D"));
+        assertEquals(Days.of(2), Days.parse("P0000000000000002D"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequence_daysTooLarge() {
+        Days.parse("P2147483648D");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequence_weeksTooLarge() {
+        Days.parse("P-2147483649W");
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void test_parse_CharSequence_weeksOverflow() {
+        Days.parse("P306783379W");
+    }
+
+    @Test
+    @UseDataProvider("data_valid")
+    public void test_parse_CharSequence_int_int_valid(String str, int expectedDays) {
+        assertEquals(Days.of(expectedDays), Days.parse("[-" + str + "]", 2, str.length() + 2));
+        assertEquals(Days.of(-expectedDays), Days.parse("[-" + str + "]", 1, str.length() + 2));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Days.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Days.parse("P2D", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Days.parse("P2D", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Days.parse("P2D", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Days.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Days() {
@@ -522,4 +594,17 @@ public class TestDays {
         assertEquals("P-1D", testM1.toString());
     }
 
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Days test = Days.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
@@ -85,6 +85,17 @@ public class TestHours {
     }
     
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Hours.of(5), Hours.of(5));
+        assertSame(Hours.of(-1024), Hours.of(-1024));
+        assertSame(Hours.of(1024), Hours.of(1024));
+        assertSame(Hours.of(5), Hours.parse("PT5H"));
+        assertSame(Hours.of(5), Hours.of(2).plus(3));
+        assertEquals(1025, Hours.of(1025).getAmount());
+        assertEquals(-1025, Hours.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(0, Hours.of(0).getAmount());
@@ -171,6 +182,39 @@ public class TestHours {
     public void test_parse_CharSequence_null() {
         Hours.parse((CharSequence) null);
     }
+
+    @Test
+    @UseDataProvider("data_valid")
+    public void test_parse_CharSequence_int_int_valid(String str, int expectedDays) {
+        assertEquals(Hours.of(expectedDays), Hours.parse("[-" + str + "]", 2, str.length() + 2));
+        assertEquals(Hours.of(-expectedDays), Hours.parse("[-" + str + "]", 1, str.length() + 2));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Hours.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Hours.parse("P2D", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Hours.parse("P2D", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Hours.parse("P2D", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Hours.parse((CharSequence) null, 0, 0);
+    }
     
     //-----------------------------------------------------------------------
     @Test
@@ -447,4 +491,18 @@ public class TestHours {
         assertEquals("PT-1H", testM1.toString());
     }
     
+
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Hours test = Hours.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
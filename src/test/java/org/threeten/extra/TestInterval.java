@@ -39,6 +39,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
@@ -731,4 +732,114 @@ public class TestInterval {
         assertEquals(NOW1 + "/" + NOW2, test.toString());
     }
 
+    @DataProvider
+    public static Object[][] data_formatTo() {
+        return new Object[][] {
+            {Instant.EPOCH, NOW1},
+            {NOW1, NOW2},
+            {Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(0, 1_000)},
+            {Instant.ofEpochSecond(0, 1_000_000), Instant.ofEpochSecond(0, 123_456_789)},
+            {Instant.ofEpochSecond(-1, 999_999_999), Instant.ofEpochSecond(59, 100_000_000)},
+            {Instant.ofEpochSecond(-62167219201L, 5), Instant.ofEpochSecond(-62167219200L)},
+            {Instant.ofEpochSecond(253402300799L, 999_999_999), Instant.ofEpochSecond(253402300800L)},
+            {Instant.parse("-10000-01-01T00:00:00Z"), Instant.parse("+12345-06-07T08:09:10.5Z")},
+            {Instant.parse("1600-02-29T23:59:59Z"), Instant.parse("2000-02-29T12:00:00Z")},
+            {Instant.MIN, Instant.MAX},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_formatTo")
+    public void test_formatTo_StringBuilder(Instant start, Instant end) {
+        Interval test = Interval.of(start, end);
+        StringBuilder buf = new StringBuilder("x");
+        test.formatTo(buf);
+        assertEquals("x" + start + "/" + end, buf.toString());
+        assertEquals(start + "/" + end, test.toString());
+    }
+
+    @Test
+    @UseDataProvider("data_formatTo")
+    public void test_formatTo_Appendable(Instant start, Instant end) {
+        Interval test = Interval.of(start, end);
+        StringBuffer buf = new StringBuffer("x");
+        test.formatTo(buf);
+        assertEquals("x" + start + "/" + end, buf.toString());
+    }
+
+    @Test
+    public void test_formatTo_Appendable_pieces() {
+        Instant start = Instant.ofEpochSecond(-1, 999_999_999);
+        Instant end = Instant.ofEpochSecond(253402300799L, 123_456_000);
+        PieceAppendable appendable = new PieceAppendable();
+        Interval.of(start, end).formatTo(appendable);
+        assertEquals(start + "/" + end, appendable.toString());
+    }
+
+    @Test
+    public void test_formatTo_StringBuilder_allDays() {
+        StringBuilder buf = new StringBuilder();
+        for (long day = -719528; day < 2932897; day += 13) {
+            int nano = (int) Math.floorMod(day * 7919, 1_000_000_000L);
+            nano = (day % 3 == 0 ? nano : day % 3 == 1 ? nano / 1000 * 1000 : nano / 1_000_000 * 1_000_000);
+            Instant instant = Instant.ofEpochSecond(day * 86400 + Math.floorMod(day * 31, 86400), nano);
+            buf.setLength(0);
+            Interval.of(instant, instant).formatTo(buf);
+            assertEquals(instant + "/" + instant, buf.toString());
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_formatTo_Appendable_ioException() {
+        Interval.of(NOW1, NOW2).formatTo(new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException();
+            }
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException();
+            }
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException();
+            }
+        });
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_formatTo_StringBuilder_null() {
+        Interval.of(NOW1, NOW2).formatTo((StringBuilder) null);
+    }
+
+    /**
+     * Appendable that rejects appending more than three characters at once.
+     */
+    static final class PieceAppendable implements Appendable {
+        private final StringBuilder buf = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            assertTrue(csq.length() <= 3);
+            buf.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) {
+            buf.append(c);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return buf.toString();
+        }
+    }
+
 }
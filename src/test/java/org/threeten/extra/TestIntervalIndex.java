@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Test interval index.
+ */
+public class TestIntervalIndex {
+
+    private static final Instant BASE = Instant.parse("2012-07-01T00:00:00Z");
+    private static final Interval INTERVAL_0_10 = Interval.of(BASE, BASE.plusSeconds(10));
+    private static final Interval INTERVAL_5_15 = Interval.of(BASE.plusSeconds(5), BASE.plusSeconds(15));
+    private static final Interval INTERVAL_10_20 = Interval.of(BASE.plusSeconds(10), BASE.plusSeconds(20));
+    private static final Interval INTERVAL_EMPTY_10 = Interval.of(BASE.plusSeconds(10), BASE.plusSeconds(10));
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_empty() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder().build();
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.size());
+        assertEquals(0, test.containing(BASE).count());
+        assertEquals(0, test.overlapping(Interval.ALL).count());
+        assertEquals("IntervalIndex[size=0]", test.toString());
+    }
+
+    @Test
+    public void test_containing() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder()
+                .put(INTERVAL_10_20, "C")
+                .put(INTERVAL_5_15, "B")
+                .put(INTERVAL_0_10, "A")
+                .put(INTERVAL_EMPTY_10, "E")
+                .build();
+        assertFalse(test.isEmpty());
+        assertEquals(4, test.size());
+        assertEquals(Collections.emptyList(), values(test.containing(BASE.minusNanos(1))));
+        assertEquals(Arrays.asList("A"), values(test.containing(BASE)));
+        assertEquals(Arrays.asList("A", "B"), values(test.containing(BASE.plusSeconds(10).minusNanos(1))));
+        assertEquals(Arrays.asList("B", "C"), values(test.containing(BASE.plusSeconds(10))));
+        assertEquals(Arrays.asList("C"), values(test.containing(BASE.plusSeconds(19))));
+        assertEquals(Collections.emptyList(), values(test.containing(BASE.plusSeconds(20))));
+        assertEquals(Arrays.asList("A", "B", "C", "E"), values(test.stream()));
+    }
+
+    @Test
+    public void test_overlapping() {
+        IntervalIndex<String> test = IntervalIndex.<String>builder()
+                .put(INTERVAL_10_20, "C")
+                .put(INTERVAL_5_15, "B")
+                .put(INTERVAL_0_10, "A")
+                .put(INTERVAL_EMPTY_10, "E")
+                .build();
+        assertEquals(Arrays.asList("A", "B", "C", "E"), values(test.overlapping(Interval.ALL)));
+        assertEquals(Arrays.asList("A", "B"), values(test.overlapping(Interval.of(BASE, BASE.plusSeconds(6)))));
+        assertEquals(Arrays.asList("B", "C"), values(test.overlapping(Interval.of(BASE.plusSeconds(10), BASE.plusSeconds(12)))));
+        assertEquals(Arrays.asList("B", "C"), values(test.overlapping(Interval.of(BASE.plusSeconds(12), BASE.plusSeconds(12)))));
+        assertEquals(Arrays.asList("B", "E"), values(test.overlapping(INTERVAL_EMPTY_10)));
+        assertEquals(Collections.emptyList(), values(test.overlapping(Interval.of(BASE.plusSeconds(20), Instant.MAX))));
+    }
+
+    @Test
+    public void test_unbounded() {
+        Map<Interval, String> map = new LinkedHashMap<>();
+        map.put(Interval.of(BASE, Instant.MAX), "A");
+        map.put(Interval.of(Instant.MIN, BASE), "B");
+        IntervalIndex<String> test = IntervalIndex.of(map);
+        assertEquals(Arrays.asList("A"), values(test.containing(Instant.MAX)));
+        assertEquals(Arrays.asList("B"), values(test.containing(Instant.MIN)));
+        assertEquals(Arrays.asList("A"), values(test.overlapping(Interval.of(Instant.MAX, Instant.MAX))));
+        assertEquals(Arrays.asList("B", "A"), values(test.overlapping(Interval.ALL)));
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1234);
+        List<Interval> intervals = new ArrayList<>();
+        IntervalIndex.Builder<Integer> builder = IntervalIndex.builder();
+        for (int i = 0; i < 2000; i++) {
+            Instant start = BASE.plusMillis(random.nextInt(100_000));
+            Interval interval = Interval.of(start, Duration.ofMillis(random.nextInt(random.nextBoolean() ? 100 : 10_000)));
+            intervals.add(interval);
+            builder.put(interval, i);
+        }
+        IntervalIndex<Integer> test = builder.build();
+        for (int loop = 0; loop < 200; loop++) {
+            Instant instant = BASE.plusMillis(random.nextInt(110_000) - 5_000);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < intervals.size(); i++) {
+                if (intervals.get(i).contains(instant)) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = values(test.containing(instant));
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+
+            Interval query = Interval.of(instant, Duration.ofMillis(random.nextInt(1000)));
+            expected.clear();
+            for (int i = 0; i < intervals.size(); i++) {
+                if (intervals.get(i).overlaps(query)) {
+                    expected.add(i);
+                }
+            }
+            actual = values(test.overlapping(query));
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_put_nullValue() {
+        IntervalIndex.<String>builder().put(INTERVAL_0_10, null);
+    }
+
+    private static <K, V> List<V> values(Stream<Map.Entry<K, V>> stream) {
+        return stream.map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Test interval map.
+ */
+public class TestIntervalMap {
+
+    private static final Instant NOW1 = Instant.parse("2014-12-01T00:00:00Z");
+    private static final Instant NOW2 = Instant.parse("2014-12-02T00:00:00Z");
+    private static final Instant NOW3 = Instant.parse("2014-12-03T00:00:00Z");
+    private static final Instant NOW4 = Instant.parse("2014-12-04T00:00:00Z");
+    private static final Interval INTERVAL_1_2 = Interval.of(NOW1, NOW2);
+    private static final Interval INTERVAL_2_3 = Interval.of(NOW2, NOW3);
+    private static final Interval INTERVAL_1_3 = Interval.of(NOW1, NOW3);
+    private static final Interval INTERVAL_1_4 = Interval.of(NOW1, NOW4);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_empty() {
+        IntervalMap<String> test = IntervalMap.empty();
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.size());
+        assertNull(test.get(NOW1));
+        assertNull(test.getEntry(NOW1));
+        assertFalse(test.contains(NOW1));
+        assertEquals("{}", test.toString());
+        assertSame(test, IntervalMap.builder().build());
+    }
+
+    @Test
+    public void test_of() {
+        IntervalMap<String> test = IntervalMap.of(INTERVAL_1_2, "A");
+        assertEquals(1, test.size());
+        assertEquals("A", test.get(NOW1));
+        assertEquals("A", test.get(NOW2.minusNanos(1)));
+        assertNull(test.get(NOW2));
+        assertNull(test.get(NOW1.minusNanos(1)));
+        assertTrue(test.contains(NOW1));
+        assertEquals(new SimpleImmutableEntry<>(INTERVAL_1_2, "A"), test.getEntry(NOW1));
+        assertEquals("{2014-12-01T00:00:00Z/2014-12-02T00:00:00Z=A}", test.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_put_splits() {
+        IntervalMap<String> test = IntervalMap.<String>builder()
+                .put(INTERVAL_1_4, "A")
+                .put(INTERVAL_2_3, "B")
+                .build();
+        assertEquals(Arrays.asList(INTERVAL_1_2, INTERVAL_2_3, Interval.of(NOW3, NOW4)),
+                test.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("A", "B", "A"),
+                test.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_put_unbounded() {
+        IntervalMap<String> test = IntervalMap.<String>builder()
+                .put(Interval.ALL, "A")
+                .remove(INTERVAL_1_2)
+                .build();
+        assertEquals("A", test.get(Instant.MIN));
+        assertEquals("A", test.get(Instant.MAX));
+        assertNull(test.get(NOW1));
+        assertEquals(Arrays.asList(Interval.of(Instant.MIN, NOW1), Interval.of(NOW2, Instant.MAX)),
+                test.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        assertEquals(IntervalMap.of(Interval.of(NOW2, Instant.MAX), "A"), test.subMap(Interval.of(NOW1, Instant.MAX)));
+    }
+
+    @Test
+    public void test_coalescing() {
+        IntervalMap<String> test = IntervalMap.<String>builder()
+                .put(INTERVAL_1_2, "A")
+                .put(INTERVAL_2_3, "A")
+                .coalescing(true)
+                .build();
+        assertEquals(IntervalMap.of(INTERVAL_1_3, "A"), test);
+    }
+
+    @Test
+    public void test_subMap() {
+        IntervalMap<String> base = IntervalMap.<String>builder()
+                .put(INTERVAL_1_2, "A")
+                .put(INTERVAL_2_3, "B")
+                .build();
+        IntervalMap<String> test = base.subMap(Interval.of(NOW1.plusSeconds(10), NOW2.plusNanos(5)));
+        assertEquals(2, test.size());
+        assertNull(test.get(NOW1));
+        assertEquals("A", test.get(NOW1.plusSeconds(10)));
+        assertEquals("B", test.get(NOW2.plusNanos(4)));
+        assertNull(test.get(NOW2.plusNanos(5)));
+        assertEquals(Interval.of(NOW2, NOW2.plusNanos(5)), test.getEntry(NOW2).getKey());
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1234);
+        for (int loop = 0; loop < 100; loop++) {
+            IntervalMap.Builder<Integer> builder = IntervalMap.builder();
+            Integer[] expected = new Integer[50];
+            for (int i = 0; i < 8; i++) {
+                int start = random.nextInt(50);
+                int end = start + random.nextInt(50 - start + 1);
+                Integer value = random.nextInt(4) == 0 ? null : random.nextInt(3);
+                Interval interval = Interval.of(NOW1.plusNanos(start), NOW1.plusNanos(end));
+                if (value == null) {
+                    builder.remove(interval);
+                } else {
+                    builder.put(interval, value);
+                }
+                Arrays.fill(expected, start, end, value);
+            }
+            IntervalMap<Integer> test = builder.build();
+            for (int i = -1; i <= 50; i++) {
+                assertEquals(i >= 0 && i < 50 ? expected[i] : null, test.get(NOW1.plusNanos(i)));
+            }
+        }
+    }
+
+    @Test
+    public void test_equals() {
+        IntervalMap<String> a = IntervalMap.of(INTERVAL_1_2, "A");
+        IntervalMap<String> b = IntervalMap.of(INTERVAL_1_3, "A").subMap(INTERVAL_1_2);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, IntervalMap.of(INTERVAL_1_2, "B"));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Test interval set.
+ */
+public class TestIntervalSet {
+
+    private static final Instant BASE = Instant.parse("2012-07-01T00:00:00Z");
+    private static final Instant NOW1 = BASE.plusMillis(1500);
+    private static final Instant NOW2 = BASE.plusSeconds(5);
+    private static final Instant NOW3 = BASE.plusMillis(10_250);
+    private static final Instant NOW4 = BASE.plusSeconds(15);
+    private static final Instant NOW5 = BASE.plusSeconds(20);
+    private static final Interval INTERVAL_1_2 = Interval.of(NOW1, NOW2);
+    private static final Interval INTERVAL_2_3 = Interval.of(NOW2, NOW3);
+    private static final Interval INTERVAL_1_3 = Interval.of(NOW1, NOW3);
+    private static final Interval INTERVAL_4_5 = Interval.of(NOW4, NOW5);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_EMPTY() {
+        IntervalSet test = IntervalSet.EMPTY;
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.intervalCount());
+        assertEquals(Collections.emptyList(), test.getIntervals());
+        assertFalse(test.contains(NOW1));
+        assertEquals(Duration.ZERO, test.totalDuration());
+        assertEquals("[]", test.toString());
+        assertSame(IntervalSet.EMPTY, IntervalSet.of());
+    }
+
+    @Test
+    public void test_ALL() {
+        IntervalSet test = IntervalSet.ALL;
+        assertFalse(test.isEmpty());
+        assertEquals(Arrays.asList(Interval.ALL), test.getIntervals());
+        assertTrue(test.contains(Instant.MIN));
+        assertTrue(test.contains(Instant.MAX));
+        assertEquals(Interval.ALL, test.span());
+        assertEquals(Interval.ALL.toDuration(), test.totalDuration());
+        assertEquals(IntervalSet.EMPTY, test.complement());
+        assertEquals(test, IntervalSet.EMPTY.complement());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_coalesces() {
+        IntervalSet test = IntervalSet.of(INTERVAL_4_5, INTERVAL_2_3, INTERVAL_1_2);
+        assertEquals(Arrays.asList(INTERVAL_1_3, INTERVAL_4_5), test.getIntervals());
+        assertEquals(2, test.intervalCount());
+        assertEquals(Duration.ofMillis(8750 + 5000), test.totalDuration());
+        assertEquals("[2012-07-01T00:00:01.500Z/2012-07-01T00:00:10.250Z, 2012-07-01T00:00:15Z/2012-07-01T00:00:20Z]", test.toString());
+    }
+
+    @Test
+    public void test_of_emptyIntervalsDiscarded() {
+        IntervalSet test = IntervalSet.of(Interval.of(NOW5, NOW5), INTERVAL_4_5, Interval.of(NOW1, NOW1));
+        assertEquals(Arrays.asList(INTERVAL_4_5), test.getIntervals());
+        assertEquals(IntervalSet.EMPTY, IntervalSet.of(Interval.of(NOW1, NOW1)));
+    }
+
+    @Test
+    public void test_of_Iterable() {
+        IntervalSet test = IntervalSet.of(Arrays.asList(INTERVAL_4_5, INTERVAL_1_2));
+        assertEquals(Arrays.asList(INTERVAL_1_2, INTERVAL_4_5), test.streamIntervals().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_builder() {
+        IntervalSet.Builder builder = IntervalSet.builder();
+        for (int i = 40; i >= 0; i--) {
+            builder.add(Interval.of(BASE.plusSeconds(i * 2), Duration.ofMillis(1000)));
+        }
+        IntervalSet test = builder.build();
+        assertEquals(41, test.intervalCount());
+        assertEquals(Duration.ofSeconds(41), test.totalDuration());
+        assertEquals(test, builder.build());
+        builder.addAll(test.complement());
+        assertEquals(IntervalSet.ALL, builder.build());
+    }
+
+    @Test
+    public void test_unbounded() {
+        IntervalSet test = IntervalSet.of(Interval.of(NOW3, Instant.MAX), Interval.of(Instant.MIN, NOW2));
+        assertTrue(test.contains(Instant.MIN));
+        assertTrue(test.contains(Instant.MAX));
+        assertFalse(test.contains(NOW2));
+        assertEquals(Arrays.asList(Interval.of(Instant.MIN, NOW2), Interval.of(NOW3, Instant.MAX)), test.getIntervals());
+        assertEquals(IntervalSet.of(INTERVAL_2_3), test.complement());
+        assertEquals(test, test.complement().complement());
+        assertEquals(Interval.ALL.toDuration().minus(INTERVAL_2_3.toDuration()), test.totalDuration());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_span_empty() {
+        IntervalSet.EMPTY.span();
+    }
+
+    @Test
+    public void test_span() {
+        assertEquals(Interval.of(NOW1, NOW5), IntervalSet.of(INTERVAL_1_2, INTERVAL_4_5).span());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_contains() {
+        IntervalSet test = IntervalSet.of(INTERVAL_1_2, INTERVAL_4_5);
+        assertFalse(test.contains(NOW1.minusNanos(1)));
+        assertTrue(test.contains(NOW1));
+        assertTrue(test.contains(NOW2.minusNanos(1)));
+        assertFalse(test.contains(NOW2));
+        assertFalse(test.contains(NOW3));
+        assertTrue(test.contains(NOW4));
+        assertFalse(test.contains(NOW5));
+        assertFalse(test.contains(Instant.MIN));
+        assertFalse(test.contains(Instant.MAX));
+    }
+
+    @Test
+    public void test_encloses() {
+        IntervalSet test = IntervalSet.of(INTERVAL_1_3, INTERVAL_4_5);
+        assertTrue(test.encloses(INTERVAL_1_2));
+        assertTrue(test.encloses(INTERVAL_2_3));
+        assertTrue(test.encloses(INTERVAL_1_3));
+        assertFalse(test.encloses(Interval.of(NOW2, NOW4)));
+        assertTrue(test.encloses(Interval.of(NOW3, NOW3)));
+        assertFalse(test.encloses(Interval.of(NOW3.plusNanos(1), NOW3.plusNanos(1))));
+        assertFalse(test.encloses(Interval.ALL));
+        assertTrue(IntervalSet.ALL.encloses(Interval.ALL));
+    }
+
+    @Test
+    public void test_overlaps() {
+        IntervalSet test = IntervalSet.of(INTERVAL_1_2, INTERVAL_4_5);
+        assertTrue(test.overlaps(INTERVAL_1_3));
+        assertFalse(test.overlaps(INTERVAL_2_3));
+        assertTrue(test.overlaps(Interval.of(NOW3, NOW5.plusSeconds(1))));
+        assertFalse(test.overlaps(Interval.of(NOW5, NOW5.plusSeconds(1))));
+        assertFalse(test.overlaps(Interval.of(NOW1, NOW1)));
+        assertTrue(test.overlaps(Interval.ALL));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_operations_intervals() {
+        IntervalSet test = IntervalSet.of(INTERVAL_1_2, INTERVAL_4_5);
+        assertEquals(IntervalSet.of(INTERVAL_1_3, INTERVAL_4_5), test.union(INTERVAL_2_3));
+        assertEquals(IntervalSet.of(INTERVAL_1_2), test.intersection(INTERVAL_1_3));
+        assertEquals(IntervalSet.of(INTERVAL_4_5), test.difference(INTERVAL_1_3));
+        assertEquals(IntervalSet.of(INTERVAL_2_3), IntervalSet.of(INTERVAL_1_3).difference(test));
+        assertEquals(IntervalSet.EMPTY, test.intersection(INTERVAL_2_3));
+    }
+
+    @Test
+    public void test_operations_random() {
+        Random random = new Random(1234);
+        for (int loop = 0; loop < 500; loop++) {
+            BitSet bitsA = new BitSet();
+            BitSet bitsB = new BitSet();
+            IntervalSet setA = randomSet(random, bitsA);
+            IntervalSet setB = randomSet(random, bitsB);
+            assertEquals(bitsA, toBitSet(setA));
+            assertEquals(Duration.ofMillis(250L * bitsA.cardinality()), setA.totalDuration());
+            BitSet union = (BitSet) bitsA.clone();
+            union.or(bitsB);
+            assertEquals(union, toBitSet(setA.union(setB)));
+            BitSet intersection = (BitSet) bitsA.clone();
+            intersection.and(bitsB);
+            assertEquals(intersection, toBitSet(setA.intersection(setB)));
+            BitSet difference = (BitSet) bitsA.clone();
+            difference.andNot(bitsB);
+            assertEquals(difference, toBitSet(setA.difference(setB)));
+            assertEquals(IntervalSet.ALL, setA.union(setA.complement()));
+            assertEquals(IntervalSet.EMPTY, setA.intersection(setA.complement()));
+            for (int i = 0; i < 64; i++) {
+                assertEquals(bitsA.get(i), setA.contains(BASE.plusMillis(250L * i)));
+            }
+        }
+    }
+
+    private static IntervalSet randomSet(Random random, BitSet bits) {
+        IntervalSet.Builder builder = IntervalSet.builder();
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(60);
+            int end = start + random.nextInt(64 - start);
+            bits.set(start, end);
+            builder.add(Interval.of(BASE.plusMillis(250L * start), BASE.plusMillis(250L * end)));
+        }
+        return builder.build();
+    }
+
+    private static BitSet toBitSet(IntervalSet set) {
+        BitSet bits = new BitSet();
+        for (Interval interval : set.getIntervals()) {
+            bits.set((int) (Duration.between(BASE, interval.getStart()).toMillis() / 250),
+                    (int) (Duration.between(BASE, interval.getEnd()).toMillis() / 250));
+        }
+        return bits;
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals() {
+        IntervalSet a = IntervalSet.of(INTERVAL_1_2, INTERVAL_2_3);
+        IntervalSet a2 = IntervalSet.of(INTERVAL_1_3);
+        IntervalSet b = IntervalSet.of(INTERVAL_1_3, INTERVAL_4_5);
+        assertEquals(true, a.equals(a));
+        assertEquals(true, a.equals(a2));
+        assertEquals(a.hashCode(), a2.hashCode());
+        assertEquals(false, a.equals(b));
+        assertEquals(false, a.equals(null));
+        assertEquals(false, a.equals(INTERVAL_1_3));
+    }
+
+    @Test
+    public void test_isSerializable() {
+        assertTrue(Serializable.class.isAssignableFrom(IntervalSet.class));
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        IntervalSet test = IntervalSet.of(INTERVAL_1_2, INTERVAL_4_5, Interval.of(NOW5.plusSeconds(1), Instant.MAX));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+            oos.writeObject(IntervalSet.EMPTY);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(test, ois.readObject());
+            assertSame(IntervalSet.EMPTY, ois.readObject());
+        }
+    }
+
+}
@@ -45,9 +45,14 @@ import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -1008,6 +1013,220 @@ public class TestLocalDateRange {
         assertEquals(LocalDate.MAX, result.get(2));
     }
 
+    @Test
+    public void test_stream_parallel() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_01.plusYears(10));
+        List<LocalDate> expected = new ArrayList<>();
+        for (LocalDate date = DATE_2012_07_01; date.isBefore(test.getEnd()); date = date.plusDays(1)) {
+            expected.add(date);
+        }
+        assertEquals(expected, test.stream().parallel().collect(Collectors.toList()));
+        assertEquals(expected.size(), test.stream().parallel().count());
+    }
+
+    @Test
+    public void test_stream_parallel_MAXM2_MAX() {
+        LocalDateRange test = LocalDateRange.of(MAXM2, LocalDate.MAX);
+        List<LocalDate> result = test.stream().parallel().collect(Collectors.toList());
+        assertEquals(Arrays.asList(MAXM2, MAXM1, LocalDate.MAX), result);
+    }
+
+    @Test
+    public void test_stream_spliterator_trySplit() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_08_01);
+        Spliterator<LocalDate> suffix = test.stream().spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+        assertEquals(4, suffix.getExactSizeIfKnown());
+        Spliterator<LocalDate> prefix = suffix.trySplit();
+        assertEquals(2, prefix.getExactSizeIfKnown());
+        assertEquals(2, suffix.getExactSizeIfKnown());
+        List<LocalDate> result = new ArrayList<>();
+        prefix.forEachRemaining(result::add);
+        assertTrue(suffix.tryAdvance(result::add));
+        assertEquals(1, suffix.getExactSizeIfKnown());
+        assertEquals(null, suffix.trySplit());
+        suffix.forEachRemaining(result::add);
+        assertFalse(suffix.tryAdvance(result::add));
+        assertEquals(Arrays.asList(DATE_2012_07_28, DATE_2012_07_29, DATE_2012_07_30, DATE_2012_07_31), result);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_epochDays() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        long[] result = test.epochDays().toArray();
+        assertEquals(3, result.length);
+        assertEquals(DATE_2012_07_28.toEpochDay(), result[0]);
+        assertEquals(DATE_2012_07_29.toEpochDay(), result[1]);
+        assertEquals(DATE_2012_07_30.toEpochDay(), result[2]);
+    }
+
+    @Test
+    public void test_epochDays_empty() {
+        LocalDateRange test = LocalDateRange.ofEmpty(DATE_2012_07_28);
+        assertEquals(0, test.epochDays().count());
+    }
+
+    @Test
+    public void test_epochDays_MIN_MINP3() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.MIN, MINP3);
+        long[] result = test.epochDays().toArray();
+        assertEquals(3, result.length);
+        assertEquals(LocalDate.MIN.toEpochDay(), result[0]);
+        assertEquals(MINP1.toEpochDay(), result[1]);
+        assertEquals(MINP2.toEpochDay(), result[2]);
+    }
+
+    @Test
+    public void test_epochDays_MAXM2_MAX() {
+        LocalDateRange test = LocalDateRange.of(MAXM2, LocalDate.MAX);
+        PrimitiveIterator.OfLong it = test.epochDays().iterator();
+        assertEquals(MAXM2.toEpochDay(), it.nextLong());
+        assertEquals(MAXM1.toEpochDay(), it.nextLong());
+        assertEquals(LocalDate.MAX.toEpochDay(), it.nextLong());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void test_epochDays_matchesStream() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_01.plusYears(3));
+        assertEquals(
+                test.stream().map(LocalDate::toEpochDay).collect(Collectors.toList()),
+                test.epochDays().parallel().boxed().collect(Collectors.toList()));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider
+    public static Object[][] data_stream_Period() {
+        return new Object[][] {
+            {DATE_2012_07_01, DATE_2012_08_31, Period.ofDays(1)},
+            {DATE_2012_07_01, DATE_2012_08_31, Period.ofDays(7)},
+            {DATE_2012_07_01, DATE_2012_08_31, Period.ofDays(61)},
+            {DATE_2012_07_01, DATE_2012_08_31, Period.ofDays(62)},
+            {DATE_2012_07_01, DATE_2012_08_31, Period.ofMonths(1)},
+            {DATE_2012_07_31, LocalDate.of(2013, 7, 31), Period.ofMonths(1)},
+            {DATE_2012_07_31, LocalDate.of(2013, 8, 1), Period.ofMonths(1)},
+            {DATE_2012_07_31, LocalDate.of(2062, 7, 31), Period.ofMonths(3)},
+            {LocalDate.of(2012, 2, 29), LocalDate.of(2062, 3, 1), Period.ofYears(1)},
+            {DATE_2012_07_28, LocalDate.of(2020, 1, 1), Period.of(0, 1, 3)},
+            {DATE_2012_07_28, LocalDate.of(2020, 1, 1), Period.of(1, 2, 3)},
+            {DATE_2012_07_28, DATE_2012_07_28, Period.ofMonths(1)},
+            {DATE_2012_07_28, DATE_2012_07_28, Period.ofDays(1)},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_stream_Period")
+    public void test_stream_Period(LocalDate start, LocalDate end, Period step) {
+        LocalDateRange test = LocalDateRange.of(start, end);
+        List<LocalDate> expected = new ArrayList<>();
+        for (int i = 0; start.plus(step.multipliedBy(i)).isBefore(end); i++) {
+            expected.add(start.plus(step.multipliedBy(i)));
+        }
+        assertEquals(expected, test.stream(step).collect(Collectors.toList()));
+        assertEquals(expected.size(), test.stream(step).spliterator().getExactSizeIfKnown());
+        assertEquals(expected, test.stream(step).parallel().collect(Collectors.toList()));
+        if (step.toTotalMonths() == 0) {
+            List<Long> expectedEpochDays = expected.stream().map(LocalDate::toEpochDay).collect(Collectors.toList());
+            assertEquals(expectedEpochDays, test.epochDays(step.getDays()).boxed().collect(Collectors.toList()));
+            assertEquals(expected.size(), test.epochDays(step.getDays()).spliterator().getExactSizeIfKnown());
+        }
+    }
+
+    @Test
+    public void test_stream_Period_MAX() {
+        LocalDate start = LocalDate.of(999_999_998, 12, 31);
+        LocalDateRange test = LocalDateRange.ofUnboundedEnd(start);
+        List<LocalDate> result = test.stream(Period.ofYears(1)).collect(Collectors.toList());
+        assertEquals(Arrays.asList(start, LocalDate.MAX), result);
+        result = test.stream(Period.ofMonths(1)).collect(Collectors.toList());
+        assertEquals(Arrays.asList(start, LocalDate.of(999_999_999, 1, 31)), result.subList(0, 2));
+        assertEquals(13, result.size());
+        assertEquals(LocalDate.MAX, result.get(12));
+        assertEquals(Arrays.asList(start, LocalDate.MAX), test.stream(Period.ofDays(365)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_stream_Period_MIN() {
+        LocalDateRange test = LocalDateRange.of(LocalDate.MIN, LocalDate.of(-999_999_998, 2, 1));
+        List<LocalDate> result = test.stream(Period.ofMonths(6)).collect(Collectors.toList());
+        assertEquals(Arrays.asList(LocalDate.MIN, LocalDate.of(-999_999_999, 7, 1), LocalDate.of(-999_999_998, 1, 1)), result);
+    }
+
+    @Test
+    public void test_stream_Period_ALL() {
+        assertEquals(1_999_999_999L, LocalDateRange.ALL.stream(Period.ofYears(1)).count());
+        assertEquals(2, LocalDateRange.ALL.stream(Period.ofYears(1_000_000_000)).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_stream_Period_zero() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).stream(Period.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_stream_Period_negative() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).stream(Period.ofDays(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_stream_Period_negativePart() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).stream(Period.of(0, 1, -1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_stream_Period_negativeMonthsPositiveTotal() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).stream(Period.of(1, -11, 0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_stream_Period_null() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).stream((Period) null);
+    }
+
+    @DataProvider
+    public static Object[][] data_stream_TemporalUnit() {
+        return new Object[][] {
+            {ChronoUnit.DAYS, Period.ofDays(1)},
+            {ChronoUnit.WEEKS, Period.ofWeeks(1)},
+            {ChronoUnit.MONTHS, Period.ofMonths(1)},
+            {IsoFields.QUARTER_YEARS, Period.ofMonths(3)},
+            {ChronoUnit.YEARS, Period.ofYears(1)},
+            {ChronoUnit.DECADES, Period.ofYears(10)},
+            {ChronoUnit.CENTURIES, Period.ofYears(100)},
+            {ChronoUnit.MILLENNIA, Period.ofYears(1000)},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_stream_TemporalUnit")
+    public void test_stream_TemporalUnit(TemporalUnit unit, Period step) {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_31, LocalDate.of(4100, 1, 1));
+        assertEquals(
+                test.stream(step).collect(Collectors.toList()),
+                test.stream(unit).collect(Collectors.toList()));
+    }
+
+    @Test(expected = UnsupportedTemporalTypeException.class)
+    public void test_stream_TemporalUnit_unsupported() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).stream(ChronoUnit.HOURS);
+    }
+
+    @Test
+    public void test_epochDays_step_MAX() {
+        LocalDateRange test = LocalDateRange.of(MAXM2, LocalDate.MAX);
+        long[] result = test.epochDays(2).toArray();
+        assertEquals(2, result.length);
+        assertEquals(MAXM2.toEpochDay(), result[0]);
+        assertEquals(LocalDate.MAX.toEpochDay(), result[1]);
+        assertEquals(1, test.epochDays(Long.MAX_VALUE).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_epochDays_step_zero() {
+        LocalDateRange.of(DATE_2012_07_01, DATE_2012_08_31).epochDays(0);
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider
     public static Object[][] data_isBefore() {
@@ -1302,4 +1521,119 @@ public class TestLocalDateRange {
         assertEquals(guava.upperEndpoint(), extra.getEnd());
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider
+    public static Object[][] data_formatTo() {
+        return new Object[][] {
+            {DATE_2012_07_01, DATE_2012_07_31},
+            {LocalDate.of(-999, 1, 2), LocalDate.of(-1, 10, 20)},
+            {LocalDate.of(-10000, 1, 2), LocalDate.of(999, 12, 31)},
+            {LocalDate.of(9999, 12, 31), LocalDate.of(10000, 1, 1)},
+            {LocalDate.MIN, LocalDate.MAX},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_formatTo")
+    public void test_formatTo(LocalDate start, LocalDate end) {
+        LocalDateRange test = LocalDateRange.of(start, end);
+        StringBuilder buf = new StringBuilder("x");
+        test.formatTo(buf);
+        assertEquals("x" + start + "/" + end, buf.toString());
+        StringBuffer appendable = new StringBuffer();
+        test.formatTo(appendable);
+        assertEquals(start + "/" + end, appendable.toString());
+        assertEquals(start + "/" + end, test.toString());
+    }
+
+    @Test
+    @UseDataProvider("data_formatTo")
+    public void test_formatTo_Appendable_pieces(LocalDate start, LocalDate end) {
+        PieceAppendable appendable = new PieceAppendable();
+        LocalDateRange.of(start, end).formatTo(appendable);
+        assertEquals(start + "/" + end, appendable.toString());
+    }
+
+    /**
+     * Appendable that rejects appending more than three characters at once.
+     */
+    static final class PieceAppendable implements Appendable {
+        private final StringBuilder buf = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            assertTrue(csq.length() <= 3);
+            buf.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) {
+            buf.append(c);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return buf.toString();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider
+    public static Object[][] data_packed() {
+        return new Object[][] {
+            {LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_31)},
+            {LocalDateRange.ofEmpty(DATE_2012_07_01)},
+            {LocalDateRange.of(LocalDate.of(1969, 12, 31), LocalDate.of(1970, 1, 1))},
+            {LocalDateRange.ofUnboundedStart(DATE_2012_07_01)},
+            {LocalDateRange.ofUnboundedEnd(DATE_2012_07_01)},
+            {LocalDateRange.ofUnbounded()},
+            {LocalDateRange.of(LocalDate.ofEpochDay(Integer.MIN_VALUE + 1), LocalDate.ofEpochDay(Integer.MAX_VALUE - 1))},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_packed")
+    public void test_toPackedLong_ofPacked_roundTrip(LocalDateRange range) {
+        assertEquals(range, LocalDateRange.ofPacked(range.toPackedLong()));
+    }
+
+    @Test
+    public void test_toPackedLong_ordering() {
+        List<LocalDateRange> ranges = new ArrayList<>();
+        for (Object[] data : data_packed()) {
+            ranges.add((LocalDateRange) data[0]);
+        }
+        for (LocalDateRange a : ranges) {
+            for (LocalDateRange b : ranges) {
+                int cmp = a.getStart().compareTo(b.getStart());
+                cmp = (cmp != 0 ? cmp : a.getEnd().compareTo(b.getEnd()));
+                assertEquals(Integer.signum(cmp), Long.signum(Long.compare(a.toPackedLong(), b.toPackedLong())));
+            }
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPackedLong_startOutOfRange() {
+        LocalDateRange.of(LocalDate.ofEpochDay(Integer.MIN_VALUE), DATE_2012_07_01).toPackedLong();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPackedLong_endOutOfRange() {
+        LocalDateRange.of(DATE_2012_07_01, LocalDate.ofEpochDay(Integer.MAX_VALUE)).toPackedLong();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_ofPacked_endBeforeStart() {
+        long start = DATE_2012_07_31.toEpochDay();
+        long end = DATE_2012_07_01.toEpochDay();
+        LocalDateRange.ofPacked((start << 32) | (end - Integer.MIN_VALUE));
+    }
+
 }
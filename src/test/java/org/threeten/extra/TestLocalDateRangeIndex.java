@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Test date range index.
+ */
+public class TestLocalDateRangeIndex {
+
+    private static final LocalDate DATE_2012_07_01 = LocalDate.of(2012, 7, 1);
+    private static final LocalDate DATE_2012_07_05 = LocalDate.of(2012, 7, 5);
+    private static final LocalDate DATE_2012_07_10 = LocalDate.of(2012, 7, 10);
+    private static final LocalDate DATE_2012_07_15 = LocalDate.of(2012, 7, 15);
+    private static final LocalDate DATE_2012_07_20 = LocalDate.of(2012, 7, 20);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_empty() {
+        LocalDateRangeIndex<String> test = LocalDateRangeIndex.<String>builder().build();
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.containing(DATE_2012_07_01).count());
+        assertEquals("LocalDateRangeIndex[size=0]", test.toString());
+    }
+
+    @Test
+    public void test_queries() {
+        Map<LocalDateRange, String> map = new LinkedHashMap<>();
+        map.put(LocalDateRange.of(DATE_2012_07_10, DATE_2012_07_20), "C");
+        map.put(LocalDateRange.of(DATE_2012_07_05, DATE_2012_07_15), "B");
+        map.put(LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_10), "A");
+        map.put(LocalDateRange.ofUnboundedEnd(DATE_2012_07_20), "D");
+        LocalDateRangeIndex<String> test = LocalDateRangeIndex.of(map);
+        assertEquals(4, test.size());
+        assertEquals(Arrays.asList("A", "B", "C", "D"), values(test.stream()));
+        assertEquals(Collections.emptyList(), values(test.containing(DATE_2012_07_01.minusDays(1))));
+        assertEquals(Arrays.asList("A", "B"), values(test.containing(DATE_2012_07_05)));
+        assertEquals(Arrays.asList("B", "C"), values(test.containing(DATE_2012_07_10)));
+        assertEquals(Arrays.asList("D"), values(test.containing(LocalDate.MAX)));
+        assertEquals(Arrays.asList("C", "D"), values(test.overlapping(LocalDateRange.ofUnboundedEnd(DATE_2012_07_15))));
+        assertEquals(Arrays.asList("A", "B", "C", "D"), values(test.overlapping(LocalDateRange.ALL)));
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1234);
+        List<LocalDateRange> ranges = new ArrayList<>();
+        LocalDateRangeIndex.Builder<Integer> builder = LocalDateRangeIndex.builder();
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = DATE_2012_07_01.plusDays(random.nextInt(3000));
+            LocalDateRange range = LocalDateRange.of(start, start.plusDays(random.nextInt(random.nextBoolean() ? 10 : 300)));
+            ranges.add(range);
+            builder.put(range, i);
+        }
+        LocalDateRangeIndex<Integer> test = builder.build();
+        for (int loop = 0; loop < 200; loop++) {
+            LocalDate date = DATE_2012_07_01.plusDays(random.nextInt(3400) - 100);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                if (ranges.get(i).contains(date)) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = values(test.containing(date));
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+
+            LocalDateRange query = LocalDateRange.of(date, date.plusDays(random.nextInt(30)));
+            expected.clear();
+            for (int i = 0; i < ranges.size(); i++) {
+                if (ranges.get(i).overlaps(query)) {
+                    expected.add(i);
+                }
+            }
+            actual = values(test.overlapping(query));
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static <K, V> List<V> values(Stream<Map.Entry<K, V>> stream) {
+        return stream.map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+}
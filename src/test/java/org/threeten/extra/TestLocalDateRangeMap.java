@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Test date range map.
+ */
+public class TestLocalDateRangeMap {
+
+    private static final LocalDate DATE_2012_07_01 = LocalDate.of(2012, 7, 1);
+    private static final LocalDate DATE_2012_07_05 = LocalDate.of(2012, 7, 5);
+    private static final LocalDate DATE_2012_07_10 = LocalDate.of(2012, 7, 10);
+    private static final LocalDate DATE_2012_07_15 = LocalDate.of(2012, 7, 15);
+    private static final LocalDate DATE_2012_07_20 = LocalDate.of(2012, 7, 20);
+    private static final LocalDateRange RANGE_01_05 = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_05);
+    private static final LocalDateRange RANGE_05_10 = LocalDateRange.of(DATE_2012_07_05, DATE_2012_07_10);
+    private static final LocalDateRange RANGE_01_10 = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_10);
+    private static final LocalDateRange RANGE_01_20 = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_20);
+    private static final LocalDateRange RANGE_10_15 = LocalDateRange.of(DATE_2012_07_10, DATE_2012_07_15);
+    private static final LocalDateRange RANGE_15_20 = LocalDateRange.of(DATE_2012_07_15, DATE_2012_07_20);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_empty() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.empty();
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.size());
+        assertNull(test.get(DATE_2012_07_01));
+        assertNull(test.getEntry(DATE_2012_07_01));
+        assertFalse(test.contains(DATE_2012_07_01));
+        assertEquals("{}", test.toString());
+        assertSame(test, LocalDateRangeMap.builder().build());
+    }
+
+    @Test
+    public void test_of() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.of(RANGE_01_10, "A");
+        assertFalse(test.isEmpty());
+        assertEquals(1, test.size());
+        assertEquals("A", test.get(DATE_2012_07_01));
+        assertEquals("A", test.get(DATE_2012_07_05));
+        assertNull(test.get(DATE_2012_07_10));
+        assertNull(test.get(DATE_2012_07_01.minusDays(1)));
+        assertTrue(test.contains(DATE_2012_07_05));
+        assertEquals(new SimpleImmutableEntry<>(RANGE_01_10, "A"), test.getEntry(DATE_2012_07_05));
+        assertEquals("{2012-07-01/2012-07-10=A}", test.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_put_splits() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.<String>builder()
+                .put(RANGE_01_20, "A")
+                .put(RANGE_05_10, "B")
+                .build();
+        assertEquals(3, test.size());
+        assertEquals("{2012-07-01/2012-07-05=A, 2012-07-05/2012-07-10=B, 2012-07-10/2012-07-20=A}", test.toString());
+        assertEquals("A", test.get(DATE_2012_07_01));
+        assertEquals("B", test.get(DATE_2012_07_05));
+        assertEquals("A", test.get(DATE_2012_07_10));
+    }
+
+    @Test
+    public void test_put_overwrites() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.<String>builder()
+                .put(RANGE_01_05, "A")
+                .put(RANGE_05_10, "B")
+                .put(RANGE_10_15, "C")
+                .put(LocalDateRange.of(DATE_2012_07_01.plusDays(2), DATE_2012_07_10.plusDays(2)), "D")
+                .build();
+        assertEquals("{2012-07-01/2012-07-03=A, 2012-07-03/2012-07-12=D, 2012-07-12/2012-07-15=C}", test.toString());
+    }
+
+    @Test
+    public void test_put_emptyRangeIgnored() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.<String>builder()
+                .put(RANGE_01_10, "A")
+                .put(LocalDateRange.ofEmpty(DATE_2012_07_05), "B")
+                .build();
+        assertEquals(LocalDateRangeMap.of(RANGE_01_10, "A"), test);
+    }
+
+    @Test
+    public void test_put_unbounded() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.<String>builder()
+                .put(LocalDateRange.ALL, "A")
+                .put(RANGE_01_10, "B")
+                .build();
+        assertEquals("A", test.get(LocalDate.MIN));
+        assertEquals("A", test.get(LocalDate.MAX));
+        assertEquals("B", test.get(DATE_2012_07_01));
+        assertEquals(Arrays.asList(
+                LocalDateRange.of(LocalDate.MIN, DATE_2012_07_01),
+                RANGE_01_10,
+                LocalDateRange.of(DATE_2012_07_10, LocalDate.MAX)),
+                test.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_coalescing() {
+        LocalDateRangeMap.Builder<String> builder = LocalDateRangeMap.<String>builder()
+                .put(RANGE_01_05, "A")
+                .put(RANGE_05_10, "A")
+                .put(RANGE_10_15, "B")
+                .put(LocalDateRange.of(DATE_2012_07_20, DATE_2012_07_20.plusDays(1)), "B");
+        assertEquals(4, builder.build().size());
+        LocalDateRangeMap<String> test = builder.coalescing(true).build();
+        assertEquals("{2012-07-01/2012-07-10=A, 2012-07-10/2012-07-15=B, 2012-07-20/2012-07-21=B}", test.toString());
+    }
+
+    @Test
+    public void test_remove() {
+        LocalDateRangeMap<String> test = LocalDateRangeMap.<String>builder()
+                .put(RANGE_01_20, "A")
+                .remove(RANGE_10_15)
+                .build();
+        assertEquals("{2012-07-01/2012-07-10=A, 2012-07-15/2012-07-20=A}", test.toString());
+        assertNull(test.get(DATE_2012_07_10));
+    }
+
+    @Test
+    public void test_putAll() {
+        LocalDateRangeMap<String> base = LocalDateRangeMap.of(RANGE_01_20, "A");
+        LocalDateRangeMap<String> test = LocalDateRangeMap.<String>builder()
+                .put(RANGE_05_10, "B")
+                .putAll(base)
+                .build();
+        assertEquals(base, test);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_subMap() {
+        LocalDateRangeMap<String> base = LocalDateRangeMap.<String>builder()
+                .put(RANGE_01_05, "A")
+                .put(RANGE_05_10, "B")
+                .put(RANGE_15_20, "C")
+                .build();
+        LocalDateRangeMap<String> test = base.subMap(LocalDateRange.of(DATE_2012_07_01.plusDays(2), DATE_2012_07_15.plusDays(1)));
+        assertEquals("{2012-07-03/2012-07-05=A, 2012-07-05/2012-07-10=B, 2012-07-15/2012-07-16=C}", test.toString());
+        assertNull(test.get(DATE_2012_07_01));
+        assertEquals("A", test.get(DATE_2012_07_01.plusDays(2)));
+        assertNull(test.get(DATE_2012_07_15.plusDays(1)));
+        assertEquals("{2012-07-05/2012-07-10=B}", test.subMap(RANGE_05_10).toString());
+        assertEquals("{2012-07-05/2012-07-10=B}", test.subMap(RANGE_05_10.union(RANGE_10_15)).toString());
+        assertSame(LocalDateRangeMap.empty(), test.subMap(RANGE_10_15));
+        assertSame(LocalDateRangeMap.empty(), base.subMap(LocalDateRange.ofEmpty(DATE_2012_07_05)));
+        assertEquals(base, base.subMap(LocalDateRange.ALL));
+    }
+
+    @Test
+    public void test_random() {
+        Random random = new Random(1234);
+        for (int loop = 0; loop < 200; loop++) {
+            LocalDateRangeMap.Builder<Integer> builder = LocalDateRangeMap.builder();
+            Integer[] expected = new Integer[100];
+            for (int i = 0; i < 10; i++) {
+                int start = random.nextInt(100);
+                int end = start + random.nextInt(100 - start + 1);
+                Integer value = random.nextInt(4) == 0 ? null : random.nextInt(3);
+                LocalDateRange range = LocalDateRange.of(DATE_2012_07_01.plusDays(start), DATE_2012_07_01.plusDays(end));
+                if (value == null) {
+                    builder.remove(range);
+                } else {
+                    builder.put(range, value);
+                }
+                Arrays.fill(expected, start, end, value);
+            }
+            LocalDateRangeMap<Integer> test = builder.coalescing(loop % 2 == 0).build();
+            int sub1 = random.nextInt(100);
+            int sub2 = sub1 + random.nextInt(100 - sub1 + 1);
+            LocalDateRangeMap<Integer> sub = test.subMap(LocalDateRange.of(DATE_2012_07_01.plusDays(sub1), DATE_2012_07_01.plusDays(sub2)));
+            for (int i = -1; i <= 100; i++) {
+                LocalDate date = DATE_2012_07_01.plusDays(i);
+                Integer value = (i >= 0 && i < 100 ? expected[i] : null);
+                assertEquals(value, test.get(date));
+                assertEquals(i >= sub1 && i < sub2 ? value : null, sub.get(date));
+                Map.Entry<LocalDateRange, Integer> entry = sub.getEntry(date);
+                if (entry != null) {
+                    assertTrue(entry.getKey().contains(date));
+                    assertEquals(value, entry.getValue());
+                }
+            }
+            assertEquals(test, LocalDateRangeMap.<Integer>builder().putAll(test).coalescing(loop % 2 == 0).build());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals() {
+        LocalDateRangeMap<String> a = LocalDateRangeMap.of(RANGE_01_10, "A");
+        LocalDateRangeMap<String> b = LocalDateRangeMap.<String>builder().put(RANGE_01_05, "A").put(RANGE_05_10, "A").coalescing(true).build();
+        LocalDateRangeMap<String> c = LocalDateRangeMap.of(RANGE_01_10, "B");
+        LocalDateRangeMap<String> d = LocalDateRangeMap.of(RANGE_01_20, "A").subMap(RANGE_01_10);
+        assertEquals(a, b);
+        assertEquals(a, d);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.hashCode(), d.hashCode());
+        assertNotEquals(a, c);
+        assertNotEquals(a, LocalDateRangeMap.of(RANGE_01_20, "A"));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Test date range set.
+ */
+public class TestLocalDateRangeSet {
+
+    private static final LocalDate MINP1 = LocalDate.MIN.plusDays(1);
+    private static final LocalDate MINP2 = LocalDate.MIN.plusDays(2);
+    private static final LocalDate MAXM2 = LocalDate.MAX.minusDays(2);
+    private static final LocalDate DATE_2012_07_01 = LocalDate.of(2012, 7, 1);
+    private static final LocalDate DATE_2012_07_05 = LocalDate.of(2012, 7, 5);
+    private static final LocalDate DATE_2012_07_10 = LocalDate.of(2012, 7, 10);
+    private static final LocalDate DATE_2012_07_15 = LocalDate.of(2012, 7, 15);
+    private static final LocalDate DATE_2012_07_20 = LocalDate.of(2012, 7, 20);
+    private static final LocalDate DATE_2012_07_25 = LocalDate.of(2012, 7, 25);
+    private static final LocalDateRange RANGE_01_05 = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_05);
+    private static final LocalDateRange RANGE_05_10 = LocalDateRange.of(DATE_2012_07_05, DATE_2012_07_10);
+    private static final LocalDateRange RANGE_01_10 = LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_10);
+    private static final LocalDateRange RANGE_15_20 = LocalDateRange.of(DATE_2012_07_15, DATE_2012_07_20);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_EMPTY() {
+        LocalDateRangeSet test = LocalDateRangeSet.EMPTY;
+        assertTrue(test.isEmpty());
+        assertEquals(0, test.rangeCount());
+        assertEquals(Collections.emptyList(), test.getRanges());
+        assertFalse(test.contains(DATE_2012_07_01));
+        assertEquals("[]", test.toString());
+        assertSame(LocalDateRangeSet.EMPTY, LocalDateRangeSet.of());
+    }
+
+    @Test
+    public void test_ALL() {
+        LocalDateRangeSet test = LocalDateRangeSet.ALL;
+        assertFalse(test.isEmpty());
+        assertEquals(Arrays.asList(LocalDateRange.ALL), test.getRanges());
+        assertTrue(test.contains(LocalDate.MIN));
+        assertTrue(test.contains(LocalDate.MAX));
+        assertEquals(LocalDateRange.ALL, test.span());
+        assertEquals(LocalDateRangeSet.EMPTY, test.complement());
+        assertEquals(test, LocalDateRangeSet.EMPTY.complement());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_coalesces() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_15_20, RANGE_05_10, RANGE_01_05);
+        assertEquals(Arrays.asList(RANGE_01_10, RANGE_15_20), test.getRanges());
+        assertEquals(2, test.rangeCount());
+        assertEquals("[2012-07-01/2012-07-10, 2012-07-15/2012-07-20]", test.toString());
+    }
+
+    @Test
+    public void test_of_overlapping() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_01_10, RANGE_05_10, LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_15));
+        assertEquals(Arrays.asList(LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_15)), test.getRanges());
+    }
+
+    @Test
+    public void test_of_emptyRangesDiscarded() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(LocalDateRange.ofEmpty(DATE_2012_07_25), RANGE_15_20, LocalDateRange.ofEmpty(DATE_2012_07_20));
+        assertEquals(Arrays.asList(RANGE_15_20), test.getRanges());
+        assertEquals(LocalDateRangeSet.EMPTY, LocalDateRangeSet.of(LocalDateRange.ofEmpty(DATE_2012_07_25)));
+    }
+
+    @Test
+    public void test_of_Iterable() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(Arrays.asList(RANGE_15_20, RANGE_01_05));
+        assertEquals(Arrays.asList(RANGE_01_05, RANGE_15_20), test.streamRanges().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_builder() {
+        LocalDateRangeSet.Builder builder = LocalDateRangeSet.builder();
+        for (int i = 40; i >= 0; i--) {
+            builder.add(LocalDateRange.of(DATE_2012_07_01.plusDays(i * 2), DATE_2012_07_01.plusDays(i * 2 + 1)));
+        }
+        LocalDateRangeSet test = builder.build();
+        assertEquals(41, test.rangeCount());
+        assertEquals(test, builder.build());
+        builder.addAll(test.complement());
+        assertEquals(LocalDateRangeSet.ALL, builder.build());
+    }
+
+    @Test
+    public void test_unbounded() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(
+                LocalDateRange.ofUnboundedEnd(DATE_2012_07_10), LocalDateRange.ofUnboundedStart(DATE_2012_07_05));
+        assertTrue(test.contains(LocalDate.MIN));
+        assertTrue(test.contains(LocalDate.MAX));
+        assertFalse(test.contains(DATE_2012_07_05));
+        assertEquals(Arrays.asList(LocalDateRange.ofUnboundedStart(DATE_2012_07_05), LocalDateRange.ofUnboundedEnd(DATE_2012_07_10)), test.getRanges());
+        assertEquals(LocalDateRangeSet.of(RANGE_05_10), test.complement());
+        assertEquals(test, test.complement().complement());
+        assertEquals("[-999999999-01-01/2012-07-05, 2012-07-10/+999999999-12-31]", test.toString());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_complement_unrepresentable() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(LocalDateRange.ofUnboundedEnd(MINP1));
+        assertTrue(test.complement().contains(LocalDate.MIN));
+        assertFalse(test.complement().contains(MINP1));
+        test.complement().getRanges();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_span_empty() {
+        LocalDateRangeSet.EMPTY.span();
+    }
+
+    @Test
+    public void test_span() {
+        assertEquals(LocalDateRange.of(DATE_2012_07_01, DATE_2012_07_20), LocalDateRangeSet.of(RANGE_01_05, RANGE_15_20).span());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_contains() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_01_05, RANGE_15_20);
+        assertFalse(test.contains(DATE_2012_07_01.minusDays(1)));
+        assertTrue(test.contains(DATE_2012_07_01));
+        assertTrue(test.contains(DATE_2012_07_05.minusDays(1)));
+        assertFalse(test.contains(DATE_2012_07_05));
+        assertFalse(test.contains(DATE_2012_07_10));
+        assertTrue(test.contains(DATE_2012_07_15));
+        assertFalse(test.contains(DATE_2012_07_20));
+        assertFalse(test.contains(LocalDate.MIN));
+        assertFalse(test.contains(LocalDate.MAX));
+    }
+
+    @Test
+    public void test_encloses() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_01_10, RANGE_15_20);
+        assertTrue(test.encloses(RANGE_01_05));
+        assertTrue(test.encloses(RANGE_05_10));
+        assertTrue(test.encloses(RANGE_01_10));
+        assertFalse(test.encloses(LocalDateRange.of(DATE_2012_07_05, DATE_2012_07_15)));
+        assertTrue(test.encloses(LocalDateRange.ofEmpty(DATE_2012_07_10)));
+        assertFalse(test.encloses(LocalDateRange.ofEmpty(DATE_2012_07_10.plusDays(1))));
+        assertFalse(test.encloses(LocalDateRange.ALL));
+        assertTrue(LocalDateRangeSet.ALL.encloses(LocalDateRange.ALL));
+    }
+
+    @Test
+    public void test_overlaps() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_01_05, RANGE_15_20);
+        assertTrue(test.overlaps(RANGE_01_10));
+        assertFalse(test.overlaps(RANGE_05_10));
+        assertTrue(test.overlaps(LocalDateRange.of(DATE_2012_07_10, DATE_2012_07_25)));
+        assertFalse(test.overlaps(LocalDateRange.of(DATE_2012_07_20, DATE_2012_07_25)));
+        assertFalse(test.overlaps(LocalDateRange.ofEmpty(DATE_2012_07_01)));
+        assertTrue(test.overlaps(LocalDateRange.ALL));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_operations_ranges() {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_01_05, RANGE_15_20);
+        assertEquals(LocalDateRangeSet.of(RANGE_01_10, RANGE_15_20), test.union(RANGE_05_10));
+        assertEquals(LocalDateRangeSet.of(RANGE_01_05), test.intersection(RANGE_01_10));
+        assertEquals(LocalDateRangeSet.of(RANGE_15_20), test.difference(RANGE_01_10));
+        assertEquals(LocalDateRangeSet.of(RANGE_05_10), LocalDateRangeSet.of(RANGE_01_10).difference(test));
+        assertEquals(LocalDateRangeSet.EMPTY, test.intersection(RANGE_05_10));
+    }
+
+    @Test
+    public void test_operations_random() {
+        Random random = new Random(1234);
+        for (int loop = 0; loop < 500; loop++) {
+            BitSet bitsA = new BitSet();
+            BitSet bitsB = new BitSet();
+            LocalDateRangeSet setA = randomSet(random, bitsA);
+            LocalDateRangeSet setB = randomSet(random, bitsB);
+            assertEquals(bitsA, toBitSet(setA));
+            BitSet union = (BitSet) bitsA.clone();
+            union.or(bitsB);
+            assertEquals(union, toBitSet(setA.union(setB)));
+            BitSet intersection = (BitSet) bitsA.clone();
+            intersection.and(bitsB);
+            assertEquals(intersection, toBitSet(setA.intersection(setB)));
+            BitSet difference = (BitSet) bitsA.clone();
+            difference.andNot(bitsB);
+            assertEquals(difference, toBitSet(setA.difference(setB)));
+            assertEquals(LocalDateRangeSet.ALL, setA.union(setA.complement()));
+            assertEquals(LocalDateRangeSet.EMPTY, setA.intersection(setA.complement()));
+            assertEquals(setA.difference(setB), setA.intersection(setB.complement()));
+            for (int i = 0; i < 64; i++) {
+                assertEquals(bitsA.get(i), setA.contains(DATE_2012_07_01.plusDays(i)));
+            }
+        }
+    }
+
+    private static LocalDateRangeSet randomSet(Random random, BitSet bits) {
+        LocalDateRangeSet.Builder builder = LocalDateRangeSet.builder();
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            int start = random.nextInt(60);
+            int end = start + random.nextInt(64 - start);
+            bits.set(start, end);
+            builder.add(LocalDateRange.of(DATE_2012_07_01.plusDays(start), DATE_2012_07_01.plusDays(end)));
+        }
+        return builder.build();
+    }
+
+    private static BitSet toBitSet(LocalDateRangeSet set) {
+        BitSet bits = new BitSet();
+        for (LocalDateRange range : set.getRanges()) {
+            bits.set((int) (range.getStart().toEpochDay() - DATE_2012_07_01.toEpochDay()),
+                    (int) (range.getEnd().toEpochDay() - DATE_2012_07_01.toEpochDay()));
+        }
+        return bits;
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals() {
+        LocalDateRangeSet a = LocalDateRangeSet.of(RANGE_01_05, RANGE_05_10);
+        LocalDateRangeSet a2 = LocalDateRangeSet.of(RANGE_01_10);
+        LocalDateRangeSet b = LocalDateRangeSet.of(RANGE_01_10, RANGE_15_20);
+        assertEquals(true, a.equals(a));
+        assertEquals(true, a.equals(a2));
+        assertEquals(a.hashCode(), a2.hashCode());
+        assertEquals(false, a.equals(b));
+        assertEquals(false, a.equals(null));
+        assertEquals(false, a.equals(RANGE_01_10));
+    }
+
+    @Test
+    public void test_isSerializable() {
+        assertTrue(Serializable.class.isAssignableFrom(LocalDateRangeSet.class));
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        LocalDateRangeSet test = LocalDateRangeSet.of(RANGE_01_05, RANGE_15_20, LocalDateRange.of(MINP2, DATE_2012_07_01.minusDays(2)), LocalDateRange.of(MAXM2, LocalDate.MAX));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+            oos.writeObject(LocalDateRangeSet.EMPTY);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(test, ois.readObject());
+            assertSame(LocalDateRangeSet.EMPTY, ois.readObject());
+        }
+    }
+
+}
@@ -85,6 +85,17 @@ public class TestMinutes {
     }
     
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Minutes.of(5), Minutes.of(5));
+        assertSame(Minutes.of(-1024), Minutes.of(-1024));
+        assertSame(Minutes.of(1024), Minutes.of(1024));
+        assertSame(Minutes.of(5), Minutes.parse("PT5M"));
+        assertSame(Minutes.of(5), Minutes.of(2).plus(3));
+        assertEquals(1025, Minutes.of(1025).getAmount());
+        assertEquals(-1025, Minutes.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(0, Minutes.of(0).getAmount());
@@ -207,6 +218,39 @@ public class TestMinutes {
     public void test_parse_CharSequence_null() {
         Minutes.parse((CharSequence) null);
     }
+
+    @Test
+    @UseDataProvider("data_valid")
+    public void test_parse_CharSequence_int_int_valid(String str, int expectedMinutes) {
+        assertEquals(Minutes.of(expectedMinutes), Minutes.parse("[-" + str + "]", 2, str.length() + 2));
+        assertEquals(Minutes.of(-expectedMinutes), Minutes.parse("[-" + str + "]", 1, str.length() + 2));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Minutes.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Minutes.parse("P2D", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Minutes.parse("P2D", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Minutes.parse("P2D", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Minutes.parse((CharSequence) null, 0, 0);
+    }
     
     //-----------------------------------------------------------------------
     @Test
@@ -462,4 +506,18 @@ public class TestMinutes {
         assertEquals("PT-1M", testM1.toString());
     }
     
+
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Minutes test = Minutes.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
@@ -94,6 +94,17 @@ public class TestMonths {
     }
 
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Months.of(5), Months.of(5));
+        assertSame(Months.of(-1024), Months.of(-1024));
+        assertSame(Months.of(1024), Months.of(1024));
+        assertSame(Months.of(5), Months.parse("P5M"));
+        assertSame(Months.of(5), Months.of(2).plus(3));
+        assertEquals(1025, Months.of(1025).getAmount());
+        assertEquals(-1025, Months.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(0, Months.of(0).getAmount());
@@ -237,6 +248,39 @@ public class TestMonths {
         Months.parse((CharSequence) null);
     }
 
+    @Test
+    @UseDataProvider("data_valid")
+    public void test_parse_CharSequence_int_int_valid(String str, int expectedDays) {
+        assertEquals(Months.of(expectedDays), Months.parse("[-" + str + "]", 2, str.length() + 2));
+        assertEquals(Months.of(-expectedDays), Months.parse("[-" + str + "]", 1, str.length() + 2));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Months.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Months.parse("P2M", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Months.parse("P2M", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Months.parse("P2M", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Months.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Months() {
@@ -515,4 +559,17 @@ public class TestMonths {
         assertEquals("P-1M", testM1.toString());
     }
 
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Months test = Months.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
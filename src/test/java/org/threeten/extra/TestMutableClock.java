@@ -40,6 +40,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
@@ -48,11 +49,13 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.Year;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -165,6 +168,31 @@ public class TestMutableClock {
                 clock.instant());
     }
 
+    @Test
+    public void test_add_timeBased_matchesZonedDateTime() {
+        ZoneId zone = ZoneId.of("Europe/London");
+        ZonedDateTime start = ZonedDateTime.of(2018, 3, 25, 0, 30, 0, 0, zone);  // before the gap
+        MutableClock clock = MutableClock.of(start.toInstant(), zone);
+        clock.add(Duration.ofMinutes(90));
+        assertEquals(start.plus(Duration.ofMinutes(90)).toInstant(), clock.instant());
+        clock.add(1, ChronoUnit.HALF_DAYS);
+        assertEquals(start.plus(Duration.ofMinutes(90)).plus(1, ChronoUnit.HALF_DAYS).toInstant(), clock.instant());
+        clock.add(-7, ChronoUnit.MICROS);
+        assertEquals(start.plus(Duration.ofMinutes(90)).plus(1, ChronoUnit.HALF_DAYS).minus(7, ChronoUnit.MICROS).toInstant(),
+                clock.instant());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_add_duration_beyondRange() {
+        MutableClock clock = MutableClock.of(LocalDateTime.MAX.minusHours(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        clock.add(Duration.ofHours(2));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_add_amountAndUnit_overflow() {
+        MutableClock.epochUTC().add(Long.MAX_VALUE, ChronoUnit.SECONDS);
+    }
+
     @Test(expected = NullPointerException.class)
     public void test_add_amountAndUnit_nullUnit() {
         MutableClock.epochUTC().add(0, null);
@@ -355,4 +383,42 @@ public class TestMutableClock {
                 Instant.EPOCH.plus(increment.multipliedBy(updateCount)),
                 clock.instant());
     }
+
+    @Test
+    public void test_updatesAreAtomic_mixed() throws Exception {
+        MutableClock clock = MutableClock.epochUTC();
+        Callable<Void> addDuration = () -> {
+            clock.add(Duration.ofSeconds(1));
+            return null;
+        };
+        Callable<Void> addPeriod = () -> {
+            clock.add(Period.ofDays(1));
+            return null;
+        };
+        Callable<Void> addUnit = () -> {
+            clock.add(1, ChronoUnit.MILLIS);
+            return null;
+        };
+        int updateCount = 3000;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < updateCount; i++) {
+            tasks.add(addDuration);
+            tasks.add(addPeriod);
+            tasks.add(addUnit);
+        }
+        int threads = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            service.invokeAll(tasks);
+            service.shutdown();
+            service.awaitTermination(1, TimeUnit.MINUTES);
+        } finally {
+            if (!service.isTerminated()) {
+                service.shutdownNow();
+            }
+        }
+        assertEquals(
+                Instant.EPOCH.plusSeconds(updateCount).plus(Duration.ofDays(updateCount)).plusMillis(updateCount),
+                clock.instant());
+    }
 }
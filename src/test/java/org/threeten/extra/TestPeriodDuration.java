@@ -422,4 +422,61 @@ public class TestPeriodDuration {
         assertEquals("PT5S", PeriodDuration.of(Period.ZERO, DUR_5).toString());
     }
 
+    @Test
+    public void test_formatTo() {
+        Period[] periods = {Period.ZERO, P1Y2M3D, Period.ofDays(-3), Period.ofMonths(14), Period.of(-1, 0, 2)};
+        Duration[] durations = {
+            Duration.ZERO, DUR_5, Duration.ofNanos(1), Duration.ofNanos(-1), Duration.ofMillis(-1500),
+            Duration.ofSeconds(-60, 1), Duration.ofHours(25), Duration.ofMinutes(-61), Duration.ofSeconds(3661, 120_000),
+            Duration.ofSeconds(Long.MIN_VALUE), Duration.ofSeconds(Long.MAX_VALUE, 999_999_999),
+        };
+        for (Period period : periods) {
+            for (Duration duration : durations) {
+                String expected = period.isZero() ? duration.toString() :
+                        duration.isZero() ? period.toString() : period.toString() + duration.toString().substring(1);
+                PeriodDuration test = PeriodDuration.of(period, duration);
+                StringBuilder buf = new StringBuilder("x");
+                test.formatTo(buf);
+                assertEquals("x" + expected, buf.toString());
+                StringBuffer appendable = new StringBuffer();
+                test.formatTo(appendable);
+                assertEquals(expected, appendable.toString());
+                PieceAppendable pieces = new PieceAppendable();
+                test.formatTo(pieces);
+                assertEquals(expected, pieces.toString());
+                assertEquals(expected, test.toString());
+            }
+        }
+    }
+
+    /**
+     * Appendable that rejects appending more than three characters at once.
+     */
+    static final class PieceAppendable implements Appendable {
+        private final StringBuilder buf = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            assertTrue(csq.length() <= 3);
+            buf.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) {
+            buf.append(c);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return buf.toString();
+        }
+    }
+
 }
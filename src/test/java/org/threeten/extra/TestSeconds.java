@@ -85,6 +85,17 @@ public class TestSeconds {
     }
     
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Seconds.of(5), Seconds.of(5));
+        assertSame(Seconds.of(-1024), Seconds.of(-1024));
+        assertSame(Seconds.of(1024), Seconds.of(1024));
+        assertSame(Seconds.of(5), Seconds.parse("PT5S"));
+        assertSame(Seconds.of(5), Seconds.of(2).plus(3));
+        assertEquals(1025, Seconds.of(1025).getAmount());
+        assertEquals(-1025, Seconds.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(0, Seconds.of(0).getAmount());
@@ -239,6 +250,50 @@ public class TestSeconds {
     public void test_parse_CharSequence_null() {
         Seconds.parse((CharSequence) null);
     }
+
+    @Test
+    public void test_parse_CharSequence_caseInsensitive() {
+        assertEquals(Seconds.of(86400 + 3600 + 60 + 1), Seconds.parse("p1dt1h1m1s"));
+        assertEquals(Seconds.of(1), Seconds.parse("Pt1S"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequence_secondsTooLarge() {
+        Seconds.parse("PT99999999999S");
+    }
+
+    @Test
+    @UseDataProvider("data_valid")
+    public void test_parse_CharSequence_int_int_valid(String str, int expectedSeconds) {
+        assertEquals(Seconds.of(expectedSeconds), Seconds.parse("[-" + str + "]", 2, str.length() + 2));
+        assertEquals(Seconds.of(-expectedSeconds), Seconds.parse("[-" + str + "]", 1, str.length() + 2));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Seconds.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Seconds.parse("P2D", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Seconds.parse("P2D", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Seconds.parse("P2D", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Seconds.parse((CharSequence) null, 0, 0);
+    }
     
     //-----------------------------------------------------------------------
     @Test
@@ -494,4 +549,18 @@ public class TestSeconds {
         assertEquals("PT-1S", testM1.toString());
     }
     
+
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Seconds test = Seconds.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
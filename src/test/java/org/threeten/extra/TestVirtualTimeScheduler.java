@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test class.
+ */
+public class TestVirtualTimeScheduler {
+
+    private static final Instant START = Instant.parse("2018-06-01T00:00:00Z");
+
+    @Test
+    public void test_of() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        assertEquals(clock, test.getClock());
+        assertEquals(0, test.getQueuedTaskCount());
+        assertFalse(test.isShutdown());
+        assertFalse(test.isTerminated());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_null() {
+        VirtualTimeScheduler.of(null);
+    }
+
+    @Test
+    public void test_schedule_runsInTimeOrder() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<String> log = new ArrayList<>();
+        test.schedule(() -> log.add("C"), 3, TimeUnit.HOURS);
+        test.schedule(() -> log.add("A"), 1, TimeUnit.HOURS);
+        test.schedule(() -> log.add("B1"), 2, TimeUnit.HOURS);
+        test.schedule(() -> log.add("B2"), 120, TimeUnit.MINUTES);
+        assertEquals(4, test.getQueuedTaskCount());
+        clock.add(Duration.ofMinutes(59));
+        assertEquals(Arrays.asList(), log);
+        clock.add(Duration.ofMinutes(1));
+        assertEquals(Arrays.asList("A"), log);
+        clock.add(Duration.ofHours(5));
+        assertEquals(Arrays.asList("A", "B1", "B2", "C"), log);
+        assertEquals(0, test.getQueuedTaskCount());
+    }
+
+    @Test
+    public void test_schedule_setInstant() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<Instant> log = new ArrayList<>();
+        test.schedule(() -> log.add(clock.instant()), 1, TimeUnit.SECONDS);
+        clock.setInstant(START.plusSeconds(10));
+        assertEquals(Arrays.asList(START.plusSeconds(10)), log);
+    }
+
+    @Test
+    public void test_schedule_withZoneSharesUpdates() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<String> log = new ArrayList<>();
+        test.schedule(() -> log.add("A"), 1, TimeUnit.SECONDS);
+        clock.withZone(ZoneOffset.ofHours(2)).add(Duration.ofSeconds(1));
+        assertEquals(Arrays.asList("A"), log);
+    }
+
+    @Test
+    public void test_schedule_callable() throws Exception {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        ScheduledFuture<String> future = test.schedule(() -> "done", 5, TimeUnit.SECONDS);
+        assertEquals(5, future.getDelay(TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+        clock.add(Duration.ofSeconds(2));
+        assertEquals(3000, future.getDelay(TimeUnit.MILLISECONDS));
+        clock.add(Duration.ofSeconds(3));
+        assertTrue(future.isDone());
+        assertEquals("done", future.get());
+        assertEquals(0, future.getDelay(TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_schedule_exceptionReportedByFuture() throws Throwable {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        ScheduledFuture<?> future = test.schedule(() -> {
+            throw new IllegalStateException();
+        }, 1, TimeUnit.SECONDS);
+        clock.add(Duration.ofSeconds(1));
+        try {
+            future.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @Test
+    public void test_cancel() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<String> log = new ArrayList<>();
+        ScheduledFuture<?> future = test.schedule(() -> log.add("A"), 1, TimeUnit.SECONDS);
+        assertTrue(future.cancel(false));
+        assertEquals(0, test.getQueuedTaskCount());
+        clock.add(Duration.ofSeconds(1));
+        assertEquals(Arrays.asList(), log);
+    }
+
+    @Test
+    public void test_scheduleAtFixedRate() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<Instant> log = new ArrayList<>();
+        ScheduledFuture<?> future = test.scheduleAtFixedRate(() -> log.add(clock.instant()), 10, 60, TimeUnit.SECONDS);
+        assertFalse(future.isDone());
+        test.advanceBy(Duration.ofMinutes(3));
+        assertEquals(Arrays.asList(START.plusSeconds(10), START.plusSeconds(70), START.plusSeconds(130)), log);
+        assertEquals(START.plusSeconds(180), clock.instant());
+        future.cancel(false);
+        test.advanceBy(Duration.ofHours(1));
+        assertEquals(3, log.size());
+    }
+
+    @Test
+    public void test_scheduleAtFixedRate_catchesUpOnJump() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<Instant> log = new ArrayList<>();
+        test.scheduleAtFixedRate(() -> log.add(clock.instant()), 1, 1, TimeUnit.MINUTES);
+        clock.add(Duration.ofMinutes(5));
+        assertEquals(5, log.size());
+        assertEquals(START.plusSeconds(300), log.get(0));
+    }
+
+    @Test
+    public void test_scheduleWithFixedDelay() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<Instant> log = new ArrayList<>();
+        test.scheduleWithFixedDelay(() -> {
+            log.add(clock.instant());
+            clock.add(Duration.ofSeconds(5));  // the task takes five seconds
+        }, 0, 10, TimeUnit.SECONDS);
+        test.advanceBy(Duration.ofSeconds(40));
+        assertEquals(Arrays.asList(START, START.plusSeconds(15), START.plusSeconds(30)), log);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_scheduleAtFixedRate_zeroPeriod() {
+        VirtualTimeScheduler.of(MutableClock.epochUTC()).scheduleAtFixedRate(() -> { }, 0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_scheduleWithFixedDelay_zeroDelay() {
+        VirtualTimeScheduler.of(MutableClock.epochUTC()).scheduleWithFixedDelay(() -> { }, 0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void test_advanceTo_tasksObserveDueInstant() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<Instant> log = new ArrayList<>();
+        test.schedule(() -> log.add(clock.instant()), 2, TimeUnit.HOURS);
+        test.schedule(() -> log.add(clock.instant()), 1, TimeUnit.HOURS);
+        test.schedule(() -> log.add(clock.instant()), 4, TimeUnit.HOURS);
+        test.advanceTo(START.plusSeconds(3 * 3600));
+        assertEquals(Arrays.asList(START.plusSeconds(3600), START.plusSeconds(7200)), log);
+        assertEquals(START.plusSeconds(3 * 3600), clock.instant());
+        assertEquals(1, test.getQueuedTaskCount());
+    }
+
+    @Test
+    public void test_advanceTo_past() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        test.advanceTo(START.minusSeconds(1));
+        assertEquals(START, clock.instant());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_advanceBy_negative() {
+        VirtualTimeScheduler.of(MutableClock.epochUTC()).advanceBy(Duration.ofSeconds(-1));
+    }
+
+    @Test
+    public void test_advanceToNextTask() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<String> log = new ArrayList<>();
+        test.schedule(() -> log.add("B"), 2, TimeUnit.DAYS);
+        test.schedule(() -> log.add("A"), 90, TimeUnit.MINUTES);
+        assertTrue(test.advanceToNextTask());
+        assertEquals(Arrays.asList("A"), log);
+        assertEquals(START.plusSeconds(90 * 60), clock.instant());
+        assertTrue(test.advanceToNextTask());
+        assertEquals(Arrays.asList("A", "B"), log);
+        assertEquals(START.plus(Duration.ofDays(2)), clock.instant());
+        assertFalse(test.advanceToNextTask());
+        assertEquals(START.plus(Duration.ofDays(2)), clock.instant());
+    }
+
+    @Test
+    public void test_taskSchedulesTask() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<Instant> log = new ArrayList<>();
+        test.schedule(() -> {
+            log.add(clock.instant());
+            test.schedule(() -> log.add(clock.instant()), 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
+        test.advanceBy(Duration.ofSeconds(5));
+        assertEquals(Arrays.asList(START.plusSeconds(1), START.plusSeconds(2)), log);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_advanceFromTask() throws Throwable {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        ScheduledFuture<?> future = test.schedule(() -> test.advanceToNextTask(), 1, TimeUnit.SECONDS);
+        clock.add(Duration.ofSeconds(1));
+        try {
+            future.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @Test
+    public void test_submit_runsImmediately() throws Exception {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        Future<String> future = test.submit(() -> "done");
+        assertTrue(future.isDone());
+        assertEquals("done", future.get());
+        List<Callable<Integer>> tasks = Arrays.asList(() -> 1, () -> 2);
+        List<Future<Integer>> results = test.invokeAll(tasks);
+        assertEquals(Integer.valueOf(1), results.get(0).get());
+        assertEquals(Integer.valueOf(2), results.get(1).get());
+        assertEquals(START, clock.instant());
+    }
+
+    @Test
+    public void test_shutdown() throws Exception {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<String> log = new ArrayList<>();
+        test.schedule(() -> log.add("A"), 1, TimeUnit.SECONDS);
+        ScheduledFuture<?> periodic = test.scheduleAtFixedRate(() -> log.add("P"), 2, 1, TimeUnit.SECONDS);
+        test.shutdown();
+        assertTrue(test.isShutdown());
+        assertTrue(periodic.isCancelled());
+        assertFalse(test.isTerminated());
+        assertFalse(test.awaitTermination(1, TimeUnit.MILLISECONDS));
+        clock.add(Duration.ofSeconds(5));
+        assertEquals(Arrays.asList("A"), log);
+        assertTrue(test.isTerminated());
+        assertTrue(test.awaitTermination(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void test_shutdown_rejects() {
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(MutableClock.epochUTC());
+        test.shutdown();
+        test.schedule(() -> { }, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void test_shutdownNow() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        List<String> log = new ArrayList<>();
+        test.schedule(() -> log.add("A"), 1, TimeUnit.SECONDS);
+        test.schedule(() -> log.add("B"), 2, TimeUnit.SECONDS);
+        assertEquals(2, test.shutdownNow().size());
+        assertTrue(test.isTerminated());
+        clock.add(Duration.ofSeconds(5));
+        assertEquals(Arrays.asList(), log);
+    }
+
+    @Test
+    public void test_replayManyHours() {
+        MutableClock clock = MutableClock.of(START, ZoneOffset.UTC);
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(clock);
+        int[] count = new int[1];
+        test.scheduleAtFixedRate(() -> count[0]++, 0, 1, TimeUnit.SECONDS);
+        test.advanceBy(Duration.ofHours(24));
+        assertEquals(24 * 3600 + 1, count[0]);
+    }
+
+    @Test
+    public void test_toString() {
+        VirtualTimeScheduler test = VirtualTimeScheduler.of(MutableClock.epochUTC());
+        test.schedule(() -> { }, 1, TimeUnit.SECONDS);
+        assertEquals("VirtualTimeScheduler[1970-01-01T00:00:00Z,1 queued]", test.toString());
+    }
+
+}
@@ -94,6 +94,17 @@ public class TestWeeks {
     }
 
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Weeks.of(5), Weeks.of(5));
+        assertSame(Weeks.of(-1024), Weeks.of(-1024));
+        assertSame(Weeks.of(1024), Weeks.of(1024));
+        assertSame(Weeks.of(5), Weeks.parse("P5W"));
+        assertSame(Weeks.of(5), Weeks.of(2).plus(3));
+        assertEquals(1025, Weeks.of(1025).getAmount());
+        assertEquals(-1025, Weeks.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(1, Weeks.of(1).getAmount());
@@ -180,6 +191,40 @@ public class TestWeeks {
         Weeks.parse((CharSequence) null);
     }
 
+    @Test
+    public void test_parse_CharSequence_int_int() {
+        assertEquals(Weeks.of(2), Weeks.parse("xP2Wx", 1, 4));
+        assertEquals(Weeks.of(-2), Weeks.parse("x-P2W", 1, 5));
+        assertEquals(Weeks.of(12), Weeks.parse("P12WP3W", 0, 4));
+        assertEquals(Weeks.of(3), Weeks.parse("P12WP3W", 4, 7));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Weeks.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Weeks.parse("P2W", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Weeks.parse("P2W", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Weeks.parse("P2W", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Weeks.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Weeks() {
@@ -458,4 +503,17 @@ public class TestWeeks {
         assertEquals("P-1W", testM1.toString());
     }
 
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Weeks test = Weeks.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
@@ -79,6 +79,7 @@ import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.threeten.extra.Quarter.Q1;
 import static org.threeten.extra.Quarter.Q2;
@@ -142,6 +143,17 @@ public class TestYearQuarter {
     //-----------------------------------------------------------------------
     // of(int,Quarter)
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(YearQuarter.of(2012, Q3), YearQuarter.of(2012, 3));
+        assertSame(YearQuarter.of(1900, Q1), YearQuarter.of(1900, Q1));
+        assertSame(YearQuarter.of(2100, Q4), YearQuarter.of(2100, Q4));
+        assertSame(YearQuarter.of(2012, Q3), YearQuarter.parse("2012-Q3"));
+        assertSame(YearQuarter.of(2013, Q1), YearQuarter.of(2012, Q4).plusQuarters(1));
+        assertEquals(YearQuarter.of(1899, Q4), YearQuarter.of(1899, 4));
+        assertEquals(YearQuarter.of(2101, Q1), YearQuarter.of(2101, 1));
+    }
+
     @Test
     public void test_of_int_Quarter() {
         for (int year = -100; year <= 100; year++) {
@@ -254,6 +266,45 @@ public class TestYearQuarter {
         assertEquals(YearQuarter.of(2012, Q3), YearQuarter.parse("2012-q3"));
     }
 
+    @Test
+    public void test_parse_CharSequence_fourDigitYears() {
+        assertEquals(YearQuarter.of(0, Q1), YearQuarter.parse("0000-Q1"));
+        assertEquals(YearQuarter.of(9999, Q4), YearQuarter.parse("9999-Q4"));
+        assertEquals(YearQuarter.of(2012, Q3), YearQuarter.parse(new StringBuilder("2012-Q3")));
+    }
+
+    @Test
+    public void test_parse_CharSequence_signedYears() {
+        assertEquals(YearQuarter.of(10000, Q2), YearQuarter.parse("+10000-Q2"));
+        assertEquals(YearQuarter.of(-1, Q3), YearQuarter.parse("-0001-Q3"));
+        assertEquals(YearQuarter.of(-10000, Q4), YearQuarter.parse("-10000-Q4"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequenceDate_invalidQuarterFive() {
+        YearQuarter.parse("2012-Q5");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequenceDate_invalidQuarterLetter() {
+        YearQuarter.parse("2012-QA");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequenceDate_invalidYearLetter() {
+        YearQuarter.parse("201A-Q3");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequenceDate_invalidSeparator() {
+        YearQuarter.parse("2012-X3");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void test_parse_CharSequenceDate_invalidPlusSign() {
+        YearQuarter.parse("+2012-Q3");
+    }
+
     @Test(expected = DateTimeParseException.class)
     public void test_parse_CharSequenceDate_invalidYear() {
         YearQuarter.parse("12345-Q3");
@@ -935,4 +986,63 @@ public class TestYearQuarter {
         assertEquals("-10000-Q2", YearQuarter.of(-10000, Q2).toString());
     }
 
+    //-----------------------------------------------------------------------
+    // formatTo()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_formatTo() {
+        for (int year : new int[] {-1_000_000, -10000, -1000, -999, -1, 0, 1, 999, 1000, 2012, 9999, 10000, 1_000_000}) {
+            for (Quarter quarter : Quarter.values()) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                String date = LocalDate.of(year, 1, 1).toString();
+                String expected = date.substring(0, date.length() - 6) + "-" + quarter;
+                StringBuilder buf = new StringBuilder("x");
+                test.formatTo(buf);
+                assertEquals("x" + expected, buf.toString());
+                StringBuffer appendable = new StringBuffer();
+                test.formatTo(appendable);
+                assertEquals(expected, appendable.toString());
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // toPackedInt() / ofPacked(int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toPackedInt() {
+        assertEquals(8048, YearQuarter.of(2012, Q1).toPackedInt());
+        assertEquals(8051, YearQuarter.of(2012, Q4).toPackedInt());
+        assertEquals(0, YearQuarter.of(0, Q1).toPackedInt());
+        assertEquals(-1, YearQuarter.of(-1, Q4).toPackedInt());
+        assertEquals(Integer.MIN_VALUE, YearQuarter.of(-536_870_912, Q1).toPackedInt());
+        assertEquals(Integer.MAX_VALUE, YearQuarter.of(536_870_911, Q4).toPackedInt());
+    }
+
+    @Test
+    public void test_toPackedInt_ofPacked_roundTrip() {
+        YearQuarter previous = YearQuarter.of(-1001, Q4);
+        for (int year = -1000; year <= 3000; year++) {
+            for (Quarter quarter : Quarter.values()) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                int packed = test.toPackedInt();
+                assertEquals(previous.toPackedInt() + 1, packed);
+                assertEquals(test, YearQuarter.ofPacked(packed));
+                previous = test;
+            }
+        }
+        assertEquals(YearQuarter.of(-536_870_912, Q1), YearQuarter.ofPacked(Integer.MIN_VALUE));
+        assertEquals(YearQuarter.of(536_870_911, Q4), YearQuarter.ofPacked(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPackedInt_tooLarge() {
+        YearQuarter.of(536_870_912, Q1).toPackedInt();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPackedInt_tooSmall() {
+        YearQuarter.of(-536_870_913, Q4).toPackedInt();
+    }
+
 }
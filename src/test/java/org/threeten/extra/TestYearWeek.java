@@ -74,6 +74,7 @@ import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -370,6 +371,18 @@ public class TestYearWeek {
     //-----------------------------------------------------------------------
     // of(int, int)
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(YearWeek.of(2015, 13), YearWeek.of(2015, 13));
+        assertSame(YearWeek.of(1900, 1), YearWeek.of(1900, 1));
+        assertSame(YearWeek.of(2100, 52), YearWeek.of(2100, 52));
+        assertSame(YearWeek.of(2015, 1), YearWeek.of(2014, 53));
+        assertEquals(YearWeek.of(2101, 1), YearWeek.of(2100, 53));
+        assertSame(YearWeek.of(2015, 13), YearWeek.parse("2015-W13"));
+        assertEquals(YearWeek.of(1899, 52), YearWeek.of(1899, 52));
+        assertEquals(YearWeek.of(2102, 1), YearWeek.of(2101, 53));
+    }
+
     @Test
     @UseDataProvider("data_sampleYearWeeks")
     public void test_of(int year, int week) {
@@ -633,6 +646,46 @@ public class TestYearWeek {
         assertEquals(TEST, YearWeek.parse("2015-W01"));
     }
 
+    @DataProvider
+    public static Object[][] data_parse_valid() {
+        return new Object[][] {
+            {"2015-w01", YearWeek.of(2015, 1)},
+            {"2015-W53", YearWeek.of(2015, 53)},
+            {"2014-W53", YearWeek.of(2015, 1)},
+            {"0000-W10", YearWeek.of(0, 10)},
+            {"9999-W52", YearWeek.of(9999, 52)},
+            {"+10000-W01", YearWeek.of(10000, 1)},
+            {"-0001-W52", YearWeek.of(-1, 52)},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_parse_valid")
+    public void test_parse_CharSequence_valid(String text, YearWeek expected) {
+        assertEquals(expected, YearWeek.parse(text));
+        assertEquals(expected, YearWeek.parse(new StringBuilder(text)));
+    }
+
+    @DataProvider
+    public static Object[][] data_parse_invalid() {
+        return new Object[][] {
+            {"2015-W00"},
+            {"2015-W60"},
+            {"2015-W1"},
+            {"2015-W1A"},
+            {"2015-X01"},
+            {"2015W01"},
+            {"201A-W01"},
+            {"+2015-W01"},
+        };
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_parse_invalid")
+    public void test_parse_CharSequence_invalid(String text) {
+        YearWeek.parse(text);
+    }
+
     @Test(expected = DateTimeParseException.class)
     public void test_parse_CharSequenceDate_invalidYear() {
         YearWeek.parse("12345-W7");
@@ -977,4 +1030,56 @@ public class TestYearWeek {
         assertEquals(expected, s);
     }
 
+    @Test
+    @UseDataProvider("data_sampleToString")
+    public void test_formatTo(int year, int week, String expected) {
+        YearWeek yearWeek = YearWeek.of(year, week);
+        StringBuilder buf = new StringBuilder("x");
+        yearWeek.formatTo(buf);
+        assertEquals("x" + expected, buf.toString());
+        StringBuffer appendable = new StringBuffer();
+        yearWeek.formatTo(appendable);
+        assertEquals(expected, appendable.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    // toPackedInt() / ofPacked(int)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toPackedInt() {
+        assertEquals(0, YearWeek.of(1970, 1).toPackedInt());
+        assertEquals(1, YearWeek.of(1970, 2).toPackedInt());
+        assertEquals(-1, YearWeek.of(1969, 52).toPackedInt());
+        assertEquals(2360, YearWeek.of(2015, 13).toPackedInt());
+    }
+
+    @Test
+    public void test_toPackedInt_ofPacked_roundTrip() {
+        LocalDate monday = YearWeek.of(1970, 1).atDay(MONDAY);
+        YearWeek test = YearWeek.of(-100, 1);
+        int expected = (int) (test.atDay(MONDAY).toEpochDay() - monday.toEpochDay()) / 7;
+        for (int i = 0; i < 150_000; i++) {
+            assertEquals(expected, test.toPackedInt());
+            assertEquals(test, YearWeek.ofPacked(expected));
+            test = test.plusWeeks(1);
+            expected++;
+        }
+    }
+
+    @Test
+    public void test_ofPacked_limits() {
+        assertEquals(Integer.MIN_VALUE, YearWeek.ofPacked(Integer.MIN_VALUE).toPackedInt());
+        assertEquals(Integer.MAX_VALUE, YearWeek.ofPacked(Integer.MAX_VALUE).toPackedInt());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPackedInt_tooLarge() {
+        YearWeek.of(999_999_999, 1).toPackedInt();
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPackedInt_tooSmall() {
+        YearWeek.of(-999_999_999, 1).toPackedInt();
+    }
+
 }
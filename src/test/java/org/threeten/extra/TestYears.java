@@ -94,6 +94,17 @@ public class TestYears {
     }
 
     //-----------------------------------------------------------------------
+    @Test
+    public void test_of_cached() {
+        assertSame(Years.of(5), Years.of(5));
+        assertSame(Years.of(-1024), Years.of(-1024));
+        assertSame(Years.of(1024), Years.of(1024));
+        assertSame(Years.of(5), Years.parse("P5Y"));
+        assertSame(Years.of(5), Years.of(2).plus(3));
+        assertEquals(1025, Years.of(1025).getAmount());
+        assertEquals(-1025, Years.of(-1025).getAmount());
+    }
+
     @Test
     public void test_of() {
         assertEquals(1, Years.of(1).getAmount());
@@ -185,6 +196,40 @@ public class TestYears {
         Years.parse((CharSequence) null);
     }
 
+    @Test
+    public void test_parse_CharSequence_int_int() {
+        assertEquals(Years.of(2), Years.parse("xP2Yx", 1, 4));
+        assertEquals(Years.of(-2), Years.parse("x-P2Y", 1, 5));
+        assertEquals(Years.of(12), Years.parse("P12YP3Y", 0, 4));
+        assertEquals(Years.of(3), Years.parse("P12YP3Y", 4, 7));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    @UseDataProvider("data_invalid")
+    public void test_parse_CharSequence_int_int_invalid(String str) {
+        Years.parse("[" + str + "]", 1, str.length() + 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startNegative() {
+        Years.parse("P2Y", -1, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_endTooLarge() {
+        Years.parse("P2Y", 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_int_int_startAfterEnd() {
+        Years.parse("P2Y", 2, 1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_parse_CharSequence_int_int_null() {
+        Years.parse((CharSequence) null, 0, 0);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_plus_TemporalAmount_Years() {
@@ -463,4 +508,17 @@ public class TestYears {
         assertEquals("P-1Y", testM1.toString());
     }
 
+    @Test
+    public void test_formatTo() {
+        for (int amount : new int[] {0, 3, -7, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Years test = Years.of(amount);
+            StringBuilder buf = new StringBuilder("x");
+            test.formatTo(buf);
+            assertEquals("x" + test.toString(), buf.toString());
+            StringBuffer appendable = new StringBuffer();
+            test.formatTo(appendable);
+            assertEquals(test.toString(), appendable.toString());
+        }
+    }
+
 }
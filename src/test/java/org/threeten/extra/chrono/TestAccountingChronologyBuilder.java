@@ -33,6 +33,7 @@ package org.threeten.extra.chrono;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
@@ -446,6 +447,78 @@ public class TestAccountingChronologyBuilder {
         division.getMonthFromElapsedWeeks(elapsedWeeks + 1, leapWeekInMonth);
     }
 
+    //-----------------------------------------------------------------------
+    // withPrecomputedYears()
+    //-----------------------------------------------------------------------
+    @Test
+    @UseDataProvider("data_yearEnding")
+    public void test_withPrecomputedYears_matchesCalculation(DayOfWeek dayOfWeek, Month ending) {
+        AccountingChronology calculated = new AccountingChronologyBuilder().endsOn(dayOfWeek).nearestEndOf(ending)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12)
+                .toChronology();
+        AccountingChronology precomputed = new AccountingChronologyBuilder().endsOn(dayOfWeek).nearestEndOf(ending)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12)
+                .withPrecomputedYears(1990, 2030)
+                .toChronology();
+        assertEquals(calculated, precomputed);
+        assertEquals(calculated.hashCode(), precomputed.hashCode());
+        assertEquals(calculated.toString(), precomputed.toString());
+
+        // spans the window and a year either side of it
+        long start = calculated.date(1988, 1, 1).toEpochDay();
+        long end = calculated.date(2033, 1, 1).toEpochDay();
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            AccountingDate expected = calculated.dateEpochDay(epochDay);
+            AccountingDate actual = precomputed.dateEpochDay(epochDay);
+            assertEquals(expected.getProlepticYear(), actual.getProlepticYear());
+            assertEquals(expected.getMonth(), actual.getMonth());
+            assertEquals(expected.getDayOfMonth(), actual.getDayOfMonth());
+            assertEquals(epochDay, actual.toEpochDay());
+        }
+    }
+
+    @Test
+    public void test_withPrecomputedYears_emptyWindow() {
+        AccountingChronology chronology = new AccountingChronologyBuilder().endsOn(DayOfWeek.SATURDAY).inLastWeekOf(Month.AUGUST)
+                .withDivision(AccountingYearDivision.THIRTEEN_EVEN_MONTHS_OF_4_WEEKS).leapWeekInMonth(13)
+                .withPrecomputedYears(2000, 1999)
+                .toChronology();
+        assertEquals(null, chronology.getYearStarts());
+        assertEquals(LocalDate.of(2018, 6, 1), LocalDate.from(chronology.date(LocalDate.of(2018, 6, 1))));
+    }
+
+    @Test
+    public void test_withPrecomputedYears_table() {
+        AccountingChronology chronology = new AccountingChronologyBuilder().endsOn(DayOfWeek.SATURDAY).inLastWeekOf(Month.AUGUST)
+                .withDivision(AccountingYearDivision.THIRTEEN_EVEN_MONTHS_OF_4_WEEKS).leapWeekInMonth(13)
+                .withPrecomputedYears(2010, 2019)
+                .toChronology();
+        long[] yearStarts = chronology.getYearStarts();
+        assertEquals(11, yearStarts.length);
+        for (int i = 0; i < yearStarts.length; i++) {
+            assertEquals(chronology.date(2010 + i, 1, 1).toEpochDay(), yearStarts[i]);
+        }
+        assertSame(yearStarts, chronology.getYearStarts());
+    }
+
+    @DataProvider
+    public static Object[][] data_badPrecomputedYears() {
+        return new Object[][] {
+            {-1_000_000, 2000},
+            {2000, 1_000_000},
+            {Integer.MIN_VALUE, Integer.MAX_VALUE},
+        };
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @UseDataProvider("data_badPrecomputedYears")
+    public void test_badChronology_withPrecomputedYears(int minYear, int maxYear) {
+        new AccountingChronologyBuilder().endsOn(DayOfWeek.MONDAY).nearestEndOf(Month.JANUARY)
+                .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS).leapWeekInMonth(12)
+                .withPrecomputedYears(minYear, maxYear)
+                .toChronology();
+    }
+
     //-----------------------------------------------------------------------
     // toChronology() failures.
     //-----------------------------------------------------------------------
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.IsoChronology;
+import java.time.chrono.ThaiBuddhistChronology;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+/**
+ * Test.
+ */
+@RunWith(DataProviderRunner.class)
+public class TestEpochDayConverter {
+
+    @DataProvider
+    public static Object[][] data_chronologies() {
+        return new Object[][] {
+            {IsoChronology.INSTANCE},
+            {JulianChronology.INSTANCE},
+            {BritishCutoverChronology.INSTANCE},
+            {CopticChronology.INSTANCE},
+            {EthiopicChronology.INSTANCE},
+            {PaxChronology.INSTANCE},
+            {Symmetry454Chronology.INSTANCE},
+            {Symmetry010Chronology.INSTANCE},
+            {InternationalFixedChronology.INSTANCE},
+            {DiscordianChronology.INSTANCE},
+            {new AccountingChronologyBuilder()
+                    .endsOn(DayOfWeek.SATURDAY)
+                    .nearestEndOf(Month.JANUARY)
+                    .withDivision(AccountingYearDivision.QUARTERS_OF_PATTERN_4_4_5_WEEKS)
+                    .leapWeekInMonth(12)
+                    .toChronology()},
+            {ThaiBuddhistChronology.INSTANCE},
+        };
+    }
+
+    private static long[] epochDays() {
+        // every day for 12 years around the epoch and the British cutover, plus random days
+        Random random = new Random(1234);
+        long[] epochDays = new long[3 * 4383 + 2000];
+        int i = 0;
+        for (long epochDay = -2191; epochDay < 2192; epochDay++) {
+            epochDays[i++] = epochDay;
+            epochDays[i++] = epochDay - 79_000;
+            epochDays[i++] = epochDay + 200 * 366;
+        }
+        while (i < epochDays.length) {
+            epochDays[i++] = random.nextInt(1_700_000) - 700_000;
+        }
+        return epochDays;
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    @UseDataProvider("data_chronologies")
+    public void test_toFields(Chronology chronology) {
+        EpochDayConverter test = EpochDayConverter.of(chronology);
+        assertSame(chronology, test.getChronology());
+        long[] epochDays = epochDays();
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        test.toFields(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            ChronoLocalDate date = chronology.dateEpochDay(epochDays[i]);
+            assertEquals(date.get(YEAR), years[i]);
+            assertEquals(date.get(MONTH_OF_YEAR), months[i]);
+            assertEquals(date.get(DAY_OF_MONTH), days[i]);
+        }
+        long[] roundTrip = new long[epochDays.length];
+        test.toEpochDays(years, months, days, roundTrip);
+        assertArrayEquals(expectedRoundTrip(chronology, epochDays), roundTrip);
+    }
+
+    @Test
+    @UseDataProvider("data_chronologies")
+    public void test_toPacked(Chronology chronology) {
+        EpochDayConverter test = EpochDayConverter.of(chronology);
+        long[] epochDays = epochDays();
+        int[] packed = new int[epochDays.length];
+        test.toPacked(epochDays, packed);
+        for (int i = 0; i < epochDays.length; i++) {
+            ChronoLocalDate date = chronology.dateEpochDay(epochDays[i]);
+            assertEquals(date.get(YEAR), EpochDayConverter.unpackYear(packed[i]));
+            assertEquals(date.get(MONTH_OF_YEAR), EpochDayConverter.unpackMonth(packed[i]));
+            assertEquals(date.get(DAY_OF_MONTH), EpochDayConverter.unpackDay(packed[i]));
+        }
+        long[] roundTrip = new long[epochDays.length];
+        test.packedToEpochDays(packed, roundTrip);
+        assertArrayEquals(expectedRoundTrip(chronology, epochDays), roundTrip);
+    }
+
+    private static long[] expectedRoundTrip(Chronology chronology, long[] epochDays) {
+        // matches the date classes, which are not always reversible
+        long[] expected = new long[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            expected[i] = chronology.dateEpochDay(epochDays[i]).toEpochDay();
+        }
+        return expected;
+    }
+
+    @Test(expected = DateTimeException.class)
+    @UseDataProvider("data_chronologies")
+    public void test_toEpochDays_invalidDay(Chronology chronology) {
+        EpochDayConverter.of(chronology).toEpochDays(new int[] {2012}, new int[] {1}, new int[] {80}, new long[1]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    @UseDataProvider("data_chronologies")
+    public void test_toEpochDays_invalidMonth(Chronology chronology) {
+        EpochDayConverter.of(chronology).toEpochDays(new int[] {2012}, new int[] {15}, new int[] {1}, new long[1]);
+    }
+
+    @Test
+    @UseDataProvider("data_chronologies")
+    public void test_toEpochDays_invalidMatchesChronology(Chronology chronology) {
+        for (int month = 0; month <= 14; month++) {
+            for (int day = 0; day <= 36; day++) {
+                String expected;
+                try {
+                    expected = Long.toString(chronology.date(2012, month, day).toEpochDay());
+                } catch (DateTimeException ex) {
+                    expected = ex.getMessage();
+                }
+                String actual;
+                try {
+                    long[] epochDays = new long[1];
+                    EpochDayConverter.of(chronology).toEpochDays(new int[] {2012}, new int[] {month}, new int[] {day}, epochDays);
+                    actual = Long.toString(epochDays[0]);
+                } catch (DateTimeException ex) {
+                    actual = ex.getMessage();
+                }
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toEpochDays_britishCutoverGap() {
+        EpochDayConverter.of(BritishCutoverChronology.INSTANCE)
+                .toEpochDays(new int[] {1752}, new int[] {9}, new int[] {3}, new long[1]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toFields_outOfRange() {
+        EpochDayConverter.of(JulianChronology.INSTANCE)
+                .toFields(new long[] {Long.MAX_VALUE}, new int[1], new int[1], new int[1]);
+    }
+
+    @DataProvider
+    public static Object[][] data_yearLimited() {
+        return new Object[][] {
+            {JulianChronology.INSTANCE},
+            {CopticChronology.INSTANCE},
+            {EthiopicChronology.INSTANCE},
+            {DiscordianChronology.INSTANCE},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_yearLimited")
+    public void test_toFields_yearLimits(Chronology chronology) {
+        EpochDayConverter test = EpochDayConverter.of(chronology);
+        int minYear = (int) chronology.range(YEAR).getMinimum();
+        int maxYear = (int) chronology.range(YEAR).getMaximum();
+        ChronoLocalDate first = chronology.dateYearDay(minYear, 1);
+        ChronoLocalDate last = chronology.dateYearDay(maxYear, chronology.dateYearDay(maxYear, 1).lengthOfYear());
+        long[] epochDays = {first.toEpochDay(), last.toEpochDay()};
+        int[] years = new int[2];
+        int[] months = new int[2];
+        int[] days = new int[2];
+        test.toFields(epochDays, years, months, days);
+        assertArrayEquals(new int[] {minYear, maxYear}, years);
+        assertEquals(first, chronology.dateEpochDay(epochDays[0]));
+        assertEquals(last, chronology.dateEpochDay(epochDays[1]));
+        assertOutOfRange(chronology, epochDays[0] - 1);
+        assertOutOfRange(chronology, epochDays[1] + 1);
+    }
+
+    @DataProvider
+    public static Object[][] data_outOfRange() {
+        return new Object[][] {
+            {JulianChronology.INSTANCE, -400_000_000L},
+            {CopticChronology.INSTANCE, -400_000_000L},
+            {EthiopicChronology.INSTANCE, -400_000_000L},
+            {DiscordianChronology.INSTANCE, 365_000_000L},
+            {InternationalFixedChronology.INSTANCE, -719_528L},
+            {Symmetry454Chronology.INSTANCE, -719_893L},
+            {Symmetry010Chronology.INSTANCE, -719_893L},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_outOfRange")
+    public void test_toFields_outOfRange(Chronology chronology, long epochDay) {
+        assertOutOfRange(chronology, epochDay);
+    }
+
+    private static void assertOutOfRange(Chronology chronology, long epochDay) {
+        try {
+            chronology.dateEpochDay(epochDay);
+            fail("Expected DateTimeException for " + epochDay);
+        } catch (DateTimeException ex) {
+            // expected
+        }
+        try {
+            EpochDayConverter.of(chronology).toFields(new long[] {epochDay}, new int[1], new int[1], new int[1]);
+            fail("Expected DateTimeException for " + epochDay);
+        } catch (DateTimeException ex) {
+            // expected
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_toPacked_yearTooLarge() {
+        EpochDayConverter.of(IsoChronology.INSTANCE)
+                .toPacked(new long[] {IsoChronology.INSTANCE.date(1_048_576, 1, 1).toEpochDay()}, new int[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_toFields_arrayTooShort() {
+        EpochDayConverter.of(IsoChronology.INSTANCE).toFields(new long[2], new int[2], new int[1], new int[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_packedToEpochDays_arrayTooShort() {
+        EpochDayConverter.of(IsoChronology.INSTANCE).packedToEpochDays(new int[1], new long[2]);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_null() {
+        EpochDayConverter.of(null);
+    }
+
+    @Test
+    public void test_of_hijrah() {
+        EpochDayConverter test = EpochDayConverter.of(HijrahChronology.INSTANCE);
+        int[] packed = new int[1];
+        test.toPacked(new long[] {0}, packed);
+        ChronoLocalDate date = HijrahChronology.INSTANCE.dateEpochDay(0);
+        assertEquals(EpochDayConverter.pack(date.get(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH)), packed[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_pack() {
+        assertPack(2012, 6, 30);
+        assertPack(-1_048_576, 0, 0);
+        assertPack(1_048_575, 15, 127);
+        assertPack(-1, 13, 73);
+        assertEquals(true, EpochDayConverter.pack(2012, 6, 30) < EpochDayConverter.pack(2012, 7, 1));
+        assertEquals(true, EpochDayConverter.pack(-1, 12, 31) < EpochDayConverter.pack(0, 1, 1));
+    }
+
+    private static void assertPack(int year, int month, int day) {
+        int packed = EpochDayConverter.pack(year, month, day);
+        assertEquals(year, EpochDayConverter.unpackYear(packed));
+        assertEquals(month, EpochDayConverter.unpackMonth(packed));
+        assertEquals(day, EpochDayConverter.unpackDay(packed));
+    }
+
+    @DataProvider
+    public static Object[][] data_pack_invalid() {
+        return new Object[][] {
+            {1_048_576, 1, 1},
+            {-1_048_577, 1, 1},
+            {2012, 16, 1},
+            {2012, -1, 1},
+            {2012, 1, 128},
+            {2012, 1, -1},
+        };
+    }
+
+    @Test(expected = DateTimeException.class)
+    @UseDataProvider("data_pack_invalid")
+    public void test_pack_invalid(int year, int month, int day) {
+        EpochDayConverter.pack(year, month, day);
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.temporal.JulianFields;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the precompiled leap seconds file from the text file.
+ * <p>
+ * Run the main method from the project directory after changing {@code LeapSeconds.txt}.
+ * The tests check that the two files match.
+ */
+public final class LeapSecondsCompiler {
+
+    private static final String RESOURCES = "src/main/resources/";
+
+    /**
+     * Regenerates {@code LeapSeconds.dat} from {@code LeapSeconds.txt}.
+     *
+     * @param args  ignored
+     * @throws IOException if an error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        Path text = Paths.get(RESOURCES, "org/threeten/extra/scale/LeapSeconds.txt");
+        Path binary = Paths.get(RESOURCES, SystemUtcRules.LEAP_SECONDS_DAT);
+        try (InputStream in = Files.newInputStream(text)) {
+            Files.write(binary, compile(in));
+        }
+    }
+
+    /**
+     * Compiles the text format to the binary format.
+     *
+     * @param in  the text file, not null
+     * @return the binary file, not null
+     * @throws IOException if an error occurs
+     */
+    static byte[] compile(InputStream in) throws IOException {
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            lines = reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toList());
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeInt(SystemUtcRules.BINARY_MAGIC);
+            out.writeShort(SystemUtcRules.BINARY_VERSION);
+            out.writeShort(lines.size());
+            for (String line : lines) {
+                String[] parts = line.split("[ ]+");
+                out.writeInt((int) LocalDate.parse(parts[0]).getLong(JulianFields.MODIFIED_JULIAN_DAY));
+                out.writeShort(Integer.parseInt(parts[1]));
+            }
+        }
+        return baos.toByteArray();
+    }
+
+}
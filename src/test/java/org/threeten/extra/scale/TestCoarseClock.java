@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import org.threeten.extra.MutableClock;
+
+/**
+ * Test CoarseClock.
+ */
+public class TestCoarseClock {
+
+    private static final Instant START = Instant.parse("2018-06-01T00:00:00Z");
+
+    private static void awaitInstant(CoarseClock clock, Instant expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!clock.instant().equals(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, clock.instant());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_source() {
+        MutableClock source = MutableClock.of(START, ZoneId.of("Europe/Paris"));
+        try (CoarseClock test = CoarseClock.of(source, Duration.ofMillis(1))) {
+            assertEquals(Duration.ofMillis(1), test.getTick());
+            assertEquals(ZoneId.of("Europe/Paris"), test.getZone());
+            assertEquals(START, test.instant());
+            assertEquals(START.toEpochMilli(), test.millis());
+            assertEquals(UtcInstant.of(START), test.utcInstant());
+            assertEquals(TaiInstant.of(START), test.taiInstant());
+        }
+    }
+
+    @Test
+    public void test_of_system() {
+        Instant before = Instant.now();
+        try (CoarseClock test = CoarseClock.of(Duration.ofMillis(1))) {
+            assertEquals(ZoneOffset.UTC, test.getZone());
+            Instant instant = test.instant();
+            assertTrue(!instant.isBefore(before.minusSeconds(1)));
+            assertTrue(!instant.isAfter(Instant.now().plusSeconds(1)));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_nullSource() {
+        CoarseClock.of(null, Duration.ofMillis(1));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_nullTick() {
+        CoarseClock.of(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_zeroTick() {
+        CoarseClock.of(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_negativeTick() {
+        CoarseClock.of(Duration.ofMillis(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_tooLargeTick() {
+        CoarseClock.of(Duration.ofNanos(Long.MAX_VALUE).plusNanos(1));
+    }
+
+    @Test
+    public void test_of_maxTick() {
+        try (CoarseClock test = CoarseClock.of(Duration.ofNanos(Long.MAX_VALUE))) {
+            assertEquals(Duration.ofNanos(Long.MAX_VALUE), test.getTick());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_update() throws Exception {
+        MutableClock source = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(source, Duration.ofMillis(1))) {
+            source.add(Duration.ofSeconds(5));
+            awaitInstant(test, START.plusSeconds(5));
+            assertEquals(START.plusSeconds(5).toEpochMilli(), test.millis());
+            assertEquals(UtcInstant.of(START.plusSeconds(5)), test.utcInstant());
+            assertEquals(TaiInstant.of(START.plusSeconds(5)), test.taiInstant());
+        }
+    }
+
+    @Test
+    public void test_cachedValueReused() {
+        MutableClock source = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(source, Duration.ofHours(1))) {
+            assertSame(test.instant(), test.instant());
+            assertSame(test.utcInstant(), test.utcInstant());
+            assertSame(test.taiInstant(), test.taiInstant());
+            source.add(Duration.ofSeconds(5));
+            assertEquals(START, test.instant());
+        }
+    }
+
+    @Test
+    public void test_close_readsSourceDirectly() {
+        MutableClock source = MutableClock.of(START, ZoneOffset.UTC);
+        CoarseClock test = CoarseClock.of(source, Duration.ofHours(1));
+        test.close();
+        source.add(Duration.ofSeconds(5));
+        assertEquals(START.plusSeconds(5), test.instant());
+        assertEquals(UtcInstant.of(START.plusSeconds(5)), test.utcInstant());
+        test.close();
+        assertEquals(START.plusSeconds(5), test.instant());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_withZone() throws Exception {
+        MutableClock source = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(source, Duration.ofMillis(1))) {
+            CoarseClock paris = test.withZone(ZoneId.of("Europe/Paris"));
+            assertSame(test, test.withZone(ZoneOffset.UTC));
+            assertEquals(ZoneId.of("Europe/Paris"), paris.getZone());
+            source.add(Duration.ofSeconds(5));
+            awaitInstant(paris, START.plusSeconds(5));
+            paris.close();
+            source.add(Duration.ofSeconds(5));
+            assertEquals(START.plusSeconds(10), test.instant());
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_withZone_null() {
+        try (CoarseClock test = CoarseClock.of(Duration.ofMillis(1))) {
+            test.withZone(null);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_hashCode() {
+        try (CoarseClock test = CoarseClock.of(Duration.ofMillis(1)); CoarseClock other = CoarseClock.of(Duration.ofMillis(1))) {
+            CoarseClock paris = test.withZone(ZoneId.of("Europe/Paris"));
+            assertEquals(test, test);
+            assertEquals(test, paris.withZone(ZoneOffset.UTC));
+            assertEquals(test.hashCode(), paris.withZone(ZoneOffset.UTC).hashCode());
+            assertNotEquals(test, paris);
+            assertNotEquals(test, other);
+            assertNotEquals(test, null);
+            assertNotEquals(test, "");
+        }
+    }
+
+    @Test
+    public void test_toString() {
+        MutableClock source = MutableClock.of(START, ZoneOffset.UTC);
+        try (CoarseClock test = CoarseClock.of(source, Duration.ofMillis(1))) {
+            assertEquals("CoarseClock[" + source + ",PT0.001S,Z]", test.toString());
+        }
+    }
+
+}
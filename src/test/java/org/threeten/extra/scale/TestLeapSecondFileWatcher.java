@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.temporal.JulianFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test LeapSecondFileWatcher.
+ */
+public class TestLeapSecondFileWatcher {
+
+    private static final long MJD_2100_12_31 = LocalDate.of(2100, 12, 31).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+    private static final long MJD_2101_06_30 = LocalDate.of(2101, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SystemUtcRules rules;
+    private String standardFile;
+
+    @Before
+    public void setUp() throws Exception {
+        Constructor<SystemUtcRules> con = SystemUtcRules.class.getDeclaredConstructor();
+        con.setAccessible(true);
+        rules = con.newInstance();
+        try (InputStream in = SystemUtcRules.class.getResourceAsStream("/org/threeten/extra/scale/LeapSeconds.txt");
+                Scanner scanner = new Scanner(in, "UTF-8")) {
+            standardFile = scanner.useDelimiter("\\A").next();
+        }
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_watch_loadsNewerFile() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        int offset = rules.getTaiOffset(MJD_2100_12_31 + 1);
+        write(path, standardFile + "\n2100-12-31 " + (offset + 1) + "\n");
+        try (LeapSecondFileWatcher test = LeapSecondFileWatcher.watch(rules, path)) {
+            assertEquals(path.toAbsolutePath(), test.getFile());
+            assertEquals("LeapSecondFileWatcher[" + path.toAbsolutePath() + "]", test.toString());
+            assertEquals(1, rules.getLeapSecondAdjustment(MJD_2100_12_31));
+            assertEquals(offset + 1, rules.getTaiOffset(MJD_2100_12_31 + 1));
+            assertFalse(test.reload());
+        }
+    }
+
+    @Test
+    public void test_watch_ignoresOlderFile() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        write(path, "1972-06-30 11\n");
+        long[] dates = rules.getLeapSecondDates();
+        try (LeapSecondFileWatcher test = LeapSecondFileWatcher.watch(rules, path)) {
+            assertFalse(test.reload());
+            assertEquals(dates.length, rules.getLeapSecondDates().length);
+        }
+    }
+
+    @Test
+    public void test_watch_missingFile() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        try (LeapSecondFileWatcher test = LeapSecondFileWatcher.watch(rules, path)) {
+            assertFalse(test.reload());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void test_watch_invalidFile() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        write(path, "2100-12-31\n");
+        LeapSecondFileWatcher.watch(rules, path);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_watch_invalidDate() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        write(path, "2100-13-31 38\n");
+        LeapSecondFileWatcher.watch(rules, path);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_watch_unordered() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        write(path, "2100-12-31 38\n2100-06-30 39\n");
+        LeapSecondFileWatcher.watch(rules, path);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_watch_null() throws Exception {
+        LeapSecondFileWatcher.watch(null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_watch_reloadsInBackground() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        int offset = rules.getTaiOffset(MJD_2100_12_31 + 1);
+        write(path, standardFile);
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable listener = latch::countDown;
+        rules.addListener(listener);
+        LeapSecondFileWatcher test = LeapSecondFileWatcher.watch(rules, path);
+        try {
+            Path temp = folder.getRoot().toPath().resolve("LeapSeconds.tmp");
+            write(temp, standardFile + "\n2100-12-31 " + (offset + 1) + "\n2101-06-30 " + offset + "\n");
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+            assertEquals(1, rules.getLeapSecondAdjustment(MJD_2100_12_31));
+            assertEquals(-1, rules.getLeapSecondAdjustment(MJD_2101_06_30));
+            assertEquals(offset, rules.getTaiOffset(MJD_2101_06_30 + 1));
+        } finally {
+            test.close();
+            rules.removeListener(listener);
+        }
+    }
+
+    @Test
+    public void test_watch_throwingListener() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("LeapSeconds.txt");
+        int offset = rules.getTaiOffset(MJD_2100_12_31 + 1);
+        write(path, standardFile);
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+        Runnable thrower = () -> {
+            throw new IllegalStateException("Expected");
+        };
+        Runnable listener = () -> {
+            first.countDown();
+            second.countDown();
+        };
+        List<Throwable> reported = new CopyOnWriteArrayList<>();
+        Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, ex) -> reported.add(ex));
+        rules.addListener(thrower);
+        rules.addListener(listener);
+        LeapSecondFileWatcher test = LeapSecondFileWatcher.watch(rules, path);
+        try {
+            Path temp = folder.getRoot().toPath().resolve("LeapSeconds.tmp");
+            write(temp, standardFile + "\n2100-12-31 " + (offset + 1) + "\n");
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            assertTrue(first.await(30, TimeUnit.SECONDS));
+            assertEquals(1, rules.getLeapSecondAdjustment(MJD_2100_12_31));
+            write(temp, standardFile + "\n2100-12-31 " + (offset + 1) + "\n2101-06-30 " + offset + "\n");
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            assertTrue(second.await(30, TimeUnit.SECONDS));
+            assertEquals(-1, rules.getLeapSecondAdjustment(MJD_2101_06_30));
+            assertEquals(2, reported.size());
+        } finally {
+            test.close();
+            rules.removeListener(thrower);
+            rules.removeListener(listener);
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+    }
+
+    @Test
+    public void test_listener_register() {
+        int[] calls = new int[1];
+        Runnable listener = () -> calls[0]++;
+        rules.addListener(listener);
+        rules.register(MJD_2100_12_31, 1);
+        assertEquals(1, calls[0]);
+        rules.register(MJD_2100_12_31, 1);
+        assertEquals(1, calls[0]);
+        rules.removeListener(listener);
+        rules.register(MJD_2101_06_30, 1);
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void test_listener_register_throwingListener() {
+        int[] calls = new int[1];
+        Runnable thrower = () -> {
+            throw new IllegalStateException("Expected");
+        };
+        Runnable listener = () -> calls[0]++;
+        List<Throwable> reported = new ArrayList<>();
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, ex) -> reported.add(ex));
+        rules.addListener(thrower);
+        rules.addListener(listener);
+        try {
+            rules.register(MJD_2100_12_31, 1);
+            assertEquals(1, rules.getLeapSecondAdjustment(MJD_2100_12_31));
+            assertEquals(1, calls[0]);
+            assertEquals(1, reported.size());
+        } finally {
+            rules.removeListener(thrower);
+            rules.removeListener(listener);
+            thread.setUncaughtExceptionHandler(handler);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_addSystemRulesListener_null() {
+        UtcRules.addSystemRulesListener(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_removeSystemRulesListener_null() {
+        UtcRules.removeSystemRulesListener(null);
+    }
+
+}
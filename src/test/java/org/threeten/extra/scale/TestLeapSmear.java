@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+/**
+ * Test LeapSmear and SmearedClock.
+ */
+@RunWith(DataProviderRunner.class)
+public class TestLeapSmear {
+
+    private static final LeapSmear SMEAR_24H = LeapSmear.of(Duration.ofHours(24));
+    private static final UtcRules RULES = UtcRules.system();
+    // 2016-12-31 had a positive leap second
+    private static final long MJD_2016_12_31 = LocalDate.of(2016, 12, 31).getLong(java.time.temporal.JulianFields.MODIFIED_JULIAN_DAY);
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_window() {
+        assertSame(RULES, SMEAR_24H.getRules());
+        assertEquals(Duration.ofHours(12), SMEAR_24H.getBefore());
+        assertEquals(Duration.ofHours(12), SMEAR_24H.getAfter());
+        assertEquals("LeapSmear[System,-PT12H,+PT12H]", SMEAR_24H.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_window_odd() {
+        LeapSmear.of(Duration.ofSeconds(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_window_fraction() {
+        LeapSmear.of(Duration.ofMillis(2500));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_window_tooShort() {
+        LeapSmear.of(RULES, Duration.ofSeconds(1), Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_window_negative() {
+        LeapSmear.of(RULES, Duration.ofSeconds(-1), Duration.ofSeconds(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_of_window_overlapping() {
+        LeapSmear.of(Duration.ofDays(200));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_null() {
+        LeapSmear.of(null, Duration.ZERO, Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void test_equals() {
+        LeapSmear other = LeapSmear.of(RULES, Duration.ofHours(12), Duration.ofHours(12));
+        LeapSmear different = LeapSmear.of(RULES, Duration.ofHours(24), Duration.ZERO);
+        assertEquals(SMEAR_24H, other);
+        assertEquals(SMEAR_24H.hashCode(), other.hashCode());
+        assertNotEquals(SMEAR_24H, different);
+        assertNotEquals(SMEAR_24H, "");
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider
+    public static Object[][] data_unaffected() {
+        return new Object[][] {
+            {"1958-01-01T00:00:00Z"},
+            {"1970-01-01T00:00:00Z"},
+            {"1972-06-30T11:59:59.999999999Z"},
+            {"1972-07-01T12:00:00Z"},
+            {"2016-12-31T11:59:59Z"},
+            {"2017-01-01T12:00:00Z"},
+            {"2018-06-01T12:34:56.789Z"},
+            {"2500-01-01T00:00:00Z"},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_unaffected")
+    public void test_unaffected(String str) {
+        Instant instant = Instant.parse(str);
+        assertSame(instant, SMEAR_24H.toSmeared(instant));
+        assertSame(instant, SMEAR_24H.toInstant(instant));
+        assertEquals(RULES.convertToTai(instant), SMEAR_24H.toTai(instant));
+        assertEquals(instant, SMEAR_24H.toSmeared(RULES.convertToTai(instant)));
+        assertEquals(RULES.convertToUtc(instant), SMEAR_24H.toUtc(instant));
+    }
+
+    @Test
+    public void test_midpoint() {
+        Instant midnight = Instant.parse("2017-01-01T00:00:00Z");
+        TaiInstant start = RULES.convertToTai(Instant.parse("2016-12-31T12:00:00Z"));
+        TaiInstant expected = start.plus(Duration.ofSeconds(43200, 500_000_000));
+        assertEquals(expected, SMEAR_24H.toTai(midnight));
+        assertEquals(midnight, SMEAR_24H.toSmeared(expected));
+        assertEquals(UtcInstant.ofModifiedJulianDay(MJD_2016_12_31, 86400_500_000_000L), SMEAR_24H.toUtc(midnight));
+    }
+
+    @Test
+    public void test_windowEnds() {
+        Instant start = Instant.parse("2016-12-31T12:00:00Z");
+        Instant end = Instant.parse("2017-01-01T12:00:00Z");
+        assertEquals(RULES.convertToTai(start), SMEAR_24H.toTai(start));
+        assertEquals(RULES.convertToTai(end), SMEAR_24H.toTai(end));
+        assertEquals(start, SMEAR_24H.toSmeared(RULES.convertToTai(start)));
+        assertEquals(end, SMEAR_24H.toSmeared(RULES.convertToTai(end)));
+    }
+
+    @Test
+    public void test_smearRate() {
+        // within the window, smeared time runs slow by one second in 86401
+        Instant start = Instant.parse("2016-12-31T12:00:00Z");
+        Instant later = start.plusSeconds(86400 / 4);
+        Duration tai = SMEAR_24H.toTai(start).durationUntil(SMEAR_24H.toTai(later));
+        assertEquals(Duration.ofSeconds(86400 / 4, 250_000_000), tai);
+    }
+
+    @Test
+    public void test_roundTrip_monotonic() {
+        TaiInstant tai = RULES.convertToTai(Instant.parse("2016-12-31T11:00:00Z"));
+        Instant previous = Instant.MIN;
+        for (int i = 0; i < 26 * 60; i++) {
+            TaiInstant test = tai.plus(Duration.ofSeconds(i * 60L, i * 7_654_321L % 1_000_000_000));
+            Instant smeared = SMEAR_24H.toSmeared(test);
+            assertTrue(smeared.isAfter(previous));
+            Duration error = Duration.between(test.toInstant(), SMEAR_24H.toTai(smeared).toInstant()).abs();
+            assertTrue(error.toString(), error.compareTo(Duration.ofNanos(1)) <= 0);
+            previous = smeared;
+        }
+    }
+
+    @Test
+    public void test_javaTimeScale_roundTrip() {
+        Instant instant = Instant.parse("2016-12-31T23:50:00Z");
+        for (int i = 0; i < 1200; i++) {
+            Instant test = instant.plusSeconds(i);
+            Instant smeared = SMEAR_24H.toSmeared(test);
+            assertEquals(SMEAR_24H.toSmeared(RULES.convertToTai(test)), smeared);
+            Duration error = Duration.between(test, SMEAR_24H.toInstant(smeared)).abs();
+            assertTrue(error.toString(), error.compareTo(Duration.ofNanos(1)) <= 0);
+        }
+    }
+
+    @Test
+    public void test_slsOnly() {
+        // a smear ending at midnight, as long as UTC-SLS, matches the Java time-scale
+        LeapSmear sls = LeapSmear.of(RULES, Duration.ofSeconds(999), Duration.ZERO);
+        Instant instant = Instant.parse("2016-12-31T23:43:00.123Z");
+        for (int i = 0; i < 1100; i++) {
+            Instant test = instant.plusSeconds(i);
+            Duration error = Duration.between(test, sls.toSmeared(test)).abs();
+            assertTrue(error.toString(), error.compareTo(Duration.ofNanos(1)) <= 0);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_negativeLeap() {
+        UtcRules rules = new MockUtcRulesNegativeOn1000();
+        LeapSmear smear = LeapSmear.of(rules, Duration.ofSeconds(50), Duration.ofSeconds(50));
+        long midnight = (1001 - 40587) * 86400L;
+        long taiAtEpoch = (40587 - 36204) * 86400L;
+        Instant start = Instant.ofEpochSecond(midnight - 50);
+        assertEquals(TaiInstant.ofTaiSeconds(midnight - 50 + taiAtEpoch + 10, 0), smear.toTai(start));
+        assertEquals(TaiInstant.ofTaiSeconds(midnight + taiAtEpoch + 10 - 50, 49_500_000_000L), smear.toTai(Instant.ofEpochSecond(midnight)));
+        assertEquals(TaiInstant.ofTaiSeconds(midnight + 50 + taiAtEpoch + 9, 0), smear.toTai(Instant.ofEpochSecond(midnight + 50)));
+        assertEquals(Instant.ofEpochSecond(midnight), smear.toSmeared(TaiInstant.ofTaiSeconds(midnight + taiAtEpoch + 10 - 50, 49_500_000_000L)));
+        assertEquals(Instant.ofEpochSecond(midnight + 100), smear.toSmeared(TaiInstant.ofTaiSeconds(midnight + 100 + taiAtEpoch + 9, 0)));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_bulk_matchesSingle() {
+        Instant base = Instant.parse("2016-12-31T00:00:00Z");
+        Instant[] instants = new Instant[2000];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = base.plusSeconds(i * 97L).plusNanos(i * 12345L);
+        }
+        instants[0] = Instant.parse("1975-01-01T00:00:00Z");
+        instants[1] = Instant.parse("1972-07-01T00:00:00Z");
+        List<Instant> shuffled = Arrays.asList(instants.clone());
+        Collections.shuffle(shuffled, new java.util.Random(42));
+        for (Instant[] input : new Instant[][] {instants, shuffled.toArray(new Instant[0])}) {
+            Instant[] smeared = new Instant[input.length];
+            SMEAR_24H.toSmeared(input, smeared);
+            Instant[] back = smeared.clone();
+            SMEAR_24H.toInstants(back, back);
+            for (int i = 0; i < input.length; i++) {
+                assertEquals(SMEAR_24H.toSmeared(input[i]), smeared[i]);
+                assertEquals(SMEAR_24H.toInstant(smeared[i]), back[i]);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_bulk_lengthMismatch() {
+        SMEAR_24H.toSmeared(new Instant[2], new Instant[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_clock() {
+        Instant smeared = Instant.parse("2017-01-01T00:00:00Z");
+        Clock fixed = Clock.fixed(smeared, ZoneOffset.UTC);
+        SmearedClock test = SmearedClock.of(fixed, SMEAR_24H);
+        assertSame(fixed, test.getClock());
+        assertSame(SMEAR_24H, test.getSmear());
+        assertEquals(ZoneOffset.UTC, test.getZone());
+        assertEquals(smeared, test.instant());
+        assertEquals(smeared.toEpochMilli(), test.millis());
+        assertEquals(SMEAR_24H.toTai(smeared), test.taiInstant());
+        assertEquals(SMEAR_24H.toUtc(smeared), test.utcInstant());
+    }
+
+    @Test
+    public void test_clock_withZone() {
+        SmearedClock test = SmearedClock.of(SMEAR_24H);
+        assertSame(test, test.withZone(ZoneOffset.UTC));
+        SmearedClock zoned = test.withZone(ZoneOffset.ofHours(2));
+        assertEquals(ZoneOffset.ofHours(2), zoned.getZone());
+        assertSame(SMEAR_24H, zoned.getSmear());
+        assertNotEquals(test, zoned);
+    }
+
+    @Test
+    public void test_clock_equals() {
+        SmearedClock test = SmearedClock.of(SMEAR_24H);
+        assertEquals(test, SmearedClock.of(Clock.systemUTC(), SMEAR_24H));
+        assertEquals(test.hashCode(), SmearedClock.of(Clock.systemUTC(), SMEAR_24H).hashCode());
+        assertEquals("SmearedClock[" + Clock.systemUTC() + "," + SMEAR_24H + "]", test.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    static class MockUtcRulesNegativeOn1000 extends MockUtcRulesLeapOn1000 {
+        @Override
+        public int getLeapSecondAdjustment(long mjDay) {
+            return (mjDay == 1000 ? -1 : 0);
+        }
+
+        @Override
+        public int getTaiOffset(long mjDay) {
+            return (mjDay <= 1000 ? 10 : 9);
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.threeten.extra.MutableClock;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+
+/**
+ * Test SystemTimeSource.
+ */
+@RunWith(DataProviderRunner.class)
+public class TestSystemTimeSource {
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_system() {
+        SystemTimeSource test = SystemTimeSource.system();
+        assertSame(test, SystemTimeSource.system());
+        assertEquals(Clock.systemUTC(), test.getClock());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_of_null() {
+        SystemTimeSource.of(null);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider
+    public static Object[][] data_instants() {
+        return new Object[][] {
+            {"1958-01-01T00:00:00Z"},
+            {"1970-01-01T00:00:00Z"},
+            {"1972-06-30T12:00:00Z"},
+            {"1972-06-30T23:59:59.5Z"},
+            {"1972-07-01T00:00:00Z"},
+            {"2016-12-30T23:59:59.999999999Z"},
+            {"2016-12-31T00:00:00Z"},
+            {"2016-12-31T23:43:19.999Z"},
+            {"2016-12-31T23:43:20Z"},
+            {"2016-12-31T23:59:59.999999999Z"},
+            {"2017-01-01T00:00:00Z"},
+            {"2018-06-01T12:34:56.789Z"},
+            {"2500-01-01T00:00:00Z"},
+            {"1800-06-01T00:00:00Z"},
+        };
+    }
+
+    @Test
+    @UseDataProvider("data_instants")
+    public void test_matchesRules(String str) {
+        Instant instant = Instant.parse(str);
+        SystemTimeSource test = SystemTimeSource.of(MutableClock.of(instant, ZoneOffset.UTC));
+        assertEquals(instant, test.instant());
+        assertEquals(UtcRules.system().convertToUtc(instant), test.utcInstant());
+        assertEquals(UtcRules.system().convertToTai(instant), test.taiInstant());
+        // again, using the cached span
+        assertEquals(UtcRules.system().convertToUtc(instant), test.utcInstant());
+        assertEquals(UtcRules.system().convertToTai(instant), test.taiInstant());
+    }
+
+    @Test
+    public void test_matchesRules_acrossLeapSeconds() {
+        MutableClock clock = MutableClock.of(Instant.parse("2012-06-29T00:00:00Z"), ZoneOffset.UTC);
+        SystemTimeSource test = SystemTimeSource.of(clock);
+        Instant end = Instant.parse("2017-01-02T00:00:00Z");
+        while (clock.instant().isBefore(end)) {
+            Instant instant = clock.instant();
+            assertEquals(UtcRules.system().convertToUtc(instant), test.utcInstant());
+            assertEquals(UtcRules.system().convertToTai(instant), test.taiInstant());
+            clock.add(Duration.ofSeconds(3571, 123_456_789));
+        }
+    }
+
+    @Test
+    public void test_matchesRules_backwards() {
+        MutableClock clock = MutableClock.of(Instant.parse("2017-01-02T00:00:00Z"), ZoneOffset.UTC);
+        SystemTimeSource test = SystemTimeSource.of(clock);
+        Instant end = Instant.parse("2015-06-29T00:00:00Z");
+        while (clock.instant().isAfter(end)) {
+            Instant instant = clock.instant();
+            assertEquals(UtcRules.system().convertToUtc(instant), test.utcInstant());
+            assertEquals(UtcRules.system().convertToTai(instant), test.taiInstant());
+            clock.add(Duration.ofSeconds(-1237, 987_654_321));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals_hashCode() {
+        MutableClock clock = MutableClock.epochUTC();
+        SystemTimeSource test = SystemTimeSource.of(clock);
+        assertEquals(test, test);
+        assertEquals(test, SystemTimeSource.of(clock));
+        assertEquals(test.hashCode(), SystemTimeSource.of(clock).hashCode());
+        assertNotEquals(test, SystemTimeSource.system());
+        assertNotEquals(test, null);
+        assertNotEquals(test, "");
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("SystemTimeSource[" + Clock.systemUTC() + "]", SystemTimeSource.system().toString());
+    }
+
+    @Test
+    public void test_serialization() throws Exception {
+        SystemTimeSource test = SystemTimeSource.system();
+        test.taiInstant();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(test);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            SystemTimeSource ser = (SystemTimeSource) ois.readObject();
+            assertEquals(test, ser);
+            assertEquals(test.taiInstant().getTaiSeconds(), ser.taiInstant().getTaiSeconds(), 5);
+        }
+    }
+
+}
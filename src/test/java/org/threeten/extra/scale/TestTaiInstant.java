@@ -31,7 +31,9 @@
  */
 package org.threeten.extra.scale;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -40,6 +42,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -832,6 +839,97 @@ public class TestTaiInstant {
         assertEquals(false, test5a.hashCode() == test6.hashCode());
     }
 
+    //-----------------------------------------------------------------------
+    // writeTo()/readFrom()/compareEncoded()
+    //-----------------------------------------------------------------------
+    private static final TaiInstant[] ORDERED = {
+        TaiInstant.ofTaiSeconds(Long.MIN_VALUE, 0),
+        TaiInstant.ofTaiSeconds(Long.MIN_VALUE, 999_999_999),
+        TaiInstant.ofTaiSeconds(-2L, 0),
+        TaiInstant.ofTaiSeconds(-1L, 0),
+        TaiInstant.ofTaiSeconds(-1L, 999_999_999),
+        TaiInstant.ofTaiSeconds(0L, 0),
+        TaiInstant.ofTaiSeconds(0L, 1),
+        TaiInstant.ofTaiSeconds(0L, 256),
+        TaiInstant.ofTaiSeconds(1L, 0),
+        TaiInstant.ofTaiSeconds(255L, 0),
+        TaiInstant.ofTaiSeconds(256L, 0),
+        TaiInstant.ofTaiSeconds(Long.MAX_VALUE, 999_999_999),
+    };
+
+    @Test
+    public void test_writeTo_layout() {
+        ByteBuffer buffer = ByteBuffer.allocate(TaiInstant.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        assertSame(buffer, TaiInstant.ofTaiSeconds(1L, 2).writeTo(buffer));
+        assertEquals(12, buffer.position());
+        byte[] expected = {(byte) 0x80, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 2};
+        assertArrayEquals(expected, buffer.array());
+    }
+
+    @Test
+    public void test_writeTo_readFrom_roundTrip() {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.allocate(ORDERED.length * TaiInstant.BYTES).order(order);
+            for (TaiInstant instant : ORDERED) {
+                instant.writeTo(buffer);
+            }
+            assertEquals(0, buffer.remaining());
+            buffer.flip();
+            for (TaiInstant instant : ORDERED) {
+                assertEquals(instant, TaiInstant.readFrom(buffer));
+            }
+            assertEquals(0, buffer.remaining());
+        }
+    }
+
+    @Test
+    public void test_compareEncoded() {
+        byte[] bytes = new byte[ORDERED.length * TaiInstant.BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (TaiInstant instant : ORDERED) {
+            instant.writeTo(buffer);
+        }
+        for (int i = 0; i < ORDERED.length; i++) {
+            for (int j = 0; j < ORDERED.length; j++) {
+                int expected = Integer.signum(ORDERED[i].compareTo(ORDERED[j]));
+                ByteBuffer first = ByteBuffer.wrap(bytes, i * TaiInstant.BYTES, TaiInstant.BYTES);
+                ByteBuffer second = ByteBuffer.wrap(bytes, j * TaiInstant.BYTES, TaiInstant.BYTES);
+                assertEquals(expected, Integer.signum(TaiInstant.compareEncoded(first, second)));
+                assertEquals(i * TaiInstant.BYTES, first.position());
+                assertEquals(expected, Integer.signum(TaiInstant.compareEncoded(bytes, i * TaiInstant.BYTES, bytes, j * TaiInstant.BYTES)));
+            }
+        }
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void test_writeTo_overflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(TaiInstant.BYTES - 1);
+        TaiInstant.ofTaiSeconds(1L, 2).writeTo(buffer);
+    }
+
+    @Test
+    public void test_readFrom_underflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(TaiInstant.BYTES - 1);
+        try {
+            TaiInstant.readFrom(buffer);
+            fail();
+        } catch (BufferUnderflowException ex) {
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_readFrom_invalidNanos() {
+        ByteBuffer buffer = ByteBuffer.allocate(TaiInstant.BYTES);
+        buffer.putLong(Long.MIN_VALUE).putInt(1_000_000_000).flip();
+        TaiInstant.readFrom(buffer);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_compareEncoded_outOfBounds() {
+        TaiInstant.compareEncoded(new byte[12], 1, new byte[12], 0);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
@@ -31,7 +31,9 @@
  */
 package org.threeten.extra.scale;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -40,6 +42,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
@@ -577,6 +583,103 @@ public class TestUtcInstant {
         assertEquals(false, test5a.hashCode() == test6.hashCode());
     }
 
+    //-----------------------------------------------------------------------
+    // writeTo()/readFrom()/compareEncoded()
+    //-----------------------------------------------------------------------
+    private static final UtcInstant[] ORDERED = {
+        UtcInstant.ofModifiedJulianDay(Integer.MIN_VALUE, 0),
+        UtcInstant.ofModifiedJulianDay(Integer.MIN_VALUE, NANOS_PER_DAY - 1),
+        UtcInstant.ofModifiedJulianDay(-2L, 0),
+        UtcInstant.ofModifiedJulianDay(-1L, 0),
+        UtcInstant.ofModifiedJulianDay(-1L, NANOS_PER_DAY - 1),
+        UtcInstant.ofModifiedJulianDay(0L, 0),
+        UtcInstant.ofModifiedJulianDay(0L, 1),
+        UtcInstant.ofModifiedJulianDay(0L, 256),
+        UtcInstant.ofModifiedJulianDay(1L, 0),
+        UtcInstant.ofModifiedJulianDay(255L, 0),
+        UtcInstant.ofModifiedJulianDay(256L, 0),
+        UtcInstant.ofModifiedJulianDay(41682L, NANOS_PER_DAY),
+        UtcInstant.ofModifiedJulianDay(Integer.MAX_VALUE, NANOS_PER_DAY - 1),
+    };
+
+    @Test
+    public void test_writeTo_layout() {
+        ByteBuffer buffer = ByteBuffer.allocate(UtcInstant.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        assertSame(buffer, UtcInstant.ofModifiedJulianDay(1L, 2).writeTo(buffer));
+        assertEquals(12, buffer.position());
+        byte[] expected = {(byte) 0x80, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 2};
+        assertArrayEquals(expected, buffer.array());
+    }
+
+    @Test
+    public void test_writeTo_readFrom_roundTrip() {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.allocate(ORDERED.length * UtcInstant.BYTES).order(order);
+            for (UtcInstant instant : ORDERED) {
+                instant.writeTo(buffer);
+            }
+            assertEquals(0, buffer.remaining());
+            buffer.flip();
+            for (UtcInstant instant : ORDERED) {
+                assertEquals(instant, UtcInstant.readFrom(buffer));
+            }
+            assertEquals(0, buffer.remaining());
+        }
+    }
+
+    @Test
+    public void test_compareEncoded() {
+        byte[] bytes = new byte[ORDERED.length * UtcInstant.BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (UtcInstant instant : ORDERED) {
+            instant.writeTo(buffer);
+        }
+        for (int i = 0; i < ORDERED.length; i++) {
+            for (int j = 0; j < ORDERED.length; j++) {
+                int expected = Integer.signum(ORDERED[i].compareTo(ORDERED[j]));
+                ByteBuffer first = ByteBuffer.wrap(bytes, i * UtcInstant.BYTES, UtcInstant.BYTES);
+                ByteBuffer second = ByteBuffer.wrap(bytes, j * UtcInstant.BYTES, UtcInstant.BYTES);
+                assertEquals(expected, Integer.signum(UtcInstant.compareEncoded(first, second)));
+                assertEquals(i * UtcInstant.BYTES, first.position());
+                assertEquals(expected, Integer.signum(UtcInstant.compareEncoded(bytes, i * UtcInstant.BYTES, bytes, j * UtcInstant.BYTES)));
+            }
+        }
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void test_writeTo_overflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(UtcInstant.BYTES - 1);
+        UtcInstant.ofModifiedJulianDay(1L, 2).writeTo(buffer);
+    }
+
+    @Test
+    public void test_readFrom_underflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(UtcInstant.BYTES - 1);
+        try {
+            UtcInstant.readFrom(buffer);
+            fail();
+        } catch (BufferUnderflowException ex) {
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_readFrom_invalidNanoOfDay() {
+        ByteBuffer buffer = ByteBuffer.allocate(UtcInstant.BYTES);
+        buffer.putInt(Integer.MIN_VALUE).putLong(NANOS_PER_DAY).flip();
+        UtcInstant.readFrom(buffer);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_writeTo_mjdOutOfRange() {
+        UtcInstant.ofModifiedJulianDay(Integer.MAX_VALUE + 1L, 0).writeTo(ByteBuffer.allocate(UtcInstant.BYTES));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_compareEncoded_outOfBounds() {
+        UtcInstant.compareEncoded(new byte[12], 1, new byte[12], 0);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
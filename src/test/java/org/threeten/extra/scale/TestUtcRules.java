@@ -37,17 +37,24 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.JulianFields;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -359,6 +366,40 @@ public class TestUtcRules {
         rules.convertToTai((UtcInstant) null);
     }
 
+    //-------------------------------------------------------------------------
+    @Test
+    public void test_lookups_matchLinearScan() {
+        long[] dates = rules.getLeapSecondDates();
+        for (long mjd = dates[0] - 100; mjd <= dates[dates.length - 1] + 100; mjd++) {
+            int offset = 10;
+            int adjust = 0;
+            for (int i = 0; i < dates.length; i++) {
+                if (dates[i] < mjd) {
+                    offset += (i == 0 ? 0 : rules.getLeapSecondAdjustment(dates[i]));
+                } else if (dates[i] == mjd && i > 0) {
+                    adjust = rules.getTaiOffset(dates[i] + 1) - rules.getTaiOffset(dates[i]);
+                }
+            }
+            assertEquals("MJD " + mjd, offset, rules.getTaiOffset(mjd));
+            assertEquals("MJD " + mjd, adjust, rules.getLeapSecondAdjustment(mjd));
+        }
+    }
+
+    @Test
+    public void test_convertToUtc_TaiInstant_aroundEachLeap() {
+        rules.register(MJD_2100 - 1, -1);
+        for (long mjd : rules.getLeapSecondDates()) {
+            UtcInstant endOfDay = UtcInstant.ofModifiedJulianDay(mjd + 1, 0);
+            TaiInstant base = rules.convertToTai(endOfDay);
+            for (int secs = -3; secs <= 3; secs++) {
+                TaiInstant tai = base.plus(Duration.ofSeconds(secs, 5));
+                UtcInstant utc = rules.convertToUtc(tai);
+                assertEquals(tai, rules.convertToTai(utc));
+            }
+            assertEquals(endOfDay, rules.convertToUtc(base));
+        }
+    }
+
     //-------------------------------------------------------------------------
     @Test
     public void test_negativeLeap_justBeforeLeap() {
@@ -496,6 +537,29 @@ public class TestUtcRules {
         assertEquals(-1, rules.getLeapSecondAdjustment(mjd));
     }
 
+    @Test
+    public void test_registerLeapSecond_farFuture() {
+        long[] dates = rules.getLeapSecondDates();
+        long last = dates[dates.length - 1];
+        int offset = rules.getTaiOffset(last + 1);
+        rules.register(200_000L, 1);
+        rules.register(100_000_000_000L, -1);
+        assertEquals(dates.length + 2, rules.getLeapSecondDates().length);
+        assertEquals(offset, rules.getTaiOffset(last + 1));
+        assertEquals(offset, rules.getTaiOffset(200_000L));
+        assertEquals(1, rules.getLeapSecondAdjustment(200_000L));
+        assertEquals(0, rules.getLeapSecondAdjustment(199_999L));
+        assertEquals(offset + 1, rules.getTaiOffset(200_001L));
+        assertEquals(offset + 1, rules.getTaiOffset(50_000_000_000L));
+        assertEquals(offset + 1, rules.getTaiOffset(100_000_000_000L));
+        assertEquals(-1, rules.getLeapSecondAdjustment(100_000_000_000L));
+        assertEquals(offset, rules.getTaiOffset(100_000_000_001L));
+        UtcInstant utc = UtcInstant.ofModifiedJulianDay(150_000L, 0);
+        assertEquals(utc, rules.convertToUtc(rules.convertToTai(utc)));
+        utc = UtcInstant.ofModifiedJulianDay(1_000_000L, 0);
+        assertEquals(utc, rules.convertToUtc(rules.convertToTai(utc)));
+    }
+
     @Test
     public void test_registerLeapSecond_equalLastDate_sameLeap() {
         long[] dates = rules.getLeapSecondDates();
@@ -556,6 +620,171 @@ public class TestUtcRules {
         rules.register(MJD_2100, 3);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_binaryFile_matchesTextFile() throws Exception {
+        byte[] expected;
+        try (InputStream in = SystemUtcRules.class.getResourceAsStream("/org/threeten/extra/scale/LeapSeconds.txt")) {
+            expected = LeapSecondsCompiler.compile(in);
+        }
+        byte[] actual;
+        try (InputStream in = SystemUtcRules.class.getResourceAsStream("/" + SystemUtcRules.LEAP_SECONDS_DAT)) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) >= 0) {
+                baos.write(b);
+            }
+            actual = baos.toByteArray();
+        }
+        assertTrue("LeapSeconds.dat is out of date, run LeapSecondsCompiler", Arrays.equals(expected, actual));
+    }
+
+    @Test
+    public void test_binaryFile_matchesTextRules() throws Exception {
+        long[] dates = rules.getLeapSecondDates();
+        try (InputStream in = SystemUtcRules.class.getResourceAsStream("/org/threeten/extra/scale/LeapSeconds.txt");
+                Scanner scanner = new Scanner(in, "UTF-8")) {
+            int count = 0;
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine().trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("[ ]+");
+                long mjd = LocalDate.parse(parts[0]).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+                assertEquals(mjd, dates[count]);
+                assertEquals(Integer.parseInt(parts[1]), rules.getTaiOffset(mjd + 1));
+                count++;
+            }
+            assertEquals(count, dates.length);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // bulk conversions
+    //-----------------------------------------------------------------------
+    private Instant[] bulkInstants(boolean sorted) {
+        rules.register(MJD_2100 - 1, -1);
+        List<Instant> list = new ArrayList<>();
+        list.add(Instant.parse("1960-01-01T00:00:00Z"));
+        for (long mjd : rules.getLeapSecondDates()) {
+            Instant endOfDay = Instant.ofEpochSecond((mjd + 1 - 40587) * SECS_PER_DAY);
+            for (int secs = -1002; secs <= 2; secs += 7) {
+                list.add(endOfDay.plusSeconds(secs).plusNanos(secs * 1234567L & 0x3FFFFFFL));
+            }
+        }
+        list.add(Instant.parse("2200-01-01T00:00:00Z"));
+        if (sorted == false) {
+            Collections.shuffle(list, new Random(7));
+        }
+        return list.toArray(new Instant[0]);
+    }
+
+    @DataProvider
+    public static Object[][] data_sorted() {
+        return new Object[][] {{true}, {false}};
+    }
+
+    @Test
+    @UseDataProvider("data_sorted")
+    public void test_bulk_instantsAndTai(boolean sorted) {
+        Instant[] instants = bulkInstants(sorted);
+        long[] seconds = new long[instants.length];
+        int[] nanos = new int[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            seconds[i] = instants[i].getEpochSecond();
+            nanos[i] = instants[i].getNano();
+        }
+        long[] taiSeconds = new long[instants.length];
+        int[] taiNanos = new int[instants.length];
+        rules.convertInstantsToTai(seconds, nanos, taiSeconds, taiNanos);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(rules.convertToTai(instants[i]), TaiInstant.ofTaiSeconds(taiSeconds[i], taiNanos[i]));
+        }
+        TaiInstant[] tais = new TaiInstant[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            tais[i] = TaiInstant.ofTaiSeconds(taiSeconds[i], taiNanos[i]);
+        }
+        rules.convertTaiToInstants(taiSeconds, taiNanos, taiSeconds, taiNanos);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(rules.convertToInstant(tais[i]), Instant.ofEpochSecond(taiSeconds[i], taiNanos[i]));
+        }
+    }
+
+    @Test
+    @UseDataProvider("data_sorted")
+    public void test_bulk_utcAndTai(boolean sorted) {
+        Instant[] instants = bulkInstants(sorted);
+        long[] mjds = new long[instants.length];
+        long[] nods = new long[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            UtcInstant utc = rules.convertToUtc(instants[i]);
+            mjds[i] = utc.getModifiedJulianDay();
+            nods[i] = utc.getNanoOfDay();
+        }
+        long[] taiSeconds = new long[instants.length];
+        int[] taiNanos = new int[instants.length];
+        rules.convertUtcToTai(mjds, nods, taiSeconds, taiNanos);
+        for (int i = 0; i < instants.length; i++) {
+            TaiInstant tai = TaiInstant.ofTaiSeconds(taiSeconds[i], taiNanos[i]);
+            assertEquals(rules.convertToTai(UtcInstant.ofModifiedJulianDay(mjds[i], nods[i])), tai);
+            assertEquals(rules.convertToUtc(tai), UtcInstant.ofModifiedJulianDay(mjds[i], nods[i]));
+        }
+        long[] mjdsBack = new long[instants.length];
+        long[] nodsBack = new long[instants.length];
+        rules.convertTaiToUtc(taiSeconds, taiNanos, mjdsBack, nodsBack);
+        assertTrue(Arrays.equals(mjds, mjdsBack));
+        assertTrue(Arrays.equals(nods, nodsBack));
+    }
+
+    @Test
+    @UseDataProvider("data_sorted")
+    public void test_bulk_utcAndInstants(boolean sorted) {
+        Instant[] instants = bulkInstants(sorted);
+        long[] seconds = new long[instants.length];
+        int[] nanos = new int[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            seconds[i] = instants[i].getEpochSecond();
+            nanos[i] = instants[i].getNano();
+        }
+        long[] mjds = new long[instants.length];
+        long[] nods = new long[instants.length];
+        rules.convertInstantsToUtc(seconds, nanos, mjds, nods);
+        for (int i = 0; i < instants.length; i++) {
+            assertEquals(rules.convertToUtc(instants[i]), UtcInstant.ofModifiedJulianDay(mjds[i], nods[i]));
+        }
+        rules.convertUtcToInstants(mjds, nods, seconds, nanos);
+        for (int i = 0; i < instants.length; i++) {
+            UtcInstant utc = UtcInstant.ofModifiedJulianDay(mjds[i], nods[i]);
+            assertEquals(rules.convertToInstant(utc), Instant.ofEpochSecond(seconds[i], nanos[i]));
+        }
+    }
+
+    @Test
+    public void test_bulk_leapSecond() {
+        long[] mjds = {LocalDate.of(1972, 12, 31).getLong(JulianFields.MODIFIED_JULIAN_DAY)};
+        long[] nods = {SECS_PER_DAY * NANOS_PER_SEC + 5};
+        long[] taiSeconds = new long[1];
+        int[] taiNanos = new int[1];
+        rules.convertUtcToTai(mjds, nods, taiSeconds, taiNanos);
+        assertEquals(rules.convertToTai(UtcInstant.ofModifiedJulianDay(mjds[0], nods[0])), TaiInstant.ofTaiSeconds(taiSeconds[0], taiNanos[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_bulk_lengthMismatch() {
+        rules.convertInstantsToTai(new long[2], new int[2], new long[2], new int[1]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_bulk_invalidNano() {
+        rules.convertInstantsToTai(new long[1], new int[] {1_000_000_000}, new long[1], new int[1]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void test_bulk_invalidNanoOfDay() {
+        rules.convertUtcToTai(new long[] {MJD_2100}, new long[] {SECS_PER_DAY * NANOS_PER_SEC}, new long[1], new int[1]);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------